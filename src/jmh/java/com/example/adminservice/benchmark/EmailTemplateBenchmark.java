@@ -0,0 +1,85 @@
+package com.example.adminservice.benchmark;
+
+import com.example.adminservice.constant.EmailTemplateType;
+import com.example.adminservice.util.CompiledTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 이메일 본문 렌더링 벤치마크
+ *
+ * - stringFormat: 기존 방식 (발송마다 같은 HTML 형식 문자열을 String.format으로 해석)
+ * - compiled: 시작 시 한 번 컴파일한 CompiledTemplate 렌더링 (HTML 이스케이프 포함)
+ * 할당량은 -prof gc로 함께 확인합니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=EmailTemplate
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    private static final Pattern VARIABLE = Pattern.compile("\\{\\{\\s*(\\w+)\\s*}}");
+
+    @Param({"CAMPAIGN_APPROVED", "CAMPAIGN_REJECTED"})
+    private EmailTemplateType type;
+
+    private Map<String, String> values;
+    private CompiledTemplate compiled;
+    private String formatPattern;
+    private String[] formatVariables;
+
+    @Setup
+    public void setUp() {
+        values = Map.of(
+                "nickname", "체험콕<관리자>",
+                "campaignTitle", "여름 프로모션 & 리뷰 이벤트",
+                "rejectionReason", "상세 설명이 부족합니다.",
+                "revisionReason", "이미지를 교체해 주세요.");
+        compiled = CompiledTemplate.compile(type.getHtml());
+
+        // 같은 본문을 {{변수}} → %s 형식 문자열로 바꿔 기존 String.format 방식 재현
+        Matcher matcher = VARIABLE.matcher(type.getHtml().replace("%", "%%"));
+        StringBuilder pattern = new StringBuilder();
+        List<String> variables = new ArrayList<>();
+        while (matcher.find()) {
+            variables.add(matcher.group(1));
+            matcher.appendReplacement(pattern, "%s");
+        }
+        matcher.appendTail(pattern);
+        formatPattern = pattern.toString();
+        formatVariables = variables.toArray(new String[0]);
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        Object[] args = new Object[formatVariables.length];
+        for (int i = 0; i < formatVariables.length; i++) {
+            args[i] = values.getOrDefault(formatVariables[i], "");
+        }
+        return String.format(formatPattern, args);
+    }
+
+    @Benchmark
+    public String compiled() {
+        return compiled.render(values);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.adminservice.benchmark;
+
+import com.example.adminservice.util.ImageProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 배너 이미지 디코딩 벤치마크 (24MP 원본 → 16:9 크롭 → 폭 1280)
+ *
+ * - regionDecode: ImageProcessor.decode (16:9 영역만, 정수 배율로 건너뛰며 디코딩)
+ * - fullDecode: 기존 방식 (ImageIO.read로 원본 전체를 디코딩한 뒤 getSubimage로 크롭)
+ * 지연 시간은 점수로, 호출당 할당량은 -prof gc(gc.alloc.rate.norm)로 비교하고,
+ * 반복마다 힙 풀 최대 사용량(peak heap)을 출력합니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=ImageDecode -PjmhProfilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class ImageDecodeBenchmark {
+
+    private static final int SOURCE_WIDTH = 6000;
+    private static final int SOURCE_HEIGHT = 4000;
+    private static final int TARGET_WIDTH = 1280;
+
+    @Param({"jpg", "png"})
+    private String format;
+
+    private ImageProcessor imageProcessor;
+    private Path source;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        imageProcessor = new ImageProcessor();
+        source = Files.createTempFile("image-decode-benchmark", "." + format);
+        ImageIO.write(sampleImage(), format, source.toFile());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(source);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeakHeap() {
+        System.gc();
+        heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    @TearDown(Level.Iteration)
+    public void printPeakHeap() {
+        long peak = heapPools().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        System.out.printf("%n[peak heap] %s: %d MB%n", format, peak / (1024 * 1024));
+    }
+
+    @Benchmark
+    public BufferedImage regionDecode() throws IOException {
+        BufferedImage cropped = imageProcessor.decode(source, true, TARGET_WIDTH);
+        return imageProcessor.resizeToWidth(cropped, TARGET_WIDTH);
+    }
+
+    @Benchmark
+    public BufferedImage fullDecode() throws IOException {
+        BufferedImage original = ImageIO.read(source.toFile());
+        int cropHeight = original.getWidth() * 9 / 16;
+        BufferedImage cropped = original.getSubimage(0, (original.getHeight() - cropHeight) / 2,
+                original.getWidth(), cropHeight);
+        return imageProcessor.resizeToWidth(cropped, TARGET_WIDTH);
+    }
+
+    private static Stream<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP);
+    }
+
+    /**
+     * 압축률이 사진과 비슷하도록 그라데이션에 잡음을 섞은 원본 (3:2, 16:9보다 높아 상하 크롭)
+     */
+    private static BufferedImage sampleImage() {
+        BufferedImage image = new BufferedImage(SOURCE_WIDTH, SOURCE_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < SOURCE_HEIGHT; y++) {
+            for (int x = 0; x < SOURCE_WIDTH; x++) {
+                int r = (x * 255 / SOURCE_WIDTH + random.nextInt(16)) & 0xFF;
+                int g = (y * 255 / SOURCE_HEIGHT + random.nextInt(16)) & 0xFF;
+                int b = ((x + y) * 255 / (SOURCE_WIDTH + SOURCE_HEIGHT)) & 0xFF;
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        return image;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.adminservice.benchmark;
+
+import com.example.adminservice.util.ImageProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배너 파생 이미지 생성 벤치마크 (S3 업로드 제외, 4000x3000 원본)
+ *
+ * - singleFullSize: 기존 방식 (16:9 크롭 후 1920 폭 1장만 인코딩)
+ * - derivativeSet: ImageDerivativeService와 같은 순서 (한 번 디코딩 후 480/960/1920 폭마다 원본 포맷
+ *   + WebP 인코더가 있으면 WebP까지 인코딩)
+ * 기동 시 폭/포맷별 결과 크기를 출력하므로 모바일(480/960)에서 줄어드는 전송량도 함께 확인합니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=ImageDerivative -PjmhProfilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class ImageDerivativeBenchmark {
+
+    private static final int SOURCE_WIDTH = 4000;
+    private static final int SOURCE_HEIGHT = 3000;
+    private static final int[] WIDTHS = {480, 960, 1920};
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final float WEBP_QUALITY = 0.8f;
+
+    @Param({"jpg", "png"})
+    private String format;
+
+    private ImageProcessor imageProcessor;
+    private Path source;
+    private boolean webpSupported;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        imageProcessor = new ImageProcessor();
+        webpSupported = imageProcessor.isWebpSupported();
+        source = Files.createTempFile("image-derivative-benchmark", "." + format);
+        ImageIO.write(sampleImage(), format, source.toFile());
+        printDerivativeSizes();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(source);
+    }
+
+    @Benchmark
+    public byte[] singleFullSize() throws IOException {
+        BufferedImage image = imageProcessor.decode(source, true, WIDTHS[WIDTHS.length - 1]);
+        BufferedImage resized = imageProcessor.resizeToWidth(image, WIDTHS[WIDTHS.length - 1]);
+        return imageProcessor.encode(resized, format, quality(format));
+    }
+
+    @Benchmark
+    public void derivativeSet(Blackhole blackhole) throws IOException {
+        BufferedImage image = imageProcessor.decode(source, true, WIDTHS[WIDTHS.length - 1]);
+        for (int width : WIDTHS) {
+            BufferedImage resized = imageProcessor.resizeToWidth(image, width);
+            blackhole.consume(imageProcessor.encode(resized, format, quality(format)));
+            if (webpSupported) {
+                blackhole.consume(imageProcessor.encode(resized, "webp", WEBP_QUALITY));
+            }
+        }
+    }
+
+    private void printDerivativeSizes() throws IOException {
+        BufferedImage image = imageProcessor.decode(source, true, WIDTHS[WIDTHS.length - 1]);
+        System.out.printf("%n[derivative sizes] %s (webp %s)%n", format, webpSupported ? "지원" : "미지원");
+        for (int width : WIDTHS) {
+            BufferedImage resized = imageProcessor.resizeToWidth(image, width);
+            int original = imageProcessor.encode(resized, format, quality(format)).length;
+            String webp = webpSupported
+                    ? String.valueOf(imageProcessor.encode(resized, "webp", WEBP_QUALITY).length / 1024)
+                    : "-";
+            System.out.printf("  %dw: %s %d KB, webp %s KB%n", width, format, original / 1024, webp);
+        }
+    }
+
+    private static float quality(String format) {
+        return "jpg".equals(format) ? JPEG_QUALITY : 0;
+    }
+
+    /**
+     * 압축률이 사진과 비슷하도록 그라데이션에 잡음을 섞은 원본
+     */
+    private static BufferedImage sampleImage() {
+        BufferedImage image = new BufferedImage(SOURCE_WIDTH, SOURCE_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < SOURCE_HEIGHT; y++) {
+            for (int x = 0; x < SOURCE_WIDTH; x++) {
+                int r = (x * 255 / SOURCE_WIDTH + random.nextInt(16)) & 0xFF;
+                int g = (y * 255 / SOURCE_HEIGHT + random.nextInt(16)) & 0xFF;
+                int b = ((x + y) * 255 / (SOURCE_WIDTH + SOURCE_HEIGHT)) & 0xFF;
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        return image;
+    }
+}
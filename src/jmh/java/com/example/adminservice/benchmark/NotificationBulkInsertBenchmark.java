@@ -0,0 +1,104 @@
+package com.example.adminservice.benchmark;
+
+import com.example.adminservice.constant.EntityType;
+import com.example.adminservice.constant.NotificationType;
+import com.example.adminservice.repository.NotificationBulkRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 시스템 알림 대량 적재 벤치마크 (PostgreSQL 필요)
+ *
+ * 수신자 수(rows)별로 unnest 단일 INSERT(청크 5000)와 행 단위 JDBC 배치 INSERT의 소요 시간을 비교합니다.
+ * 초당 적재 행 수는 rows / 측정 시간으로 계산합니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=NotificationBulkInsert -PjmhJdbcUrl=jdbc:postgresql://localhost:5432/bench
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NotificationBulkInsertBenchmark {
+
+    private static final int CHUNK_SIZE = 5000;
+
+    private static final String INSERT_ROW_SQL = """
+            INSERT INTO notifications
+                (user_id, notification_type, title, message, related_entity_id, related_entity_type, is_read, created_at)
+            VALUES (?, ?, ?, ?, NULL, ?, false, ?)
+            """;
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    private JdbcTemplate jdbcTemplate;
+    private NotificationBulkRepository bulkRepository;
+    private List<Long> userIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getProperty("jmhJdbcUrl", "jdbc:postgresql://localhost:5432/adminservice_bench"),
+                System.getProperty("jmhJdbcUser", "postgres"),
+                System.getProperty("jmhJdbcPassword", "postgres"));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        bulkRepository = new NotificationBulkRepository(jdbcTemplate);
+        userIds = LongStream.rangeClosed(1, rows).boxed().toList();
+    }
+
+    @TearDown(Level.Invocation)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE notifications");
+    }
+
+    @Benchmark
+    public int unnestInsert() {
+        LocalDateTime createdAt = LocalDateTime.now();
+        int inserted = 0;
+        for (int from = 0; from < userIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + CHUNK_SIZE, userIds.size()));
+            inserted += bulkRepository.insertForRecipients(chunk, NotificationType.SYSTEM_NOTICE,
+                    "벤치마크", "대량 적재 측정", null, EntityType.SYSTEM, createdAt);
+        }
+        return inserted;
+    }
+
+    @Benchmark
+    public int rowBatchInsert() {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+        for (int from = 0; from < userIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + CHUNK_SIZE, userIds.size()));
+            jdbcTemplate.batchUpdate(INSERT_ROW_SQL, chunk, chunk.size(), (ps, userId) -> {
+                ps.setLong(1, userId);
+                ps.setString(2, NotificationType.SYSTEM_NOTICE.name());
+                ps.setString(3, "벤치마크");
+                ps.setString(4, "대량 적재 측정");
+                ps.setString(5, EntityType.SYSTEM.name());
+                ps.setTimestamp(6, createdAt);
+            });
+            inserted += chunk.size();
+        }
+        return inserted;
+    }
+}
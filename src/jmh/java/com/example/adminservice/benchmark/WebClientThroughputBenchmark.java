@@ -0,0 +1,129 @@
+package com.example.adminservice.benchmark;
+
+import com.example.adminservice.config.ClientApiConfig;
+import com.example.adminservice.config.WebClientConfig;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트 API WebClient 처리량 벤치마크 (로컬 Reactor Netty 스텁 서버 사용)
+ *
+ * - baseline: 변경 전 ClientApiConfig와 같은 클라이언트 (HttpClient.create()의 Reactor Netty 기본 풀, 타임아웃 핸들러, 1MB 코덱)
+ * - shared: 현재 WebClientConfig/ClientApiConfig 빈 (공유 outboundConnectionProvider + keep-alive + URI 템플릿 지표)
+ * 한 번의 호출에서 동시 50개씩 요청 1000건을 보내며, 결과는 초당 요청 수입니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=WebClientThroughput
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class WebClientThroughputBenchmark {
+
+    private static final int REQUESTS = 1000;
+    private static final int CONCURRENCY = 50;
+    private static final int TIMEOUT_SECONDS = 30;
+
+    private DisposableServer server;
+    private AnnotationConfigApplicationContext context;
+    private WebClient baselineClient;
+    private WebClient sharedClient;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.post("/api/notifications/campaign-status/batch",
+                        (request, response) -> request.receive().then(response.sendString(Mono.just("{\"success\":true}")).then())))
+                .bindNow();
+        String baseUrl = "http://127.0.0.1:" + server.port();
+
+        baselineClient = baselineClient(baseUrl);
+
+        // 설정 클래스를 그대로 올려 @Value 기본값으로 만든 빈을 사용
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark",
+                Map.of("client.api.base-url", baseUrl, "client.api.notification.timeout", String.valueOf(TIMEOUT_SECONDS))));
+        context.register(WebClientConfig.class, ClientApiConfig.class);
+        context.refresh();
+        sharedClient = context.getBean("clientApiWebClient", WebClient.class);
+    }
+
+    /**
+     * 변경 전 ClientApiConfig.clientApiWebClient와 같은 설정
+     */
+    private static WebClient baselineClient(String baseUrl) {
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000)
+                .responseTimeout(Duration.ofSeconds(TIMEOUT_SECONDS))
+                .doOnConnected(conn ->
+                        conn.addHandlerLast(new ReadTimeoutHandler(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                                .addHandlerLast(new WriteTimeoutHandler(10, TimeUnit.SECONDS)));
+
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader("Content-Type", "application/json")
+                .defaultHeader("User-Agent", "AdminService/1.0")
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1 * 1024 * 1024))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        server.disposeNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public Long baseline() {
+        return send(baselineClient);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public Long shared() {
+        return send(sharedClient);
+    }
+
+    private Long send(WebClient client) {
+        return Flux.range(0, REQUESTS)
+                .flatMap(i -> client.post()
+                        .uri("/api/notifications/campaign-status/batch")
+                        .bodyValue("{\"notifications\":[]}")
+                        .retrieve()
+                        .bodyToMono(String.class), CONCURRENCY)
+                .count()
+                .block();
+    }
+}
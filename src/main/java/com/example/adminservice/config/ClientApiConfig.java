@@ -1,6 +1,5 @@
 package com.example.adminservice.config;
 
-import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,11 +24,13 @@ public class ClientApiConfig {
     @Value("${client.api.notification.timeout:30}")
     private int notificationTimeoutSeconds;
 
+    @Value("${client.api.max-in-memory-size-kb:1024}")
+    private int maxInMemorySizeKb;
+
     @Bean(name = "clientApiWebClient")
-    public WebClient clientApiWebClient() {
-        // HTTP 클라이언트 타임아웃 설정
-        HttpClient httpClient = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000) // 연결 타임아웃 10초
+    public WebClient clientApiWebClient(HttpClient outboundHttpClient) {
+        // 공유 커넥션 풀 위에 클라이언트 API 전용 타임아웃 설정
+        HttpClient httpClient = outboundHttpClient
                 .responseTimeout(Duration.ofSeconds(notificationTimeoutSeconds)) // 응답 타임아웃
                 .doOnConnected(conn -> 
                     conn.addHandlerLast(new ReadTimeoutHandler(notificationTimeoutSeconds, TimeUnit.SECONDS))
@@ -41,7 +42,7 @@ public class ClientApiConfig {
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader("Content-Type", "application/json")
                 .defaultHeader("User-Agent", "AdminService/1.0")
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1 * 1024 * 1024)) // 1MB
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxInMemorySizeKb * 1024))
                 .build();
     }
 }
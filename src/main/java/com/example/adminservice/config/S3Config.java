@@ -0,0 +1,158 @@
+package com.example.adminservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.InstanceProfileCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.crt.S3CrtAsyncClientBuilder;
+import software.amazon.awssdk.services.s3.crt.S3CrtHttpConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * S3 클라이언트 설정
+ *
+ * 애플리케이션 전체가 하나의 동기 S3Client(Apache 커넥션 풀)와 Presigner를 공유하고,
+ * 큰 객체 GET/PUT은 CRT 기반 S3AsyncClient + Transfer Manager로 분할 병렬 전송합니다.
+ * 동기 클라이언트의 요청/커넥션 풀 지표는 Micrometer(actuator)로 노출됩니다.
+ * aws.s3.endpoint를 지정하면 LocalStack/MinIO 등 로컬 S3로 요청합니다.
+ */
+@Slf4j
+@Configuration
+public class S3Config {
+
+    @Value("${aws.s3.region}")
+    private String region;
+
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${aws.s3.http.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${aws.s3.http.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    @Value("${aws.s3.http.acquire-timeout-ms:10000}")
+    private long acquireTimeoutMs;
+
+    @Value("${aws.s3.http.socket-timeout-ms:30000}")
+    private long socketTimeoutMs;
+
+    @Value("${aws.s3.http.max-idle-time-seconds:60}")
+    private long maxIdleTimeSeconds;
+
+    @Value("${aws.s3.transfer.max-concurrency:16}")
+    private int transferMaxConcurrency;
+
+    @Value("${aws.s3.transfer.part-size-mb:8}")
+    private long transferPartSizeMb;
+
+    @Value("${aws.s3.transfer.target-throughput-gbps:5.0}")
+    private double transferTargetThroughputGbps;
+
+    /**
+     * EC2 IAM Role을 통한 자동 인증 (로컬 S3 사용 시 고정 자격 증명)
+     */
+    @Bean
+    public AwsCredentialsProvider s3CredentialsProvider() {
+        if (hasEndpointOverride()) {
+            return StaticCredentialsProvider.create(AwsBasicCredentials.create("local", "local"));
+        }
+        return InstanceProfileCredentialsProvider.create();
+    }
+
+    @Bean
+    public S3MetricPublisher s3MetricPublisher(MeterRegistry meterRegistry) {
+        return new S3MetricPublisher(meterRegistry);
+    }
+
+    /**
+     * 공유 동기 S3 클라이언트 (Apache 커넥션 풀, keep-alive)
+     */
+    @Bean(destroyMethod = "close")
+    public S3Client s3Client(AwsCredentialsProvider s3CredentialsProvider, S3MetricPublisher s3MetricPublisher) {
+        ApacheHttpClient.Builder httpClientBuilder = ApacheHttpClient.builder()
+                .maxConnections(maxConnections)
+                .connectionTimeout(Duration.ofMillis(connectTimeoutMs))
+                .connectionAcquisitionTimeout(Duration.ofMillis(acquireTimeoutMs))
+                .socketTimeout(Duration.ofMillis(socketTimeoutMs))
+                .connectionMaxIdleTime(Duration.ofSeconds(maxIdleTimeSeconds))
+                .useIdleConnectionReaper(true)
+                .tcpKeepAlive(true);
+
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(s3CredentialsProvider)
+                .httpClientBuilder(httpClientBuilder)
+                .overrideConfiguration(config -> config.addMetricPublisher(s3MetricPublisher));
+        if (hasEndpointOverride()) {
+            // 로컬 S3는 가상 호스트 방식 주소를 지원하지 않는 경우가 많아 path-style 사용
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+
+        log.info("S3 클라이언트 초기화 - region: {}, endpoint: {}, maxConnections: {}",
+                region, hasEndpointOverride() ? endpoint : "AWS", maxConnections);
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner(AwsCredentialsProvider s3CredentialsProvider) {
+        S3Presigner.Builder builder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(s3CredentialsProvider);
+        if (hasEndpointOverride()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 큰 객체 전송용 비동기 클라이언트 (CRT: 파트 단위 병렬 GET/PUT)
+     */
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient(AwsCredentialsProvider s3CredentialsProvider) {
+        S3CrtAsyncClientBuilder builder = S3AsyncClient.crtBuilder()
+                .region(Region.of(region))
+                .credentialsProvider(s3CredentialsProvider)
+                .maxConcurrency(transferMaxConcurrency)
+                .minimumPartSizeInBytes(transferPartSizeMb * 1024 * 1024)
+                .targetThroughputInGbps(transferTargetThroughputGbps)
+                .httpConfiguration(S3CrtHttpConfiguration.builder()
+                        .connectionTimeout(Duration.ofMillis(connectTimeoutMs))
+                        .build());
+        if (hasEndpointOverride()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+
+        log.info("S3 전송 클라이언트 초기화 - maxConcurrency: {}, partSize: {}MB, targetThroughput: {}Gbps",
+                transferMaxConcurrency, transferPartSizeMb, transferTargetThroughputGbps);
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public S3TransferManager s3TransferManager(S3AsyncClient s3AsyncClient) {
+        return S3TransferManager.builder()
+                .s3Client(s3AsyncClient)
+                .build();
+    }
+
+    private boolean hasEndpointOverride() {
+        return endpoint != null && !endpoint.isBlank();
+    }
+}
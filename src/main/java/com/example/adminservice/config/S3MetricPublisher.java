@@ -0,0 +1,90 @@
+package com.example.adminservice.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AWS SDK 요청 지표를 Micrometer로 내보내는 퍼블리셔
+ *
+ * - s3.client.requests: 작업(operation)/성공 여부별 API 호출 시간
+ * - s3.client.pool.*: 커넥션 풀의 최대/사용 중/여유/대기 요청 수 (가장 최근 요청 기준)
+ * - s3.client.pool.acquire: 풀에서 커넥션을 얻기까지 걸린 시간
+ */
+public class S3MetricPublisher implements MetricPublisher {
+
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger maxConcurrency = new AtomicInteger();
+    private final AtomicInteger leasedConcurrency = new AtomicInteger();
+    private final AtomicInteger availableConcurrency = new AtomicInteger();
+    private final AtomicInteger pendingAcquires = new AtomicInteger();
+    private final Timer acquireTimer;
+
+    public S3MetricPublisher(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("s3.client.pool.max", maxConcurrency, AtomicInteger::get)
+                .description("S3 커넥션 풀 최대 커넥션 수")
+                .register(meterRegistry);
+        Gauge.builder("s3.client.pool.leased", leasedConcurrency, AtomicInteger::get)
+                .description("S3 커넥션 풀 사용 중인 커넥션 수")
+                .register(meterRegistry);
+        Gauge.builder("s3.client.pool.available", availableConcurrency, AtomicInteger::get)
+                .description("S3 커넥션 풀 여유 커넥션 수")
+                .register(meterRegistry);
+        Gauge.builder("s3.client.pool.pending", pendingAcquires, AtomicInteger::get)
+                .description("S3 커넥션 획득 대기 요청 수")
+                .register(meterRegistry);
+        this.acquireTimer = Timer.builder("s3.client.pool.acquire")
+                .description("S3 커넥션 획득 대기 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        String operation = metricCollection.metricValues(CoreMetric.OPERATION_NAME).stream()
+                .findFirst()
+                .orElse("unknown");
+        boolean successful = metricCollection.metricValues(CoreMetric.API_CALL_SUCCESSFUL).stream()
+                .findFirst()
+                .orElse(false);
+
+        for (Duration duration : metricCollection.metricValues(CoreMetric.API_CALL_DURATION)) {
+            Timer.builder("s3.client.requests")
+                    .description("S3 API 호출 시간")
+                    .tag("operation", operation)
+                    .tag("successful", String.valueOf(successful))
+                    .register(meterRegistry)
+                    .record(duration);
+        }
+
+        recordPoolMetrics(metricCollection);
+    }
+
+    /**
+     * 요청 시도(ApiCallAttempt) 아래 HttpClient 지표에서 풀 상태 갱신
+     */
+    private void recordPoolMetrics(MetricCollection collection) {
+        collection.metricValues(HttpMetric.MAX_CONCURRENCY).forEach(maxConcurrency::set);
+        collection.metricValues(HttpMetric.LEASED_CONCURRENCY).forEach(leasedConcurrency::set);
+        collection.metricValues(HttpMetric.AVAILABLE_CONCURRENCY).forEach(availableConcurrency::set);
+        collection.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES).forEach(pendingAcquires::set);
+        collection.metricValues(HttpMetric.CONCURRENCY_ACQUIRE_DURATION).forEach(acquireTimer::record);
+
+        for (MetricCollection child : collection.children()) {
+            recordPoolMetrics(child);
+        }
+    }
+
+    @Override
+    public void close() {
+        // Micrometer 레지스트리는 Spring이 관리
+    }
+}
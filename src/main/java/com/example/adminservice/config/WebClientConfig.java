@@ -1,18 +1,114 @@
 package com.example.adminservice.config;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
 
 /**
  * WebClient 설정
  * 다른 서비스와의 HTTP 통신을 위한 설정
+ *
+ * 모든 외부 호출 WebClient는 하나의 커넥션 풀(outboundConnectionProvider)을 공유하며,
+ * 풀/요청 지표는 Micrometer(actuator)로 노출됩니다.
  */
 @Configuration
 public class WebClientConfig {
 
+    private static final Pattern QUERY_OR_FRAGMENT = Pattern.compile("[?#].*$");
+    private static final Pattern SCHEME_AND_AUTHORITY = Pattern.compile("^[a-zA-Z][a-zA-Z0-9+.-]*://[^/]*");
+    // 숫자, UUID, 16자 이상의 16진수(해시) 또는 이메일 경로 세그먼트
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "(?<=/)(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9a-fA-F]{16,}|[^/@]+@[^/]+)(?=/|$)");
+
+    @Value("${http.client.pool.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${http.client.pool.pending-acquire-max-count:500}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${http.client.pool.pending-acquire-timeout-ms:5000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${http.client.pool.max-idle-time-seconds:30}")
+    private long maxIdleTimeSeconds;
+
+    @Value("${http.client.pool.max-life-time-seconds:300}")
+    private long maxLifeTimeSeconds;
+
+    @Value("${http.client.pool.evict-interval-seconds:60}")
+    private long evictIntervalSeconds;
+
+    @Value("${http.client.connect-timeout-ms:10000}")
+    private int connectTimeoutMs;
+
+    @Value("${http.client.http2.enabled:false}")
+    private boolean http2Enabled;
+
+    /**
+     * 외부 호출용 공유 커넥션 풀
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider outboundConnectionProvider() {
+        return ConnectionProvider.builder("outbound")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(maxIdleTimeSeconds))
+                .maxLifeTime(Duration.ofSeconds(maxLifeTimeSeconds))
+                .evictInBackground(Duration.ofSeconds(evictIntervalSeconds))
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * 공유 커넥션 풀을 사용하는 기본 HttpClient (keep-alive, 선택적 HTTP/2)
+     */
+    @Bean
+    public HttpClient outboundHttpClient(ConnectionProvider outboundConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(outboundConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .metrics(true, WebClientConfig::toUriTemplate);
+
+        if (http2Enabled) {
+            // https는 ALPN으로, http는 h2c 업그레이드로 HTTP/2를 협상하고 실패 시 HTTP/1.1 사용
+            httpClient = httpClient.protocol(HttpProtocol.HTTP11, HttpProtocol.H2, HttpProtocol.H2C);
+        }
+
+        return httpClient;
+    }
+
+    /**
+     * 요청 지표의 uri 태그 값 (쿼리와 식별자 경로를 지워 태그 종류가 요청 수만큼 늘지 않게 함)
+     * 예) /api/users/123/campaigns?page=2 → /api/users/{id}/campaigns
+     */
+    public static String toUriTemplate(String uri) {
+        if (uri == null || uri.isEmpty()) {
+            return "/";
+        }
+        String path = SCHEME_AND_AUTHORITY.matcher(QUERY_OR_FRAGMENT.matcher(uri).replaceFirst("")).replaceFirst("");
+        if (path.isEmpty()) {
+            return "/";
+        }
+        return ID_SEGMENT.matcher(path).replaceAll("{id}");
+    }
+
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+    public WebClient.Builder webClientBuilder(HttpClient outboundHttpClient) {
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(outboundHttpClient));
     }
 }
@@ -0,0 +1,25 @@
+package com.example.adminservice.config;
+
+import com.example.adminservice.websocket.NotificationWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * 실시간 알림용 WebSocket 설정
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final NotificationWebSocketHandler notificationWebSocketHandler;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(notificationWebSocketHandler, "/ws/notifications")
+                .setAllowedOriginPatterns("*");
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.adminservice.constant;
+
+/**
+ * 이메일 템플릿 정의
+ *
+ * 본문은 {{변수}} 문법을 사용하며, 애플리케이션 시작 시 한 번 컴파일해 재사용합니다.
+ * 같은 문법을 쓰는 SES 서버 측 템플릿으로도 등록할 수 있습니다 (templateName 사용).
+ */
+public enum EmailTemplateType {
+
+    CAMPAIGN_APPROVED("campaign-approved", "캠페인 승인", "🎉 캠페인이 승인되었어요!", """
+            <html>
+            <body style="font-family: Arial, sans-serif; line-height: 1.6; color: #333;">
+                <div style="max-width: 600px; margin: 0 auto; padding: 20px;">
+                    <h1 style="color: #2388FF; text-align: center;">
+                        <img src="https://ckokservice.s3.ap-northeast-2.amazonaws.com/email/Frame+59.svg" style="width: 40px; height: 40px; vertical-align: middle;"> 축하해요!
+                    </h1>
+                    <div style="background-color: #2388FF; padding: 20px; border-radius: 8px; margin: 20px 0; text-align: center;">
+                        <h2 style="margin-top: 0; color: white;">{{nickname}}님의 캠페인이 승인되었어요!</h2>
+                        <p style="font-size: 18px; margin: 15px 0; color: white;">
+                            <strong style="color: white;">캠페인: {{campaignTitle}}</strong>
+                        </p>
+                    </div>
+                                            
+                    <div style="background-color: #f9f9f9; padding: 20px; border-radius: 5px; margin: 20px 0;">
+                        <h3 style="margin-top: 0; color: #555;">다음 단계</h3>
+                        <ol style="color: #666; padding-left: 20px;">
+                            <li>체험콕에 로그인해주세요</li>
+                            <li>마이페이지에서 승인된 캠페인을 확인해주세요</li>
+                        </ol>
+                    </div>
+                    
+                    <div style="text-align: center; margin: 30px 0;">
+                        <a href="https://chkok.kr" 
+                           style="display: inline-block; padding: 15px 30px; background-color: #2388FF; color: white; text-decoration: none; border-radius: 5px; font-size: 16px;">
+                            캠페인 확인하기
+                        </a>
+                    </div>
+                    
+                    <p style="color: #666; text-align: center;">
+                        승인을 축하드려요! 🌟
+                    </p>
+                    
+                    <hr style="margin: 30px 0; border: none; border-top: 1px solid #ddd;">
+                    <p style="font-size: 12px; color: #888; text-align: center;">
+                        체험콕<br>
+                        이 이메일은 발송 전용이에요.
+                    </p>
+                </div>
+            </body>
+            </html>
+            """),
+
+    CAMPAIGN_REJECTED("campaign-rejected", "캠페인 거절", "캠페인이 거절 되었어요!", """
+            <html>
+            <body style="font-family: Arial, sans-serif; line-height: 1.6; color: #333;">
+                <div style="max-width: 600px; margin: 0 auto; padding: 20px;">
+                    <h1 style="color: #2388FF; text-align: center;">
+                        <img src="https://ckokservice.s3.ap-northeast-2.amazonaws.com/email/Frame+59.svg" style="width: 40px; height: 40px; vertical-align: middle;"> 캠페인 심사 결과
+                    </h1>
+                    <div style="background-color: #2388FF; padding: 20px; border-radius: 8px; margin: 20px 0; text-align: center; border-left: 4px solid #2388FF;">
+                        <h2 style="margin-top: 0; color: white;">{{nickname}}님의 캠페인이 승인되지 않았어요</h2>
+                        <p style="font-size: 18px; margin: 15px 0; color: #666;">
+                            <strong style="color: white;">캠페인: {{campaignTitle}}</strong>
+                        </p>
+                    </div>
+                    
+                    <div style="background-color: #2388FF; padding: 20px; border-radius: 5px; margin: 20px 0; border-left: 4px solid #2388FF;">
+                        <h3 style="margin-top: 0; color: white;">거절 사유</h3>
+                        <p style="color: white; margin-bottom: 0;">"{{rejectionReason}}"</p>
+                    </div>
+                                            
+                    <div style="background-color: #f9f9f9; padding: 20px; border-radius: 5px; margin: 20px 0;">
+                        <h3 style="margin-top: 0; color: #555;">다음 단계</h3>
+                        <ol style="color: #666; padding-left: 20px;">
+                            <li>거절 사유를 참고해주세요</li>
+                            <li>내용을 보완하여 새 캠페인으로 다시 신청해주세요</li>
+                            <li>추가 문의사항은 고객센터로 연락해주세요</li>
+                        </ol>
+                    </div>
+                    
+                    <div style="text-align: center; margin: 30px 0;">
+                        <a href="https://chkok.kr" 
+                           style="display: inline-block; padding: 15px 30px; background-color: #2388FF; color: white; text-decoration: none; border-radius: 5px; font-size: 16px;">
+                            새 캠페인 만들기
+                        </a>
+                    </div>
+                    
+                    <p style="color: #666; text-align: center;">
+                        더 나은 캠페인으로 다시 만나요!
+                    </p>
+                    
+                    <hr style="margin: 30px 0; border: none; border-top: 1px solid #ddd;">
+                    <p style="font-size: 12px; color: #888; text-align: center;">
+                        체험콕<br>
+                        이 이메일은 발송 전용이에요.
+                    </p>
+                </div>
+            </body>
+            </html>
+            """),
+
+    CAMPAIGN_REVISION_REQUEST("campaign-revision-request", "캠페인 수정 요청", "캠페인 수정이 요청되었어요!", """
+            <html>
+            <body style="font-family: Arial, sans-serif; line-height: 1.6; color: #333;">
+                <div style="max-width: 600px; margin: 0 auto; padding: 20px;">
+                    <h1 style="color: #2388FF; text-align: center;">
+                        <img src="https://ckokservice.s3.ap-northeast-2.amazonaws.com/email/Frame+59.svg" alt="축하 아이콘" style="width: 40px; height: 40px; vertical-align: middle;"> 캠페인 수정 요청!
+                    </h1>
+                    <div style="background-color: #2388FF; padding: 20px; border-radius: 8px; margin: 20px 0; text-align: center;">
+                        <h2 style="margin-top: 0; color: white;">{{nickname}}님의 캠페인 수정이 요청되었어요!</h2>
+                        <p style="font-size: 18px; margin: 15px 0; color: white;">
+                            <strong style="color: white;">캠페인: {{campaignTitle}}</strong>
+                        </p>
+                    </div>
+                    
+                    <div style="background-color: #fff3e0; padding: 20px; border-radius: 5px; margin: 20px 0; border-left: 4px solid #FF9800;">
+                        <h3 style="margin-top: 0; color: #F57C00;">👏 수정 요청 사유</h3>
+                        <p style="color: #666; font-style: italic; margin-bottom: 0;">"{{revisionReason}}"</p>
+                    </div>
+                                            
+                    <div style="background-color: #f9f9f9; padding: 20px; border-radius: 5px; margin: 20px 0;">
+                        <h3 style="margin-top: 0; color: #555;">다음 단계</h3>
+                        <ol style="color: #666; padding-left: 20px;">
+                            <li>수정 요청 사유를 확인해주세요</li>
+                            <li>해당 부분을 보완하여 다시 제출해주세요</li>
+                            <li>추가 문의사항은 고객센터로 연락해주세요</li>
+                        </ol>
+                    </div>
+                    
+                    <div style="text-align: center; margin: 30px 0;">
+                        <a href="https://chkok.kr/campaigns/my" 
+                           style="display: inline-block; padding: 15px 30px; background-color: #2388FF; color: white; text-decoration: none; border-radius: 5px; font-size: 16px;">
+                            캠페인 수정하러 가기
+                        </a>
+                    </div>
+                    
+                    <p style="color: #666; text-align: center;">
+                        빠른 시일 내에 수정해서 다시 제출해주세요. 💪
+                    </p>
+                    
+                    <hr style="margin: 30px 0; border: none; border-top: 1px solid #ddd;">
+                    <p style="font-size: 12px; color: #888; text-align: center;">
+                        체험콕<br>
+                        이 이메일은 발송 전용이에요.
+                    </p>
+                </div>
+            </body>
+            </html>
+            """);
+
+    private final String templateName;
+    private final String description;
+    private final String subject;
+    private final String html;
+
+    EmailTemplateType(String templateName, String description, String subject, String html) {
+        this.templateName = templateName;
+        this.description = description;
+        this.subject = subject;
+        this.html = html;
+    }
+
+    public String getTemplateName() {
+        return templateName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getHtml() {
+        return html;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.adminservice.constant;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 인기 순위 기간
+ * 기간을 반감기로 하는 지수 감쇠 점수로 순위를 매기며, ALL_TIME은 감쇠 없이 누적 조회수를 사용
+ */
+@Getter
+public enum PopularityWindow {
+    DAY("24h", "24시간", Duration.ofHours(24)),
+    WEEK("7d", "7일", Duration.ofDays(7)),
+    ALL_TIME("all", "전체 기간", null);
+
+    private final String value;
+    private final String description;
+    private final Duration halfLife;
+
+    PopularityWindow(String value, String description, Duration halfLife) {
+        this.value = value;
+        this.description = description;
+        this.halfLife = halfLife;
+    }
+
+    public boolean isDecayed() {
+        return halfLife != null;
+    }
+
+    public static PopularityWindow fromValue(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return ALL_TIME; // 기본값
+        }
+
+        for (PopularityWindow window : PopularityWindow.values()) {
+            if (window.value.equalsIgnoreCase(value.trim())) {
+                return window;
+            }
+        }
+        return ALL_TIME; // 알 수 없는 값이면 기본값
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.adminservice.constant;
+
+/**
+ * 조회수를 버퍼링해 반영하는 대상 테이블
+ */
+public enum ViewCountTarget {
+    NOTICE("notices"),
+    KOKPOST("kokposts");
+
+    private final String tableName;
+
+    ViewCountTarget(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+}
@@ -18,6 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -47,6 +48,7 @@ public class BannerImageController {
                                         "redirectUrl": "https://example.com/campaign",
                                         "position": "TOP",
                                         "displayOrder": 1,
+                                        "processingStatus": "PROCESSING",
                                         "createdAt": "2025-08-06T10:30:00",
                                         "updatedAt": "2025-08-06T10:30:00"
                                       }
@@ -316,6 +318,66 @@ public class BannerImageController {
         }
     }
 
+    @Operation(summary = "배너 이미지 처리 상태 조회",
+            description = "배너 생성/이미지 변경 후 백그라운드에서 진행되는 16:9 변환 작업의 상태를 조회합니다. "
+                    + "processingStatus가 PROCESSING인 동안 주기적으로 조회하세요.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "처리 상태 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": true,
+                                      "message": "배너 이미지 처리 상태 조회 성공",
+                                      "status": 200,
+                                      "data": {
+                                        "id": 1,
+                                        "processingStatus": "READY",
+                                        "processingError": null,
+                                        "bannerUrl": "https://example.com/banner.jpg"
+                                      }
+                                    }
+                                    """))),
+            @ApiResponse(responseCode = "404", description = "배너를 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/{id}/processing-status")
+    public ResponseEntity<Map<String, Object>> getProcessingStatus(@Parameter(description = "조회할 배너 ID") @PathVariable Long id) {
+        try {
+            BannerImageResponse banner = bannerImageService.getBanner(id);
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("id", banner.getId());
+            data.put("processingStatus", banner.getProcessingStatus());
+            data.put("processingError", banner.getProcessingError());
+            data.put("bannerUrl", banner.getBannerUrl());
+
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "message", "배너 이미지 처리 상태 조회 성공",
+                    "data", data,
+                    "status", HttpStatus.OK.value()
+            ));
+        } catch (RuntimeException e) {
+            if (e.getMessage() != null && e.getMessage().contains("찾을 수 없습니다")) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of(
+                                "success", false,
+                                "message", "배너를 찾을 수 없습니다",
+                                "errorCode", "NOT_FOUND",
+                                "status", HttpStatus.NOT_FOUND.value()
+                        ));
+            }
+            log.error("배너 이미지 처리 상태 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of(
+                            "success", false,
+                            "message", "배너 이미지 처리 상태 조회 중 오류가 발생했습니다",
+                            "errorCode", "INTERNAL_ERROR",
+                            "status", HttpStatus.INTERNAL_SERVER_ERROR.value()
+                    ));
+        }
+    }
+
     @Operation(summary = "모든 배너 이미지 목록 조회",
             description = "등록된 모든 배너 이미지 목록을 조회합니다. orderBy 파라미터로 정렬 방식을 선택할 수 있습니다.")
     @ApiResponses(value = {
@@ -0,0 +1,159 @@
+package com.example.adminservice.controller;
+
+import com.example.adminservice.common.BaseResponse;
+import com.example.adminservice.dto.email.BulkEmailRequest;
+import com.example.adminservice.dto.email.EmailDispatchStatus;
+import com.example.adminservice.dto.email.EmailMessage;
+import com.example.adminservice.service.EmailDispatchService;
+import com.example.adminservice.service.SESService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/emails/dispatch")
+@RequiredArgsConstructor
+@Tag(name = "이메일 발송 큐 API", description = "비동기 이메일 발송 큐 상태 및 데드레터 관리 API")
+public class EmailDispatchController {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final EmailDispatchService emailDispatchService;
+    private final SESService sesService;
+
+    @Operation(
+            summary = "이메일 발송 큐 상태 조회",
+            description = "대기/재시도/데드레터 건수와 애플리케이션 시작 이후 누적 발송 통계를 조회합니다.",
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "발송 큐 상태 조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/status")
+    public ResponseEntity<?> getStatus() {
+        try {
+            EmailDispatchStatus status = emailDispatchService.getStatus();
+
+            return ResponseEntity.ok(
+                    BaseResponse.success(status, "이메일 발송 큐 상태를 성공적으로 조회했습니다.")
+            );
+        } catch (Exception e) {
+            log.error("이메일 발송 큐 상태 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("이메일 발송 큐 상태 조회에 실패했습니다.", "EMAIL_DISPATCH_STATUS_FETCH_FAILED", 500));
+        }
+    }
+
+    @Operation(
+            summary = "이메일 데드레터 조회",
+            description = "재시도를 모두 실패했거나 영구 오류로 발송되지 않은 이메일을 최신순으로 조회합니다.",
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "데드레터 조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/dead-letters")
+    public ResponseEntity<?> getDeadLetters(
+            @Parameter(description = "조회 건수 (최대 500)", example = "50")
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            List<EmailMessage> deadLetters = emailDispatchService.getDeadLetters(Math.max(1, Math.min(limit, MAX_LIMIT)));
+
+            return ResponseEntity.ok(
+                    BaseResponse.success(deadLetters, "이메일 데드레터를 성공적으로 조회했습니다.")
+            );
+        } catch (Exception e) {
+            log.error("이메일 데드레터 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("이메일 데드레터 조회에 실패했습니다.", "EMAIL_DEAD_LETTER_FETCH_FAILED", 500));
+        }
+    }
+
+    @Operation(
+            summary = "이메일 데드레터 재발송",
+            description = "데드레터를 오래된 순으로 꺼내 시도 횟수를 초기화한 뒤 다시 발송 큐에 적재합니다.",
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "데드레터 재발송 적재 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @PostMapping("/dead-letters/redrive")
+    public ResponseEntity<?> redriveDeadLetters(
+            @Parameter(description = "재발송할 최대 건수 (최대 500)", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        try {
+            int redriven = emailDispatchService.redriveDeadLetters(Math.max(1, Math.min(limit, MAX_LIMIT)));
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("redriven", redriven);
+
+            return ResponseEntity.ok(
+                    BaseResponse.success(response, redriven + "건의 이메일을 다시 발송 큐에 적재했습니다.")
+            );
+        } catch (Exception e) {
+            log.error("이메일 데드레터 재발송 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("이메일 데드레터 재발송에 실패했습니다.", "EMAIL_DEAD_LETTER_REDRIVE_FAILED", 500));
+        }
+    }
+
+    @Operation(
+            summary = "대량 템플릿 이메일 발송",
+            description = "SES 서버 측 템플릿으로 수신자를 50명 단위로 묶어 발송 큐에 적재합니다. " +
+                    "aws.ses.templates.sync-enabled=true로 템플릿이 SES에 등록되어 있어야 하며, 형식이 잘못된 주소는 제외됩니다.",
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "대량 이메일 발송 적재 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 SES 템플릿 미등록"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<?> sendBulk(@Valid @RequestBody BulkEmailRequest request) {
+        try {
+            if (!sesService.isBulkTemplatedEmailEnabled()) {
+                return ResponseEntity.badRequest()
+                        .body(BaseResponse.fail("SES 템플릿이 등록되어 있지 않아 대량 발송을 할 수 없습니다.", "EMAIL_BULK_TEMPLATE_DISABLED", 400));
+            }
+
+            int enqueued = sesService.sendBulkTemplatedEmailSafe(request.getTemplateType(), request.getRecipients());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("requested", request.getRecipients().size());
+            response.put("enqueued", enqueued);
+
+            return ResponseEntity.ok(
+                    BaseResponse.success(response, enqueued + "명에게 보낼 이메일을 발송 큐에 적재했습니다.")
+            );
+        } catch (Exception e) {
+            log.error("대량 이메일 발송 적재 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("대량 이메일 발송 적재에 실패했습니다.", "EMAIL_BULK_ENQUEUE_FAILED", 500));
+        }
+    }
+}
@@ -2,9 +2,20 @@ package com.example.adminservice.controller;
 
 import com.example.adminservice.common.BaseResponse;
 import com.example.adminservice.dto.BannerPresignedUrlRequest;
+import com.example.adminservice.dto.ImageDerivativeRequest;
+import com.example.adminservice.dto.KokpostBatchPresignedUrlRequest;
+import com.example.adminservice.dto.ImageDerivativeResponse;
 import com.example.adminservice.dto.KokpostPresignedUrlRequest;
 import com.example.adminservice.dto.PresignedUrlRequest;
+import com.example.adminservice.dto.upload.MultipartAbortRequest;
+import com.example.adminservice.dto.upload.MultipartCompleteRequest;
+import com.example.adminservice.dto.upload.MultipartPartUrl;
+import com.example.adminservice.dto.upload.MultipartPartUrlsRequest;
+import com.example.adminservice.dto.upload.MultipartUploadInitRequest;
+import com.example.adminservice.dto.upload.MultipartUploadInitResponse;
+import com.example.adminservice.service.ImageDerivativeService;
 import com.example.adminservice.service.S3Service;
+import com.example.adminservice.util.S3UrlUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -21,6 +32,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -31,6 +45,7 @@ import java.util.Map;
 public class ImageUploadController {
 
     private final S3Service s3Service;
+    private final ImageDerivativeService imageDerivativeService;
 
     @Operation(
             summary = "Kokpost 이미지 업로드용 Presigned URL 생성",
@@ -118,14 +133,13 @@ public class ImageUploadController {
             log.info("Kokpost 이미지 Presigned URL 요청: fileExtension={}", request.getFileExtension());
 
             // S3 Presigned URL 생성
-            S3Service.PresignedUrlResponse response = s3Service.generateKokpostPresignedUrl(request.getFileExtension());
+            S3Service.PresignedUrlResponse response =
+                    s3Service.generateKokpostPresignedUrl(request.getFileExtension(), request.getSha256());
 
             log.info("Kokpost 이미지 Presigned URL 생성 완료");
 
             // 응답 데이터 구성
-            Map<String, Object> responseData = Map.of(
-                    "presignedUrl", response.getPresignedUrl()
-            );
+            Map<String, Object> responseData = toPresignedUrlData(response, request.getSha256() != null);
 
             return ResponseEntity.ok(
                     BaseResponse.success(
@@ -144,6 +158,54 @@ public class ImageUploadController {
         }
     }
 
+    @Operation(
+            summary = "Kokpost 이미지 업로드용 Presigned URL 일괄 생성",
+            description = """
+            Kokpost 본문 이미지 여러 장의 presigned URL을 한 번의 요청으로 생성합니다.
+            
+            - 최대 50개까지 요청할 수 있으며, 응답 목록은 요청한 파일 순서와 같습니다
+            - 각 파일에 sha256을 지정하면 단건 API와 같이 내용 기반 키로 업로드/재사용합니다
+            - URL 유효 시간: 5분
+            """,
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @PostMapping("/kokpost/presigned-urls")
+    public ResponseEntity<?> generateKokpostPresignedUrls(
+            @Parameter(description = "파일 정보 목록", required = true)
+            @Valid @RequestBody KokpostBatchPresignedUrlRequest request
+    ) {
+        try {
+            List<KokpostPresignedUrlRequest> files = request.getFiles();
+            log.info("Kokpost 이미지 Presigned URL 일괄 요청: {}개", files.size());
+
+            List<S3Service.PresignedUrlResponse> responses = s3Service.generateKokpostPresignedUrls(
+                    files.stream().map(KokpostPresignedUrlRequest::getFileExtension).toList(),
+                    files.stream().map(KokpostPresignedUrlRequest::getSha256).toList());
+
+            List<Map<String, Object>> responseData = new ArrayList<>(responses.size());
+            for (int i = 0; i < responses.size(); i++) {
+                responseData.add(toPresignedUrlData(responses.get(i), files.get(i).getSha256() != null));
+            }
+
+            log.info("Kokpost 이미지 Presigned URL 일괄 생성 완료: {}개", responseData.size());
+
+            return ResponseEntity.ok(
+                    BaseResponse.success(
+                            responseData,
+                            "Kokpost 이미지 업로드용 URL이 성공적으로 생성되었습니다."
+                    )
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(BaseResponse.fail(e.getMessage(), "VALIDATION_ERROR", 400));
+        } catch (Exception e) {
+            log.error("Kokpost Presigned URL 일괄 생성 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("PreSigned URL 생성 중 오류가 발생했습니다.", "URL_GENERATION_FAILED", 500));
+        }
+    }
+
     @Operation(
             summary = "배너 이미지 업로드용 Presigned URL 생성",
             description = """
@@ -302,14 +364,13 @@ public class ImageUploadController {
             log.info("배너 이미지 Presigned URL 요청: fileExtension={}", request.getFileExtension());
 
             // S3 Presigned URL 생성
-            S3Service.PresignedUrlResponse response = s3Service.generateBannerPresignedUrl(request.getFileExtension());
+            S3Service.PresignedUrlResponse response =
+                    s3Service.generateBannerPresignedUrl(request.getFileExtension(), request.getSha256());
 
             log.info("배너 이미지 Presigned URL 생성 완료");
 
             // 응답 데이터 구성
-            Map<String, Object> responseData = Map.of(
-                    "presignedUrl", response.getPresignedUrl()
-            );
+            Map<String, Object> responseData = toPresignedUrlData(response, request.getSha256() != null);
 
             return ResponseEntity.ok(
                     BaseResponse.success(
@@ -330,4 +391,202 @@ public class ImageUploadController {
 
 
 
+
+    @Operation(
+            summary = "Kokpost 이미지 해상도별 파생 이미지 생성",
+            description = """
+            업로드가 끝난 Kokpost 이미지로 해상도별(기본 480/960/1920) 원본 포맷 + WebP 파생 이미지를 생성합니다.
+            
+            ### 사용 방법
+            1. presigned URL로 이미지를 업로드합니다
+            2. 업로드한 이미지 URL로 이 API를 호출합니다
+            3. 응답의 url(대표 이미지)과 srcset/webpSrcset을 본문 이미지 태그에 사용합니다
+            
+            ### 권한
+            - ADMIN 권한 필요
+            """,
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @PostMapping("/kokpost/derivatives")
+    public ResponseEntity<?> generateKokpostDerivatives(
+            @Parameter(description = "원본 이미지 정보", required = true)
+            @Valid @RequestBody ImageDerivativeRequest request
+    ) {
+        try {
+            String imageUrl = S3UrlUtils.cleanS3Url(request.getImageUrl());
+            log.info("Kokpost 파생 이미지 생성 요청: imageUrl={}", imageUrl);
+
+            ImageDerivativeService.DerivativeResult result = imageDerivativeService.generate(imageUrl, false);
+
+            List<ImageDerivativeResponse> derivatives = result.derivatives().stream()
+                    .map(ImageDerivativeResponse::from)
+                    .toList();
+            String primaryUrl = result.primaryUrl();
+            String originalFormat = primaryUrl.substring(primaryUrl.lastIndexOf('.') + 1);
+
+            Map<String, Object> responseData = new LinkedHashMap<>();
+            responseData.put("url", primaryUrl);
+            responseData.put("derivatives", derivatives);
+            responseData.put("srcset", ImageDerivativeResponse.toSrcset(result.derivatives(), originalFormat));
+            responseData.put("webpSrcset", ImageDerivativeResponse.toSrcset(result.derivatives(), "webp"));
+
+            return ResponseEntity.ok(
+                    BaseResponse.success(
+                            responseData,
+                            "파생 이미지가 성공적으로 생성되었습니다."
+                    )
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(BaseResponse.fail(e.getMessage(), "VALIDATION_ERROR", 400));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(BaseResponse.fail("이미지 처리가 중단되었습니다.", "IMAGE_PROCESSING_INTERRUPTED", 503));
+        } catch (Exception e) {
+            log.error("Kokpost 파생 이미지 생성 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("파생 이미지 생성 중 오류가 발생했습니다.", "IMAGE_PROCESSING_FAILED", 500));
+        }
+    }
+
+    @Operation(
+            summary = "멀티파트 업로드 시작",
+            description = """
+            큰 이미지/동영상을 여러 파트로 나눠 업로드하기 위한 멀티파트 업로드를 시작합니다.
+            
+            ### 사용 방법
+            1. 이 API로 uploadId와 objectKey를 받습니다 (fileSize를 보내면 권장 파트 크기/수 포함)
+            2. 파트 URL 발급 API로 파트별 presigned URL을 받아 병렬로 PUT 업로드합니다 (각 응답의 ETag 보관)
+            3. 모든 파트를 올린 뒤 완료 API를 호출합니다 (중단 시 취소 API 호출)
+            
+            ### 제한사항
+            - 파트는 마지막 파트를 제외하고 5MB 이상이어야 합니다
+            - 완료되지 않은 업로드는 S3 정리 작업이 일정 시간 후 취소합니다
+            """,
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @PostMapping("/multipart/initiate")
+    public ResponseEntity<?> initiateMultipartUpload(
+            @Parameter(description = "업로드 정보", required = true)
+            @Valid @RequestBody MultipartUploadInitRequest request
+    ) {
+        try {
+            log.info("멀티파트 업로드 시작 요청: target={}, fileExtension={}, fileSize={}",
+                    request.getTarget(), request.getFileExtension(), request.getFileSize());
+
+            MultipartUploadInitResponse response = s3Service.initiateMultipartUpload(
+                    request.getTarget(), request.getFileExtension(), request.getFileSize());
+
+            return ResponseEntity.ok(
+                    BaseResponse.success(response, "멀티파트 업로드가 시작되었습니다.")
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(BaseResponse.fail(e.getMessage(), "VALIDATION_ERROR", 400));
+        } catch (Exception e) {
+            log.error("멀티파트 업로드 시작 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("멀티파트 업로드 시작에 실패했습니다.", "MULTIPART_INITIATE_FAILED", 500));
+        }
+    }
+
+    @Operation(
+            summary = "멀티파트 파트 업로드 URL 발급",
+            description = "지정한 파트 번호들의 presigned PUT URL을 한 번에 발급합니다. (요청당 최대 100개)",
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @PostMapping("/multipart/parts")
+    public ResponseEntity<?> generateMultipartPartUrls(
+            @Parameter(description = "파트 정보", required = true)
+            @Valid @RequestBody MultipartPartUrlsRequest request
+    ) {
+        try {
+            List<MultipartPartUrl> partUrls = s3Service.generateMultipartPartUrls(
+                    request.getObjectKey(), request.getUploadId(), request.getPartNumbers());
+
+            return ResponseEntity.ok(
+                    BaseResponse.success(partUrls, "파트 업로드 URL이 성공적으로 생성되었습니다.")
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(BaseResponse.fail(e.getMessage(), "VALIDATION_ERROR", 400));
+        } catch (Exception e) {
+            log.error("파트 업로드 URL 생성 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("파트 업로드 URL 생성에 실패했습니다.", "URL_GENERATION_FAILED", 500));
+        }
+    }
+
+    @Operation(
+            summary = "멀티파트 업로드 완료",
+            description = "업로드한 파트 목록(파트 번호 + ETag)으로 업로드를 완료하고 공개 URL을 반환합니다.",
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @PostMapping("/multipart/complete")
+    public ResponseEntity<?> completeMultipartUpload(
+            @Parameter(description = "완료 정보", required = true)
+            @Valid @RequestBody MultipartCompleteRequest request
+    ) {
+        try {
+            String publicUrl = s3Service.completeMultipartUpload(
+                    request.getObjectKey(), request.getUploadId(), request.getParts());
+
+            return ResponseEntity.ok(
+                    BaseResponse.success(Map.of("publicUrl", publicUrl), "멀티파트 업로드가 완료되었습니다.")
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(BaseResponse.fail(e.getMessage(), "VALIDATION_ERROR", 400));
+        } catch (Exception e) {
+            log.error("멀티파트 업로드 완료 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("멀티파트 업로드 완료에 실패했습니다.", "MULTIPART_COMPLETE_FAILED", 500));
+        }
+    }
+
+    @Operation(
+            summary = "멀티파트 업로드 취소",
+            description = "진행 중인 멀티파트 업로드를 취소하고 이미 올라간 파트를 삭제합니다.",
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @PostMapping("/multipart/abort")
+    public ResponseEntity<?> abortMultipartUpload(
+            @Parameter(description = "취소 정보", required = true)
+            @Valid @RequestBody MultipartAbortRequest request
+    ) {
+        try {
+            s3Service.abortMultipartUpload(request.getObjectKey(), request.getUploadId());
+
+            return ResponseEntity.ok(
+                    BaseResponse.success(null, "멀티파트 업로드가 취소되었습니다.")
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(BaseResponse.fail(e.getMessage(), "VALIDATION_ERROR", 400));
+        } catch (Exception e) {
+            log.error("멀티파트 업로드 취소 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("멀티파트 업로드 취소에 실패했습니다.", "MULTIPART_ABORT_FAILED", 500));
+        }
+    }
+
+    /**
+     * presigned URL 응답 데이터 구성 (내용 기반 업로드면 재사용 여부, 공개 URL, 필수 헤더 포함)
+     */
+    private Map<String, Object> toPresignedUrlData(S3Service.PresignedUrlResponse response, boolean contentAddressed) {
+        Map<String, Object> responseData = new LinkedHashMap<>();
+        responseData.put("presignedUrl", response.getPresignedUrl());
+        if (contentAddressed) {
+            responseData.put("existing", response.isExisting());
+            responseData.put("publicUrl", response.getPublicUrl());
+            responseData.put("requiredHeaders", response.getRequiredHeaders());
+        }
+        return responseData;
+    }
 }
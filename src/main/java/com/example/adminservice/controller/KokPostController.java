@@ -20,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -120,6 +121,44 @@ public class KokPostController {
         return ApiResponse.success("체험콕 글 목록을 성공적으로 조회했습니다.", kokPosts);
     }
 
+    @Operation(
+            summary = "체험콕 아티클 목록 커서 조회",
+            description = "체험콕 아티클 목록을 커서 기반으로 조회합니다. 본문(content)은 포함되지 않습니다.\n\n" +
+                    "- **cursor**: 이전 응답의 nextCursor (첫 페이지는 생략, 정렬 옵션이 같아야 함)\n" +
+                    "- **size**: 페이지 크기 (최대 100)\n" +
+                    "- **nextCursor**: 다음 페이지 조회용 커서 (더 없으면 null)"
+    )
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<KokPostFeedResponse>> getKokPostFeed(
+            @Parameter(
+                    name = "Authorization",
+                    description = "Authorization 헤더 (Bearer token)",
+                    required = true,
+                    in = ParameterIn.HEADER
+            )
+            @RequestHeader("Authorization") String authorization,
+            @Parameter(description = "정렬 옵션 (latest: 최신순, viewCountDesc: 조회수 높은순, viewCountAsc: 조회수 낮은순)")
+            @RequestParam(required = false, defaultValue = "latest") String sort,
+            @Parameter(description = "활성 상태 필터 (true: 활성화된 글만, false: 비활성화된 글만, null: 전체)")
+            @RequestParam(required = false) Boolean active,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(required = false, defaultValue = "20") int size
+    ) {
+        log.info("체험콕 글 목록 커서 조회 API 호출 - 정렬: {}, 활성 필터: {}, 크기: {}", sort, active, size);
+
+        SortOption sortOption = SortOption.fromValue(sort);
+        try {
+            KokPostFeedResponse feed = kokPostService.getKokPostFeed(sortOption, active, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success("체험콕 글 목록을 성공적으로 조회했습니다.", feed));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 커서: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage(), HttpStatus.BAD_REQUEST));
+        }
+    }
+
     @Operation(
             summary = "체험콕 글 생성",
             description = """
@@ -1,8 +1,12 @@
 package com.example.adminservice.controller;
 
 import com.example.adminservice.common.BaseResponse;
+import com.example.adminservice.dto.BroadcastNotificationRequest;
 import com.example.adminservice.dto.NotificationRequest;
 import com.example.adminservice.dto.NotificationResponse;
+import com.example.adminservice.dto.SystemNotificationRequest;
+import com.example.adminservice.dto.notification.NotificationFeedResponse;
+import com.example.adminservice.dto.notification.NotificationRetentionStatus;
 import com.example.adminservice.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -23,7 +27,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
 
 @Slf4j
@@ -178,6 +182,130 @@ public class NotificationController {
         }
     }
 
+    @Operation(
+            summary = "전체 사용자 대상 알림 생성",
+            description = """
+            모든 사용자에게 보이는 알림을 생성하고 실시간으로 전송합니다. (관리자 권한 필요)
+            
+            ### 특징
+            - 사용자 수와 관계없이 알림 1건만 저장됩니다.
+            - 사용자별 읽음 상태는 조회 시 병합되며, 응답의 **broadcast** 값이 true로 표시됩니다.
+            - 읽음 처리는 `PATCH /api/notifications/broadcasts/{broadcastId}/read`를 사용합니다.
+            """,
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "브로드캐스트 알림 생성 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (필수 필드 누락, 유효성 검사 실패)"),
+            @ApiResponse(responseCode = "401", description = "인증 실패 (토큰 없음 또는 만료)"),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (관리자 권한 필요)"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @PostMapping("/broadcasts")
+    public ResponseEntity<?> createBroadcastNotification(
+            @Valid @RequestBody BroadcastNotificationRequest request
+    ) {
+        try {
+            log.info("브로드캐스트 알림 생성 요청: type={}, title={}", request.getNotificationType(), request.getTitle());
+
+            NotificationResponse response = notificationService.createBroadcastNotification(
+                    request.getNotificationType(), request.getTitle(), request.getMessage());
+
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(BaseResponse.success(response, "브로드캐스트 알림이 성공적으로 생성되었습니다."));
+        } catch (Exception e) {
+            log.error("브로드캐스트 알림 생성 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("브로드캐스트 알림 생성에 실패했습니다.", "BROADCAST_CREATION_FAILED", 500));
+        }
+    }
+
+    @Operation(
+            summary = "사용자 그룹 대상 시스템 알림 생성",
+            description = """
+            지정한 사용자들에게 같은 내용의 시스템 알림을 일괄 생성합니다. (관리자 권한 필요)
+            
+            ### 특징
+            - 수신자별로 개인 알림이 저장되며, 수신자를 청크 단위로 나누어 청크마다 한 번의 쿼리로 적재합니다.
+            - 실시간 전송은 하지 않으며, 읽지 않은 알림 개수는 다음 조회 시 다시 계산됩니다.
+            - 전체 사용자 대상이면 `POST /api/notifications/broadcasts`를 사용하세요.
+            """,
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "시스템 알림 생성 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (필수 필드 누락, 유효성 검사 실패)"),
+            @ApiResponse(responseCode = "401", description = "인증 실패 (토큰 없음 또는 만료)"),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (관리자 권한 필요)"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @PostMapping("/system")
+    public ResponseEntity<?> createSystemNotification(
+            @Valid @RequestBody SystemNotificationRequest request
+    ) {
+        try {
+            log.info("시스템 알림 생성 요청: title={}, 대상 사용자 수={}", request.getTitle(), request.getUserIds().size());
+
+            int insertedCount = notificationService.createSystemNotification(
+                    request.getTitle(), request.getMessage(), request.getUserIds());
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("insertedCount", insertedCount);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(BaseResponse.success(result, "시스템 알림이 성공적으로 생성되었습니다."));
+        } catch (Exception e) {
+            log.error("시스템 알림 생성 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("시스템 알림 생성에 실패했습니다.", "SYSTEM_NOTIFICATION_CREATION_FAILED", 500));
+        }
+    }
+
+    @Operation(
+            summary = "브로드캐스트 알림 읽음 처리",
+            description = """
+            전체 사용자 대상 알림을 특정 사용자 기준으로 읽음 상태로 변경합니다.
+            
+            ### 경로 파라미터
+            - **broadcastId**: 읽음 처리할 브로드캐스트 알림의 ID
+            
+            ### 쿼리 파라미터
+            - **userId**: 사용자 ID
+            """,
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "브로드캐스트 알림 읽음 처리 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (존재하지 않는 브로드캐스트 알림)"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @PatchMapping("/broadcasts/{broadcastId}/read")
+    public ResponseEntity<?> markBroadcastAsRead(
+            @Parameter(description = "읽음 처리할 브로드캐스트 알림 ID", example = "7", required = true)
+            @PathVariable Long broadcastId,
+            @Parameter(description = "사용자 ID", example = "1", required = true)
+            @RequestParam Long userId
+    ) {
+        try {
+            log.info("브로드캐스트 알림 읽음 처리: broadcastId={}, userId={}", broadcastId, userId);
+
+            notificationService.markBroadcastAsRead(broadcastId, userId);
+
+            return ResponseEntity.ok(
+                    BaseResponse.success(null, "브로드캐스트 알림을 읽음 상태로 변경했습니다.")
+            );
+        } catch (RuntimeException e) {
+            log.warn("브로드캐스트 알림 읽음 처리 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(BaseResponse.fail(e.getMessage(), "BROADCAST_READ_FAILED", 400));
+        } catch (Exception e) {
+            log.error("브로드캐스트 알림 읽음 처리 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("브로드캐스트 알림 읽음 처리에 실패했습니다.", "BROADCAST_READ_ERROR", 500));
+        }
+    }
+
     @Operation(
             summary = "사용자 알림 목록 조회",
             description = """
@@ -189,6 +317,7 @@ public class NotificationController {
             ### 쿼리 파라미터 (페이징 및 정렬)
             - **page**: 페이지 번호 (0부터 시작, 기본값: 0)
             - **size**: 페이지당 항목 수 (기본값: 20, 최대: 100)
+              - (page + 1) × size가 1000을 넘으면 400을 반환합니다. 그 이후는 `/users/{userId}/feed` 커서 조회를 사용하세요.
             - **sort**: 정렬 기준 (기본값: createdAt,desc)
               - `createdAt,desc`: 생성일시 기준 최신순 (기본값)
               - `createdAt,asc`: 생성일시 기준 오래된순
@@ -267,7 +396,7 @@ public class NotificationController {
                             )
                     )
             ),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청 (페이지 파라미터 오류, 정렬 기준 오류)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (페이지 파라미터 오류, 조회 범위 1000건 초과)"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "403", description = "권한 없음"),
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음"),
@@ -381,12 +510,18 @@ public class NotificationController {
             ### 경로 파라미터
             - **userId**: 조회할 사용자의 ID
             
+            ### 쿼리 파라미터
+            - **cursor**: 이전 응답의 nextCursor (첫 페이지는 생략)
+            - **limit**: 조회할 개수 (기본값: 20, 최대: 100)
+            
             ### 응답 정보
             - **notifications**: 읽지 않은 알림 목록 (최신순)
             - **unreadCount**: 읽지 않은 알림 총 개수
+            - **nextCursor**: 다음 페이지 조회용 커서
+            - **hasMore**: 다음 페이지 존재 여부
             
             ### 특징
-            - 페이징 없이 모든 읽지 않은 알림 반환
+            - 커서 기반으로 limit개씩 반환
             - 최신 알림부터 정렬되어 반환
             - isRead가 false인 알림들만 포함
             """,
@@ -450,22 +585,31 @@ public class NotificationController {
                     example = "1",
                     required = true
             )
-            @PathVariable Long userId
+            @PathVariable Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회할 개수 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit
     ) {
         try {
-            log.info("읽지 않은 알림 조회: userId={}", userId);
+            log.info("읽지 않은 알림 조회: userId={}, limit={}", userId, limit);
 
-            List<NotificationResponse> unreadNotifications = notificationService.getUnreadNotifications(userId);
+            NotificationFeedResponse feed = notificationService.getNotificationFeed(userId, cursor, limit, true);
             Long unreadCount = notificationService.getUnreadNotificationCount(userId);
 
-            Map<String, Object> responseData = Map.of(
-                    "notifications", unreadNotifications,
-                    "unreadCount", unreadCount
-            );
+            Map<String, Object> responseData = new HashMap<>();
+            responseData.put("notifications", feed.getNotifications());
+            responseData.put("unreadCount", unreadCount);
+            responseData.put("nextCursor", feed.getNextCursor());
+            responseData.put("hasMore", feed.isHasMore());
 
             return ResponseEntity.ok(
                     BaseResponse.success(responseData, "읽지 않은 알림을 성공적으로 조회했습니다.")
             );
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청 파라미터: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(BaseResponse.fail("잘못된 요청: " + e.getMessage(), "INVALID_PARAMETER", 400));
         } catch (Exception e) {
             log.error("읽지 않은 알림 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -473,6 +617,106 @@ public class NotificationController {
         }
     }
 
+    @Operation(
+            summary = "알림 피드 조회 (커서 기반)",
+            description = """
+            특정 사용자의 알림을 커서 기반으로 최신순 조회합니다. 개인 알림과 전체 사용자 대상 알림이 함께 포함됩니다.
+            
+            ### 쿼리 파라미터
+            - **cursor**: 이전 응답의 nextCursor (첫 페이지는 생략)
+            - **limit**: 조회할 개수 (기본값: 20, 최대: 100)
+            - **unreadOnly**: 읽지 않은 알림만 조회 (기본값: false)
+            
+            ### 응답 정보
+            - **nextCursor**: 더 오래된 알림 조회용 커서
+            - **latestCursor**: 첫 페이지에서만 제공, 이후 새 알림만 받을 때 `/feed/since`에 전달
+            - **hasMore**: 더 오래된 알림 존재 여부
+            """,
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "알림 피드 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/users/{userId}/feed")
+    public ResponseEntity<?> getNotificationFeed(
+            @Parameter(description = "조회할 사용자 ID", example = "1", required = true)
+            @PathVariable Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회할 개수 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "읽지 않은 알림만 조회", example = "false")
+            @RequestParam(defaultValue = "false") boolean unreadOnly
+    ) {
+        try {
+            NotificationFeedResponse feed = notificationService.getNotificationFeed(userId, cursor, limit, unreadOnly);
+
+            return ResponseEntity.ok(
+                    BaseResponse.success(feed, "알림 피드를 성공적으로 조회했습니다.")
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청 파라미터: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(BaseResponse.fail("잘못된 요청: " + e.getMessage(), "INVALID_PARAMETER", 400));
+        } catch (Exception e) {
+            log.error("알림 피드 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("알림 피드 조회에 실패했습니다.", "NOTIFICATION_FEED_FETCH_FAILED", 500));
+        }
+    }
+
+    @Operation(
+            summary = "새 알림 변경분 조회",
+            description = """
+            커서 이후에 새로 생긴 알림만 오래된순으로 조회합니다.
+            
+            ### 쿼리 파라미터
+            - **cursor**: 피드 첫 페이지의 latestCursor 또는 이전 변경분 응답의 nextCursor (필수)
+            - **limit**: 조회할 개수 (기본값: 20, 최대: 100)
+            
+            ### 응답 정보
+            - **nextCursor**: 다음 변경분 조회에 전달할 커서
+            - **hasMore**: 아직 받지 않은 새 알림이 더 있는지 여부
+            """,
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "새 알림 변경분 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/users/{userId}/feed/since")
+    public ResponseEntity<?> getNotificationsSince(
+            @Parameter(description = "조회할 사용자 ID", example = "1", required = true)
+            @PathVariable Long userId,
+            @Parameter(description = "latestCursor 또는 이전 변경분 응답의 nextCursor", required = true)
+            @RequestParam String cursor,
+            @Parameter(description = "조회할 개수 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        try {
+            NotificationFeedResponse feed = notificationService.getNotificationsSince(userId, cursor, limit);
+
+            return ResponseEntity.ok(
+                    BaseResponse.success(feed, "새 알림을 성공적으로 조회했습니다.")
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청 파라미터: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(BaseResponse.fail("잘못된 요청: " + e.getMessage(), "INVALID_PARAMETER", 400));
+        } catch (Exception e) {
+            log.error("새 알림 변경분 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("새 알림 조회에 실패했습니다.", "NOTIFICATION_SINCE_FETCH_FAILED", 500));
+        }
+    }
+
     @Operation(
             summary = "읽지 않은 알림 개수 조회",
             description = """
@@ -769,4 +1013,38 @@ public class NotificationController {
                     .body(BaseResponse.fail("알림 삭제에 실패했습니다.", "NOTIFICATION_DELETE_ERROR", 500));
         }
     }
+
+    @Operation(
+            summary = "알림 정리 작업 상태 조회",
+            description = """
+            보관 기간이 지난 알림을 삭제하는 정리 작업의 진행 상태를 조회합니다.
+            
+            ### 응답 정보
+            - **running**: 실행 중 여부
+            - **currentId / targetMaxId**: 현재 처리 중인 ID 구간과 삭제 대상 마지막 ID
+            - **processedChunks / deletedRows / droppedPartitions**: 이번 실행의 진행량
+            - **totalDeletedRows**: 애플리케이션 시작 이후 누적 삭제 수
+            """,
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "정리 작업 상태 조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/retention/status")
+    public ResponseEntity<?> getRetentionStatus() {
+        try {
+            NotificationRetentionStatus status = notificationService.getRetentionStatus();
+
+            return ResponseEntity.ok(
+                    BaseResponse.success(status, "알림 정리 작업 상태를 성공적으로 조회했습니다.")
+            );
+        } catch (Exception e) {
+            log.error("알림 정리 작업 상태 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("알림 정리 작업 상태 조회에 실패했습니다.", "RETENTION_STATUS_FETCH_FAILED", 500));
+        }
+    }
 }
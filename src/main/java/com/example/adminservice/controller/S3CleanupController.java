@@ -0,0 +1,117 @@
+package com.example.adminservice.controller;
+
+import com.example.adminservice.common.BaseResponse;
+import com.example.adminservice.dto.S3CleanupResult;
+import com.example.adminservice.service.ImageReferenceService;
+import com.example.adminservice.service.S3CleanupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/s3/cleanup")
+@RequiredArgsConstructor
+@Tag(name = "S3 정리 API", description = "DB에서 참조하지 않는 S3 파일 정리 실행 및 결과 조회 API")
+public class S3CleanupController {
+
+    private final S3CleanupService s3CleanupService;
+    private final ImageReferenceService imageReferenceService;
+
+    @Operation(
+            summary = "S3 정리 실행",
+            description = """
+            배너/kokpost 폴더에서 DB가 참조하지 않는 파일 정리를 백그라운드로 시작합니다.
+            
+            - dryRun=true(기본값)면 삭제하지 않고 삭제 대상 수만 집계합니다
+            - 결과는 실행 결과 조회 API로 확인합니다
+            """,
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "정리 시작"),
+            @ApiResponse(responseCode = "409", description = "이미 실행 중"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @PostMapping("/run")
+    public ResponseEntity<?> runCleanup(
+            @Parameter(description = "드라이런 여부", example = "true")
+            @RequestParam(defaultValue = "true") boolean dryRun) {
+        try {
+            if (s3CleanupService.isRunning()) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(BaseResponse.fail("S3 정리가 이미 실행 중입니다.", "S3_CLEANUP_ALREADY_RUNNING", 409));
+            }
+
+            log.info("S3 정리 수동 실행 요청: dryRun={}", dryRun);
+            s3CleanupService.runCleanupAsync(dryRun);
+
+            return ResponseEntity.ok(
+                    BaseResponse.success(null, "S3 정리를 시작했습니다.")
+            );
+        } catch (Exception e) {
+            log.error("S3 정리 실행 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("S3 정리 실행에 실패했습니다.", "S3_CLEANUP_FAILED", 500));
+        }
+    }
+
+    @Operation(
+            summary = "S3 정리 실행 결과 조회",
+            description = "prefix별 마지막 정리 실행 결과(조회/미사용/삭제/실패 건수, 소요 시간)를 조회합니다.",
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "결과 조회 성공"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/last-run")
+    public ResponseEntity<?> getLastRun() {
+        try {
+            List<S3CleanupResult> results = s3CleanupService.getLastResults();
+
+            return ResponseEntity.ok(
+                    BaseResponse.success(results, "S3 정리 실행 결과를 성공적으로 조회했습니다.")
+            );
+        } catch (Exception e) {
+            log.error("S3 정리 실행 결과 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("S3 정리 실행 결과 조회에 실패했습니다.", "S3_CLEANUP_RESULT_FETCH_FAILED", 500));
+        }
+    }
+
+    @Operation(
+            summary = "이미지 참조 인덱스 재구성",
+            description = "모든 배너/콕포스트를 다시 읽어 S3 정리에 쓰는 이미지 참조 인덱스를 백그라운드에서 재구성합니다. 재구성 중에는 S3 정리가 실행되지 않습니다.",
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재구성 시작"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @PostMapping("/references/rebuild")
+    public ResponseEntity<?> rebuildReferences() {
+        try {
+            log.info("이미지 참조 인덱스 재구성 요청");
+            imageReferenceService.rebuildIndexAsync();
+
+            return ResponseEntity.ok(
+                    BaseResponse.success(null, "이미지 참조 인덱스 재구성을 시작했습니다.")
+            );
+        } catch (Exception e) {
+            log.error("이미지 참조 인덱스 재구성 요청 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("이미지 참조 인덱스 재구성에 실패했습니다.", "IMAGE_REFERENCE_REBUILD_FAILED", 500));
+        }
+    }
+}
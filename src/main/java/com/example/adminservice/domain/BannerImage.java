@@ -2,11 +2,14 @@ package com.example.adminservice.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 배너 이미지 정보를 저장하는 엔티티 클래스
@@ -51,6 +54,20 @@ public class BannerImage {
     @Builder.Default
     private Integer displayOrder = 0;  // 배너 표시 순서 (낮을수록 상위)
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "processing_status", length = 20)
+    @Builder.Default
+    private ProcessingStatus processingStatus = ProcessingStatus.READY;  // 이미지 처리 상태 (기존 데이터는 null = 완료)
+
+    @Column(name = "processing_error", length = 500)
+    private String processingError;  // 이미지 처리 실패 사유
+
+    @ElementCollection
+    @CollectionTable(name = "banner_image_derivatives", joinColumns = @JoinColumn(name = "banner_id"))
+    @BatchSize(size = 50)
+    @Builder.Default
+    private List<ImageDerivative> derivatives = new ArrayList<>();  // 해상도/포맷별 파생 이미지 (srcset용)
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;  // 배너 생성 시간
@@ -79,6 +96,32 @@ public class BannerImage {
         }
     }
 
+    /**
+     * 배너 이미지 처리 상태 열거형
+     */
+    public enum ProcessingStatus {
+        PROCESSING("처리 중"),
+        READY("완료"),
+        FAILED("실패");
+
+        private final String description;
+
+        ProcessingStatus(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    /**
+     * 이미지 처리가 끝났는지 여부 (기존 데이터의 null은 완료로 간주)
+     */
+    public ProcessingStatus getEffectiveProcessingStatus() {
+        return processingStatus != null ? processingStatus : ProcessingStatus.READY;
+    }
+
     /**
      * 기본 생성자 (배너 URL과 리다이렉트 URL만으로 생성)
      */
@@ -124,5 +167,8 @@ public class BannerImage {
         if (this.displayOrder == null) {
             this.displayOrder = 0;
         }
+        if (this.processingStatus == null) {
+            this.processingStatus = ProcessingStatus.READY;
+        }
     }
 }
@@ -0,0 +1,53 @@
+package com.example.adminservice.domain;
+
+import com.example.adminservice.constant.EntityType;
+import com.example.adminservice.constant.NotificationType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체 사용자 대상 알림(브로드캐스트)을 저장하는 엔티티 클래스
+ *
+ * 사용자별 복사본 없이 메시지당 한 행만 저장하며,
+ * 사용자별 읽음 상태는 Redis(비트맵 + 읽음 워터마크)에서 관리합니다.
+ */
+@Entity
+@Table(name = "broadcast_notifications", indexes = {
+    @Index(name = "idx_broadcast_notifications_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class BroadcastNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;  // 브로드캐스트 알림 고유 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_type", nullable = false, length = 50)
+    private NotificationType notificationType;  // 알림 타입
+
+    @Column(name = "title", nullable = false, length = 200)
+    private String title;  // 알림 제목
+
+    @Column(name = "message", nullable = false, columnDefinition = "TEXT")
+    private String message;  // 알림 내용
+
+    @Column(name = "related_entity_id")
+    private Long relatedEntityId;  // 관련 엔티티 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "related_entity_type", length = 50)
+    private EntityType relatedEntityType;  // 관련 엔티티 타입
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;  // 알림 생성 시간
+}
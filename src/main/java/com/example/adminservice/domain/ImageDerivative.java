@@ -0,0 +1,29 @@
+package com.example.adminservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 원본 이미지에서 생성한 해상도/포맷별 파생 이미지 정보
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageDerivative {
+
+    @Column(name = "url", nullable = false, length = 1000)
+    private String url;  // 파생 이미지 URL
+
+    @Column(name = "width", nullable = false)
+    private Integer width;  // 이미지 폭 (px)
+
+    @Column(name = "height", nullable = false)
+    private Integer height;  // 이미지 높이 (px)
+
+    @Column(name = "format", nullable = false, length = 10)
+    private String format;  // 이미지 포맷 (webp, jpg, png 등)
+}
@@ -0,0 +1,61 @@
+package com.example.adminservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * S3 객체 참조 인덱스 엔티티
+ *
+ * 어떤 엔티티(배너, 콕포스트 등)가 어떤 S3 객체 키를 사용하는지 기록합니다.
+ * 엔티티 생성/수정/삭제 시 함께 갱신되며, S3 정리 작업은 이 테이블을 키로 조회해
+ * 사용하지 않는 객체를 찾습니다.
+ */
+@Entity
+@Table(
+        name = "image_references",
+        uniqueConstraints = @UniqueConstraint(name = "uk_image_reference_owner_key", columnNames = {"owner_type", "owner_id", "object_key"}),
+        indexes = {
+                @Index(name = "idx_image_reference_object_key", columnList = "object_key"),
+                @Index(name = "idx_image_reference_base_key", columnList = "base_key")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class ImageReference {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, length = 700)
+    private String objectKey;  // S3 객체 키
+
+    @Column(name = "base_key", nullable = false, length = 700)
+    private String baseKey;  // 파생 이미지 접미사(_{폭}w)와 확장자를 뗀 원본 기준 키
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "owner_type", nullable = false, length = 20)
+    private OwnerType ownerType;  // 참조하는 엔티티 종류
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;  // 참조하는 엔티티 ID
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 참조하는 엔티티 종류
+     */
+    public enum OwnerType {
+        BANNER,
+        KOKPOST
+    }
+}
@@ -9,13 +9,23 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 
 /**
  * 체험콕에서 가게 홍보용으로 작성한 글 엔티티
  */
 @Entity
-@Table(name = "kokposts")
+@Table(
+        name = "kokposts",
+        indexes = {
+                @Index(name = "idx_kokpost_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_kokpost_view_count_id", columnList = "view_count, id")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -37,6 +47,12 @@ public class KokPost {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    /**
+     * 글 내용의 SHA-256 해시 (렌더링된 HTML 캐시 키, 기존 글은 첫 조회 시 채움)
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     /**
      * 조회수
      */
@@ -94,6 +110,7 @@ public class KokPost {
                    String authorName, KokPostVisitInfo visitInfo, Boolean active) {
         this.title = title;
         this.content = content;
+        this.contentHash = hashOf(content);
         this.campaignId = campaignId;
         this.authorId = authorId;
         this.authorName = authorName;
@@ -127,6 +144,22 @@ public class KokPost {
         }
         if (content != null) {
             this.content = content;
+            this.contentHash = hashOf(content);
+        }
+    }
+
+    /**
+     * 글 내용의 SHA-256 해시 (hex)
+     */
+    public static String hashOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
         }
     }
 
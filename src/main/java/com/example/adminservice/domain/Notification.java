@@ -17,7 +17,7 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "notifications", indexes = {
     @Index(name = "idx_notifications_user_id", columnList = "user_id"),
-    @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at"),
+    @Index(name = "idx_notifications_user_created_id", columnList = "user_id, created_at, id"),
     @Index(name = "idx_notifications_user_unread", columnList = "user_id, is_read, created_at"),
     @Index(name = "idx_notifications_type", columnList = "notification_type"),
     @Index(name = "idx_notifications_related_entity", columnList = "related_entity_id, related_entity_type"),
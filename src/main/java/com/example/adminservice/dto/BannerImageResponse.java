@@ -8,6 +8,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * 배너 이미지 응답 DTO
@@ -40,6 +42,21 @@ public class BannerImageResponse {
     @Schema(description = "배너 표시 순서", example = "1")
     private Integer displayOrder;
 
+    @Schema(description = "해상도/포맷별 파생 이미지 목록")
+    private List<ImageDerivativeResponse> derivatives;
+
+    @Schema(description = "원본 포맷 srcset", example = "https://.../banner_480w.jpg 480w, https://.../banner_960w.jpg 960w")
+    private String srcset;
+
+    @Schema(description = "WebP srcset", example = "https://.../banner_480w.webp 480w, https://.../banner_960w.webp 960w")
+    private String webpSrcset;
+
+    @Schema(description = "이미지 처리 상태 (PROCESSING: 처리 중, READY: 완료, FAILED: 실패)", example = "READY")
+    private String processingStatus;
+
+    @Schema(description = "이미지 처리 실패 사유", example = "이미지 처리 중 오류가 발생했습니다.")
+    private String processingError;
+
     @Schema(description = "생성 시간", example = "2025-07-14T10:30:00")
     private LocalDateTime createdAt;
 
@@ -58,8 +75,26 @@ public class BannerImageResponse {
                 .redirectUrl(bannerImage.getRedirectUrl())
                 .position(bannerImage.getPosition().name())
                 .displayOrder(bannerImage.getDisplayOrder())
+                .derivatives(bannerImage.getDerivatives().stream()
+                        .map(ImageDerivativeResponse::from)
+                        .collect(Collectors.toList()))
+                .srcset(ImageDerivativeResponse.toSrcset(bannerImage.getDerivatives(), originalFormat(bannerImage)))
+                .webpSrcset(ImageDerivativeResponse.toSrcset(bannerImage.getDerivatives(), "webp"))
+                .processingStatus(bannerImage.getEffectiveProcessingStatus().name())
+                .processingError(bannerImage.getProcessingError())
                 .createdAt(bannerImage.getCreatedAt())
                 .updatedAt(bannerImage.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * 파생 이미지 중 WebP가 아닌 포맷 (원본 포맷)
+     */
+    private static String originalFormat(BannerImage bannerImage) {
+        return bannerImage.getDerivatives().stream()
+                .map(derivative -> derivative.getFormat())
+                .filter(format -> !"webp".equalsIgnoreCase(format))
+                .findFirst()
+                .orElse("jpg");
+    }
 }
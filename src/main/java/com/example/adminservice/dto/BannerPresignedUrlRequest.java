@@ -22,4 +22,9 @@ public class BannerPresignedUrlRequest {
     @Pattern(regexp = "^(jpg|jpeg|png|gif|webp|bmp|svg)$", 
              message = "지원하지 않는 파일 형식입니다. jpg, jpeg, png, gif, webp, bmp, svg만 허용됩니다.")
     private String fileExtension;
+
+    @Schema(description = "파일 SHA-256 해시 (16진수 64자, 선택사항). 지정하면 내용 기반 키로 업로드하며 같은 파일이 이미 있으면 재사용합니다.",
+            example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    @Pattern(regexp = "^[a-fA-F0-9]{64}$", message = "SHA-256 해시는 16진수 64자여야 합니다.")
+    private String sha256;
 }
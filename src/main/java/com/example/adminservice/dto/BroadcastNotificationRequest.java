@@ -0,0 +1,36 @@
+package com.example.adminservice.dto;
+
+import com.example.adminservice.constant.NotificationType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 전체 사용자 대상 알림 생성 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "전체 사용자 대상 알림 생성 요청")
+public class BroadcastNotificationRequest {
+
+    @Schema(description = "알림 타입", example = "SYSTEM_NOTICE")
+    @NotNull(message = "알림 타입은 필수입니다")
+    private NotificationType notificationType;
+
+    @Schema(description = "알림 제목", example = "서비스 점검 안내")
+    @NotBlank(message = "알림 제목은 필수입니다")
+    @Size(max = 200, message = "제목은 200자를 초과할 수 없습니다")
+    private String title;
+
+    @Schema(description = "알림 내용", example = "8월 1일 02:00~04:00 서비스 점검이 진행됩니다.")
+    @NotBlank(message = "알림 내용은 필수입니다")
+    private String message;
+}
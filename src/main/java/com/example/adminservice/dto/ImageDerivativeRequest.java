@@ -0,0 +1,22 @@
+package com.example.adminservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 파생 이미지 생성 요청 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "파생 이미지 생성 요청")
+public class ImageDerivativeRequest {
+
+    @Schema(description = "업로드가 끝난 원본 이미지 URL", example = "https://ckokservice.s3.ap-northeast-2.amazonaws.com/kokpost/abc123.jpg")
+    @NotBlank(message = "이미지 URL은 필수입니다")
+    private String imageUrl;
+}
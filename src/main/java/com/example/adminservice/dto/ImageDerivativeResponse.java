@@ -0,0 +1,58 @@
+package com.example.adminservice.dto;
+
+import com.example.adminservice.domain.ImageDerivative;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 파생 이미지 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "해상도/포맷별 파생 이미지")
+public class ImageDerivativeResponse {
+
+    @Schema(description = "이미지 URL", example = "https://ckokservice.s3.ap-northeast-2.amazonaws.com/banners/banner_1720000000000_ab12cd34_960w.webp")
+    private String url;
+
+    @Schema(description = "이미지 폭 (px)", example = "960")
+    private Integer width;
+
+    @Schema(description = "이미지 높이 (px)", example = "540")
+    private Integer height;
+
+    @Schema(description = "이미지 포맷", example = "webp")
+    private String format;
+
+    public static ImageDerivativeResponse from(ImageDerivative derivative) {
+        return ImageDerivativeResponse.builder()
+                .url(derivative.getUrl())
+                .width(derivative.getWidth())
+                .height(derivative.getHeight())
+                .format(derivative.getFormat())
+                .build();
+    }
+
+    /**
+     * 특정 포맷의 파생 이미지로 srcset 문자열 생성 (예: "a_480w.webp 480w, a_960w.webp 960w")
+     */
+    public static String toSrcset(List<ImageDerivative> derivatives, String format) {
+        if (derivatives == null) {
+            return null;
+        }
+        String srcset = derivatives.stream()
+                .filter(derivative -> format.equalsIgnoreCase(derivative.getFormat()))
+                .sorted((a, b) -> Integer.compare(a.getWidth(), b.getWidth()))
+                .map(derivative -> derivative.getUrl() + " " + derivative.getWidth() + "w")
+                .collect(Collectors.joining(", "));
+        return srcset.isEmpty() ? null : srcset;
+    }
+}
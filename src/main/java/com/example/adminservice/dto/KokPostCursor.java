@@ -0,0 +1,68 @@
+package com.example.adminservice.dto;
+
+import com.example.adminservice.constant.SortOption;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 콕포스트 목록 커서 (정렬 키, id) 위치
+ *
+ * 최신순은 created_at, 조회수순은 view_count를 정렬 키로 쓰며,
+ * 다른 정렬의 커서를 잘못 넘기지 않도록 정렬 옵션을 함께 인코딩합니다.
+ */
+public record KokPostCursor(SortOption sortOption, long sortKey, long id) {
+
+    public static KokPostCursor of(SortOption sortOption, KokPostSummary summary) {
+        long sortKey = sortOption == SortOption.LATEST
+                ? toEpochMicros(summary.getCreatedAt())
+                : summary.getViewCount();
+        return new KokPostCursor(sortOption, sortKey, summary.getId());
+    }
+
+    /**
+     * 최신순 커서의 created_at
+     */
+    public LocalDateTime createdAt() {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(sortKey, 1_000_000L),
+                (int) Math.floorMod(sortKey, 1_000_000L) * 1_000,
+                ZoneOffset.UTC);
+    }
+
+    public String encode() {
+        String raw = sortOption.getValue() + ":" + sortKey + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (null 또는 빈 값이면 null)
+     *
+     * @throws IllegalArgumentException 잘못된 커서이거나 정렬 옵션이 다른 경우
+     */
+    public static KokPostCursor decode(String cursor, SortOption sortOption) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다.");
+            }
+            if (!sortOption.getValue().equals(parts[0])) {
+                throw new IllegalArgumentException("정렬 옵션이 커서와 다릅니다.");
+            }
+            return new KokPostCursor(sortOption, Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000L;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.adminservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 콕포스트 목록 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "커서 기반 콕포스트 목록 응답")
+public class KokPostFeedResponse {
+
+    @Schema(description = "콕포스트 목록 (본문 제외)")
+    private List<KokPostListResponse> posts;
+
+    @Schema(description = "다음 페이지 요청에 전달할 커서 (더 없으면 null)", example = "bGF0ZXN0OjE3MjQ2NjU4MDAwMDAwMDA6NDI")
+    private String nextCursor;
+
+    @Schema(description = "이어서 조회할 글이 더 있는지 여부", example = "true")
+    private boolean hasMore;
+}
@@ -59,4 +59,19 @@ public class KokPostListResponse {
                 .updatedAt(kokPost.getUpdatedAt())
                 .build();
     }
+
+    public static KokPostListResponse from(KokPostSummary summary) {
+        return KokPostListResponse.builder()
+                .id(summary.getId())
+                .title(summary.getTitle())
+                .viewCount(summary.getViewCount())
+                .campaignId(summary.getCampaignId())
+                .authorId(summary.getAuthorId())
+                .authorName(summary.getAuthorName())
+                .active(summary.isActive())
+                .visitInfo(KokPostVisitInfoDto.from(summary.getVisitInfo()))
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,28 @@
+package com.example.adminservice.dto;
+
+import com.example.adminservice.domain.KokPostVisitInfo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 콕포스트 목록용 프로젝션 (본문 content 제외)
+ *
+ * 목록 쿼리에서 JPQL 생성자 표현식으로 바로 채우므로 TEXT 본문을 읽지 않습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class KokPostSummary {
+
+    private Long id;
+    private String title;
+    private Long viewCount;
+    private Long campaignId;
+    private Long authorId;
+    private String authorName;
+    private boolean active;
+    private KokPostVisitInfo visitInfo;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,29 @@
+package com.example.adminservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Kokpost 이미지 Presigned URL 일괄 생성 요청 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Kokpost 이미지 Presigned URL 일괄 생성 요청")
+public class KokpostBatchPresignedUrlRequest {
+
+    public static final int MAX_FILES = 50;
+
+    @Schema(description = "업로드할 파일 목록 (최대 50개, 응답은 같은 순서로 반환)")
+    @NotEmpty(message = "파일 목록은 필수입니다")
+    @Size(max = MAX_FILES, message = "한 번에 최대 50개까지 요청할 수 있습니다")
+    @Valid
+    private List<KokpostPresignedUrlRequest> files;
+}
@@ -2,6 +2,7 @@ package com.example.adminservice.dto;
 
 import com.example.adminservice.constant.EntityType;
 import com.example.adminservice.constant.NotificationType;
+import com.example.adminservice.domain.BroadcastNotification;
 import com.example.adminservice.domain.Notification;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -51,6 +52,10 @@ public class NotificationResponse {
     @Schema(description = "읽은 시간", example = "2024-07-31T16:00:00")
     private LocalDateTime readAt;
 
+    @Schema(description = "전체 사용자 대상 알림 여부 (true면 브로드캐스트 읽음 처리 API 사용)", example = "false")
+    @Builder.Default
+    private Boolean broadcast = false;
+
     /**
      * Entity에서 DTO로 변환하는 정적 메서드
      */
@@ -68,4 +73,22 @@ public class NotificationResponse {
                 .readAt(notification.getReadAt())
                 .build();
     }
+
+    /**
+     * 브로드캐스트 알림을 특정 사용자 관점의 DTO로 변환하는 정적 메서드
+     */
+    public static NotificationResponse fromBroadcast(BroadcastNotification broadcastNotification, Long userId, boolean isRead) {
+        return NotificationResponse.builder()
+                .id(broadcastNotification.getId())
+                .userId(userId)
+                .notificationType(broadcastNotification.getNotificationType())
+                .title(broadcastNotification.getTitle())
+                .message(broadcastNotification.getMessage())
+                .relatedEntityId(broadcastNotification.getRelatedEntityId())
+                .relatedEntityType(broadcastNotification.getRelatedEntityType())
+                .isRead(isRead)
+                .createdAt(broadcastNotification.getCreatedAt())
+                .broadcast(true)
+                .build();
+    }
 }
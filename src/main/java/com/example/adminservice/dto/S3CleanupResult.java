@@ -0,0 +1,52 @@
+package com.example.adminservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * S3 정리 1회 실행 결과 (prefix 단위)
+ */
+@Getter
+@Builder
+@Schema(description = "S3 정리 실행 결과")
+public class S3CleanupResult {
+
+    @Schema(description = "대상 prefix", example = "kokpost/")
+    private String prefix;
+
+    @Schema(description = "드라이런 여부 (true면 삭제하지 않고 대상만 집계)", example = "false")
+    private boolean dryRun;
+
+    @Schema(description = "조회한 객체 수", example = "152340")
+    private long scanned;
+
+    @Schema(description = "DB에서 참조하지 않는 객체 수 (유예 기간 경과분)", example = "1203")
+    private long orphaned;
+
+    @Schema(description = "최근 업로드되어 유예 기간 때문에 건너뛴 객체 수", example = "12")
+    private long skippedRecent;
+
+    @Schema(description = "재사용 예약이 남아 있어(또는 예약을 확인할 수 없어) 삭제하지 않은 내용 기반 객체 수", example = "0")
+    private long skippedReserved;
+
+    @Schema(description = "삭제된 객체 수", example = "1203")
+    private long deleted;
+
+    @Schema(description = "삭제 실패 객체 수", example = "0")
+    private long failed;
+
+    @Schema(description = "오래되어 취소한 미완료 멀티파트 업로드 수 (드라이런이면 취소 대상 수)", example = "3")
+    private long abortedUploads;
+
+    @Schema(description = "DeleteObjects 호출 수", example = "2")
+    private long deleteRequests;
+
+    @Schema(description = "소요 시간 (ms)", example = "8421")
+    private long durationMs;
+
+    @Schema(description = "실행 시작 시각")
+    private LocalDateTime startedAt;
+}
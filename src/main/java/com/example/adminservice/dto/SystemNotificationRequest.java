@@ -0,0 +1,36 @@
+package com.example.adminservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 특정 사용자 그룹 대상 시스템 알림 생성 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "특정 사용자 그룹 대상 시스템 알림 생성 요청")
+public class SystemNotificationRequest {
+
+    @Schema(description = "알림 제목", example = "이벤트 당첨 안내")
+    @NotBlank(message = "알림 제목은 필수입니다")
+    @Size(max = 200, message = "제목은 200자를 초과할 수 없습니다")
+    private String title;
+
+    @Schema(description = "알림 내용", example = "축하합니다! 이벤트에 당첨되셨습니다.")
+    @NotBlank(message = "알림 내용은 필수입니다")
+    private String message;
+
+    @Schema(description = "알림을 받을 사용자 ID 목록", example = "[1, 2, 3]")
+    @NotEmpty(message = "수신자 목록은 필수입니다")
+    private List<Long> userIds;
+}
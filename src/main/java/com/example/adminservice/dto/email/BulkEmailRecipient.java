@@ -0,0 +1,28 @@
+package com.example.adminservice.dto.email;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 대량 템플릿 발송 수신자 1명 (수신자별 템플릿 변수 포함)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEmailRecipient {
+
+    /**
+     * 수신자 이메일
+     */
+    private String toEmail;
+
+    /**
+     * 템플릿 변수 값
+     */
+    private Map<String, String> values;
+}
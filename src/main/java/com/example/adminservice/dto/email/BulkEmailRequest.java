@@ -0,0 +1,34 @@
+package com.example.adminservice.dto.email;
+
+import com.example.adminservice.constant.EmailTemplateType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 대량 템플릿 이메일 발송 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "대량 템플릿 이메일 발송 요청")
+public class BulkEmailRequest {
+
+    @Schema(description = "이메일 템플릿 종류", example = "CAMPAIGN_APPROVED")
+    @NotNull(message = "템플릿 종류는 필수입니다")
+    private EmailTemplateType templateType;
+
+    @Schema(description = "수신자 목록 (수신자별 템플릿 변수 포함)")
+    @NotEmpty(message = "수신자 목록은 필수입니다")
+    @Size(max = 10000, message = "수신자는 한 번에 10000명을 초과할 수 없습니다")
+    private List<@Valid @NotNull BulkEmailRecipient> recipients;
+}
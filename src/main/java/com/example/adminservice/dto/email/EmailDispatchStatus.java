@@ -0,0 +1,59 @@
+package com.example.adminservice.dto.email;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 이메일 발송 큐 상태
+ */
+@Getter
+@Builder
+@Schema(description = "이메일 발송 큐 상태")
+public class EmailDispatchStatus {
+
+    @Schema(description = "큐 저장소 (MEMORY: 프로세스 내 큐, REDIS: Redis 리스트)", example = "MEMORY")
+    private String storage;
+
+    @Schema(description = "워커 수", example = "2")
+    private int workers;
+
+    @Schema(description = "발송 대기 건수", example = "3")
+    private long queued;
+
+    @Schema(description = "워커가 꺼내 발송 중인 건수 (REDIS 저장소)", example = "0")
+    private long processing;
+
+    @Schema(description = "재시도 대기 건수", example = "1")
+    private long retryScheduled;
+
+    @Schema(description = "데드레터 보관 건수", example = "0")
+    private long deadLetters;
+
+    @Schema(description = "애플리케이션 시작 이후 발송 성공 건수", example = "120")
+    private long totalSent;
+
+    @Schema(description = "애플리케이션 시작 이후 재시도 건수", example = "4")
+    private long totalRetried;
+
+    @Schema(description = "애플리케이션 시작 이후 데드레터 이동 건수", example = "1")
+    private long totalDeadLettered;
+
+    @Schema(description = "큐가 가득 차 거부된 건수", example = "0")
+    private long totalRejected;
+
+    @Schema(description = "처리 중 멈춰 발송 큐로 되돌린 건수 (REDIS 저장소)", example = "0")
+    private long totalReclaimed;
+
+    @Schema(description = "현재 SES 초당 발송 허용량 (스로틀링 시 감소)", example = "12.6")
+    private double sesRateLimit;
+
+    @Schema(description = "SES 계정 한도를 인스턴스 수로 나눈 이 인스턴스의 목표 초당 발송량", example = "6.3")
+    private double sesTargetRate;
+
+    @Schema(description = "SES 발송 한도를 나눠 쓰는 살아 있는 인스턴스 수", example = "2")
+    private int sesInstances;
+
+    @Schema(description = "최근 실제 초당 발송량", example = "3.2")
+    private double sesObservedRate;
+}
@@ -0,0 +1,92 @@
+package com.example.adminservice.dto.email;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 발송 큐에 적재되는 이메일 1건 또는 대량 템플릿 발송 1회분 (Redis 큐/데드레터 저장 시 JSON으로 직렬화)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailMessage {
+
+    /**
+     * 메시지 식별자 (로그 추적용)
+     */
+    private String id;
+
+    /**
+     * 수신자 이메일 (단건 발송)
+     */
+    private String toEmail;
+
+    /**
+     * 제목
+     */
+    private String subject;
+
+    /**
+     * 본문
+     */
+    private String body;
+
+    /**
+     * HTML 본문 여부
+     */
+    private boolean html;
+
+    /**
+     * SES 템플릿 이름 (대량 템플릿 발송)
+     */
+    private String templateName;
+
+    /**
+     * 수신자 목록 (대량 템플릿 발송, 최대 50명)
+     */
+    private List<BulkEmailRecipient> recipients;
+
+    /**
+     * 지금까지의 발송 시도 횟수
+     */
+    private int attempts;
+
+    /**
+     * 큐 적재 시각 (epoch millis)
+     */
+    private long enqueuedAt;
+
+    /**
+     * 마지막 실패 사유
+     */
+    private String lastError;
+
+    /**
+     * 데드레터 이동 시각 (epoch millis)
+     */
+    private Long deadLetteredAt;
+
+    /**
+     * 대량 템플릿 발송 여부
+     */
+    @JsonIgnore
+    public boolean isBulk() {
+        return templateName != null;
+    }
+
+    /**
+     * 발송 수신자 수
+     */
+    @JsonIgnore
+    public int getRecipientCount() {
+        return isBulk() ? (recipients != null ? recipients.size() : 0) : 1;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.adminservice.dto.email;
+
+/**
+ * 템플릿 렌더링 결과 (제목 + HTML 본문)
+ */
+public record RenderedEmail(String subject, String html) {
+}
@@ -0,0 +1,23 @@
+package com.example.adminservice.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 클라이언트 프로젝트로 한 번에 전송할 캠페인 상태 알림 묶음 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignStatusNotificationBatchRequest {
+
+    /**
+     * 캠페인 상태 알림 목록
+     */
+    private List<CampaignStatusNotificationRequest> notifications;
+}
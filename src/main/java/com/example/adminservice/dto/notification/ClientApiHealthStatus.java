@@ -0,0 +1,39 @@
+package com.example.adminservice.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 클라이언트 API 서버 상태 확인 결과 (불변 스냅샷)
+ */
+@Getter
+@AllArgsConstructor
+public class ClientApiHealthStatus {
+
+    /**
+     * 마지막 확인 결과 사용 가능 여부
+     */
+    private final boolean available;
+
+    /**
+     * 마지막 확인 응답 시간 (밀리초, 실패 시 타임아웃까지 걸린 시간)
+     */
+    private final long latencyMillis;
+
+    /**
+     * 마지막 확인 시각
+     */
+    private final LocalDateTime lastCheckedAt;
+
+    /**
+     * 마지막 성공 시각
+     */
+    private final LocalDateTime lastSuccessAt;
+
+    /**
+     * 마지막 실패 사유
+     */
+    private final String lastError;
+}
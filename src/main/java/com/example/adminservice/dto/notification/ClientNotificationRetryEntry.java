@@ -0,0 +1,42 @@
+package com.example.adminservice.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 클라이언트 알림 전송 대기 항목 (Redis 재시도 큐/데드레터 저장 시 JSON으로 직렬화)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientNotificationRetryEntry {
+
+    /**
+     * 전송할 알림
+     */
+    private CampaignStatusNotificationRequest request;
+
+    /**
+     * 지금까지 실제로 전송을 시도했다가 실패한 횟수 (서버 다운/서킷 열림으로 보관된 경우는 제외)
+     */
+    private int attempts;
+
+    /**
+     * 마지막 실패 사유
+     */
+    private String lastError;
+
+    /**
+     * 데드레터 이동 시각 (epoch millis)
+     */
+    private Long deadLetteredAt;
+
+    public static ClientNotificationRetryEntry of(CampaignStatusNotificationRequest request) {
+        return ClientNotificationRetryEntry.builder().request(request).build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.adminservice.dto.notification;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간 Redis pub/sub으로 전달되는 알림 봉투
+ * 메시지 크기를 줄이기 위해 짧은 필드명을 사용합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NotificationEnvelope {
+
+    /**
+     * 메시지 종류 (NOTIFICATION, UNREAD_COUNT)
+     */
+    @JsonProperty("t")
+    private String type;
+
+    /**
+     * 수신자 사용자 ID (브로드캐스트인 경우 null)
+     */
+    @JsonProperty("u")
+    private Long userId;
+
+    /**
+     * 클라이언트로 전달할 본문
+     */
+    @JsonProperty("p")
+    private JsonNode payload;
+}
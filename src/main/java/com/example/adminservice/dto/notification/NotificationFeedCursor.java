@@ -0,0 +1,100 @@
+package com.example.adminservice.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 알림 피드 커서
+ *
+ * 개인 알림과 브로드캐스트 알림은 각자 (created_at, id) 위치에서 이어서 조회하므로
+ * 두 출처의 마지막 위치를 함께 담아 불투명한 문자열로 인코딩합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationFeedCursor {
+
+    private static final String EMPTY = "-";
+
+    private final Position personal;
+    private final Position broadcast;
+
+    /**
+     * (created_at, id) 탐색 위치
+     */
+    public record Position(LocalDateTime createdAt, Long id) {
+    }
+
+    public static NotificationFeedCursor empty() {
+        return new NotificationFeedCursor(null, null);
+    }
+
+    /**
+     * 출처별 위치를 새 값으로 교체한 커서 (null이면 기존 위치 유지)
+     */
+    public NotificationFeedCursor advance(Position personal, Position broadcast) {
+        return new NotificationFeedCursor(
+                personal != null ? personal : this.personal,
+                broadcast != null ? broadcast : this.broadcast);
+    }
+
+    public String encode() {
+        String raw = encodePosition(personal) + "|" + encodePosition(broadcast);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (null 또는 빈 값이면 빈 커서)
+     *
+     * @throws IllegalArgumentException 잘못된 커서인 경우
+     */
+    public static NotificationFeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return empty();
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다.");
+            }
+            return new NotificationFeedCursor(decodePosition(parts[0]), decodePosition(parts[1]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+
+    private static String encodePosition(Position position) {
+        if (position == null) {
+            return EMPTY;
+        }
+        long epochMicros = position.createdAt().toEpochSecond(ZoneOffset.UTC) * 1_000_000L
+                + position.createdAt().getNano() / 1_000L;
+        return epochMicros + ":" + position.id();
+    }
+
+    private static Position decodePosition(String value) {
+        if (EMPTY.equals(value)) {
+            return null;
+        }
+        String[] parts = value.split(":");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("잘못된 커서 위치입니다.");
+        }
+        long epochMicros = Long.parseLong(parts[0]);
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(
+                Math.floorDiv(epochMicros, 1_000_000L),
+                (int) Math.floorMod(epochMicros, 1_000_000L) * 1_000,
+                ZoneOffset.UTC);
+        if (createdAt.getYear() < 1 || createdAt.getYear() > 9999) {
+            throw new IllegalArgumentException("범위를 벗어난 커서 위치입니다.");
+        }
+        return new Position(createdAt, Long.parseLong(parts[1]));
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.adminservice.dto.notification;
+
+import com.example.adminservice.dto.NotificationResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 알림 피드 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "커서 기반 알림 피드 응답")
+public class NotificationFeedResponse {
+
+    @Schema(description = "알림 목록 (피드 조회는 최신순, 변경분 조회는 오래된순)")
+    private List<NotificationResponse> notifications;
+
+    @Schema(description = "다음 요청에 전달할 커서 (피드: 더 오래된 알림, 변경분: 이후 새 알림)", example = "MTcyMjQwNzQwMDAwMDAwMDo0MnwtOg")
+    private String nextCursor;
+
+    @Schema(description = "가장 최신 알림 위치 커서 (변경분 조회 시작점, 첫 페이지에서만 제공)", example = "MTcyMjQxMTAwMDAwMDAwMDo0NXwt")
+    private String latestCursor;
+
+    @Schema(description = "이어서 조회할 알림이 더 있는지 여부", example = "true")
+    private boolean hasMore;
+}
@@ -0,0 +1,52 @@
+package com.example.adminservice.dto.notification;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 보관 기간 정리 작업 진행 상태
+ */
+@Getter
+@Builder
+@Schema(description = "알림 보관 기간 정리 작업 진행 상태")
+public class NotificationRetentionStatus {
+
+    @Schema(description = "정리 방식 (DELETE: 청크 삭제, PARTITION: 월별 파티션 삭제 후 잔여분 청크 삭제)", example = "DELETE")
+    private String mode;
+
+    @Schema(description = "현재 실행 중 여부", example = "false")
+    private boolean running;
+
+    @Schema(description = "삭제 기준일 (이 시각 이전 생성 알림 삭제)", example = "2024-05-01T04:30:00")
+    private LocalDateTime cutoffDate;
+
+    @Schema(description = "현재 처리 중인 ID 구간 시작값", example = "120000")
+    private Long currentId;
+
+    @Schema(description = "삭제 대상 마지막 ID", example = "250000")
+    private Long targetMaxId;
+
+    @Schema(description = "이번 실행에서 처리한 청크 수", example = "26")
+    private long processedChunks;
+
+    @Schema(description = "이번 실행에서 삭제한 알림 수", example = "130000")
+    private long deletedRows;
+
+    @Schema(description = "이번 실행에서 삭제한 파티션 수", example = "0")
+    private long droppedPartitions;
+
+    @Schema(description = "누적 삭제 알림 수 (애플리케이션 시작 이후)", example = "540000")
+    private long totalDeletedRows;
+
+    @Schema(description = "마지막 실행 시작 시간", example = "2024-08-01T04:30:00")
+    private LocalDateTime lastStartedAt;
+
+    @Schema(description = "마지막 실행 종료 시간", example = "2024-08-01T04:31:12")
+    private LocalDateTime lastFinishedAt;
+
+    @Schema(description = "마지막 실행 오류 메시지", example = "null")
+    private String lastError;
+}
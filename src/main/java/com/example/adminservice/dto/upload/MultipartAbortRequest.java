@@ -0,0 +1,26 @@
+package com.example.adminservice.dto.upload;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 멀티파트 업로드 취소 요청 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "멀티파트 업로드 취소 요청")
+public class MultipartAbortRequest {
+
+    @Schema(description = "객체 키", example = "kokpost/1756804652981-e3601f15-d8e3-4360-aa41-e8229402d4e5.mp4")
+    @NotBlank(message = "객체 키는 필수입니다")
+    private String objectKey;
+
+    @Schema(description = "S3 업로드 ID")
+    @NotBlank(message = "업로드 ID는 필수입니다")
+    private String uploadId;
+}
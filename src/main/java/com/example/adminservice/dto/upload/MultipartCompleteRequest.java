@@ -0,0 +1,54 @@
+package com.example.adminservice.dto.upload;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+/**
+ * 멀티파트 업로드 완료 요청 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "멀티파트 업로드 완료 요청")
+public class MultipartCompleteRequest {
+
+    @Schema(description = "객체 키", example = "kokpost/1756804652981-e3601f15-d8e3-4360-aa41-e8229402d4e5.mp4")
+    @NotBlank(message = "객체 키는 필수입니다")
+    private String objectKey;
+
+    @Schema(description = "S3 업로드 ID")
+    @NotBlank(message = "업로드 ID는 필수입니다")
+    private String uploadId;
+
+    @Schema(description = "업로드한 파트 목록 (파트 번호 + 파트 업로드 응답의 ETag)")
+    @NotEmpty(message = "파트 목록은 필수입니다")
+    @Valid
+    private List<Part> parts;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "업로드한 파트")
+    public static class Part {
+
+        @Schema(description = "파트 번호", example = "1")
+        @NotNull(message = "파트 번호는 필수입니다")
+        @Min(1)
+        @Max(10000)
+        private Integer partNumber;
+
+        @Schema(description = "파트 업로드 응답의 ETag", example = "\"a54357aff0632cce46d942af68356b38\"")
+        @NotBlank(message = "ETag는 필수입니다")
+        private String etag;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.adminservice.dto.upload;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 파트 업로드용 presigned URL
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "파트 업로드용 presigned URL")
+public class MultipartPartUrl {
+
+    @Schema(description = "파트 번호", example = "1")
+    private int partNumber;
+
+    @Schema(description = "파트 업로드용 presigned PUT URL (응답의 ETag 헤더를 완료 요청에 사용)")
+    private String presignedUrl;
+}
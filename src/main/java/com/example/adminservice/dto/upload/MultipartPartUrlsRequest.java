@@ -0,0 +1,39 @@
+package com.example.adminservice.dto.upload;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 멀티파트 파트 업로드 URL 발급 요청 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "멀티파트 파트 업로드 URL 발급 요청")
+public class MultipartPartUrlsRequest {
+
+    public static final int MAX_PARTS_PER_REQUEST = 100;
+
+    @Schema(description = "객체 키 (시작 응답의 objectKey)", example = "kokpost/1756804652981-e3601f15-d8e3-4360-aa41-e8229402d4e5.mp4")
+    @NotBlank(message = "객체 키는 필수입니다")
+    private String objectKey;
+
+    @Schema(description = "S3 업로드 ID")
+    @NotBlank(message = "업로드 ID는 필수입니다")
+    private String uploadId;
+
+    @Schema(description = "URL을 발급할 파트 번호 목록 (1~10000, 요청당 최대 100개)", example = "[1, 2, 3]")
+    @NotEmpty(message = "파트 번호 목록은 필수입니다")
+    @Size(max = MAX_PARTS_PER_REQUEST, message = "한 번에 최대 100개 파트까지 요청할 수 있습니다")
+    private List<@NotNull @Min(1) @Max(10000) Integer> partNumbers;
+}
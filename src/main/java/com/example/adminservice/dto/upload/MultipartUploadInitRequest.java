@@ -0,0 +1,35 @@
+package com.example.adminservice.dto.upload;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 멀티파트 업로드 시작 요청 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "멀티파트 업로드 시작 요청")
+public class MultipartUploadInitRequest {
+
+    @Schema(description = "업로드 대상", example = "kokpost", allowableValues = {"kokpost", "banner"})
+    @NotBlank(message = "업로드 대상은 필수입니다")
+    @Pattern(regexp = "^(kokpost|banner)$", message = "업로드 대상은 kokpost 또는 banner만 허용됩니다.")
+    private String target;
+
+    @Schema(description = "파일 확장자", example = "mp4", allowableValues = {"jpg", "jpeg", "png", "gif", "webp", "mp4", "mov", "webm"})
+    @NotBlank(message = "파일 확장자는 필수입니다")
+    @Pattern(regexp = "^(jpg|jpeg|png|gif|webp|mp4|mov|webm)$",
+             message = "지원하지 않는 파일 형식입니다. jpg, jpeg, png, gif, webp, mp4, mov, webm만 허용됩니다.")
+    private String fileExtension;
+
+    @Schema(description = "파일 크기 (bytes, 선택사항). 지정하면 권장 파트 크기와 파트 수를 계산해 돌려줍니다.", example = "524288000")
+    @Positive(message = "파일 크기는 0보다 커야 합니다")
+    private Long fileSize;
+}
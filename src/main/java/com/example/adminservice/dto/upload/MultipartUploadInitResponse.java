@@ -0,0 +1,29 @@
+package com.example.adminservice.dto.upload;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 멀티파트 업로드 시작 응답 DTO
+ */
+@Getter
+@Builder
+@Schema(description = "멀티파트 업로드 시작 응답")
+public class MultipartUploadInitResponse {
+
+    @Schema(description = "S3 업로드 ID", example = "VXBsb2FkIElEIGZvciBlbHZpbmcncyBteS1tb3ZpZS5tMnRzIHVwbG9hZA")
+    private String uploadId;
+
+    @Schema(description = "객체 키", example = "kokpost/1756804652981-e3601f15-d8e3-4360-aa41-e8229402d4e5.mp4")
+    private String objectKey;
+
+    @Schema(description = "업로드 완료 후 공개 URL", example = "https://ckokservice.s3.ap-northeast-2.amazonaws.com/kokpost/1756804652981-e3601f15-d8e3-4360-aa41-e8229402d4e5.mp4")
+    private String publicUrl;
+
+    @Schema(description = "권장 파트 크기 (bytes, 마지막 파트 제외)", example = "8388608")
+    private long partSize;
+
+    @Schema(description = "권장 파트 수 (파일 크기를 지정한 경우)", example = "63")
+    private Integer partCount;
+}
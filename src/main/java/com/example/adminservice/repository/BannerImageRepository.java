@@ -1,11 +1,15 @@
 package com.example.adminservice.repository;
 
 import com.example.adminservice.domain.BannerImage;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 배너 이미지 엔티티에 대한 데이터 접근 레포지토리
@@ -40,4 +44,22 @@ public interface BannerImageRepository extends JpaRepository<BannerImage, Long>
      */
     @Query("SELECT COALESCE(MAX(b.displayOrder), 0) FROM BannerImage b")
     Integer findMaxDisplayOrder();
+
+    /**
+     * 특정 이미지 처리 상태의 배너를 조회합니다.
+     * @param processingStatus 이미지 처리 상태
+     * @return 배너 목록
+     */
+    List<BannerImage> findByProcessingStatus(BannerImage.ProcessingStatus processingStatus);
+
+    /**
+     * 배너를 행 잠금(SELECT ... FOR UPDATE)과 함께 조회합니다.
+     * 같은 배너의 이미지 처리 결과 반영이 겹치지 않도록 트랜잭션 안에서 사용합니다.
+     * @param id 배너 ID
+     * @return 배너
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM BannerImage b WHERE b.id = :id")
+    Optional<BannerImage> findByIdForUpdate(@Param("id") Long id);
+
 }
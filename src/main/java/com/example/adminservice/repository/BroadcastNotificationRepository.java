@@ -0,0 +1,77 @@
+package com.example.adminservice.repository;
+
+import com.example.adminservice.domain.BroadcastNotification;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 브로드캐스트 알림 엔티티에 대한 데이터 접근 레포지토리
+ */
+@Repository
+public interface BroadcastNotificationRepository extends JpaRepository<BroadcastNotification, Long> {
+
+    /**
+     * 브로드캐스트 피드 첫 페이지 조회 (최신순, 개수는 Pageable로 제한)
+     */
+    @Query("SELECT b FROM BroadcastNotification b ORDER BY b.createdAt DESC, b.id DESC")
+    List<BroadcastNotification> findFeedFirst(Pageable limit);
+
+    /**
+     * 브로드캐스트 피드를 (createdAt, id) 위치 이전부터 조회 (최신순)
+     */
+    @Query("SELECT b FROM BroadcastNotification b " +
+           "WHERE b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BroadcastNotification> findFeedBefore(@Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable limit);
+
+    /**
+     * 브로드캐스트 피드를 (createdAt, id) 위치 이후부터 조회 (오래된순, 변경분 조회용)
+     */
+    @Query("SELECT b FROM BroadcastNotification b " +
+           "WHERE b.createdAt > :createdAt OR (b.createdAt = :createdAt AND b.id > :id) " +
+           "ORDER BY b.createdAt ASC, b.id ASC")
+    List<BroadcastNotification> findFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable limit);
+
+    /**
+     * 브로드캐스트 알림을 페이징으로 조회
+     */
+    Page<BroadcastNotification> findAll(Pageable pageable);
+
+    /**
+     * 전체 브로드캐스트 알림 ID 조회 (읽음 상태 ID 목록 초기 적재용, 엔티티를 적재하지 않음)
+     */
+    @Query("SELECT b.id FROM BroadcastNotification b ORDER BY b.id")
+    List<Long> findAllIds();
+
+    /**
+     * 가장 최근 브로드캐스트 알림 ID
+     */
+    @Query("SELECT MAX(b.id) FROM BroadcastNotification b")
+    Optional<Long> findMaxId();
+
+    /**
+     * 특정 기간 이전 브로드캐스트 알림 ID 조회 (정리 작업용)
+     */
+    @Query("SELECT b.id FROM BroadcastNotification b WHERE b.createdAt < :cutoffDate")
+    List<Long> findIdsCreatedBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
+
+    /**
+     * 특정 기간 이전 브로드캐스트 알림 삭제 (정리 작업용)
+     */
+    @Modifying
+    @Query("DELETE FROM BroadcastNotification b WHERE b.createdAt < :cutoffDate")
+    int deleteOldBroadcasts(@Param("cutoffDate") LocalDateTime cutoffDate);
+}
@@ -0,0 +1,42 @@
+package com.example.adminservice.repository;
+
+import com.example.adminservice.domain.ImageReference;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * S3 객체 참조 인덱스 레포지토리
+ */
+@Repository
+public interface ImageReferenceRepository extends JpaRepository<ImageReference, Long> {
+
+    /**
+     * 특정 엔티티가 참조하는 객체 목록
+     */
+    List<ImageReference> findByOwnerTypeAndOwnerId(ImageReference.OwnerType ownerType, Long ownerId);
+
+    /**
+     * 특정 엔티티의 참조 전체 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ImageReference r WHERE r.ownerType = :ownerType AND r.ownerId = :ownerId")
+    int deleteByOwner(@Param("ownerType") ImageReference.OwnerType ownerType, @Param("ownerId") Long ownerId);
+
+    /**
+     * 주어진 키 중 참조되고 있는 키 (S3 목록 페이지 단위 비교용)
+     */
+    @Query("SELECT DISTINCT r.objectKey FROM ImageReference r WHERE r.objectKey IN :objectKeys")
+    List<String> findReferencedObjectKeys(@Param("objectKeys") Collection<String> objectKeys);
+
+    /**
+     * 주어진 원본 기준 키 중 참조되고 있는 키 (같은 원본에서 나온 파생 이미지 보호용)
+     */
+    @Query("SELECT DISTINCT r.baseKey FROM ImageReference r WHERE r.baseKey IN :baseKeys")
+    List<String> findReferencedBaseKeys(@Param("baseKeys") Collection<String> baseKeys);
+}
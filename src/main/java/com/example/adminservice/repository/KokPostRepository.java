@@ -1,6 +1,7 @@
 package com.example.adminservice.repository;
 
 import com.example.adminservice.domain.KokPost;
+import com.example.adminservice.dto.KokPostSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -10,20 +11,56 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface KokPostRepository extends JpaRepository<KokPost, Long> {
 
+    String SUMMARY_SELECT = "SELECT new com.example.adminservice.dto.KokPostSummary(" +
+            "k.id, k.title, k.viewCount, k.campaignId, k.authorId, k.authorName, k.active, k.visitInfo, " +
+            "k.createdAt, k.updatedAt) FROM KokPost k ";
+
+    /**
+     * 목록 프로젝션 조회 (본문 제외, 페이지네이션)
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE k.active IN :actives",
+           countQuery = "SELECT COUNT(k) FROM KokPost k WHERE k.active IN :actives")
+    Page<KokPostSummary> findSummaries(@Param("actives") Collection<Boolean> actives, Pageable pageable);
+
+    /**
+     * 최신순 목록을 (createdAt, id) 위치 이후부터 조회 (본문 제외)
+     */
+    @Query(SUMMARY_SELECT + "WHERE k.active IN :actives " +
+           "AND (k.createdAt < :createdAt OR (k.createdAt = :createdAt AND k.id < :id)) " +
+           "ORDER BY k.createdAt DESC, k.id DESC")
+    List<KokPostSummary> findSummariesLatestAfter(@Param("actives") Collection<Boolean> actives,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Pageable limit);
+
     /**
-     * 모든 콕포스트를 최신순으로 조회
+     * 조회수 높은순 목록을 (viewCount, id) 위치 이후부터 조회 (본문 제외)
      */
-    List<KokPost> findAllByOrderByCreatedAtDesc();
+    @Query(SUMMARY_SELECT + "WHERE k.active IN :actives " +
+           "AND (k.viewCount < :viewCount OR (k.viewCount = :viewCount AND k.id < :id)) " +
+           "ORDER BY k.viewCount DESC, k.id DESC")
+    List<KokPostSummary> findSummariesViewCountDescAfter(@Param("actives") Collection<Boolean> actives,
+                                                         @Param("viewCount") Long viewCount,
+                                                         @Param("id") Long id,
+                                                         Pageable limit);
 
     /**
-     * 활성 상태로 필터링하여 최신순으로 조회
+     * 조회수 낮은순 목록을 (viewCount, id) 위치 이후부터 조회 (본문 제외)
      */
-    List<KokPost> findAllByActiveOrderByCreatedAtDesc(boolean active);
+    @Query(SUMMARY_SELECT + "WHERE k.active IN :actives " +
+           "AND (k.viewCount > :viewCount OR (k.viewCount = :viewCount AND k.id > :id)) " +
+           "ORDER BY k.viewCount ASC, k.id ASC")
+    List<KokPostSummary> findSummariesViewCountAscAfter(@Param("actives") Collection<Boolean> actives,
+                                                        @Param("viewCount") Long viewCount,
+                                                        @Param("id") Long id,
+                                                        Pageable limit);
 
     /**
      * 활성 상태로 필터링하여 조회 (페이지네이션)
@@ -71,9 +108,15 @@ public interface KokPostRepository extends JpaRepository<KokPost, Long> {
     List<KokPost> findAllByCampaignId(Long campaignId);
 
     /**
-     * 조회수 증가
+     * 내용 해시 채우기 (기존 글 보정용, 수정 시간은 바꾸지 않음)
+     */
+    @Modifying
+    @Query("UPDATE KokPost k SET k.contentHash = :contentHash WHERE k.id = :id AND k.contentHash IS NULL")
+    int fillContentHash(@Param("id") Long id, @Param("contentHash") String contentHash);
+
+    /**
+     * 조회수가 있는 글의 ID/조회수 (인기 순위 초기 적재용)
      */
-/*    @Modifying
-    @Query("UPDATE KokPost k SET k.viewCount = k.viewCount + 1 WHERE k.id = :id")
-    void incrementViewCount(@Param("id") Long id);*/
+    @Query("SELECT k.id, k.viewCount FROM KokPost k WHERE k.viewCount > 0")
+    List<Object[]> findAllViewCounts();
 }
@@ -5,9 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -45,13 +43,6 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
      */
     List<Notice> findByIsMustReadTrueOrderByCreatedAtDesc();
 
-    /**
-     * 조회수 증가
-     */
-    @Modifying
-    @Query("UPDATE Notice n SET n.viewCount = n.viewCount + 1 WHERE n.id = :id")
-    void incrementViewCount(@Param("id") Long id);
-
     /**
      * 필독 공지사항 개수 조회
      */
@@ -61,4 +52,10 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
      * 일반 공지사항 개수 조회
      */
     long countByIsMustReadFalse();
+
+    /**
+     * 조회수가 있는 글의 ID/조회수 (인기 순위 초기 적재용)
+     */
+    @Query("SELECT n.id, n.viewCount FROM Notice n WHERE n.viewCount > 0")
+    List<Object[]> findAllViewCounts();
 }
@@ -0,0 +1,60 @@
+package com.example.adminservice.repository;
+
+import com.example.adminservice.constant.EntityType;
+import com.example.adminservice.constant.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 대량 적재용 레포지토리
+ *
+ * IDENTITY 키 때문에 JPA saveAll은 행마다 INSERT를 보내므로,
+ * 수신자 ID 배열을 unnest 하는 단일 INSERT ... SELECT 문으로 한 번에 적재합니다. (PostgreSQL 전용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBulkRepository {
+
+    private static final String INSERT_FOR_RECIPIENTS_SQL = """
+            INSERT INTO notifications
+                (user_id, notification_type, title, message, related_entity_id, related_entity_type, is_read, created_at)
+            SELECT recipient.user_id, ?, ?, ?, ?, ?, false, ?
+            FROM unnest(?::bigint[]) AS recipient(user_id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 동일한 내용의 알림을 여러 수신자에게 한 번의 쿼리로 적재
+     *
+     * @return 적재된 행 수
+     */
+    public int insertForRecipients(List<Long> userIds, NotificationType notificationType, String title,
+                                   String message, Long relatedEntityId, EntityType relatedEntityType,
+                                   LocalDateTime createdAt) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_FOR_RECIPIENTS_SQL);
+            Array recipientArray = connection.createArrayOf("bigint", userIds.toArray());
+            ps.setString(1, notificationType.name());
+            ps.setString(2, title);
+            ps.setString(3, message);
+            ps.setObject(4, relatedEntityId, Types.BIGINT);
+            ps.setString(5, relatedEntityType != null ? relatedEntityType.name() : null);
+            ps.setTimestamp(6, Timestamp.valueOf(createdAt));
+            ps.setArray(7, recipientArray);
+            return ps;
+        });
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.adminservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * notifications 테이블의 월별 범위 파티션 관리 레포지토리 (PostgreSQL 전용)
+ *
+ * 파티션 모드는 notifications 테이블이 created_at 기준 RANGE 파티션 테이블로 전환되어 있어야 동작합니다.
+ * (PARTITION BY RANGE (created_at), 기본키에 created_at 포함)
+ * 파티션 이름은 notifications_pYYYYMM 규칙을 따릅니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationPartitionRepository {
+
+    private static final String TABLE_NAME = "notifications";
+    private static final String PARTITION_PREFIX = TABLE_NAME + "_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * notifications 테이블이 파티션 테이블인지 확인
+     */
+    public boolean isPartitioned() {
+        List<String> kinds = jdbcTemplate.queryForList(
+                "SELECT relkind::text FROM pg_class WHERE relname = ? AND relkind IN ('r', 'p')",
+                String.class, TABLE_NAME);
+        return !kinds.isEmpty() && "p".equals(kinds.get(0));
+    }
+
+    /**
+     * 현재 연결된 월별 파티션 목록 (이름 규칙에 맞는 것만)
+     */
+    public List<YearMonth> findPartitionMonths() {
+        return jdbcTemplate.queryForList("""
+                        SELECT child.relname
+                        FROM pg_inherits inh
+                        JOIN pg_class parent ON parent.oid = inh.inhparent
+                        JOIN pg_class child ON child.oid = inh.inhrelid
+                        WHERE parent.relname = ?
+                        """, String.class, TABLE_NAME)
+                .stream()
+                .filter(name -> name.matches(PARTITION_PREFIX + "\\d{6}"))
+                .map(name -> YearMonth.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX_FORMAT))
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 월별 파티션 생성 (이미 있으면 무시)
+     */
+    public void createPartitionIfAbsent(YearMonth month) {
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                partitionName(month), TABLE_NAME, month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    /**
+     * 월별 파티션 분리 후 삭제
+     */
+    public void dropPartition(YearMonth month) {
+        String partition = partitionName(month);
+        jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s", TABLE_NAME, partition));
+        jdbcTemplate.execute(String.format("DROP TABLE IF EXISTS %s", partition));
+    }
+
+    private String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX_FORMAT);
+    }
+}
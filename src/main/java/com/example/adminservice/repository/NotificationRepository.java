@@ -20,22 +20,44 @@ import java.util.List;
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     /**
-     * 특정 사용자의 모든 알림을 최신순으로 조회
+     * 특정 사용자의 알림을 페이징으로 조회 (최신순)
      */
     @Query("SELECT n FROM Notification n WHERE n.userId = :userId ORDER BY n.createdAt DESC")
-    List<Notification> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId);
+    Page<Notification> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId, Pageable pageable);
 
     /**
-     * 특정 사용자의 알림을 페이징으로 조회 (최신순)
+     * 특정 사용자의 피드 첫 페이지 조회 (최신순, 개수는 Pageable로 제한)
      */
-    @Query("SELECT n FROM Notification n WHERE n.userId = :userId ORDER BY n.createdAt DESC")
-    Page<Notification> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId, Pageable pageable);
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId " +
+           "AND (:unreadOnly = false OR n.isRead = false) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findFeedFirst(@Param("userId") Long userId,
+                                     @Param("unreadOnly") boolean unreadOnly,
+                                     Pageable limit);
 
     /**
-     * 특정 사용자의 읽지 않은 알림 조회
+     * 특정 사용자의 피드를 (createdAt, id) 위치 이전부터 조회 (최신순)
      */
-    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.isRead = false ORDER BY n.createdAt DESC")
-    List<Notification> findUnreadByUserId(@Param("userId") Long userId);
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId " +
+           "AND (:unreadOnly = false OR n.isRead = false) " +
+           "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findFeedBefore(@Param("userId") Long userId,
+                                      @Param("unreadOnly") boolean unreadOnly,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id,
+                                      Pageable limit);
+
+    /**
+     * 특정 사용자의 피드를 (createdAt, id) 위치 이후부터 조회 (오래된순, 변경분 조회용)
+     */
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId " +
+           "AND (n.createdAt > :createdAt OR (n.createdAt = :createdAt AND n.id > :id)) " +
+           "ORDER BY n.createdAt ASC, n.id ASC")
+    List<Notification> findFeedAfter(@Param("userId") Long userId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable limit);
 
     /**
      * 특정 사용자의 읽지 않은 알림 개수 조회
@@ -67,11 +89,39 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
                       @Param("readAt") LocalDateTime readAt);
 
     /**
-     * 특정 기간 이전의 알림 삭제 (정리 작업용)
+     * 읽지 않은 특정 알림만 읽음 상태로 변경 (읽지 않은 알림 카운터 감소 여부 판단용)
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt WHERE n.id = :notificationId AND n.userId = :userId AND n.isRead = false")
+    int markAsReadIfUnread(@Param("notificationId") Long notificationId,
+                           @Param("userId") Long userId,
+                           @Param("readAt") LocalDateTime readAt);
+
+    /**
+     * 특정 사용자의 특정 알림 존재 여부
+     */
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    /**
+     * 특정 기간 이전 알림의 최소 ID (청크 삭제 시작점)
+     */
+    @Query("SELECT MIN(n.id) FROM Notification n WHERE n.createdAt < :cutoffDate")
+    Long findMinIdCreatedBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
+
+    /**
+     * 특정 기간 이전 알림의 최대 ID (청크 삭제 종료점)
+     */
+    @Query("SELECT MAX(n.id) FROM Notification n WHERE n.createdAt < :cutoffDate")
+    Long findMaxIdCreatedBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
+
+    /**
+     * ID 구간 단위로 특정 기간 이전 알림 삭제 (청크 삭제용)
      */
     @Modifying
-    @Query("DELETE FROM Notification n WHERE n.createdAt < :cutoffDate")
-    int deleteOldNotifications(@Param("cutoffDate") LocalDateTime cutoffDate);
+    @Query("DELETE FROM Notification n WHERE n.id >= :fromId AND n.id < :toId AND n.createdAt < :cutoffDate")
+    int deleteChunkCreatedBefore(@Param("fromId") Long fromId,
+                                 @Param("toId") Long toId,
+                                 @Param("cutoffDate") LocalDateTime cutoffDate);
 
     /**
      * 특정 관련 엔티티와 연결된 알림 조회
@@ -0,0 +1,66 @@
+package com.example.adminservice.repository;
+
+import com.example.adminservice.constant.ViewCountTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 조회수 증가분 일괄 반영 레포지토리
+ *
+ * ID/증가분 배열을 unnest 해 대상 테이블에 UPDATE ... FROM 한 번으로 반영합니다. (PostgreSQL 전용)
+ * 동시에 반영하는 인스턴스끼리 교착 상태가 생기지 않도록 ID 오름차순으로 행 잠금을 먼저 잡은 뒤 갱신합니다.
+ * 수정 시간(updated_at)은 건드리지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ViewCountBulkRepository {
+
+    private static final String ADD_VIEW_COUNTS_SQL = """
+            WITH delta AS (
+                SELECT * FROM unnest(?::bigint[], ?::bigint[]) AS d(id, amount)
+            ), locked AS (
+                SELECT id FROM %1$s WHERE id IN (SELECT id FROM delta) ORDER BY id FOR UPDATE
+            )
+            UPDATE %1$s AS target
+            SET view_count = target.view_count + delta.amount
+            FROM locked JOIN delta ON delta.id = locked.id
+            WHERE target.id = locked.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * ID별 조회수 증가분을 한 번의 쿼리로 반영
+     *
+     * @return 갱신된 행 수
+     */
+    public int addViewCounts(ViewCountTarget target, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        // ID 오름차순으로 전달해 잠금 순서를 고정
+        Map<Long, Long> sorted = new TreeMap<>(deltas);
+        Long[] ids = new Long[sorted.size()];
+        Long[] amounts = new Long[sorted.size()];
+        int index = 0;
+        for (Map.Entry<Long, Long> entry : sorted.entrySet()) {
+            ids[index] = entry.getKey();
+            amounts[index] = entry.getValue();
+            index++;
+        }
+
+        String sql = String.format(ADD_VIEW_COUNTS_SQL, target.getTableName());
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            ps.setArray(1, connection.createArrayOf("bigint", ids));
+            ps.setArray(2, connection.createArrayOf("bigint", amounts));
+            return ps;
+        });
+    }
+}
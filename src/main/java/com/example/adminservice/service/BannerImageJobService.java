@@ -0,0 +1,212 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.domain.BannerImage;
+import com.example.adminservice.domain.ImageDerivative;
+import com.example.adminservice.repository.BannerImageRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 배너 이미지 16:9 변환 작업 처리기
+ *
+ * 배너는 PROCESSING 상태로 먼저 저장되고, 트랜잭션 커밋 후 제한된 워커 풀에서
+ * 다운로드 → 크롭 → 해상도별 파생 이미지 생성/업로드를 수행한 뒤 READY(또는 FAILED)로 바뀝니다.
+ * 워커 수와 대기열 크기를 제한해 동시에 여러 이미지가 올라와도 힙을 다 쓰지 않도록 합니다.
+ */
+@Slf4j
+@Service
+public class BannerImageJobService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final BannerImageRepository bannerImageRepository;
+    private final S3Service s3Service;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ImageReferenceService imageReferenceService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${banner.image.workers:2}")
+    private int workerCount;
+
+    @Value("${banner.image.queue-capacity:20}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    public BannerImageJobService(BannerImageRepository bannerImageRepository,
+                                 S3Service s3Service,
+                                 ImageDerivativeService imageDerivativeService,
+                                 ImageReferenceService imageReferenceService,
+                                 PlatformTransactionManager transactionManager) {
+        this.bannerImageRepository = bannerImageRepository;
+        this.s3Service = s3Service;
+        this.imageDerivativeService = imageDerivativeService;
+        this.imageReferenceService = imageReferenceService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "banner-image-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("배너 이미지 작업 처리기 시작: workers={}, queueCapacity={}", workerCount, queueCapacity);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                // 남은 작업은 PROCESSING 상태로 남아 다음 기동 시 다시 처리됨
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 변환 작업을 등록 (트랜잭션 밖이면 즉시 등록)
+     */
+    public void submitAfterCommit(Long bannerId, String originalUrl) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(bannerId, originalUrl);
+                }
+            });
+        } else {
+            submit(bannerId, originalUrl);
+        }
+    }
+
+    /**
+     * 대기 중인 작업 수
+     */
+    public int getQueuedJobCount() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 처리 중인 작업 수
+     */
+    public int getActiveJobCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * 기동 시 이전 실행에서 끝나지 않은 작업을 다시 등록
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePendingJobs() {
+        List<BannerImage> pending = bannerImageRepository.findByProcessingStatus(BannerImage.ProcessingStatus.PROCESSING);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        log.info("미완료 배너 이미지 작업 재등록: {}건", pending.size());
+        for (BannerImage banner : pending) {
+            submit(banner.getId(), banner.getBannerUrl());
+        }
+    }
+
+    private void submit(Long bannerId, String originalUrl) {
+        try {
+            executor.execute(() -> process(bannerId, originalUrl));
+            log.info("배너 이미지 작업 등록: bannerId={}, 대기={}건", bannerId, executor.getQueue().size());
+        } catch (RejectedExecutionException e) {
+            log.warn("배너 이미지 작업 대기열 초과: bannerId={}", bannerId);
+            markFailed(bannerId, originalUrl, "이미지 처리 대기열이 가득 찼습니다. 잠시 후 이미지를 다시 등록해주세요.");
+        }
+    }
+
+    private void process(Long bannerId, String originalUrl) {
+        long startedAt = System.currentTimeMillis();
+        ImageDerivativeService.DerivativeResult result;
+        try {
+            result = imageDerivativeService.generate(originalUrl, true);
+        } catch (InterruptedException e) {
+            // 종료 중 중단된 작업은 PROCESSING 상태로 남겨 다음 기동 시 다시 처리
+            Thread.currentThread().interrupt();
+            log.warn("배너 이미지 처리 중단: bannerId={}", bannerId);
+            return;
+        } catch (Exception e) {
+            log.error("배너 이미지 처리 실패: bannerId={}, error={}", bannerId, e.getMessage(), e);
+            markFailed(bannerId, originalUrl, "이미지 처리 중 오류가 발생했습니다: " + e.getMessage());
+            return;
+        }
+
+        List<ImageDerivative> replaced = new ArrayList<>();
+        Boolean applied = transactionTemplate.execute(status -> {
+            // 같은 배너를 동시에 처리한 작업이 있으면 먼저 반영한 쪽이 URL을 바꾸므로, 나중 작업은 아래 비교에서 걸러짐
+            BannerImage banner = bannerImageRepository.findByIdForUpdate(bannerId).orElse(null);
+            // 처리 중 배너가 삭제되었거나 다른 이미지로 교체되었으면 결과를 버림
+            if (banner == null || !originalUrl.equals(banner.getBannerUrl())) {
+                return false;
+            }
+            replaced.addAll(banner.getDerivatives());
+            banner.setBannerUrl(result.primaryUrl());
+            banner.getDerivatives().clear();
+            banner.getDerivatives().addAll(result.derivatives());
+            banner.setProcessingStatus(BannerImage.ProcessingStatus.READY);
+            banner.setProcessingError(null);
+            imageReferenceService.syncBanner(banner);
+            return true;
+        });
+
+        if (Boolean.TRUE.equals(applied)) {
+            // DB가 새 URL을 가리킨 뒤에 원본과 이전 파생 이미지 삭제 (내용 기반 원본은 공유될 수 있어 S3 정리 작업에 맡김)
+            if (!s3Service.isContentAddressedUrl(originalUrl)) {
+                s3Service.deleteImageFromUrl(originalUrl);
+            }
+            imageDerivativeService.deleteAll(replaced);
+            log.info("배너 이미지 처리 완료: bannerId={}, 파생 {}장, {}ms",
+                    bannerId, result.derivatives().size(), System.currentTimeMillis() - startedAt);
+        } else {
+            // 실행 토큰이 들어간 키라 이번 작업이 올린 객체만 지움
+            imageDerivativeService.deleteAll(result.derivatives());
+            log.info("배너가 삭제되었거나 이미지가 교체되어 처리 결과 폐기: bannerId={}", bannerId);
+        }
+    }
+
+    private void markFailed(Long bannerId, String originalUrl, String error) {
+        String message = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    bannerImageRepository.findById(bannerId)
+                            .filter(banner -> originalUrl.equals(banner.getBannerUrl()))
+                            .ifPresent(banner -> {
+                                banner.setProcessingStatus(BannerImage.ProcessingStatus.FAILED);
+                                banner.setProcessingError(message);
+                            }));
+        } catch (Exception e) {
+            log.error("배너 이미지 처리 실패 상태 저장 실패: bannerId={}, error={}", bannerId, e.getMessage());
+        }
+    }
+}
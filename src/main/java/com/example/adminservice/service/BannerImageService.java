@@ -1,6 +1,7 @@
 package com.example.adminservice.service;
 
 import com.example.adminservice.domain.BannerImage;
+import com.example.adminservice.domain.ImageReference;
 import com.example.adminservice.dto.BannerImageRequest;
 import com.example.adminservice.dto.BannerImageResponse;
 import com.example.adminservice.repository.BannerImageRepository;
@@ -22,10 +23,12 @@ import java.util.stream.Collectors;
 public class BannerImageService {
 
     private final BannerImageRepository bannerImageRepository;
-    private final S3Service s3Service;
+    private final BannerImageJobService bannerImageJobService;
+    private final ImageReferenceService imageReferenceService;
 
     /**
      * 새로운 배너 이미지를 생성합니다.
+     * 배너는 PROCESSING 상태로 저장되고, 16:9 변환은 커밋 후 백그라운드에서 처리됩니다.
      *
      * @param request 배너 이미지 생성 요청
      * @return 생성된 배너 이미지 정보
@@ -38,9 +41,6 @@ public class BannerImageService {
         String cleanBannerUrl = S3UrlUtils.cleanS3Url(request.getBannerUrl());
         log.info("URL 정리 완료: {} -> {}", request.getBannerUrl(), cleanBannerUrl);
 
-        // 16:9 비율로 이미지 처리
-        String processedBannerUrl = s3Service.processBannerImageTo16x9(cleanBannerUrl);
-
         // 새 필드들 처리 (없으면 빈 문자열로 설정)
         String title = (request.getTitle() != null && !request.getTitle().trim().isEmpty()) 
                         ? request.getTitle().trim() : "";
@@ -68,16 +68,21 @@ public class BannerImageService {
         BannerImage bannerImage = BannerImage.builder()
                 .title(title)
                 .description(description)
-                .bannerUrl(processedBannerUrl)
+                .bannerUrl(cleanBannerUrl)
                 .redirectUrl(redirectUrl)
                 .position(position)
                 .displayOrder(displayOrder)
+                .processingStatus(BannerImage.ProcessingStatus.PROCESSING)
                 .build();
 
         BannerImage savedBanner = bannerImageRepository.save(bannerImage);
+        imageReferenceService.syncBanner(savedBanner);
         log.info("배너 이미지 생성 완료: ID={}, title={}, position={}", 
                 savedBanner.getId(), savedBanner.getTitle(), savedBanner.getPosition());
 
+        // 16:9 비율 변환 작업 등록
+        bannerImageJobService.submitAfterCommit(savedBanner.getId(), cleanBannerUrl);
+
         return BannerImageResponse.from(savedBanner);
     }
 
@@ -100,10 +105,7 @@ public class BannerImageService {
         log.info("URL 정리 완료: {} -> {}", request.getBannerUrl(), cleanBannerUrl);
 
         // 새로운 이미지 URL이 제공된 경우에만 16:9 처리
-        String processedBannerUrl = cleanBannerUrl;
-        if (!cleanBannerUrl.equals(bannerImage.getBannerUrl())) {
-            processedBannerUrl = s3Service.processBannerImageTo16x9(cleanBannerUrl);
-        }
+        boolean imageChanged = !cleanBannerUrl.equals(bannerImage.getBannerUrl());
 
         // 새 필드들 처리 (없으면 빈 문자열로 설정)
         String title = (request.getTitle() != null && !request.getTitle().trim().isEmpty()) 
@@ -132,15 +134,26 @@ public class BannerImageService {
         // 필드 업데이트
         bannerImage.setTitle(title);
         bannerImage.setDescription(description);
-        bannerImage.setBannerUrl(processedBannerUrl);
+        if (imageChanged) {
+            bannerImage.setBannerUrl(cleanBannerUrl);
+            bannerImage.setProcessingStatus(BannerImage.ProcessingStatus.PROCESSING);
+            bannerImage.setProcessingError(null);
+        }
         bannerImage.setRedirectUrl(redirectUrl);
         bannerImage.setPosition(position);
         bannerImage.setDisplayOrder(displayOrder);
 
         BannerImage updatedBanner = bannerImageRepository.save(bannerImage);
+        if (imageChanged) {
+            imageReferenceService.syncBanner(updatedBanner);
+        }
         log.info("배너 이미지 수정 완료: ID={}, title={}, position={}, displayOrder={}", 
                 updatedBanner.getId(), updatedBanner.getTitle(), updatedBanner.getPosition(), updatedBanner.getDisplayOrder());
 
+        if (imageChanged) {
+            bannerImageJobService.submitAfterCommit(updatedBanner.getId(), cleanBannerUrl);
+        }
+
         return BannerImageResponse.from(updatedBanner);
     }
 
@@ -157,6 +170,7 @@ public class BannerImageService {
                 .orElseThrow(() -> new RuntimeException("배너를 찾을 수 없습니다: " + id));
 
         bannerImageRepository.delete(bannerImage);
+        imageReferenceService.removeReferences(ImageReference.OwnerType.BANNER, id);
         log.info("배너 이미지 삭제 완료: ID={}", id);
     }
 
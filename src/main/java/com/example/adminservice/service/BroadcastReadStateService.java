@@ -0,0 +1,255 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.repository.BroadcastNotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 브로드캐스트 알림의 사용자별 읽음 상태 관리 서비스
+ *
+ * - 읽음 워터마크: 사용자가 "모두 읽음" 처리한 시점의 마지막 브로드캐스트 ID (사용자당 키 1개)
+ *   처음 조회하는 사용자는 그 시점의 마지막 브로드캐스트 ID로 시작하므로 과거 브로드캐스트가 읽지 않음으로 잡히지 않습니다.
+ * - 읽음 비트맵: 워터마크 이후 개별로 읽은 브로드캐스트는 브로드캐스트별 비트맵의 userId 오프셋에 기록
+ * - 읽지 않은 개수: 살아 있는 브로드캐스트 ID ZSET에서 워터마크 이후 개수를 세고,
+ *   사용자별로 워터마크 이후 개별로 읽은 ID ZSET의 크기를 빼서 계산 (브로드캐스트 테이블을 읽지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BroadcastReadStateService {
+
+    private static final String READ_BITMAP_KEY_PREFIX = "notification:broadcast:read:";
+    private static final String WATERMARK_KEY_PREFIX = "notification:broadcast:watermark:";
+    private static final String READ_IDS_KEY_PREFIX = "notification:broadcast:read-ids:";
+    private static final String IDS_KEY = "notification:broadcast:ids";
+    private static final String FLOOR_KEY = "notification:broadcast:floor";
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    /**
+     * 워터마크가 없으면 마지막 브로드캐스트 ID로 초기화하고 워터마크 반환
+     * KEYS[1]: 워터마크 키, KEYS[2]: 브로드캐스트 ID ZSET
+     */
+    private static final String INIT_WATERMARK = """
+            local watermark = redis.call('GET', KEYS[1])
+            if not watermark then
+                local latest = redis.call('ZREVRANGE', KEYS[2], 0, 0)
+                watermark = latest[1] or '0'
+                redis.call('SET', KEYS[1], watermark)
+            end
+            """;
+
+    private static final RedisScript<Long> GET_WATERMARK_SCRIPT = new DefaultRedisScript<>(
+            INIT_WATERMARK + "return tonumber(watermark)", Long.class);
+
+    /**
+     * 읽지 않은 브로드캐스트 개수
+     * KEYS[1]: 워터마크 키, KEYS[2]: 브로드캐스트 ID ZSET, KEYS[3]: 정리된 ID 하한 키, KEYS[4]: 사용자 읽음 ID ZSET
+     */
+    private static final RedisScript<Long> COUNT_UNREAD_SCRIPT = new DefaultRedisScript<>(INIT_WATERMARK + """
+            local from = watermark
+            local floor = redis.call('GET', KEYS[3])
+            if floor and tonumber(floor) > tonumber(from) then from = floor end
+            redis.call('ZREMRANGEBYSCORE', KEYS[4], '-inf', from)
+            local unread = redis.call('ZCOUNT', KEYS[2], '(' .. from, '+inf') - redis.call('ZCARD', KEYS[4])
+            if unread < 0 then return 0 end
+            return unread
+            """, Long.class);
+
+    /**
+     * 개별 읽음 처리 (워터마크 이후 ID만 사용자 읽음 ID ZSET에 추가)
+     * KEYS[1]: 비트맵 키, KEYS[2]: 워터마크 키, KEYS[3]: 사용자 읽음 ID ZSET
+     * ARGV[1]: userId 오프셋, ARGV[2]: 브로드캐스트 ID
+     */
+    private static final RedisScript<Long> MARK_READ_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SETBIT', KEYS[1], ARGV[1], 1)
+            local watermark = tonumber(redis.call('GET', KEYS[2]) or '0')
+            if tonumber(ARGV[2]) <= watermark then return 0 end
+            return redis.call('ZADD', KEYS[3], ARGV[2], ARGV[2])
+            """, Long.class);
+
+    /**
+     * 값이 커질 때만 갱신 (동시 요청이 값을 되돌리지 않음), 갱신되면 KEYS[2] ZSET에서 새 값 이하 제거
+     * KEYS[1]: 값 키, KEYS[2]: (선택) 정리할 ZSET, ARGV[1]: 새 값
+     */
+    private static final RedisScript<Long> RAISE_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local target = tonumber(ARGV[1])
+            if target <= current then return current end
+            redis.call('SET', KEYS[1], ARGV[1])
+            if #KEYS > 1 then redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[1]) end
+            return target
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final BroadcastNotificationRepository broadcastNotificationRepository;
+
+    /**
+     * 새 브로드캐스트를 읽지 않은 개수 계산 대상에 등록 (트랜잭션 안이면 커밋 후)
+     */
+    public void registerBroadcast(Long broadcastId) {
+        Runnable register = () -> redisTemplate.opsForZSet().add(IDS_KEY, String.valueOf(broadcastId), broadcastId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    register.run();
+                }
+            });
+        } else {
+            register.run();
+        }
+    }
+
+    /**
+     * 특정 브로드캐스트를 읽음 처리
+     */
+    public void markRead(Long broadcastId, Long userId) {
+        redisTemplate.execute(MARK_READ_SCRIPT,
+                List.of(bitmapKey(broadcastId), watermarkKey(userId), readIdsKey(userId)),
+                String.valueOf(userId), String.valueOf(broadcastId));
+    }
+
+    /**
+     * 특정 브로드캐스트 ID까지 모두 읽음 처리 (워터마크는 올라가기만 함)
+     */
+    public void markAllRead(Long userId, Long lastBroadcastId) {
+        if (lastBroadcastId == null) {
+            return;
+        }
+        redisTemplate.execute(RAISE_SCRIPT, List.of(watermarkKey(userId), readIdsKey(userId)),
+                String.valueOf(lastBroadcastId));
+    }
+
+    /**
+     * 사용자의 읽음 워터마크 조회 (처음 조회하면 마지막 브로드캐스트 ID로 초기화)
+     */
+    public Long getWatermark(Long userId) {
+        Long watermark = redisTemplate.execute(GET_WATERMARK_SCRIPT, List.of(watermarkKey(userId), IDS_KEY));
+        return watermark != null ? watermark : 0L;
+    }
+
+    /**
+     * 읽지 않은 브로드캐스트 개수 (Redis 스크립트 한 번, 브로드캐스트 수와 무관)
+     */
+    public long countUnread(Long userId) {
+        Long unread = redisTemplate.execute(COUNT_UNREAD_SCRIPT,
+                List.of(watermarkKey(userId), IDS_KEY, FLOOR_KEY, readIdsKey(userId)));
+        return unread != null ? unread : 0L;
+    }
+
+    /**
+     * 주어진 브로드캐스트 중 사용자가 읽은 ID 집합 조회
+     * 워터마크 이하의 ID는 읽음으로 간주하고, 나머지는 파이프라인으로 비트를 한 번에 조회합니다.
+     */
+    public Set<Long> findReadIds(Long userId, Collection<Long> broadcastIds) {
+        Set<Long> readIds = new HashSet<>();
+        if (broadcastIds.isEmpty()) {
+            return readIds;
+        }
+
+        long watermark = getWatermark(userId);
+        List<Long> candidates = broadcastIds.stream()
+                .filter(id -> {
+                    if (id <= watermark) {
+                        readIds.add(id);
+                        return false;
+                    }
+                    return true;
+                })
+                .toList();
+
+        if (candidates.isEmpty()) {
+            return readIds;
+        }
+
+        List<Object> bits = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            candidates.forEach(id -> getBit(connection, id, userId));
+            return null;
+        });
+
+        for (int i = 0; i < candidates.size(); i++) {
+            if (Boolean.TRUE.equals(bits.get(i))) {
+                readIds.add(candidates.get(i));
+            }
+        }
+        return readIds;
+    }
+
+    /**
+     * 삭제된 브로드캐스트의 읽음 상태 정리
+     * 정리된 ID 하한을 올려 두면 사용자 읽음 ID ZSET에 남은 삭제된 ID는 다음 개수 조회 때 제거됩니다.
+     */
+    public void deleteReadState(Collection<Long> broadcastIds) {
+        if (broadcastIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(IDS_KEY, broadcastIds.stream().map(String::valueOf).toArray());
+        redisTemplate.execute(RAISE_SCRIPT, List.of(FLOOR_KEY),
+                String.valueOf(broadcastIds.stream().mapToLong(Long::longValue).max().orElse(0L)));
+        redisTemplate.delete(broadcastIds.stream().map(this::bitmapKey).toList());
+        log.debug("브로드캐스트 읽음 상태 삭제: {}개", broadcastIds.size());
+    }
+
+    /**
+     * 브로드캐스트 ID ZSET이 비어 있으면 DB의 ID로 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedBroadcastIds() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(IDS_KEY))) {
+                return;
+            }
+
+            List<Long> ids = broadcastNotificationRepository.findAllIds();
+            Set<ZSetOperations.TypedTuple<String>> batch = new HashSet<>();
+            for (Long id : ids) {
+                batch.add(new DefaultTypedTuple<>(String.valueOf(id), id.doubleValue()));
+                if (batch.size() >= SEED_BATCH_SIZE) {
+                    redisTemplate.opsForZSet().add(IDS_KEY, batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                redisTemplate.opsForZSet().add(IDS_KEY, batch);
+            }
+            log.info("브로드캐스트 ID 초기 적재: {}건", ids.size());
+        } catch (Exception e) {
+            log.error("브로드캐스트 ID 초기 적재 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void getBit(RedisConnection connection, Long broadcastId, Long userId) {
+        connection.stringCommands().getBit(bitmapKey(broadcastId).getBytes(StandardCharsets.UTF_8), userId);
+    }
+
+    private String bitmapKey(Long broadcastId) {
+        return READ_BITMAP_KEY_PREFIX + broadcastId;
+    }
+
+    private String watermarkKey(Long userId) {
+        return WATERMARK_KEY_PREFIX + userId;
+    }
+
+    private String readIdsKey(Long userId) {
+        return READ_IDS_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.dto.notification.ClientApiHealthStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 클라이언트 API 서버 상태를 백그라운드에서 주기적으로 확인하는 프로브
+ *
+ * 호출자는 요청 스레드를 막지 않고 마지막 확인 결과를 바로 읽습니다.
+ * 첫 확인 전에는 사용 가능한 것으로 간주합니다.
+ */
+@Slf4j
+@Service
+public class ClientApiHealthProbe {
+
+    private final WebClient clientApiWebClient;
+
+    @Value("${client.api.health.timeout-ms:3000}")
+    private long healthTimeoutMs;
+
+    private final AtomicBoolean probing = new AtomicBoolean(false);
+    private volatile ClientApiHealthStatus status = new ClientApiHealthStatus(true, 0L, null, null, null);
+
+    public ClientApiHealthProbe(@Qualifier("clientApiWebClient") WebClient clientApiWebClient) {
+        this.clientApiWebClient = clientApiWebClient;
+    }
+
+    /**
+     * 마지막 확인 결과 사용 가능 여부
+     */
+    public boolean isAvailable() {
+        return status.isAvailable();
+    }
+
+    /**
+     * 마지막 확인 결과
+     */
+    public ClientApiHealthStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * 주기적으로 /actuator/health를 비동기로 확인 (이전 확인이 끝나지 않았으면 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${client.api.health.interval-ms:10000}")
+    public void probe() {
+        if (!probing.compareAndSet(false, true)) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        clientApiWebClient
+                .get()
+                .uri("/actuator/health")  // Spring Boot Actuator health 엔드포인트
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(Duration.ofMillis(healthTimeoutMs))
+                .doFinally(signal -> probing.set(false))
+                .subscribe(
+                        response -> update(true, startedAt, null),
+                        error -> update(false, startedAt, error.getMessage()));
+    }
+
+    private void update(boolean available, long startedAt, String error) {
+        ClientApiHealthStatus previous = status;
+        LocalDateTime now = LocalDateTime.now();
+        long latencyMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        status = new ClientApiHealthStatus(
+                available,
+                latencyMillis,
+                now,
+                available ? now : previous.getLastSuccessAt(),
+                available ? null : error);
+
+        if (previous.isAvailable() != available) {
+            if (available) {
+                log.info("클라이언트 API 서버 연결 복구: latency={}ms", latencyMillis);
+            } else {
+                log.warn("클라이언트 API 서버 연결 실패: {}", error);
+            }
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.dto.notification.CampaignStatusNotificationBatchRequest;
+import com.example.adminservice.dto.notification.CampaignStatusNotificationRequest;
+import com.example.adminservice.dto.notification.ClientNotificationRetryEntry;
+import com.example.adminservice.util.SimpleCircuitBreaker;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 클라이언트 프로젝트 캠페인 상태 알림 마이크로 배치 전송기
+ *
+ * 이벤트를 짧은 시간(또는 N건) 동안 모아 한 번의 배치 요청으로 보내고,
+ * 동시 전송 수 제한, 지터가 있는 지수 백오프 재시도, 서킷 브레이커를 적용합니다.
+ * 최종 실패하거나 버퍼가 가득 찬 이벤트, 상태 프로브가 서버 다운을 감지한 동안의 이벤트는
+ * Redis 재시도 큐에 보관했다가 서버가 살아나면 주기적으로 다시 보냅니다.
+ * 실제 전송 실패가 max-delivery-attempts회 누적되거나 4xx(408/429 제외)로 거절된 이벤트는 데드레터로 옮깁니다.
+ * 전송 파이프라인이 예기치 않게 종료되면 새 버퍼로 다시 구독합니다.
+ */
+@Slf4j
+@Service
+public class ClientNotificationDispatcher {
+
+    private static final String RETRY_QUEUE_KEY = "client-notification:retry-queue";
+    private static final String DEAD_LETTER_KEY = "client-notification:dead-letter";
+
+    private final WebClient clientApiWebClient;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ClientApiHealthProbe clientApiHealthProbe;
+
+    @Value("${client.api.notification.timeout:10}")
+    private int notificationTimeoutSeconds;
+
+    @Value("${client.api.notification.batch.max-size:50}")
+    private int maxBatchSize;
+
+    @Value("${client.api.notification.batch.flush-interval-ms:20}")
+    private long flushIntervalMs;
+
+    @Value("${client.api.notification.batch.buffer-capacity:10000}")
+    private int bufferCapacity;
+
+    @Value("${client.api.notification.batch.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${client.api.notification.retry.max-attempts:3}")
+    private int maxRetryAttempts;
+
+    @Value("${client.api.notification.retry.min-backoff-ms:200}")
+    private long minBackoffMs;
+
+    @Value("${client.api.notification.retry.max-backoff-ms:5000}")
+    private long maxBackoffMs;
+
+    @Value("${client.api.notification.retry.drain-size:500}")
+    private int retryDrainSize;
+
+    @Value("${client.api.notification.retry.max-delivery-attempts:5}")
+    private int maxDeliveryAttempts;
+
+    @Value("${client.api.notification.dead-letter.max-size:10000}")
+    private int deadLetterMaxSize;
+
+    @Value("${client.api.notification.circuit.failure-threshold:5}")
+    private int circuitFailureThreshold;
+
+    @Value("${client.api.notification.circuit.open-seconds:30}")
+    private int circuitOpenSeconds;
+
+    private Sinks.Many<ClientNotificationRetryEntry> sink;
+    private Disposable subscription;
+    private volatile boolean stopped;
+    private SimpleCircuitBreaker circuitBreaker;
+
+    public ClientNotificationDispatcher(@Qualifier("clientApiWebClient") WebClient clientApiWebClient,
+                                        RedisTemplate<String, String> redisTemplate,
+                                        ObjectMapper objectMapper,
+                                        ClientApiHealthProbe clientApiHealthProbe) {
+        this.clientApiWebClient = clientApiWebClient;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.clientApiHealthProbe = clientApiHealthProbe;
+    }
+
+    @PostConstruct
+    public void start() {
+        circuitBreaker = new SimpleCircuitBreaker(circuitFailureThreshold, Duration.ofSeconds(circuitOpenSeconds));
+        subscribe();
+        log.info("클라이언트 알림 배치 전송기 시작: maxBatchSize={}, flushIntervalMs={}, maxConcurrency={}",
+                maxBatchSize, flushIntervalMs, maxConcurrency);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        stopped = true;
+        sink.tryEmitComplete();
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * 새 버퍼를 만들어 전송 파이프라인 구독
+     * bufferTimeout의 fair 모드는 하류 요청량만큼만 배치를 만들어, 전송이 밀릴 때 배치가 넘치지 않고 버퍼에 남게 합니다.
+     * 예기치 않은 오류로 파이프라인이 끝나면(유니캐스트 버퍼는 재구독 불가) 새 버퍼로 다시 구독합니다.
+     */
+    private synchronized void subscribe() {
+        Sinks.Many<ClientNotificationRetryEntry> newSink =
+                Sinks.many().unicast().onBackpressureBuffer(new ArrayBlockingQueue<>(bufferCapacity));
+        sink = newSink;
+        subscription = newSink.asFlux()
+                .bufferTimeout(maxBatchSize, Duration.ofMillis(flushIntervalMs), true)
+                .flatMap(batch -> Mono.defer(() -> sendBatch(batch))
+                        .onErrorResume(error -> {
+                            log.error("클라이언트 알림 배치 처리 오류: {}건, 사유: {}", batch.size(), error.getMessage());
+                            return spillAsync(batch, error.getMessage());
+                        }), maxConcurrency)
+                .subscribe(null, error -> resubscribe(newSink, error));
+    }
+
+    private synchronized void resubscribe(Sinks.Many<ClientNotificationRetryEntry> failedSink, Throwable error) {
+        if (stopped || failedSink != sink) {
+            return;
+        }
+        log.error("클라이언트 알림 전송 파이프라인 종료, 다시 구독: {}", error.getMessage(), error);
+        subscribe();
+    }
+
+    /**
+     * 알림 이벤트를 전송 버퍼에 추가 (버퍼가 가득 차면 재시도 큐로 보관)
+     */
+    public void enqueue(CampaignStatusNotificationRequest request) {
+        enqueue(ClientNotificationRetryEntry.of(request));
+    }
+
+    private void enqueue(ClientNotificationRetryEntry entry) {
+        Sinks.EmitResult result;
+        synchronized (this) {
+            result = sink.tryEmitNext(entry);
+        }
+
+        if (result.isFailure()) {
+            log.warn("클라이언트 알림 버퍼 적재 실패({}), 재시도 큐로 보관: userId={}, campaignId={}",
+                    result, entry.getRequest().getUserId(), entry.getRequest().getCampaignId());
+            spillToRetryQueue(List.of(entry));
+        }
+    }
+
+    /**
+     * 현재 서킷 브레이커 상태
+     */
+    public SimpleCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * 재시도 큐 대기 건수
+     */
+    public long getRetryQueueSize() {
+        Long size = redisTemplate.opsForList().size(RETRY_QUEUE_KEY);
+        return size != null ? size : 0L;
+    }
+
+    /**
+     * 데드레터 건수
+     */
+    public long getDeadLetterSize() {
+        Long size = redisTemplate.opsForList().size(DEAD_LETTER_KEY);
+        return size != null ? size : 0L;
+    }
+
+    /**
+     * 재시도 큐에 보관된 이벤트를 주기적으로 다시 전송 버퍼에 넣음
+     */
+    @Scheduled(fixedDelayString = "${client.api.notification.retry.interval-ms:30000}")
+    public void drainRetryQueue() {
+        if (!clientApiHealthProbe.isAvailable() || circuitBreaker.getState() == SimpleCircuitBreaker.State.OPEN) {
+            return;
+        }
+
+        List<String> payloads;
+        try {
+            payloads = redisTemplate.opsForList().leftPop(RETRY_QUEUE_KEY, retryDrainSize);
+        } catch (Exception e) {
+            log.warn("클라이언트 알림 재시도 큐 조회 실패: {}", e.getMessage());
+            return;
+        }
+        if (payloads == null || payloads.isEmpty()) {
+            return;
+        }
+
+        log.info("클라이언트 알림 재시도 큐 재전송: {}건", payloads.size());
+        for (String payload : payloads) {
+            try {
+                enqueue(readEntry(payload));
+            } catch (Exception e) {
+                log.error("재시도 큐 알림 해석 실패, 폐기: payload={}, error={}", payload, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 재시도 큐 항목 해석 (시도 횟수가 없는 이전 형식은 알림 본문만 있는 것으로 처리)
+     */
+    private ClientNotificationRetryEntry readEntry(String payload) throws Exception {
+        JsonNode node = objectMapper.readTree(payload);
+        if (node.has("request")) {
+            return objectMapper.treeToValue(node, ClientNotificationRetryEntry.class);
+        }
+        return ClientNotificationRetryEntry.of(objectMapper.treeToValue(node, CampaignStatusNotificationRequest.class));
+    }
+
+    private Mono<Void> sendBatch(List<ClientNotificationRetryEntry> batch) {
+        if (!clientApiHealthProbe.isAvailable()) {
+            log.warn("클라이언트 API 서버 응답 없음, 알림 {}건 재시도 큐로 보관", batch.size());
+            return spillAsync(batch);
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            log.warn("클라이언트 API 서킷 열림, 알림 {}건 재시도 큐로 보관", batch.size());
+            return spillAsync(batch);
+        }
+
+        List<CampaignStatusNotificationRequest> requests = batch.stream()
+                .map(ClientNotificationRetryEntry::getRequest)
+                .toList();
+
+        return clientApiWebClient
+                .post()
+                .uri("/api/notifications/campaign-status/batch")
+                .bodyValue(new CampaignStatusNotificationBatchRequest(requests))
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(Duration.ofSeconds(notificationTimeoutSeconds))
+                .retryWhen(Retry.backoff(maxRetryAttempts, Duration.ofMillis(minBackoffMs))
+                        .maxBackoff(Duration.ofMillis(maxBackoffMs))
+                        .jitter(0.5)
+                        .filter(error -> !isRejected(error)))
+                .doOnSuccess(response -> {
+                    circuitBreaker.recordSuccess();
+                    log.info("클라이언트 알림 배치 전송 성공: {}건", batch.size());
+                })
+                .onErrorResume(error -> {
+                    if (isRejected(error)) {
+                        // 서버는 정상이고 요청 자체가 거절된 것이므로 재시도하지 않음
+                        circuitBreaker.recordSuccess();
+                        log.error("클라이언트 알림 배치 거절, 데드레터로 이동: {}건, 사유: {}", batch.size(), error.getMessage());
+                        return deadLetterAsync(batch, error.getMessage()).then(Mono.<String>empty());
+                    }
+                    // 알림 전송 실패가 메인 로직에 영향을 주지 않도록 재시도 큐로 보관
+                    circuitBreaker.recordFailure();
+                    log.error("클라이언트 알림 배치 전송 최종 실패: {}건, 사유: {}", batch.size(), error.getMessage());
+                    return spillAsync(batch, error.getMessage()).then(Mono.<String>empty());
+                })
+                .then();
+    }
+
+    /**
+     * 재시도해도 결과가 같은 거절 응답 (4xx 중 408 Request Timeout, 429 Too Many Requests 제외)
+     */
+    private boolean isRejected(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            HttpStatus status = HttpStatus.resolve(responseException.getStatusCode().value());
+            return status != null && status.is4xxClientError()
+                    && status != HttpStatus.REQUEST_TIMEOUT && status != HttpStatus.TOO_MANY_REQUESTS;
+        }
+        return false;
+    }
+
+    /**
+     * 전송하지 못한 이벤트를 시도 횟수 증가 없이 재시도 큐에 보관 (서버 다운/서킷 열림)
+     */
+    private Mono<Void> spillAsync(List<ClientNotificationRetryEntry> entries) {
+        return Mono.fromRunnable(() -> spillToRetryQueue(entries))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    /**
+     * 전송에 실패한 이벤트의 시도 횟수를 늘려 재시도 큐에 보관하고, 한도를 넘은 이벤트는 데드레터로 이동
+     * Redis 호출이 Netty 이벤트 루프를 막지 않도록 별도 스케줄러에서 실행합니다.
+     */
+    private Mono<Void> spillAsync(List<ClientNotificationRetryEntry> entries, String error) {
+        return Mono.fromRunnable(() -> {
+                    List<ClientNotificationRetryEntry> retryable = new ArrayList<>(entries.size());
+                    List<ClientNotificationRetryEntry> exhausted = new ArrayList<>();
+                    for (ClientNotificationRetryEntry entry : entries) {
+                        entry.setAttempts(entry.getAttempts() + 1);
+                        entry.setLastError(error);
+                        (entry.getAttempts() >= maxDeliveryAttempts ? exhausted : retryable).add(entry);
+                    }
+                    if (!exhausted.isEmpty()) {
+                        log.error("클라이언트 알림 재시도 초과, 데드레터로 이동: {}건", exhausted.size());
+                        deadLetter(exhausted, error);
+                    }
+                    spillToRetryQueue(retryable);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    private Mono<Void> deadLetterAsync(List<ClientNotificationRetryEntry> entries, String error) {
+        return Mono.fromRunnable(() -> deadLetter(entries, error))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    private void spillToRetryQueue(List<ClientNotificationRetryEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForList().rightPushAll(RETRY_QUEUE_KEY, serialize(entries));
+        } catch (Exception e) {
+            log.error("클라이언트 알림 재시도 큐 보관 실패, {}건 유실: {}", entries.size(), e.getMessage());
+        }
+    }
+
+    private void deadLetter(List<ClientNotificationRetryEntry> entries, String error) {
+        long now = System.currentTimeMillis();
+        entries.forEach(entry -> {
+            entry.setLastError(error);
+            entry.setDeadLetteredAt(now);
+        });
+        try {
+            redisTemplate.opsForList().leftPushAll(DEAD_LETTER_KEY, serialize(entries));
+            redisTemplate.opsForList().trim(DEAD_LETTER_KEY, 0, deadLetterMaxSize - 1);
+        } catch (Exception e) {
+            log.error("클라이언트 알림 데드레터 보관 실패, {}건 유실: {}", entries.size(), e.getMessage());
+        }
+    }
+
+    private List<String> serialize(List<ClientNotificationRetryEntry> entries) throws Exception {
+        List<String> payloads = new ArrayList<>(entries.size());
+        for (ClientNotificationRetryEntry entry : entries) {
+            payloads.add(objectMapper.writeValueAsString(entry));
+        }
+        return payloads;
+    }
+}
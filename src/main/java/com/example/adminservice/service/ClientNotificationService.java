@@ -1,15 +1,10 @@
 package com.example.adminservice.service;
 
 import com.example.adminservice.dto.notification.CampaignStatusNotificationRequest;
+import com.example.adminservice.dto.notification.ClientApiHealthStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
-
-import java.time.Duration;
 
 /**
  * 클라이언트 프로젝트의 알림 API를 호출하는 서비스
@@ -19,11 +14,8 @@ import java.time.Duration;
 @RequiredArgsConstructor
 public class ClientNotificationService {
 
-    @Qualifier("clientApiWebClient")
-    private final WebClient clientApiWebClient;
-
-    @Value("${client.api.notification.timeout:10}")
-    private int notificationTimeoutSeconds;
+    private final ClientNotificationDispatcher clientNotificationDispatcher;
+    private final ClientApiHealthProbe clientApiHealthProbe;
 
     /**
      * 캠페인 승인 알림을 클라이언트 프로젝트로 전송
@@ -83,53 +75,27 @@ public class ClientNotificationService {
 
     /**
      * 비동기로 클라이언트 프로젝트에 알림 전송
+     * 실제 전송은 ClientNotificationDispatcher가 배치로 묶어 처리합니다.
      */
     private void sendNotificationAsync(CampaignStatusNotificationRequest request, String actionType) {
-        clientApiWebClient
-                .post()
-                .uri("/api/notifications/campaign-status")
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(String.class)
-                .timeout(Duration.ofSeconds(notificationTimeoutSeconds))
-                .retry(2) // 2번 재시도
-                .doOnSuccess(response -> {
-                    log.info("캠페인 {} 알림 전송 성공: userId={}, campaignId={}, response={}",
-                            actionType, request.getUserId(), request.getCampaignId(), response);
-                })
-                .doOnError(error -> {
-                    log.error("캠페인 {} 알림 전송 실패: userId={}, campaignId={}, error={}",
-                            actionType, request.getUserId(), request.getCampaignId(), error.getMessage());
-                })
-                .onErrorResume(error -> {
-                    // 알림 전송 실패가 메인 로직에 영향을 주지 않도록 에러를 무시
-                    log.warn("캠페인 {} 알림 전송 최종 실패했지만 계속 진행: userId={}, campaignId={}, 사유: {}",
-                            actionType, request.getUserId(), request.getCampaignId(), error.getMessage());
-                    return Mono.empty();
-                })
-                .subscribe(); // 비동기 실행
+        log.debug("캠페인 {} 알림 전송 대기열 등록: userId={}, campaignId={}",
+                actionType, request.getUserId(), request.getCampaignId());
+        clientNotificationDispatcher.enqueue(request);
     }
 
     /**
      * 클라이언트 API 서버 연결 상태 확인
+     * 백그라운드 프로브의 마지막 확인 결과를 반환하므로 호출 스레드를 막지 않습니다.
      */
     public boolean isClientApiServerAvailable() {
-        try {
-            String response = clientApiWebClient
-                    .get()
-                    .uri("/actuator/health")  // Spring Boot Actuator health 엔드포인트
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(5))
-                    .block();
-
-            log.info("클라이언트 API 서버 상태 확인 성공: {}", response);
-            return true;
-
-        } catch (Exception e) {
-            log.warn("클라이언트 API 서버 연결 실패: {}", e.getMessage());
-            return false;
-        }
+        return clientApiHealthProbe.isAvailable();
+    }
+
+    /**
+     * 클라이언트 API 서버 상태 상세 (응답 시간, 마지막 성공 시각 등)
+     */
+    public ClientApiHealthStatus getClientApiHealthStatus() {
+        return clientApiHealthProbe.getStatus();
     }
 
     /**
@@ -0,0 +1,686 @@
+package com.example.adminservice.service;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.simpleemail.model.AccountSendingPausedException;
+import com.amazonaws.services.simpleemail.model.BulkEmailDestinationStatus;
+import com.amazonaws.services.simpleemail.model.ConfigurationSetDoesNotExistException;
+import com.amazonaws.services.simpleemail.model.MailFromDomainNotVerifiedException;
+import com.amazonaws.services.simpleemail.model.MessageRejectedException;
+import com.example.adminservice.dto.email.BulkEmailRecipient;
+import com.example.adminservice.dto.email.EmailDispatchStatus;
+import com.example.adminservice.dto.email.EmailMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisListCommands;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이메일 비동기 발송 큐
+ *
+ * 요청 스레드는 메시지를 큐에 넣기만 하고, 소수의 워커 스레드가 큐를 비우며 SES로 발송합니다.
+ * 워커는 SesRateGovernor로 SES 초당 발송 한도를 지키며, 대량 템플릿 발송은 최대 50명 단위로 처리합니다.
+ * - MEMORY: 프로세스 내 bounded 큐 (가득 차면 적재 거부)
+ * - REDIS: Redis 리스트 (재시작해도 대기 메시지 유지, 여러 인스턴스가 함께 소비)
+ *   워커는 BLMOVE로 메시지를 처리 중 리스트로 옮겨 꺼내고, 발송 결과를 처리한 뒤에 지웁니다(ack).
+ *   꺼낸 뒤 인스턴스가 죽어 lease 시간이 지나도록 남아 있는 메시지는 주기적으로 발송 큐에 되돌립니다.
+ *
+ * 일시적 오류는 지수 백오프로 재시도하고, 영구 오류나 재시도 초과 메시지는
+ * Redis 데드레터 리스트에 보관해 조회/재발송할 수 있도록 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailDispatchService {
+
+    private static final String QUEUE_KEY = "email:dispatch:queue";
+    private static final String RETRY_KEY = "email:dispatch:retry";
+    private static final String DEAD_LETTER_KEY = "email:dispatch:dead-letter";
+    private static final String PROCESSING_KEY = "email:dispatch:processing";
+    private static final String PROCESSING_CLAIMS_KEY = "email:dispatch:processing:claims";
+
+    /**
+     * 처리 완료 메시지 제거 (처리 중 리스트와 점유 시각을 함께 삭제)
+     * KEYS[1]: 처리 중 리스트, KEYS[2]: 점유 시각 ZSET, ARGV[1]: 메시지
+     */
+    private static final RedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            return redis.call('LREM', KEYS[1], 1, ARGV[1])
+            """, Long.class);
+
+    /**
+     * 점유 시각이 lease를 넘긴 처리 중 메시지를 발송 큐로 되돌림
+     * 점유 시각이 없는 메시지(BLMOVE 직후 기록 전이거나 기록 전에 죽은 경우)는 지금 시각으로 기록해 다음 주기에 판단합니다.
+     * KEYS[1]: 처리 중 리스트, KEYS[2]: 점유 시각 ZSET, KEYS[3]: 발송 큐, ARGV[1]: 현재 시각, ARGV[2]: lease(ms)
+     */
+    private static final RedisScript<Long> RECLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local lease = tonumber(ARGV[2])
+            local reclaimed = 0
+            for _, payload in ipairs(redis.call('LRANGE', KEYS[1], 0, -1)) do
+                local claimedAt = redis.call('ZSCORE', KEYS[2], payload)
+                if not claimedAt then
+                    redis.call('ZADD', KEYS[2], now, payload)
+                elseif tonumber(claimedAt) + lease < now then
+                    redis.call('LREM', KEYS[1], 1, payload)
+                    redis.call('ZREM', KEYS[2], payload)
+                    redis.call('RPUSH', KEYS[3], payload)
+                    reclaimed = reclaimed + 1
+                end
+            end
+            return reclaimed
+            """, Long.class);
+
+    /**
+     * 대량 발송 결과 중 재시도할 수신자 상태
+     */
+    private static final Set<String> RETRYABLE_BULK_STATUSES = Set.of("AccountThrottled", "TransientFailure", "Failed");
+
+    private final SesEmailSender sesEmailSender;
+    private final SesRateGovernor sesRateGovernor;
+    private final MeterRegistry meterRegistry;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${email.dispatch.storage:MEMORY}")
+    private String storage;
+
+    @Value("${email.dispatch.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${email.dispatch.workers:2}")
+    private int workerCount;
+
+    @Value("${email.dispatch.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${email.dispatch.retry.min-backoff-ms:1000}")
+    private long minBackoffMs;
+
+    @Value("${email.dispatch.retry.max-backoff-ms:60000}")
+    private long maxBackoffMs;
+
+    @Value("${email.dispatch.dead-letter.max-size:1000}")
+    private int deadLetterMaxSize;
+
+    @Value("${email.dispatch.shutdown-timeout-seconds:10}")
+    private int shutdownTimeoutSeconds;
+
+    @Value("${email.dispatch.processing.lease-seconds:300}")
+    private long processingLeaseSeconds;
+
+    private BlockingQueue<EmailMessage> memoryQueue;
+    private final Map<String, EmailMessage> pendingRetries = new ConcurrentHashMap<>();
+    private ExecutorService workers;
+    private ScheduledExecutorService retryScheduler;
+    private volatile boolean running;
+
+    private final AtomicLong totalSent = new AtomicLong();
+    private final AtomicLong totalRetried = new AtomicLong();
+    private final AtomicLong totalDeadLettered = new AtomicLong();
+    private final AtomicLong totalRejected = new AtomicLong();
+    private final AtomicLong totalReclaimed = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        memoryQueue = new ArrayBlockingQueue<>(queueCapacity);
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(namedThreadFactory("email-retry"));
+        workers = Executors.newFixedThreadPool(workerCount, namedThreadFactory("email-dispatch"));
+        running = true;
+        Gauge.builder("email.dispatch.queue.depth", this, EmailDispatchService::getQueueSize)
+                .description("이메일 발송 대기 건수")
+                .register(meterRegistry);
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::workerLoop);
+        }
+        log.info("이메일 발송 큐 시작: storage={}, workers={}, queueCapacity={}", storage, workerCount, queueCapacity);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        retryScheduler.shutdownNow();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(shutdownTimeoutSeconds, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        if (!isRedisStorage()) {
+            // 프로세스 내 큐에 남은 메시지는 사라지지 않도록 데드레터로 옮겨 재발송 가능하게 함
+            List<EmailMessage> remaining = new ArrayList<>(pendingRetries.values());
+            memoryQueue.drainTo(remaining);
+            pendingRetries.clear();
+            for (EmailMessage message : remaining) {
+                deadLetter(message, "애플리케이션 종료 시 미발송");
+            }
+            if (!remaining.isEmpty()) {
+                log.warn("이메일 발송 큐 종료: 미발송 {}건 데드레터로 이동", remaining.size());
+            }
+        }
+    }
+
+    /**
+     * 이메일을 발송 큐에 적재 (요청 스레드에서 즉시 반환)
+     *
+     * @return 적재 성공 여부
+     */
+    public boolean enqueue(String toEmail, String subject, String body, boolean html) {
+        EmailMessage message = EmailMessage.builder()
+                .id(UUID.randomUUID().toString())
+                .toEmail(toEmail)
+                .subject(subject)
+                .body(body)
+                .html(html)
+                .attempts(0)
+                .enqueuedAt(System.currentTimeMillis())
+                .build();
+
+        boolean accepted = offer(message);
+        if (!accepted) {
+            totalRejected.incrementAndGet();
+            log.warn("이메일 발송 큐 적재 실패: id={}, to={}, subject={}", message.getId(), toEmail, subject);
+        }
+        return accepted;
+    }
+
+    /**
+     * 대량 템플릿 발송 1회분(최대 50명)을 발송 큐에 적재
+     *
+     * @return 적재 성공 여부
+     */
+    public boolean enqueueBulk(String templateName, List<BulkEmailRecipient> recipients) {
+        EmailMessage message = EmailMessage.builder()
+                .id(UUID.randomUUID().toString())
+                .templateName(templateName)
+                .recipients(new ArrayList<>(recipients))
+                .attempts(0)
+                .enqueuedAt(System.currentTimeMillis())
+                .build();
+
+        boolean accepted = offer(message);
+        if (!accepted) {
+            totalRejected.incrementAndGet();
+            log.warn("대량 이메일 발송 큐 적재 실패: id={}, template={}, recipients={}",
+                    message.getId(), templateName, recipients.size());
+        }
+        return accepted;
+    }
+
+    /**
+     * 발송 큐 상태
+     */
+    public EmailDispatchStatus getStatus() {
+        return EmailDispatchStatus.builder()
+                .storage(isRedisStorage() ? "REDIS" : "MEMORY")
+                .workers(workerCount)
+                .queued(getQueueSize())
+                .processing(getProcessingSize())
+                .retryScheduled(getRetryScheduledCount())
+                .deadLetters(getDeadLetterSize())
+                .totalSent(totalSent.get())
+                .totalRetried(totalRetried.get())
+                .totalDeadLettered(totalDeadLettered.get())
+                .totalRejected(totalRejected.get())
+                .totalReclaimed(totalReclaimed.get())
+                .sesRateLimit(sesRateGovernor.getCurrentRate())
+                .sesTargetRate(sesRateGovernor.getTargetRate())
+                .sesInstances(sesRateGovernor.getLiveInstances())
+                .sesObservedRate(sesRateGovernor.getObservedRate())
+                .build();
+    }
+
+    /**
+     * 최근 데드레터 조회 (최신순)
+     */
+    public List<EmailMessage> getDeadLetters(int limit) {
+        List<String> payloads = redisTemplate.opsForList().range(DEAD_LETTER_KEY, 0, limit - 1);
+        List<EmailMessage> messages = new ArrayList<>();
+        if (payloads == null) {
+            return messages;
+        }
+        for (String payload : payloads) {
+            EmailMessage message = deserialize(payload);
+            if (message != null) {
+                messages.add(message);
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * 데드레터를 오래된 순으로 꺼내 다시 발송 큐에 적재
+     *
+     * @return 재적재한 건수
+     */
+    public int redriveDeadLetters(int limit) {
+        int redriven = 0;
+        for (int i = 0; i < limit; i++) {
+            String payload = redisTemplate.opsForList().rightPop(DEAD_LETTER_KEY);
+            if (payload == null) {
+                break;
+            }
+            EmailMessage message = deserialize(payload);
+            if (message == null) {
+                continue;
+            }
+
+            message.setAttempts(0);
+            message.setLastError(null);
+            message.setDeadLetteredAt(null);
+            if (!offer(message)) {
+                // 큐가 가득 찼으면 되돌려 놓고 중단
+                redisTemplate.opsForList().rightPush(DEAD_LETTER_KEY, payload);
+                break;
+            }
+            redriven++;
+        }
+        log.info("이메일 데드레터 재발송 적재: {}건", redriven);
+        return redriven;
+    }
+
+    /**
+     * Redis 저장소 사용 시 재시도 시각이 된 메시지를 발송 큐로 이동
+     */
+    @Scheduled(fixedDelayString = "${email.dispatch.retry.poll-interval-ms:1000}")
+    public void promoteDueRetries() {
+        if (!isRedisStorage() || !running) {
+            return;
+        }
+
+        try {
+            Set<String> due = redisTemplate.opsForZSet()
+                    .rangeByScore(RETRY_KEY, 0, System.currentTimeMillis(), 0, 100);
+            if (due == null) {
+                return;
+            }
+            for (String payload : due) {
+                // 여러 인스턴스가 동시에 옮기지 않도록 제거에 성공한 쪽만 적재
+                Long removed = redisTemplate.opsForZSet().remove(RETRY_KEY, payload);
+                if (removed != null && removed > 0) {
+                    redisTemplate.opsForList().rightPush(QUEUE_KEY, payload);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("이메일 재시도 메시지 이동 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 저장소 사용 시 lease 시간이 지나도록 처리 중 리스트에 남은 메시지를 발송 큐로 되돌림
+     * (메시지를 꺼낸 인스턴스가 발송 전에 종료된 경우)
+     */
+    @Scheduled(fixedDelayString = "${email.dispatch.processing.reclaim-interval-ms:30000}")
+    public void reclaimStaleProcessing() {
+        if (!isRedisStorage() || !running) {
+            return;
+        }
+
+        try {
+            Long reclaimed = redisTemplate.execute(RECLAIM_SCRIPT,
+                    List.of(PROCESSING_KEY, PROCESSING_CLAIMS_KEY, QUEUE_KEY),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(Duration.ofSeconds(processingLeaseSeconds).toMillis()));
+            if (reclaimed != null && reclaimed > 0) {
+                totalReclaimed.addAndGet(reclaimed);
+                log.warn("처리 중 멈춘 이메일 {}건 발송 큐로 복구", reclaimed);
+            }
+        } catch (Exception e) {
+            log.warn("처리 중 이메일 복구 실패: {}", e.getMessage());
+        }
+    }
+
+    private void workerLoop() {
+        while (running) {
+            if (isRedisStorage()) {
+                processRedisMessage();
+                continue;
+            }
+
+            EmailMessage message;
+            try {
+                message = memoryQueue.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (message != null) {
+                deliver(message);
+            }
+        }
+    }
+
+    /**
+     * 발송 큐에서 처리 중 리스트로 옮겨 꺼낸 메시지를 발송하고, 결과 처리(재시도 예약/데드레터 포함)가 끝나면 ack
+     */
+    private void processRedisMessage() {
+        String payload;
+        try {
+            payload = redisTemplate.opsForList().move(QUEUE_KEY, RedisListCommands.Direction.LEFT,
+                    PROCESSING_KEY, RedisListCommands.Direction.RIGHT, Duration.ofSeconds(1));
+            if (payload == null) {
+                return;
+            }
+            redisTemplate.opsForZSet().add(PROCESSING_CLAIMS_KEY, payload, System.currentTimeMillis());
+        } catch (Exception e) {
+            log.warn("이메일 발송 큐 조회 실패: {}", e.getMessage());
+            sleepQuietly(1000);
+            return;
+        }
+
+        try {
+            EmailMessage message = deserialize(payload);
+            if (message != null) {
+                deliver(message);
+            }
+        } finally {
+            acknowledge(payload);
+        }
+    }
+
+    private void acknowledge(String payload) {
+        try {
+            redisTemplate.execute(ACK_SCRIPT, List.of(PROCESSING_KEY, PROCESSING_CLAIMS_KEY), payload);
+        } catch (Exception e) {
+            // ack에 실패하면 lease 이후 다시 발송될 수 있음 (중복 발송 가능)
+            log.error("이메일 처리 완료 기록 실패: error={}", e.getMessage());
+        }
+    }
+
+    private void deliver(EmailMessage message) {
+        try {
+            sesRateGovernor.acquire(message.getRecipientCount());
+        } catch (InterruptedException e) {
+            // 종료 중이면 시도 횟수를 늘리지 않고 큐로 되돌림
+            Thread.currentThread().interrupt();
+            if (!offer(message)) {
+                deadLetter(message, "애플리케이션 종료 시 미발송");
+            }
+            return;
+        }
+
+        message.setAttempts(message.getAttempts() + 1);
+        try {
+            if (message.isBulk()) {
+                deliverBulk(message);
+            } else {
+                String messageId = sesEmailSender.send(message);
+                sesRateGovernor.onSuccess(1);
+                totalSent.incrementAndGet();
+                log.info("이메일 발송 성공: messageId={}, id={}, to={}, subject={}, attempts={}",
+                        messageId, message.getId(), message.getToEmail(), message.getSubject(), message.getAttempts());
+            }
+        } catch (Exception e) {
+            if (isThrottling(e)) {
+                sesRateGovernor.onThrottled();
+            }
+            handleFailure(message, e.getClass().getSimpleName() + ": " + e.getMessage(), isRetryable(e));
+        }
+    }
+
+    /**
+     * 대량 템플릿 발송 후 수신자별 결과 처리
+     * 일시적 실패 수신자만 모아 재시도하고, 영구 실패 수신자는 데드레터로 보관
+     */
+    private void deliverBulk(EmailMessage message) {
+        List<BulkEmailRecipient> recipients = message.getRecipients();
+        List<String> toEmails = new ArrayList<>(recipients.size());
+        List<String> templateData = new ArrayList<>(recipients.size());
+        for (BulkEmailRecipient recipient : recipients) {
+            toEmails.add(recipient.getToEmail());
+            templateData.add(toTemplateData(recipient));
+        }
+
+        List<BulkEmailDestinationStatus> statuses =
+                sesEmailSender.sendBulkTemplated(message.getTemplateName(), toEmails, templateData);
+
+        int succeeded = 0;
+        boolean throttled = false;
+        List<BulkEmailRecipient> retryable = new ArrayList<>();
+        for (int i = 0; i < recipients.size(); i++) {
+            BulkEmailDestinationStatus status = i < statuses.size() ? statuses.get(i) : null;
+            String code = status != null ? status.getStatus() : "Failed";
+
+            if ("Success".equals(code)) {
+                succeeded++;
+            } else if (RETRYABLE_BULK_STATUSES.contains(code)) {
+                throttled |= "AccountThrottled".equals(code);
+                retryable.add(recipients.get(i));
+            } else {
+                EmailMessage failed = copyForRecipients(message, List.of(recipients.get(i)));
+                deadLetter(failed, code + ": " + (status != null ? status.getError() : "응답 없음"));
+            }
+        }
+
+        sesRateGovernor.onSuccess(succeeded);
+        totalSent.addAndGet(succeeded);
+        if (throttled) {
+            sesRateGovernor.onThrottled();
+        }
+        log.info("대량 이메일 발송 완료: id={}, template={}, 성공={}, 재시도={}, 실패={}",
+                message.getId(), message.getTemplateName(), succeeded, retryable.size(),
+                recipients.size() - succeeded - retryable.size());
+
+        if (!retryable.isEmpty()) {
+            handleFailure(copyForRecipients(message, retryable), "일부 수신자 일시적 발송 실패", true);
+        }
+    }
+
+    private void handleFailure(EmailMessage message, String error, boolean retryable) {
+        message.setLastError(error);
+
+        if (!retryable) {
+            log.error("이메일 발송 영구 실패: id={}, to={}, error={}", message.getId(), describeRecipients(message), error);
+            deadLetter(message, error);
+        } else if (message.getAttempts() >= maxAttempts) {
+            log.error("이메일 발송 재시도 초과: id={}, to={}, attempts={}, error={}",
+                    message.getId(), describeRecipients(message), message.getAttempts(), error);
+            deadLetter(message, error);
+        } else {
+            long delayMs = backoffMillis(message.getAttempts());
+            log.warn("이메일 발송 실패, {}ms 후 재시도: id={}, to={}, attempts={}, error={}",
+                    delayMs, message.getId(), describeRecipients(message), message.getAttempts(), error);
+            scheduleRetry(message, delayMs);
+        }
+    }
+
+    private EmailMessage copyForRecipients(EmailMessage message, List<BulkEmailRecipient> recipients) {
+        return EmailMessage.builder()
+                .id(message.getId())
+                .templateName(message.getTemplateName())
+                .recipients(new ArrayList<>(recipients))
+                .attempts(message.getAttempts())
+                .enqueuedAt(message.getEnqueuedAt())
+                .build();
+    }
+
+    private String toTemplateData(BulkEmailRecipient recipient) {
+        try {
+            return objectMapper.writeValueAsString(recipient.getValues() != null ? recipient.getValues() : Map.of());
+        } catch (Exception e) {
+            throw new IllegalArgumentException("템플릿 변수 직렬화 실패: " + recipient.getToEmail(), e);
+        }
+    }
+
+    private String describeRecipients(EmailMessage message) {
+        return message.isBulk() ? message.getRecipientCount() + "명" : message.getToEmail();
+    }
+
+    private boolean isThrottling(Exception e) {
+        return e instanceof AmazonServiceException serviceException
+                && ("Throttling".equals(serviceException.getErrorCode()) || serviceException.getStatusCode() == 429);
+    }
+
+    /**
+     * 수신자/설정 문제 같은 영구 오류는 재시도하지 않음
+     */
+    private boolean isRetryable(Exception e) {
+        if (e instanceof IllegalArgumentException
+                || e instanceof MessageRejectedException
+                || e instanceof MailFromDomainNotVerifiedException
+                || e instanceof ConfigurationSetDoesNotExistException
+                || e instanceof AccountSendingPausedException) {
+            return false;
+        }
+        if (e instanceof AmazonServiceException serviceException) {
+            return serviceException.getErrorType() == AmazonServiceException.ErrorType.Service
+                    || "Throttling".equals(serviceException.getErrorCode())
+                    || serviceException.getStatusCode() == 429;
+        }
+        // 네트워크 오류 등 SDK 클라이언트 오류
+        return true;
+    }
+
+    private long backoffMillis(int attempts) {
+        long base = minBackoffMs << Math.min(attempts - 1, 20);
+        long capped = Math.min(base, maxBackoffMs);
+        // 동시에 실패한 메시지가 한꺼번에 재시도하지 않도록 50% 지터 적용
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    private void scheduleRetry(EmailMessage message, long delayMs) {
+        totalRetried.incrementAndGet();
+
+        if (isRedisStorage()) {
+            try {
+                redisTemplate.opsForZSet().add(RETRY_KEY, serialize(message), System.currentTimeMillis() + delayMs);
+            } catch (Exception e) {
+                log.error("이메일 재시도 예약 실패: id={}, error={}", message.getId(), e.getMessage());
+                deadLetter(message, "재시도 예약 실패: " + e.getMessage());
+            }
+            return;
+        }
+
+        pendingRetries.put(message.getId(), message);
+        retryScheduler.schedule(() -> {
+            if (pendingRetries.remove(message.getId()) != null && !offer(message)) {
+                deadLetter(message, "재시도 적재 실패 (큐 가득 참)");
+            }
+        }, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void deadLetter(EmailMessage message, String reason) {
+        message.setLastError(reason);
+        message.setDeadLetteredAt(System.currentTimeMillis());
+        totalDeadLettered.incrementAndGet();
+        try {
+            redisTemplate.opsForList().leftPush(DEAD_LETTER_KEY, serialize(message));
+            redisTemplate.opsForList().trim(DEAD_LETTER_KEY, 0, deadLetterMaxSize - 1);
+        } catch (Exception e) {
+            log.error("이메일 데드레터 보관 실패, 유실: id={}, to={}, subject={}, error={}",
+                    message.getId(), describeRecipients(message), message.getSubject(), e.getMessage());
+        }
+    }
+
+    private boolean offer(EmailMessage message) {
+        if (!isRedisStorage()) {
+            return memoryQueue.offer(message);
+        }
+        try {
+            redisTemplate.opsForList().rightPush(QUEUE_KEY, serialize(message));
+            return true;
+        } catch (Exception e) {
+            log.error("이메일 Redis 큐 적재 실패: id={}, error={}", message.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private long getQueueSize() {
+        if (!isRedisStorage()) {
+            return memoryQueue.size();
+        }
+        Long size = redisTemplate.opsForList().size(QUEUE_KEY);
+        return size != null ? size : 0L;
+    }
+
+    private long getProcessingSize() {
+        if (!isRedisStorage()) {
+            return 0L;
+        }
+        Long size = redisTemplate.opsForList().size(PROCESSING_KEY);
+        return size != null ? size : 0L;
+    }
+
+    private long getRetryScheduledCount() {
+        if (!isRedisStorage()) {
+            return pendingRetries.size();
+        }
+        Long size = redisTemplate.opsForZSet().zCard(RETRY_KEY);
+        return size != null ? size : 0L;
+    }
+
+    private long getDeadLetterSize() {
+        Long size = redisTemplate.opsForList().size(DEAD_LETTER_KEY);
+        return size != null ? size : 0L;
+    }
+
+    private boolean isRedisStorage() {
+        return "REDIS".equalsIgnoreCase(storage);
+    }
+
+    private String serialize(EmailMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (Exception e) {
+            throw new IllegalStateException("이메일 메시지 직렬화 실패: " + message.getId(), e);
+        }
+    }
+
+    private EmailMessage deserialize(String payload) {
+        try {
+            return objectMapper.readValue(payload, EmailMessage.class);
+        } catch (Exception e) {
+            log.error("이메일 메시지 해석 실패, 폐기: payload={}, error={}", payload, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
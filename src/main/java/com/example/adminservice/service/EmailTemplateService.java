@@ -0,0 +1,88 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.constant.EmailTemplateType;
+import com.example.adminservice.dto.email.RenderedEmail;
+import com.example.adminservice.util.CompiledTemplate;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 이메일 템플릿 렌더링 서비스
+ *
+ * 시작 시 모든 템플릿을 한 번 컴파일해 두고, 발송할 때는 값만 채워 렌더링합니다.
+ * aws.ses.templates.sync-enabled=true이면 같은 템플릿을 SES 서버 측 템플릿으로도 등록해
+ * 대량 발송(SendBulkTemplatedEmail)에서 사용할 수 있게 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailTemplateService {
+
+    private final SesEmailSender sesEmailSender;
+
+    @Value("${aws.ses.templates.sync-enabled:false}")
+    private boolean syncEnabled;
+
+    @Value("${aws.ses.templates.prefix:chkok-}")
+    private String templatePrefix;
+
+    private final Map<EmailTemplateType, CompiledTemplate> subjects = new EnumMap<>(EmailTemplateType.class);
+    private final Map<EmailTemplateType, CompiledTemplate> bodies = new EnumMap<>(EmailTemplateType.class);
+
+    @PostConstruct
+    public void compileTemplates() {
+        for (EmailTemplateType type : EmailTemplateType.values()) {
+            // 제목은 메일 헤더에 들어가므로 HTML 이스케이프하지 않음
+            subjects.put(type, CompiledTemplate.compile(type.getSubject(), false));
+            bodies.put(type, CompiledTemplate.compile(type.getHtml()));
+        }
+        log.info("이메일 템플릿 컴파일 완료: {}개", bodies.size());
+
+        if (syncEnabled) {
+            syncSesTemplates();
+        }
+    }
+
+    /**
+     * 템플릿 렌더링 (변수 값은 HTML 이스케이프)
+     */
+    public RenderedEmail render(EmailTemplateType type, Map<String, String> values) {
+        return new RenderedEmail(subjects.get(type).render(values), bodies.get(type).render(values));
+    }
+
+    /**
+     * SES 서버 측 템플릿 등록 여부 (대량 발송 가능 여부)
+     */
+    public boolean isSyncEnabled() {
+        return syncEnabled;
+    }
+
+    /**
+     * SES에 등록된 템플릿 이름
+     */
+    public String getSesTemplateName(EmailTemplateType type) {
+        return templatePrefix + type.getTemplateName();
+    }
+
+    /**
+     * 모든 템플릿을 SES 서버 측 템플릿으로 등록/갱신
+     */
+    public void syncSesTemplates() {
+        for (EmailTemplateType type : EmailTemplateType.values()) {
+            try {
+                sesEmailSender.upsertTemplate(getSesTemplateName(type),
+                        subjects.get(type).getSource(),
+                        bodies.get(type).getSource());
+            } catch (Exception e) {
+                // 템플릿 동기화 실패가 애플리케이션 기동을 막지 않도록 함
+                log.error("SES 템플릿 등록 실패: template={}, error={}", getSesTemplateName(type), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.domain.ImageDerivative;
+import com.example.adminservice.util.ImageProcessor;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 해상도별 파생 이미지 생성기
+ *
+ * 원본은 Transfer Manager로 임시 파일에 먼저 내려받아 한 번만 디코딩한 뒤 설정된 폭(기본 480/960/1920)마다
+ * 원본 포맷과 WebP로 인코딩하고, 인코딩된 결과는 Transfer Manager(비동기 S3 클라이언트)로 병렬 업로드합니다.
+ * 동시에 디코딩하는 이미지 수를 제한해 큰 이미지가 몰려도 힙을 다 쓰지 않도록 합니다.
+ * 파생 이미지 키에는 실행마다 새 토큰을 넣어, 같은 원본을 동시에(또는 여러 배너가) 처리해도
+ * 서로의 객체를 덮어쓰거나 지우지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageDerivativeService {
+
+    private static final String WEBP = "webp";
+
+    private final S3Service s3Service;
+    private final ImageProcessor imageProcessor;
+
+    @Value("${image.derivative.widths:480,960,1920}")
+    private int[] widths;
+
+    @Value("${image.derivative.webp.enabled:true}")
+    private boolean webpEnabled;
+
+    @Value("${image.derivative.webp.quality:0.8}")
+    private float webpQuality;
+
+    @Value("${image.derivative.jpeg.quality:0.85}")
+    private float jpegQuality;
+
+    @Value("${image.processing.max-concurrent:2}")
+    private int maxConcurrentDecodes;
+
+    private Semaphore decodePermits;
+
+    @PostConstruct
+    public void start() {
+        widths = Arrays.stream(widths).filter(width -> width > 0).distinct().sorted().toArray();
+        if (widths.length == 0) {
+            throw new IllegalStateException("image.derivative.widths에 1개 이상의 폭을 지정해야 합니다.");
+        }
+
+        decodePermits = new Semaphore(maxConcurrentDecodes);
+
+        boolean webpAvailable = imageProcessor.isWebpSupported();
+        if (webpEnabled && !webpAvailable) {
+            log.warn("WebP 인코더(ImageIO 플러그인)를 찾을 수 없어 WebP 파생 이미지는 생성하지 않습니다");
+        }
+        log.info("파생 이미지 생성기 시작: widths={}, webp={}, maxConcurrentDecodes={}",
+                Arrays.toString(widths), webpEnabled && webpAvailable, maxConcurrentDecodes);
+    }
+
+    /**
+     * 원본 이미지로 해상도/포맷별 파생 이미지를 생성해 업로드
+     *
+     * 원본보다 큰 폭은 만들지 않으며, 원본이 가장 작은 폭보다 작아도 원본 크기 1장은 생성합니다.
+     * 업로드 중 하나라도 실패하면 이번 실행에서 올린 파생 이미지만 지우고 예외를 던집니다.
+     * 키 형식: {원본 키(확장자 제외)}_{실행 토큰}_{폭}w.{포맷}
+     *
+     * @param sourceUrl 원본 이미지 S3 URL
+     * @param crop16x9  16:9 영역으로 크롭할지 여부 (배너)
+     */
+    public DerivativeResult generate(String sourceUrl, boolean crop16x9) throws IOException, InterruptedException {
+        long startedAt = System.currentTimeMillis();
+        String sourceKey = s3Service.getObjectKeyFromUrl(sourceUrl);
+        String baseKey = stripExtension(sourceKey) + "_" + newRunToken();
+        boolean includeWebp = webpEnabled && imageProcessor.isWebpSupported();
+
+        // 다운로드는 디코딩 허가 밖에서 끝내 네트워크 대기가 디코딩 슬롯을 잡지 않도록 함
+        Path sourceFile = s3Service.downloadToTempFile(sourceUrl);
+        List<CompletableFuture<ImageDerivative>> uploads = new ArrayList<>();
+        try {
+            decodePermits.acquire();
+        } catch (InterruptedException e) {
+            deleteTempFile(sourceFile);
+            throw e;
+        }
+        try {
+            BufferedImage image = imageProcessor.decode(sourceFile, crop16x9, widths[widths.length - 1]);
+
+            String originalFormat = resolveOriginalFormat(imageProcessor.getFileExtension(sourceKey), image);
+            for (int width : resolveWidths(image.getWidth())) {
+                BufferedImage resized = imageProcessor.resizeToWidth(image, width);
+                uploads.add(uploadAsync(baseKey, resized, originalFormat));
+                if (includeWebp) {
+                    uploads.add(uploadAsync(baseKey, resized, WEBP));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            discard(uploads);
+            throw e;
+        } finally {
+            decodePermits.release();
+            deleteTempFile(sourceFile);
+        }
+
+        List<ImageDerivative> derivatives = awaitUploads(uploads);
+        String primaryUrl = derivatives.stream()
+                .filter(derivative -> !WEBP.equals(derivative.getFormat()))
+                .reduce((first, second) -> second.getWidth() >= first.getWidth() ? second : first)
+                .map(ImageDerivative::getUrl)
+                .orElseThrow(() -> new IOException("생성된 파생 이미지가 없습니다."));
+
+        log.info("파생 이미지 생성 완료: source={}, {}장, {}ms", sourceKey, derivatives.size(), System.currentTimeMillis() - startedAt);
+        return new DerivativeResult(primaryUrl, derivatives);
+    }
+
+    /**
+     * 파생 이미지 일괄 삭제 (실패는 로그만 남김)
+     */
+    public void deleteAll(List<ImageDerivative> derivatives) {
+        for (ImageDerivative derivative : derivatives) {
+            deleteIfNotShared(derivative.getUrl());
+        }
+    }
+
+    /**
+     * 내용 기반 원본에서 나온 파생 이미지는 다른 엔티티와 공유될 수 있어 S3 정리 작업에 맡김
+     */
+    private void deleteIfNotShared(String url) {
+        if (!s3Service.isContentAddressedUrl(url)) {
+            s3Service.deleteImageFromUrl(url);
+        }
+    }
+
+    /**
+     * 인코딩은 호출 스레드(디코딩 허가 범위 안)에서 하고, 업로드만 Transfer Manager로 넘김
+     */
+    private CompletableFuture<ImageDerivative> uploadAsync(String baseKey, BufferedImage image, String format) throws IOException {
+        float quality = WEBP.equals(format) ? webpQuality : isJpeg(format) ? jpegQuality : 0;
+        byte[] bytes = imageProcessor.encode(image, format, quality);
+        String objectKey = baseKey + "_" + image.getWidth() + "w." + format;
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        return s3Service.uploadBytesAsync(objectKey, bytes, format)
+                .thenApply(url -> new ImageDerivative(url, width, height, format));
+    }
+
+    private List<ImageDerivative> awaitUploads(List<CompletableFuture<ImageDerivative>> uploads) throws IOException {
+        try {
+            CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            discard(uploads);
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new IOException("파생 이미지 업로드 실패: " + cause.getMessage(), cause);
+        }
+
+        List<ImageDerivative> derivatives = new ArrayList<>(uploads.size());
+        for (CompletableFuture<ImageDerivative> upload : uploads) {
+            derivatives.add(upload.join());
+        }
+        return derivatives;
+    }
+
+    /**
+     * 실패 시 이미 업로드된 파생 이미지 정리 (진행 중인 업로드는 끝날 때까지 대기)
+     */
+    private void discard(List<CompletableFuture<ImageDerivative>> uploads) {
+        for (CompletableFuture<ImageDerivative> upload : uploads) {
+            try {
+                deleteIfNotShared(upload.join().getUrl());
+            } catch (CompletionException ignored) {
+                // 실패한 업로드는 지울 대상이 없음
+            }
+        }
+    }
+
+    /**
+     * 원본 폭보다 작은 설정 폭 + 원본 폭(최대 폭으로 제한) 1개
+     */
+    private List<Integer> resolveWidths(int imageWidth) {
+        List<Integer> result = new ArrayList<>();
+        for (int width : widths) {
+            if (width < imageWidth) {
+                result.add(width);
+            }
+        }
+        int largest = Math.min(imageWidth, widths[widths.length - 1]);
+        if (result.isEmpty() || result.get(result.size() - 1) < largest) {
+            result.add(largest);
+        }
+        return result;
+    }
+
+    /**
+     * jpg/png는 그대로, 그 외(gif, webp 등)는 투명도 여부에 따라 png 또는 jpg로 저장
+     */
+    private String resolveOriginalFormat(String extension, BufferedImage image) {
+        return switch (extension) {
+            case "jpg", "jpeg", "png" -> extension;
+            default -> image.getColorModel().hasAlpha() ? "png" : "jpg";
+        };
+    }
+
+    private void deleteTempFile(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {} - {}", path, e.getMessage());
+        }
+    }
+
+    private String newRunToken() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    }
+
+    private boolean isJpeg(String format) {
+        return "jpg".equals(format) || "jpeg".equals(format);
+    }
+
+    private String stripExtension(String objectKey) {
+        int slash = objectKey.lastIndexOf('/');
+        int dot = objectKey.lastIndexOf('.');
+        return dot > slash ? objectKey.substring(0, dot) : objectKey;
+    }
+
+    /**
+     * 파생 이미지 생성 결과
+     *
+     * @param primaryUrl  대표 URL (원본 포맷 중 가장 큰 폭)
+     * @param derivatives 생성된 파생 이미지 목록
+     */
+    public record DerivativeResult(String primaryUrl, List<ImageDerivative> derivatives) {
+    }
+}
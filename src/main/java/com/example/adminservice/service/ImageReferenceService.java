@@ -0,0 +1,287 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.domain.BannerImage;
+import com.example.adminservice.domain.ImageDerivative;
+import com.example.adminservice.domain.ImageReference;
+import com.example.adminservice.domain.KokPost;
+import com.example.adminservice.repository.BannerImageRepository;
+import com.example.adminservice.repository.ImageReferenceRepository;
+import com.example.adminservice.repository.KokPostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * S3 객체 참조 인덱스(image_references) 관리 서비스
+ *
+ * 배너/콕포스트가 저장될 때 사용하는 이미지 키를 함께 기록해, S3 정리 작업이 모든 글 본문을
+ * 다시 읽지 않고 키 인덱스 조회만으로 사용 여부를 판단할 수 있게 합니다.
+ * 테이블이 비어 있으면(최초 배포) 기동 시 기존 데이터로 인덱스를 채우며, 채우기 전에는 정리 작업이 실행되지 않습니다.
+ */
+@Slf4j
+@Service
+public class ImageReferenceService {
+
+    private static final int REBUILD_PAGE_SIZE = 100;
+
+    // 파생 이미지 키 패턴: {원본 키}_{실행 토큰}_{폭}w.{확장자} (기준 키는 실행 토큰까지라 같은 실행의 파생 이미지끼리 묶임)
+    private static final Pattern DERIVATIVE_KEY_PATTERN = Pattern.compile("^(.+)_\\d+w\\.[A-Za-z0-9]+$");
+
+    // 본문 속 URL 패턴: 마크다운 이미지/링크, <img>/<video>/<source>의 src·srcset, <a href>, 맨 URL을 모두 포함
+    // (공백·따옴표·괄호·꺾쇠에서 끝나며, 이 버킷의 URL만 참조로 기록)
+    private static final Pattern CONTENT_URL_PATTERN = Pattern.compile("https?://[^\\s\"'<>()\\[\\]]+");
+
+    // 문장 끝의 맨 URL 뒤에 붙은 문장 부호
+    private static final Pattern TRAILING_PUNCTUATION_PATTERN = Pattern.compile("[.,;:!?]+$");
+
+    private final ImageReferenceRepository imageReferenceRepository;
+    private final BannerImageRepository bannerImageRepository;
+    private final KokPostRepository kokPostRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${aws.s3.region}")
+    private String region;
+
+    private volatile boolean indexReady = false;
+
+    public ImageReferenceService(ImageReferenceRepository imageReferenceRepository,
+                                 BannerImageRepository bannerImageRepository,
+                                 KokPostRepository kokPostRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.imageReferenceRepository = imageReferenceRepository;
+        this.bannerImageRepository = bannerImageRepository;
+        this.kokPostRepository = kokPostRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 배너가 사용하는 이미지(원본/대표 URL + 파생 이미지) 참조 갱신
+     */
+    @Transactional
+    public void syncBanner(BannerImage banner) {
+        List<String> urls = new ArrayList<>();
+        urls.add(banner.getBannerUrl());
+        for (ImageDerivative derivative : banner.getDerivatives()) {
+            urls.add(derivative.getUrl());
+        }
+        replaceReferences(ImageReference.OwnerType.BANNER, banner.getId(), urls);
+    }
+
+    /**
+     * 콕포스트 본문에 포함된 S3 객체(이미지, 동영상, 링크한 파일) 참조 갱신
+     */
+    @Transactional
+    public void syncKokPost(KokPost kokPost) {
+        Set<String> urls = kokPost.getContent() == null
+                ? Collections.emptySet()
+                : extractUrlsFromContent(kokPost.getContent());
+        replaceReferences(ImageReference.OwnerType.KOKPOST, kokPost.getId(), urls);
+    }
+
+    /**
+     * 엔티티 삭제 시 참조 제거
+     */
+    @Transactional
+    public void removeReferences(ImageReference.OwnerType ownerType, Long ownerId) {
+        int removed = imageReferenceRepository.deleteByOwner(ownerType, ownerId);
+        log.debug("이미지 참조 제거: {}#{} {}건", ownerType, ownerId, removed);
+    }
+
+    /**
+     * 엔티티의 참조 목록을 주어진 URL 기준으로 교체 (추가/삭제분만 반영)
+     */
+    @Transactional
+    public void replaceReferences(ImageReference.OwnerType ownerType, Long ownerId, Collection<String> urls) {
+        Set<String> newKeys = urls.stream()
+                .map(this::extractObjectKeyFromUrl)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        List<ImageReference> existing = imageReferenceRepository.findByOwnerTypeAndOwnerId(ownerType, ownerId);
+        Set<String> existingKeys = new HashSet<>();
+        List<ImageReference> removed = new ArrayList<>();
+        for (ImageReference reference : existing) {
+            if (newKeys.contains(reference.getObjectKey())) {
+                existingKeys.add(reference.getObjectKey());
+            } else {
+                removed.add(reference);
+            }
+        }
+
+        List<ImageReference> added = newKeys.stream()
+                .filter(key -> !existingKeys.contains(key))
+                .map(key -> ImageReference.builder()
+                        .objectKey(key)
+                        .baseKey(baseKeyOf(key))
+                        .ownerType(ownerType)
+                        .ownerId(ownerId)
+                        .build())
+                .collect(Collectors.toList());
+
+        if (!removed.isEmpty()) {
+            imageReferenceRepository.deleteAllInBatch(removed);
+        }
+        if (!added.isEmpty()) {
+            imageReferenceRepository.saveAll(added);
+        }
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            log.debug("이미지 참조 갱신: {}#{} 추가 {}건, 제거 {}건", ownerType, ownerId, added.size(), removed.size());
+        }
+    }
+
+    /**
+     * 주어진 객체 키 중 참조되고 있는 키 (키 자체 또는 같은 원본에서 나온 이미지가 참조되면 사용 중)
+     */
+    @Transactional(readOnly = true)
+    public Set<String> findReferencedKeys(Collection<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Map<String, String> baseKeys = new HashMap<>();
+        for (String key : objectKeys) {
+            baseKeys.put(key, baseKeyOf(key));
+        }
+
+        Set<String> referencedKeys = new HashSet<>(imageReferenceRepository.findReferencedObjectKeys(objectKeys));
+        Set<String> referencedBaseKeys = new HashSet<>(imageReferenceRepository.findReferencedBaseKeys(new HashSet<>(baseKeys.values())));
+
+        return objectKeys.stream()
+                .filter(key -> referencedKeys.contains(key) || referencedBaseKeys.contains(baseKeys.get(key)))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 인덱스가 채워져 S3 정리에 사용할 수 있는지 여부
+     */
+    public boolean isIndexReady() {
+        return indexReady;
+    }
+
+    /**
+     * 기동 시 인덱스가 비어 있으면 기존 데이터로 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeIndex() {
+        try {
+            if (imageReferenceRepository.count() > 0) {
+                indexReady = true;
+                return;
+            }
+            rebuildIndex();
+        } catch (Exception e) {
+            log.error("이미지 참조 인덱스 초기화 실패 (S3 정리 작업 중지): {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 백그라운드에서 인덱스 재구성 (재구성 중에는 S3 정리가 실행되지 않음)
+     */
+    @Async
+    public void rebuildIndexAsync() {
+        try {
+            rebuildIndex();
+        } catch (Exception e) {
+            log.error("이미지 참조 인덱스 재구성 실패 (S3 정리 작업 중지): {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 모든 배너/콕포스트를 다시 읽어 인덱스 재구성
+     *
+     * @return 처리한 엔티티 수
+     */
+    public synchronized int rebuildIndex() {
+        indexReady = false;
+        long startedAt = System.currentTimeMillis();
+        log.info("이미지 참조 인덱스 재구성 시작");
+
+        Integer bannerCount = transactionTemplate.execute(status -> {
+            List<BannerImage> banners = bannerImageRepository.findAll();
+            banners.forEach(this::syncBanner);
+            return banners.size();
+        });
+
+        int kokPostCount = 0;
+        int page = 0;
+        boolean hasNext = true;
+        while (hasNext) {
+            int pageNumber = page++;
+            Page<KokPost> kokPosts = transactionTemplate.execute(status -> {
+                Page<KokPost> result = kokPostRepository.findAll(
+                        PageRequest.of(pageNumber, REBUILD_PAGE_SIZE, Sort.by(Sort.Direction.ASC, "id")));
+                result.forEach(this::syncKokPost);
+                return result;
+            });
+            kokPostCount += kokPosts.getNumberOfElements();
+            hasNext = kokPosts.hasNext();
+        }
+
+        indexReady = true;
+        log.info("이미지 참조 인덱스 재구성 완료: 배너 {}개, 콕포스트 {}개, {}ms",
+                bannerCount, kokPostCount, System.currentTimeMillis() - startedAt);
+        return (bannerCount != null ? bannerCount : 0) + kokPostCount;
+    }
+
+    /**
+     * 파생 이미지 접미사(_{폭}w)와 확장자를 뗀 기준 키
+     */
+    public static String baseKeyOf(String key) {
+        Matcher matcher = DERIVATIVE_KEY_PATTERN.matcher(key);
+        if (matcher.matches()) {
+            return matcher.group(1);
+        }
+        int slash = key.lastIndexOf('/');
+        int dot = key.lastIndexOf('.');
+        return dot > slash ? key.substring(0, dot) : key;
+    }
+
+    /**
+     * URL에서 이 버킷의 S3 객체 키 추출 (다른 호스트의 URL이면 null)
+     */
+    private String extractObjectKeyFromUrl(String url) {
+        if (url == null) {
+            return null;
+        }
+
+        // presigned URL에서 쿼리 파라미터 제거
+        String cleanUrl = url.split("\\?")[0];
+
+        String prefix = String.format("https://%s.s3.%s.amazonaws.com/", bucketName, region);
+        if (cleanUrl.startsWith(prefix) && cleanUrl.length() > prefix.length()) {
+            return cleanUrl.substring(prefix.length());
+        }
+        return null;
+    }
+
+    /**
+     * 마크다운/HTML 컨텐츠에서 URL 추출 (태그 종류와 관계없이 본문에 나온 모든 URL)
+     */
+    private Set<String> extractUrlsFromContent(String content) {
+        Set<String> urls = new HashSet<>();
+
+        Matcher matcher = CONTENT_URL_PATTERN.matcher(content);
+        while (matcher.find()) {
+            urls.add(TRAILING_PUNCTUATION_PATTERN.matcher(matcher.group()).replaceFirst(""));
+        }
+
+        return urls;
+    }
+}
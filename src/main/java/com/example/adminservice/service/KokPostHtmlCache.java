@@ -0,0 +1,138 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.domain.KokPost;
+import com.example.adminservice.util.MarkdownConverter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 콕포스트 렌더링 HTML 캐시
+ *
+ * 글 내용의 SHA-256 해시(KokPost.contentHash)를 키로 변환 결과를 보관하므로 내용이 바뀌면 키도 바뀌어
+ * 따로 무효화할 필요가 없습니다. 조회 시에는 저장된 해시만 사용하므로 글 길이와 관계없이 캐시를 찾습니다.
+ * 인스턴스 내 LRU(항목 수 제한)를 먼저 보고, 없으면 Redis(선택)를, 그래도 없으면 변환 후 양쪽에 저장합니다.
+ */
+@Slf4j
+@Service
+public class KokPostHtmlCache {
+
+    private static final String REDIS_KEY_PREFIX = "kokpost:html:";
+
+    private final MarkdownConverter markdownConverter;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Map<String, String> localCache;
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    @Value("${kokpost.html-cache.redis.enabled:true}")
+    private boolean redisEnabled;
+
+    @Value("${kokpost.html-cache.redis.ttl-hours:72}")
+    private long redisTtlHours;
+
+    public KokPostHtmlCache(MarkdownConverter markdownConverter,
+                            RedisTemplate<String, String> redisTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${kokpost.html-cache.max-entries:500}") int maxEntries) {
+        this.markdownConverter = markdownConverter;
+        this.redisTemplate = redisTemplate;
+        this.localCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.localHits = lookupCounter(meterRegistry, "local");
+        this.redisHits = lookupCounter(meterRegistry, "redis");
+        this.misses = lookupCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * 콕포스트 본문 HTML 조회 (캐시에 없으면 변환해 저장)
+     */
+    public String getHtml(KokPost kokPost) {
+        String contentHash = kokPost.getContentHash() != null
+                ? kokPost.getContentHash()
+                : KokPost.hashOf(kokPost.getContent());
+        if (contentHash == null) {
+            return "";
+        }
+
+        String html = localCache.get(contentHash);
+        if (html != null) {
+            localHits.increment();
+            return html;
+        }
+
+        html = readRedis(contentHash);
+        if (html != null) {
+            redisHits.increment();
+            localCache.put(contentHash, html);
+            return html;
+        }
+
+        misses.increment();
+        return render(contentHash, kokPost.getContent());
+    }
+
+    /**
+     * 작성/수정 시 미리 변환해 캐시에 저장 (이미 있으면 생략)
+     */
+    public void warm(KokPost kokPost) {
+        String contentHash = kokPost.getContentHash();
+        if (contentHash == null || localCache.containsKey(contentHash)) {
+            return;
+        }
+        render(contentHash, kokPost.getContent());
+    }
+
+    private String render(String contentHash, String content) {
+        String html = markdownConverter.toHtml(content);
+        localCache.put(contentHash, html);
+        writeRedis(contentHash, html);
+        return html;
+    }
+
+    /**
+     * Redis 장애 시에는 캐시 없이 변환으로 대체
+     */
+    private String readRedis(String contentHash) {
+        if (!redisEnabled) {
+            return null;
+        }
+        try {
+            return redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + contentHash);
+        } catch (Exception e) {
+            log.warn("콕포스트 HTML 캐시 조회 실패 (변환으로 대체): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String contentHash, String html) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + contentHash, html, Duration.ofHours(redisTtlHours));
+        } catch (Exception e) {
+            log.warn("콕포스트 HTML 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("kokpost.html.cache")
+                .description("콕포스트 HTML 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,17 +1,22 @@
 package com.example.adminservice.service;
 
+import com.example.adminservice.constant.PopularityWindow;
 import com.example.adminservice.constant.SortOption;
 import com.example.adminservice.constant.UserRole;
+import com.example.adminservice.constant.ViewCountTarget;
+import com.example.adminservice.domain.ImageReference;
 import com.example.adminservice.domain.KokPost;
 import com.example.adminservice.domain.KokPostVisitInfo;
 import com.example.adminservice.dto.KokPostCreateRequest;
+import com.example.adminservice.dto.KokPostCursor;
 import com.example.adminservice.dto.KokPostDetailResponse;
+import com.example.adminservice.dto.KokPostFeedResponse;
 import com.example.adminservice.dto.KokPostListResponse;
+import com.example.adminservice.dto.KokPostSummary;
 import com.example.adminservice.dto.KokPostUpdateRequest;
 import com.example.adminservice.dto.PagedResponse;
 import com.example.adminservice.repository.CampaignRepository;
 import com.example.adminservice.repository.KokPostRepository;
-import com.example.adminservice.util.MarkdownConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -21,7 +26,15 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -32,7 +45,18 @@ public class KokPostService {
 
     private final KokPostRepository kokPostRepository;
     private final CampaignRepository campaignRepository; // 참조 확인용 (선택사항)
-    private final MarkdownConverter markdownConverter; // Markdown → HTML 변환
+    private final KokPostHtmlCache kokPostHtmlCache; // 렌더링된 HTML 캐시 (Markdown → HTML)
+    private final ImageReferenceService imageReferenceService; // 본문 이미지 참조 인덱스
+    private final ViewCountBuffer viewCountBuffer; // 조회수 버퍼
+    private final PopularityService popularityService; // 기간별 인기 순위
+
+    private static final int POPULAR_LIMIT = 10;
+
+    // 목록 한 페이지 최대 크기
+    private static final int LIST_MAX_LIMIT = 100;
+
+    // 최신순 첫 페이지 시작 위치 (모든 글보다 나중)
+    private static final LocalDateTime LATEST_START = LocalDateTime.of(9999, 12, 31, 0, 0);
 
     /**
      * 콕포스트 생성 (홍보 글 작성)
@@ -71,6 +95,8 @@ public class KokPostService {
                 .build();
 
         KokPost savedKokPost = kokPostRepository.save(kokPost);
+        imageReferenceService.syncKokPost(savedKokPost);
+        kokPostHtmlCache.warm(savedKokPost);
         
         if (savedKokPost.isActive()) {
             log.info("체험콕 글 생성 완료 (활성화) - ID: {}, 캠페인ID: {}", 
@@ -83,41 +109,6 @@ public class KokPostService {
         return KokPostDetailResponse.from(savedKokPost);
     }
 
-    /**
-     * 콕포스트 전체 목록 조회 (정렬 옵션 포함, 활성 상태 필터링)
-     */
-    public List<KokPostListResponse> getAllKokPosts(SortOption sortOption, Boolean active) {
-        log.info("콕포스트 전체 목록 조회 요청 - 정렬: {}, 활성 필터: {}", 
-                sortOption.getDescription(), active);
-
-        List<KokPost> kokPosts;
-        
-        if (active != null) {
-            // 활성 상태 필터링
-            if (sortOption == SortOption.VIEW_COUNT_DESC || sortOption == SortOption.VIEW_COUNT_ASC) {
-                kokPosts = kokPostRepository.findAllByActive(active, 
-                        PageRequest.of(0, Integer.MAX_VALUE, sortOption.getSort())).getContent();
-            } else {
-                kokPosts = kokPostRepository.findAllByActiveOrderByCreatedAtDesc(active);
-            }
-        } else {
-            // 필터링 없이 전체 조회
-            switch (sortOption) {
-                case VIEW_COUNT_DESC, VIEW_COUNT_ASC -> 
-                    kokPosts = kokPostRepository.findAll(sortOption.getSort());
-                default -> 
-                    kokPosts = kokPostRepository.findAllByOrderByCreatedAtDesc();
-            }
-        }
-        
-        log.info("콕포스트 목록 조회 완료 - 정렬: {}, 활성 필터: {}, 총 {}개", 
-                sortOption.getDescription(), active, kokPosts.size());
-        
-        return kokPosts.stream()
-                .map(KokPostListResponse::from)
-                .collect(Collectors.toList());
-    }
-
     /**
      * 정렬 옵션에 따른 Sort 객체 생성
      */
@@ -130,20 +121,17 @@ public class KokPostService {
 
     /**
      * 콕포스트 전체 목록 조회 (페이지네이션, 정렬 옵션 포함, 활성 상태 필터링)
+     *
+     * 본문(content)을 읽지 않는 프로젝션으로 조회하며, 페이지 크기는 LIST_MAX_LIMIT를 넘지 않습니다.
      */
     public PagedResponse<KokPostListResponse> getAllKokPosts(SortOption sortOption, Pageable pageable, Boolean active) {
         log.info("콕포스트 전체 목록 조회 요청 (페이지네이션) - 정렬: {}, 페이지: {}, 크기: {}, 활성 필터: {}", 
                 sortOption.getDescription(), pageable.getPageNumber(), pageable.getPageSize(), active);
 
         Sort sort = getSortFromOption(sortOption);
-        Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
-        
-        Page<KokPost> kokPostPage;
-        if (active != null) {
-            kokPostPage = kokPostRepository.findAllByActive(active, sortedPageable);
-        } else {
-            kokPostPage = kokPostRepository.findAll(sortedPageable);
-        }
+        Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), clampListLimit(pageable.getPageSize()), sort);
+
+        Page<KokPostSummary> kokPostPage = kokPostRepository.findSummaries(activeFilter(active), sortedPageable);
         
         log.info("콕포스트 목록 조회 완료 (페이지네이션) - 정렬: {}, 활성 필터: {}, 페이지: {}/{}, 총 {}개", 
                 sortOption.getDescription(), active, kokPostPage.getNumber() + 1, 
@@ -154,10 +142,50 @@ public class KokPostService {
     }
 
     /**
-     * 콕포스트 전체 목록 조회 (기본 정렬: 최신순, 활성 상태만)
+     * 콕포스트 목록 커서 조회 (정렬 옵션 포함, 활성 상태 필터링)
+     *
+     * (정렬 키, id) 위치에서 limit + 1개만 읽으므로 글이 아무리 많아도 조회 비용은 limit에 비례합니다.
+     */
+    public KokPostFeedResponse getKokPostFeed(SortOption sortOption, Boolean active, String cursor, int limit) {
+        int size = clampListLimit(limit);
+        KokPostCursor position = KokPostCursor.decode(cursor, sortOption);
+        Pageable fetch = PageRequest.of(0, size + 1);
+        Collection<Boolean> actives = activeFilter(active);
+        log.info("콕포스트 목록 커서 조회 요청 - 정렬: {}, 활성 필터: {}, 크기: {}, 첫 페이지: {}",
+                sortOption.getDescription(), active, size, position == null);
+
+        List<KokPostSummary> summaries = switch (sortOption) {
+            case VIEW_COUNT_DESC -> kokPostRepository.findSummariesViewCountDescAfter(actives,
+                    position != null ? position.sortKey() : Long.MAX_VALUE,
+                    position != null ? position.id() : Long.MAX_VALUE, fetch);
+            case VIEW_COUNT_ASC -> kokPostRepository.findSummariesViewCountAscAfter(actives,
+                    position != null ? position.sortKey() : -1L,
+                    position != null ? position.id() : 0L, fetch);
+            default -> kokPostRepository.findSummariesLatestAfter(actives,
+                    position != null ? position.createdAt() : LATEST_START,
+                    position != null ? position.id() : Long.MAX_VALUE, fetch);
+        };
+
+        boolean hasMore = summaries.size() > size;
+        List<KokPostSummary> page = hasMore ? summaries.subList(0, size) : summaries;
+        String nextCursor = hasMore ? KokPostCursor.of(sortOption, page.get(page.size() - 1)).encode() : null;
+
+        return KokPostFeedResponse.builder()
+                .posts(page.stream().map(KokPostListResponse::from).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * 활성 상태 필터 (null이면 전체)
      */
-    public List<KokPostListResponse> getAllKokPosts() {
-        return getAllKokPosts(SortOption.LATEST, true);  // 기본값: 활성화된 것만
+    private Collection<Boolean> activeFilter(Boolean active) {
+        return active != null ? List.of(active) : List.of(true, false);
+    }
+
+    private int clampListLimit(int limit) {
+        return Math.max(1, Math.min(limit, LIST_MAX_LIMIT));
     }
 
     /**
@@ -173,13 +201,18 @@ public class KokPostService {
                     return new IllegalArgumentException("콕포스트를 찾을 수 없습니다. ID: " + id);
                 });
 
-        // 조회수 증가
-       //kokPostRepository.incrementViewCount(id);
+        // 조회수 증가 (버퍼에 모아 주기적으로 반영)
+        viewCountBuffer.increment(ViewCountTarget.KOKPOST, id);
 
         log.info("콕포스트 조회 완료 - ID: {}, 제목: {}", id, kokPost.getTitle());
 
-        // Markdown → HTML 변환
-        String htmlContent = markdownConverter.toHtml(kokPost.getContent());
+        // 기존 글은 내용 해시를 채워 다음 조회부터 본문을 다시 해싱하지 않도록 함
+        if (kokPost.getContentHash() == null) {
+            kokPostRepository.fillContentHash(id, KokPost.hashOf(kokPost.getContent()));
+        }
+
+        // Markdown → HTML 변환 (내용 해시 기준 캐시)
+        String htmlContent = kokPostHtmlCache.getHtml(kokPost);
         
         return KokPostDetailResponse.fromWithHtml(kokPost, htmlContent);
     }
@@ -222,6 +255,8 @@ public class KokPostService {
         }
 
         KokPost updatedKokPost = kokPostRepository.save(kokPost);
+        imageReferenceService.syncKokPost(updatedKokPost);
+        kokPostHtmlCache.warm(updatedKokPost);
         log.info("콕포스트 수정 완료 - ID: {}", id);
 
         return KokPostDetailResponse.from(updatedKokPost);
@@ -248,6 +283,8 @@ public class KokPostService {
         }
 
         kokPostRepository.deleteById(id);
+        imageReferenceService.removeReferences(ImageReference.OwnerType.KOKPOST, id);
+        popularityService.remove(ViewCountTarget.KOKPOST, id);
         log.info("콕포스트 삭제 완료 - ID: {} ({}이 삭제)", id,
                 userRole == UserRole.ADMIN ? "관리자" : "작성자");
     }
@@ -307,25 +344,66 @@ public class KokPostService {
     }
 
     /**
-     * 인기 콕포스트 조회 (조회수 순, 활성 상태 필터링)
+     * 인기 콕포스트 조회 (전체 기간 조회수 순, 활성 상태 필터링)
      */
     public List<KokPostListResponse> getPopularKokPosts(Boolean active) {
-        log.info("인기 콕포스트 조회 요청 - 활성 필터: {}", active);
+        return getPopularKokPosts(active, PopularityWindow.ALL_TIME);
+    }
 
-        List<KokPost> kokPosts;
-        if (active != null) {
-            kokPosts = kokPostRepository.findTop10ByActiveOrderByViewCountDesc(active);
-        } else {
-            kokPosts = kokPostRepository.findTop10ByOrderByViewCountDesc();
+    /**
+     * 인기 콕포스트 조회 (기간별 인기 순위, 활성 상태 필터링)
+     */
+    public List<KokPostListResponse> getPopularKokPosts(Boolean active, PopularityWindow window) {
+        log.info("인기 콕포스트 조회 요청 - 기간: {}, 활성 필터: {}", window.getDescription(), active);
+
+        List<KokPost> kokPosts = findRankedKokPosts(active, window);
+        if (kokPosts == null) {
+            // 순위가 아직 없거나 Redis를 쓸 수 없으면 DB 누적 조회수 기준
+            kokPosts = active != null
+                    ? kokPostRepository.findTop10ByActiveOrderByViewCountDesc(active)
+                    : kokPostRepository.findTop10ByOrderByViewCountDesc();
         }
 
-        log.info("인기 콕포스트 조회 완료 - 활성 필터: {}, 총 {}개", active, kokPosts.size());
+        log.info("인기 콕포스트 조회 완료 - 기간: {}, 활성 필터: {}, 총 {}개", window.getDescription(), active, kokPosts.size());
 
         return kokPosts.stream()
                 .map(KokPostListResponse::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 인기 순위 순서대로 콕포스트 조회 (순위가 없으면 null)
+     * 활성 상태로 걸러지는 글이 있으면 POPULAR_LIMIT개를 채우거나 순위 끝에 닿을 때까지 다음 구간을 이어서 조회합니다.
+     */
+    private List<KokPost> findRankedKokPosts(Boolean active, PopularityWindow window) {
+        int pageSize = active != null ? POPULAR_LIMIT * 3 : POPULAR_LIMIT;
+        List<KokPost> kokPosts = new ArrayList<>();
+        Set<Long> seenIds = new HashSet<>();
+
+        for (int offset = 0; kokPosts.size() < POPULAR_LIMIT; offset += pageSize) {
+            List<Long> rankedIds = popularityService.getTopIds(ViewCountTarget.KOKPOST, window, offset, pageSize);
+            if (rankedIds.isEmpty()) {
+                return offset == 0 ? null : kokPosts;
+            }
+
+            Map<Long, KokPost> kokPostsById = kokPostRepository.findAllById(rankedIds).stream()
+                    .collect(Collectors.toMap(KokPost::getId, Function.identity()));
+            rankedIds.stream()
+                    // 구간 사이에 점수가 바뀌어 같은 글이 다시 나올 수 있음
+                    .filter(seenIds::add)
+                    .map(kokPostsById::get)
+                    .filter(Objects::nonNull)
+                    .filter(kokPost -> active == null || kokPost.isActive() == active)
+                    .limit(POPULAR_LIMIT - kokPosts.size())
+                    .forEach(kokPosts::add);
+
+            if (rankedIds.size() < pageSize) {
+                break;
+            }
+        }
+        return kokPosts;
+    }
+
     /**
      * 인기 콕포스트 조회 (활성화된 것만, 기본값)
      */
@@ -1,7 +1,9 @@
 package com.example.adminservice.service;
 
+import com.example.adminservice.constant.PopularityWindow;
 import com.example.adminservice.constant.SortOption;
 import com.example.adminservice.constant.UserRole;
+import com.example.adminservice.constant.ViewCountTarget;
 import com.example.adminservice.domain.Notice;
 import com.example.adminservice.dto.*;
 import com.example.adminservice.repository.NoticeRepository;
@@ -14,6 +16,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -23,6 +28,10 @@ import java.util.stream.Collectors;
 public class NoticeService {
 
     private final NoticeRepository noticeRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PopularityService popularityService;
+
+    private static final int POPULAR_LIMIT = 10;
 
     /**
      * 공지사항 생성
@@ -130,8 +139,8 @@ public class NoticeService {
                     return new IllegalArgumentException("공지사항을 찾을 수 없습니다. ID: " + id);
                 });
 
-        // 조회수 증가
-        noticeRepository.incrementViewCount(id);
+        // 조회수 증가 (버퍼에 모아 주기적으로 반영)
+        viewCountBuffer.increment(ViewCountTarget.NOTICE, id);
         
         log.info("공지사항 조회 완료 - ID: {}, 제목: {}", id, notice.getTitle());
 
@@ -188,6 +197,7 @@ public class NoticeService {
         }
 
         noticeRepository.deleteById(id);
+        popularityService.remove(ViewCountTarget.NOTICE, id);
         log.info("공지사항 삭제 완료 - ID: {} ({}이 삭제)", id, 
                 userRole == UserRole.ADMIN ? "관리자" : "작성자");
     }
@@ -218,15 +228,35 @@ public class NoticeService {
     }
 
     /**
-     * 인기 공지사항 조회 (조회수 순)
+     * 인기 공지사항 조회 (전체 기간 조회수 순)
      */
     public List<NoticeListResponse> getPopularNotices() {
-        log.info("인기 공지사항 조회 요청");
+        return getPopularNotices(PopularityWindow.ALL_TIME);
+    }
+
+    /**
+     * 인기 공지사항 조회 (기간별 인기 순위)
+     */
+    public List<NoticeListResponse> getPopularNotices(PopularityWindow window) {
+        log.info("인기 공지사항 조회 요청 - 기간: {}", window.getDescription());
+
+        List<Long> rankedIds = popularityService.getTopIds(ViewCountTarget.NOTICE, window, POPULAR_LIMIT);
+
+        List<Notice> notices;
+        if (rankedIds.isEmpty()) {
+            // 순위가 아직 없거나 Redis를 쓸 수 없으면 DB 누적 조회수 기준
+            notices = noticeRepository.findTop10ByOrderByViewCountDesc();
+        } else {
+            Map<Long, Notice> noticesById = noticeRepository.findAllById(rankedIds).stream()
+                    .collect(Collectors.toMap(Notice::getId, Function.identity()));
+            notices = rankedIds.stream()
+                    .map(noticesById::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+
+        log.info("인기 공지사항 조회 완료 - 기간: {}, 총 {}개", window.getDescription(), notices.size());
 
-        List<Notice> notices = noticeRepository.findTop10ByOrderByViewCountDesc();
-        
-        log.info("인기 공지사항 조회 완료 - 총 {}개", notices.size());
-        
         return notices.stream()
                 .map(NoticeListResponse::from)
                 .collect(Collectors.toList());
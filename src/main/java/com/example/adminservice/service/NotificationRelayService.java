@@ -0,0 +1,238 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.dto.notification.NotificationEnvelope;
+import com.example.adminservice.websocket.WebSocketSessionRegistry;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.socket.TextMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis pub/sub 기반 노드 간 알림 중계 서비스
+ *
+ * 모든 노드는 알림 봉투를 채널별로 모아 하나의 배열 메시지로 발행하고,
+ * 구독한 배치 중 자기 노드에 연결된 세션에 해당하는 것만 전달합니다.
+ * 발행 대기열이 가득 차면 가장 오래된 봉투부터 버려 메모리를 제한합니다.
+ * 트랜잭션 안에서 요청된 봉투는 커밋 후에 대기열에 넣어, 롤백된 알림이 전달되지 않게 합니다.
+ * 발행에 실패한 배치는 대기열에 되돌려 다음 주기에 다시 발행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationRelayService implements MessageListener {
+
+    public static final String USER_CHANNEL = "notification:relay:user";
+    public static final String BROADCAST_CHANNEL = "notification:relay:broadcast";
+
+    private static final TypeReference<List<NotificationEnvelope>> ENVELOPE_LIST_TYPE = new TypeReference<>() {};
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final WebSocketSessionRegistry sessionRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${notification.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${notification.relay.max-pending:10000}")
+    private int maxPending;
+
+    private final Map<String, ConcurrentLinkedQueue<NotificationEnvelope>> pendingByChannel = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> pendingCountByChannel = new ConcurrentHashMap<>();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this,
+                List.of(new ChannelTopic(USER_CHANNEL), new ChannelTopic(BROADCAST_CHANNEL)));
+        log.info("알림 중계 채널 구독: {}, {}", USER_CHANNEL, BROADCAST_CHANNEL);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushAll();
+    }
+
+    /**
+     * 특정 사용자에게 보낼 봉투를 발행 대기열에 추가
+     */
+    public void publishToUser(Long userId, String type, Object payload) {
+        NotificationEnvelope envelope = NotificationEnvelope.builder()
+                .type(type)
+                .userId(userId)
+                .payload(objectMapper.valueToTree(payload))
+                .build();
+        afterCommit(() -> enqueue(USER_CHANNEL, envelope));
+    }
+
+    /**
+     * 전체 사용자에게 보낼 봉투를 발행 대기열에 추가
+     */
+    public void publishToAll(String type, Object payload) {
+        NotificationEnvelope envelope = NotificationEnvelope.builder()
+                .type(type)
+                .payload(objectMapper.valueToTree(payload))
+                .build();
+        afterCommit(() -> enqueue(BROADCAST_CHANNEL, envelope));
+    }
+
+    /**
+     * 대기 중인 봉투를 채널별 배치로 발행
+     */
+    @Scheduled(fixedDelayString = "${notification.relay.flush-interval-ms:50}")
+    public void flushAll() {
+        pendingByChannel.keySet().forEach(this::flush);
+    }
+
+    /**
+     * 버려진 봉투 수 (발행 대기열 초과)
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void enqueue(String channel, NotificationEnvelope envelope) {
+        ConcurrentLinkedQueue<NotificationEnvelope> queue =
+                pendingByChannel.computeIfAbsent(channel, key -> new ConcurrentLinkedQueue<>());
+        AtomicInteger pending = pendingCountByChannel.computeIfAbsent(channel, key -> new AtomicInteger());
+
+        queue.offer(envelope);
+        int size = pending.incrementAndGet();
+
+        // 대기열 초과 시 가장 오래된 봉투부터 버림
+        while (size > maxPending && queue.poll() != null) {
+            size = pending.decrementAndGet();
+            droppedCount.incrementAndGet();
+        }
+
+        if (size >= batchSize) {
+            flush(channel);
+        }
+    }
+
+    private void flush(String channel) {
+        ConcurrentLinkedQueue<NotificationEnvelope> queue = pendingByChannel.get(channel);
+        AtomicInteger pending = pendingCountByChannel.get(channel);
+        if (queue == null || pending == null) {
+            return;
+        }
+
+        while (!queue.isEmpty()) {
+            List<NotificationEnvelope> batch = new ArrayList<>(Math.min(batchSize, pending.get() + 1));
+            NotificationEnvelope envelope;
+            while (batch.size() < batchSize && (envelope = queue.poll()) != null) {
+                batch.add(envelope);
+                pending.decrementAndGet();
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(batch));
+                log.debug("알림 배치 발행: channel={}, size={}", channel, batch.size());
+            } catch (Exception e) {
+                // 실패한 배치는 대기열에 되돌려 다음 주기에 재시도 (순서는 뒤로 밀림, 초과분은 enqueue와 같이 버림)
+                log.error("알림 배치 발행 실패 (다음 주기에 재시도): channel={}, size={}, error={}", channel, batch.size(), e.getMessage());
+                requeue(queue, pending, batch);
+                return;
+            }
+        }
+    }
+
+    private void requeue(ConcurrentLinkedQueue<NotificationEnvelope> queue, AtomicInteger pending,
+                         List<NotificationEnvelope> batch) {
+        batch.forEach(queue::offer);
+        int size = pending.addAndGet(batch.size());
+        while (size > maxPending && queue.poll() != null) {
+            size = pending.decrementAndGet();
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 커밋 후 실행 (다른 동기화의 afterCommit 안에서 호출되어도 실행되도록 afterCompletion 사용)
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        action.run();
+                    }
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Redis에서 수신한 배치를 로컬 세션에만 전달
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+
+        List<NotificationEnvelope> batch;
+        try {
+            batch = objectMapper.readValue(message.getBody(), ENVELOPE_LIST_TYPE);
+        } catch (Exception e) {
+            log.warn("알림 배치 해석 실패: channel={}, error={}", channel, e.getMessage());
+            return;
+        }
+
+        for (NotificationEnvelope envelope : batch) {
+            if (envelope.getUserId() != null && !sessionRegistry.hasLocalSession(envelope.getUserId())) {
+                continue;
+            }
+
+            TextMessage textMessage = toClientMessage(envelope);
+            if (textMessage == null) {
+                continue;
+            }
+
+            if (envelope.getUserId() != null) {
+                sessionRegistry.sendToUser(envelope.getUserId(), textMessage);
+            } else {
+                sessionRegistry.sendToAll(textMessage);
+            }
+        }
+    }
+
+    private TextMessage toClientMessage(NotificationEnvelope envelope) {
+        try {
+            ObjectNode body = objectMapper.createObjectNode();
+            body.put("type", envelope.getType());
+            body.set("data", envelope.getPayload());
+            return new TextMessage(objectMapper.writeValueAsString(body));
+        } catch (Exception e) {
+            log.warn("클라이언트 메시지 변환 실패: type={}, error={}", envelope.getType(), e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.dto.notification.NotificationRetentionStatus;
+import com.example.adminservice.repository.BroadcastNotificationRepository;
+import com.example.adminservice.repository.NotificationPartitionRepository;
+import com.example.adminservice.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 보관 기간 정리 엔진
+ *
+ * - DELETE 모드: 기준일 이전 알림을 ID 구간 청크로 나누어 청크마다 짧은 트랜잭션으로 삭제하고, 청크 사이에 쉬어 갑니다.
+ * - PARTITION 모드: 기준일 이전 달의 월별 파티션을 통째로 삭제하고 경계 달의 잔여분만 청크 삭제합니다.
+ *   테이블이 파티션 테이블이 아니면 DELETE 모드로 동작합니다.
+ * 예약 정리는 데이터를 영구 삭제하므로 notification.retention.enabled=true로 명시해야 실행됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationRetentionService {
+
+    public static final String MODE_DELETE = "DELETE";
+    public static final String MODE_PARTITION = "PARTITION";
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationPartitionRepository notificationPartitionRepository;
+    private final BroadcastNotificationRepository broadcastNotificationRepository;
+    private final BroadcastReadStateService broadcastReadStateService;
+    private final UnreadCountService unreadCountService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${notification.retention.enabled:false}")
+    private boolean enabled;
+
+    @Value("${notification.retention.days-to-keep:90}")
+    private int daysToKeep;
+
+    @Value("${notification.retention.mode:DELETE}")
+    private String mode;
+
+    @Value("${notification.retention.chunk-size:5000}")
+    private long chunkSize;
+
+    @Value("${notification.retention.pause-ms:200}")
+    private long pauseMs;
+
+    @Value("${notification.retention.partition-months-ahead:2}")
+    private int partitionMonthsAhead;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong processedChunks = new AtomicLong();
+    private final AtomicLong deletedRows = new AtomicLong();
+    private final AtomicLong droppedPartitions = new AtomicLong();
+    private final AtomicLong totalDeletedRows = new AtomicLong();
+
+    private volatile LocalDateTime cutoffDate;
+    private volatile Long currentId;
+    private volatile Long targetMaxId;
+    private volatile LocalDateTime lastStartedAt;
+    private volatile LocalDateTime lastFinishedAt;
+    private volatile String lastError;
+
+    /**
+     * 매일 새벽 4시 30분 보관 기간이 지난 알림 정리 (활성화한 경우에만)
+     */
+    @Scheduled(cron = "${notification.retention.cron:0 30 4 * * *}")
+    public void scheduledPurge() {
+        if (!enabled) {
+            return;
+        }
+        purge(daysToKeep);
+    }
+
+    /**
+     * 보관 기간이 지난 알림 정리
+     *
+     * @return 삭제된 알림 수 (파티션 삭제분 제외)
+     */
+    public long purge(int daysToKeep) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("알림 정리 작업이 이미 실행 중입니다.");
+            return 0;
+        }
+
+        try {
+            resetProgress(LocalDateTime.now().minusDays(daysToKeep));
+            log.info("🧹 알림 정리 시작: mode={}, 기준일={}", mode, cutoffDate);
+
+            if (MODE_PARTITION.equalsIgnoreCase(mode)) {
+                dropExpiredPartitions();
+            }
+            deleteInChunks();
+            purgeBroadcasts();
+
+            if (deletedRows.get() > 0 || droppedPartitions.get() > 0) {
+                unreadCountService.invalidateAll();
+            }
+
+            log.info("✅ 알림 정리 완료: 삭제된 알림 수={}, 삭제된 파티션 수={}, 청크 수={}",
+                    deletedRows.get(), droppedPartitions.get(), processedChunks.get());
+            return deletedRows.get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lastError = "중단됨";
+            log.warn("알림 정리 작업이 중단되었습니다: 삭제된 알림 수={}", deletedRows.get());
+            return deletedRows.get();
+
+        } catch (Exception e) {
+            lastError = e.getMessage();
+            log.error("❌ 알림 정리 중 오류 발생: {}", e.getMessage(), e);
+            return deletedRows.get();
+
+        } finally {
+            lastFinishedAt = LocalDateTime.now();
+            running.set(false);
+        }
+    }
+
+    /**
+     * 현재 진행 상태 조회
+     */
+    public NotificationRetentionStatus getStatus() {
+        return NotificationRetentionStatus.builder()
+                .mode(mode)
+                .running(running.get())
+                .cutoffDate(cutoffDate)
+                .currentId(currentId)
+                .targetMaxId(targetMaxId)
+                .processedChunks(processedChunks.get())
+                .deletedRows(deletedRows.get())
+                .droppedPartitions(droppedPartitions.get())
+                .totalDeletedRows(totalDeletedRows.get())
+                .lastStartedAt(lastStartedAt)
+                .lastFinishedAt(lastFinishedAt)
+                .lastError(lastError)
+                .build();
+    }
+
+    /**
+     * 기준일 이전 알림을 ID 구간 청크 단위로 삭제
+     */
+    private void deleteInChunks() throws InterruptedException {
+        Long minId = notificationRepository.findMinIdCreatedBefore(cutoffDate);
+        Long maxId = notificationRepository.findMaxIdCreatedBefore(cutoffDate);
+        if (minId == null || maxId == null) {
+            log.info("삭제할 알림이 없습니다.");
+            return;
+        }
+
+        targetMaxId = maxId;
+        for (long chunkStart = minId; chunkStart <= maxId; chunkStart += chunkSize) {
+            long fromId = chunkStart;
+            long toId = chunkStart + chunkSize;
+            currentId = fromId;
+
+            Integer deleted = transactionTemplate.execute(status ->
+                    notificationRepository.deleteChunkCreatedBefore(fromId, toId, cutoffDate));
+            long count = deleted != null ? deleted : 0;
+
+            deletedRows.addAndGet(count);
+            totalDeletedRows.addAndGet(count);
+            processedChunks.incrementAndGet();
+            log.debug("알림 청크 삭제: id=[{}, {}), 삭제={}", fromId, toId, count);
+
+            if (count > 0 && pauseMs > 0) {
+                Thread.sleep(pauseMs);
+            }
+        }
+    }
+
+    /**
+     * 기준일 이전에 끝나는 월별 파티션 삭제 및 앞으로 쓸 파티션 미리 생성
+     */
+    private void dropExpiredPartitions() {
+        if (!notificationPartitionRepository.isPartitioned()) {
+            log.warn("notifications 테이블이 파티션 테이블이 아니므로 청크 삭제로 진행합니다.");
+            return;
+        }
+
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= partitionMonthsAhead; i++) {
+            notificationPartitionRepository.createPartitionIfAbsent(current.plusMonths(i));
+        }
+
+        YearMonth cutoffMonth = YearMonth.from(cutoffDate);
+        List<YearMonth> expired = notificationPartitionRepository.findPartitionMonths().stream()
+                .filter(month -> month.isBefore(cutoffMonth))
+                .toList();
+
+        for (YearMonth month : expired) {
+            notificationPartitionRepository.dropPartition(month);
+            droppedPartitions.incrementAndGet();
+            log.info("🗑️ 알림 파티션 삭제: {}", month);
+        }
+    }
+
+    /**
+     * 기준일 이전 브로드캐스트 알림과 읽음 비트맵 삭제
+     */
+    private void purgeBroadcasts() {
+        List<Long> expiredBroadcastIds = broadcastNotificationRepository.findIdsCreatedBefore(cutoffDate);
+        if (expiredBroadcastIds.isEmpty()) {
+            return;
+        }
+
+        Integer deleted = transactionTemplate.execute(status ->
+                broadcastNotificationRepository.deleteOldBroadcasts(cutoffDate));
+        broadcastReadStateService.deleteReadState(expiredBroadcastIds);
+        log.info("브로드캐스트 알림 정리: {}건", deleted);
+    }
+
+    private void resetProgress(LocalDateTime cutoff) {
+        cutoffDate = cutoff;
+        currentId = null;
+        targetMaxId = null;
+        processedChunks.set(0);
+        deletedRows.set(0);
+        droppedPartitions.set(0);
+        lastError = null;
+        lastStartedAt = LocalDateTime.now();
+        lastFinishedAt = null;
+    }
+}
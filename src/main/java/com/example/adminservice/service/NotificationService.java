@@ -2,19 +2,35 @@ package com.example.adminservice.service;
 
 import com.example.adminservice.constant.EntityType;
 import com.example.adminservice.constant.NotificationType;
+import com.example.adminservice.domain.BroadcastNotification;
 import com.example.adminservice.domain.Notification;
 import com.example.adminservice.dto.NotificationRequest;
 import com.example.adminservice.dto.NotificationResponse;
+import com.example.adminservice.dto.notification.NotificationFeedCursor;
+import com.example.adminservice.dto.notification.NotificationFeedResponse;
+import com.example.adminservice.dto.notification.NotificationRetentionStatus;
+import com.example.adminservice.repository.BroadcastNotificationRepository;
+import com.example.adminservice.repository.NotificationBulkRepository;
 import com.example.adminservice.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -26,7 +42,36 @@ import java.util.stream.Collectors;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationBulkRepository notificationBulkRepository;
+    private final BroadcastNotificationRepository broadcastNotificationRepository;
+    private final BroadcastReadStateService broadcastReadStateService;
+    private final UnreadCountService unreadCountService;
+    private final NotificationRetentionService notificationRetentionService;
     private final WebSocketNotificationService webSocketNotificationService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${notification.bulk.chunk-size:5000}")
+    private int bulkChunkSize;
+
+    private static final int FEED_DEFAULT_LIMIT = 20;
+    private static final int FEED_MAX_LIMIT = 100;
+    private static final int PAGE_MAX_WINDOW = 1000;
+    private static final NotificationFeedCursor.Position FEED_START =
+            new NotificationFeedCursor.Position(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    /**
+     * 피드 정렬 기준 (createdAt, id 오름차순)
+     */
+    private static final Comparator<NotificationResponse> FEED_ORDER = Comparator
+            .comparing(NotificationResponse::getCreatedAt)
+            .thenComparing(NotificationResponse::getId);
+
+    private static final Comparator<NotificationFeedCursor.Position> POSITION_ORDER = Comparator
+            .comparing(NotificationFeedCursor.Position::createdAt)
+            .thenComparing(NotificationFeedCursor.Position::id);
+
+    private static final Comparator<NotificationResponse> LATEST_FIRST = Comparator.comparing(
+            NotificationResponse::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()));
 
     /**
      * 새로운 알림을 생성합니다.
@@ -47,6 +92,7 @@ public class NotificationService {
                 .build();
 
         Notification savedNotification = notificationRepository.save(notification);
+        unreadCountService.increment(savedNotification.getUserId());
         log.info("알림 생성 완료: ID={}", savedNotification.getId());
 
         // 실시간 알림 전송
@@ -57,51 +103,123 @@ public class NotificationService {
     }
 
     /**
-     * 특정 사용자의 모든 알림을 조회합니다.
+     * 특정 사용자의 알림을 페이징으로 조회합니다.
      */
     @Transactional(readOnly = true)
-    public List<NotificationResponse> getUserNotifications(Long userId) {
-        log.info("사용자 알림 목록 조회: userId={}", userId);
+    public Page<NotificationResponse> getUserNotifications(Long userId, Pageable pageable) {
+        log.info("사용자 알림 페이징 조회: userId={}, page={}, size={}", 
+                userId, pageable.getPageNumber(), pageable.getPageSize());
 
-        return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId)
-                .stream()
-                .map(NotificationResponse::from)
+        // 두 출처에서 현재 페이지 끝까지 가져와 병합하므로, 조회 범위를 앞쪽 PAGE_MAX_WINDOW건으로 제한
+        if (pageable.getPageSize() > FEED_MAX_LIMIT || pageable.getOffset() + pageable.getPageSize() > PAGE_MAX_WINDOW) {
+            throw new IllegalArgumentException("페이지 조회는 앞쪽 " + PAGE_MAX_WINDOW
+                    + "건까지만 지원합니다. 이후 알림은 커서 피드(/feed)를 사용하세요.");
+        }
+        int window = (int) (pageable.getOffset() + pageable.getPageSize());
+        Page<Notification> personal = notificationRepository.findByUserIdOrderByCreatedAtDesc(
+                userId, PageRequest.of(0, window, pageable.getSort()));
+        Page<BroadcastNotification> broadcasts = broadcastNotificationRepository.findAll(
+                PageRequest.of(0, window, toBroadcastSort(pageable.getSort())));
+
+        List<NotificationResponse> merged = new ArrayList<>(personal.getNumberOfElements() + broadcasts.getNumberOfElements());
+        personal.forEach(notification -> merged.add(NotificationResponse.from(notification)));
+        merged.addAll(toBroadcastResponses(userId, broadcasts.getContent()));
+        merged.sort(toComparator(pageable.getSort()));
+
+        List<NotificationResponse> content = merged.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
                 .collect(Collectors.toList());
+
+        return new PageImpl<>(content, pageable, personal.getTotalElements() + broadcasts.getTotalElements());
     }
 
     /**
-     * 특정 사용자의 알림을 페이징으로 조회합니다.
+     * 특정 사용자의 알림 피드를 커서 기반으로 조회합니다. (최신순)
+     *
+     * 개인 알림과 브로드캐스트 알림을 각자 (createdAt, id) 위치에서 limit + 1개씩만 읽어 병합하므로
+     * 알림이 아무리 많아도 조회 비용은 limit에 비례합니다.
      */
     @Transactional(readOnly = true)
-    public Page<NotificationResponse> getUserNotifications(Long userId, Pageable pageable) {
-        log.info("사용자 알림 페이징 조회: userId={}, page={}, size={}", 
-                userId, pageable.getPageNumber(), pageable.getPageSize());
+    public NotificationFeedResponse getNotificationFeed(Long userId, String cursor, int limit, boolean unreadOnly) {
+        int size = clampFeedLimit(limit);
+        NotificationFeedCursor position = NotificationFeedCursor.decode(cursor);
+        Pageable fetch = PageRequest.of(0, size + 1);
+        log.info("사용자 알림 피드 조회: userId={}, size={}, unreadOnly={}, firstPage={}", userId, size, unreadOnly, cursor == null);
+
+        NotificationFeedCursor.Position personalPosition = position.getPersonal();
+        List<Notification> personal = personalPosition == null
+                ? notificationRepository.findFeedFirst(userId, unreadOnly, fetch)
+                : notificationRepository.findFeedBefore(userId, unreadOnly,
+                        personalPosition.createdAt(), personalPosition.id(), fetch);
+
+        NotificationFeedCursor.Position broadcastPosition = position.getBroadcast();
+        List<BroadcastNotification> broadcasts = broadcastPosition == null
+                ? broadcastNotificationRepository.findFeedFirst(fetch)
+                : broadcastNotificationRepository.findFeedBefore(
+                        broadcastPosition.createdAt(), broadcastPosition.id(), fetch);
+
+        List<NotificationResponse> merged = mergeFeed(userId, personal, broadcasts, unreadOnly, FEED_ORDER.reversed());
+        List<NotificationResponse> page = merged.subList(0, Math.min(size, merged.size()));
+
+        // 첫 페이지(전체 피드)에서는 변경분 조회 시작점으로 쓸 최신 위치를 함께 내려줌
+        String latestCursor = null;
+        if (cursor == null && !unreadOnly) {
+            latestCursor = new NotificationFeedCursor(
+                    personal.isEmpty() ? null : toPosition(personal.get(0)),
+                    broadcasts.isEmpty() ? null : toPosition(broadcasts.get(0))).encode();
+        }
+
+        // 읽지 않은 알림만 볼 때 걸러진(읽은) 브로드캐스트도 지나간 것으로 보고 커서를 옮겨야
+        // 한 페이지 전체가 읽은 브로드캐스트인 경우에도 다음 요청이 앞으로 나아감
+        NotificationFeedCursor nextCursor = advanceCursor(position, page)
+                .advance(null, lastScannedBroadcast(broadcasts, merged.size() > size ? page.get(page.size() - 1) : null));
 
-        return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)
-                .map(NotificationResponse::from);
+        return NotificationFeedResponse.builder()
+                .notifications(page)
+                .nextCursor(nextCursor.encode())
+                .latestCursor(latestCursor)
+                .hasMore(merged.size() > size || personal.size() > size || broadcasts.size() > size)
+                .build();
     }
 
     /**
-     * 특정 사용자의 읽지 않은 알림을 조회합니다.
+     * 커서 이후에 새로 생긴 알림만 조회합니다. (오래된순, 변경분 조회용)
      */
     @Transactional(readOnly = true)
-    public List<NotificationResponse> getUnreadNotifications(Long userId) {
-        log.info("사용자 읽지 않은 알림 조회: userId={}", userId);
-
-        return notificationRepository.findUnreadByUserId(userId)
-                .stream()
-                .map(NotificationResponse::from)
-                .collect(Collectors.toList());
+    public NotificationFeedResponse getNotificationsSince(Long userId, String cursor, int limit) {
+        int size = clampFeedLimit(limit);
+        NotificationFeedCursor position = NotificationFeedCursor.decode(cursor);
+        Pageable fetch = PageRequest.of(0, size + 1);
+        log.info("사용자 알림 변경분 조회: userId={}, size={}", userId, size);
+
+        NotificationFeedCursor.Position personalPosition = orFeedStart(position.getPersonal());
+        List<Notification> personal = notificationRepository.findFeedAfter(userId,
+                personalPosition.createdAt(), personalPosition.id(), fetch);
+
+        NotificationFeedCursor.Position broadcastPosition = orFeedStart(position.getBroadcast());
+        List<BroadcastNotification> broadcasts = broadcastNotificationRepository.findFeedAfter(
+                broadcastPosition.createdAt(), broadcastPosition.id(), fetch);
+
+        List<NotificationResponse> merged = mergeFeed(userId, personal, broadcasts, false, FEED_ORDER);
+        List<NotificationResponse> page = merged.subList(0, Math.min(size, merged.size()));
+
+        return NotificationFeedResponse.builder()
+                .notifications(page)
+                .nextCursor(advanceCursor(position, page).encode())
+                .hasMore(merged.size() > size)
+                .build();
     }
 
     /**
      * 특정 사용자의 읽지 않은 알림 개수를 조회합니다.
+     * 개인 알림 개수는 Redis 카운터에서, 브로드캐스트 개수는 읽음 상태 스크립트에서 읽습니다.
      */
     @Transactional(readOnly = true)
     public Long getUnreadNotificationCount(Long userId) {
         log.info("사용자 읽지 않은 알림 개수 조회: userId={}", userId);
         
-        return notificationRepository.countUnreadByUserId(userId);
+        return unreadCountService.getUnreadCount(userId) + broadcastReadStateService.countUnread(userId);
     }
 
     /**
@@ -111,17 +229,33 @@ public class NotificationService {
     public void markAsRead(Long notificationId, Long userId) {
         log.info("알림 읽음 처리: notificationId={}, userId={}", notificationId, userId);
 
-        int updatedRows = notificationRepository.markAsReadById(notificationId, userId, LocalDateTime.now());
-        
-        if (updatedRows == 0) {
+        int updatedRows = notificationRepository.markAsReadIfUnread(notificationId, userId, LocalDateTime.now());
+
+        if (updatedRows > 0) {
+            unreadCountService.decrement(userId);
+        } else if (!notificationRepository.existsByIdAndUserId(notificationId, userId)) {
             throw new RuntimeException("알림을 찾을 수 없거나 권한이 없습니다: " + notificationId);
         }
 
         log.info("알림 읽음 처리 완료: notificationId={}", notificationId);
 
-        // 읽지 않은 알림 개수 업데이트
-        Long unreadCount = notificationRepository.countUnreadByUserId(userId);
-        webSocketNotificationService.sendUnreadCountUpdate(userId, unreadCount);
+        // 읽지 않은 알림 개수 업데이트 (카운터 감소가 반영된 커밋 이후에 계산)
+        sendUnreadCountAfterCommit(userId);
+    }
+
+    /**
+     * 특정 브로드캐스트 알림을 사용자 기준으로 읽음 처리합니다.
+     */
+    @Transactional(readOnly = true)
+    public void markBroadcastAsRead(Long broadcastId, Long userId) {
+        log.info("브로드캐스트 알림 읽음 처리: broadcastId={}, userId={}", broadcastId, userId);
+
+        if (!broadcastNotificationRepository.existsById(broadcastId)) {
+            throw new RuntimeException("브로드캐스트 알림을 찾을 수 없습니다: " + broadcastId);
+        }
+
+        broadcastReadStateService.markRead(broadcastId, userId);
+        sendUnreadCountAfterCommit(userId);
     }
 
     /**
@@ -132,7 +266,11 @@ public class NotificationService {
         log.info("사용자 모든 알림 읽음 처리: userId={}", userId);
 
         int updatedRows = notificationRepository.markAllAsReadByUserId(userId, LocalDateTime.now());
+        unreadCountService.reset(userId);
         
+        broadcastNotificationRepository.findMaxId()
+                .ifPresent(lastBroadcastId -> broadcastReadStateService.markAllRead(userId, lastBroadcastId));
+
         log.info("모든 알림 읽음 처리 완료: userId={}, 처리된 알림 수={}", userId, updatedRows);
 
         // 읽지 않은 알림 개수 업데이트
@@ -154,35 +292,65 @@ public class NotificationService {
         }
 
         notificationRepository.delete(notification);
+        if (!notification.getIsRead()) {
+            unreadCountService.decrement(userId);
+        }
         log.info("알림 삭제 완료: notificationId={}", notificationId);
     }
 
     /**
      * 시스템 알림을 생성합니다. (모든 사용자 또는 특정 그룹)
+     *
+     * 수신자를 청크 단위로 나누어 청크마다 별도 트랜잭션에서 일괄 적재합니다.
+     * 하나의 긴 트랜잭션 대신 짧은 트랜잭션 여러 개로 처리되므로 중간 실패 시 이전 청크는 유지됩니다.
+     *
+     * @return 적재된 알림 수
      */
-    @Transactional
-    public void createSystemNotification(String title, String message, List<Long> userIds) {
+    public int createSystemNotification(String title, String message, List<Long> userIds) {
         log.info("시스템 알림 생성: title={}, 대상 사용자 수={}", title, userIds.size());
 
-        List<Notification> notifications = userIds.stream()
-                .map(userId -> Notification.builder()
-                        .userId(userId)
-                        .notificationType(NotificationType.SYSTEM_NOTICE)
+        LocalDateTime createdAt = LocalDateTime.now();
+        int insertedCount = 0;
+
+        for (int from = 0; from < userIds.size(); from += bulkChunkSize) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + bulkChunkSize, userIds.size()));
+            Integer inserted = transactionTemplate.execute(status -> {
+                int rows = notificationBulkRepository.insertForRecipients(chunk, NotificationType.SYSTEM_NOTICE,
+                        title, message, null, EntityType.SYSTEM, createdAt);
+                unreadCountService.invalidate(chunk);
+                return rows;
+            });
+            insertedCount += inserted != null ? inserted : 0;
+            log.debug("시스템 알림 청크 적재: {}/{}", insertedCount, userIds.size());
+        }
+
+        log.info("시스템 알림 생성 완료: {} 건", insertedCount);
+        return insertedCount;
+    }
+
+    /**
+     * 전체 사용자 대상 알림을 생성합니다.
+     *
+     * 사용자 수와 관계없이 한 행만 저장하고, 읽음 상태는 조회 시점에 사용자별로 병합합니다.
+     */
+    @Transactional
+    public NotificationResponse createBroadcastNotification(NotificationType notificationType, String title, String message) {
+        log.info("브로드캐스트 알림 생성: type={}, title={}", notificationType, title);
+
+        BroadcastNotification broadcastNotification = broadcastNotificationRepository.save(
+                BroadcastNotification.builder()
+                        .notificationType(notificationType)
                         .title(title)
                         .message(message)
                         .relatedEntityType(EntityType.SYSTEM)
-                        .isRead(false)
-                        .build())
-                .collect(Collectors.toList());
+                        .build());
+        broadcastReadStateService.registerBroadcast(broadcastNotification.getId());
+        log.info("브로드캐스트 알림 생성 완료: ID={}", broadcastNotification.getId());
 
-        notificationRepository.saveAll(notifications);
-        log.info("시스템 알림 생성 완료: {} 건", notifications.size());
+        NotificationResponse response = NotificationResponse.fromBroadcast(broadcastNotification, null, false);
+        webSocketNotificationService.sendBroadcastNotification(response);
 
-        // 실시간 알림 전송 (임시 비활성화)
-        // notifications.forEach(notification -> {
-        //     NotificationResponse response = NotificationResponse.from(notification);
-        //     webSocketNotificationService.sendBroadcastNotification(response);
-        // });
+        return response;
     }
 
     /**
@@ -203,24 +371,161 @@ public class NotificationService {
                 .build();
 
         Notification savedNotification = notificationRepository.save(notification);
+        unreadCountService.increment(userId);
         log.info("캠페인 알림 생성 완료: ID={}", savedNotification.getId());
 
-        // 실시간 알림 전송 (임시 비활성화)
-        // NotificationResponse response = NotificationResponse.from(savedNotification);
-        // webSocketNotificationService.sendNotificationToUser(savedNotification.getUserId(), response);
+        // 실시간 알림 전송
+        NotificationResponse response = NotificationResponse.from(savedNotification);
+        webSocketNotificationService.sendNotificationToUser(savedNotification.getUserId(), response);
     }
 
     /**
      * 오래된 알림을 정리합니다. (정기 작업용)
+     * 청크 단위 삭제는 NotificationRetentionService가 수행합니다.
      */
-    @Transactional
     public void cleanupOldNotifications(int daysToKeep) {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysToKeep);
-        
-        log.info("오래된 알림 정리 시작: 기준일={}", cutoffDate);
-        
-        int deletedCount = notificationRepository.deleteOldNotifications(cutoffDate);
-        
-        log.info("오래된 알림 정리 완료: 삭제된 알림 수={}", deletedCount);
+        notificationRetentionService.purge(daysToKeep);
+    }
+
+    /**
+     * 알림 정리 작업 진행 상태를 조회합니다.
+     */
+    public NotificationRetentionStatus getRetentionStatus() {
+        return notificationRetentionService.getStatus();
+    }
+
+    /**
+     * 커밋 후 읽지 않은 알림 개수를 계산해 전송
+     * 카운터 증감도 커밋 후에 적용되므로, 트랜잭션 안에서 읽으면 변경 전 값이 전송됩니다.
+     * 먼저 등록된 카운터 갱신이 끝난 뒤 실행되도록 같은 동기화 순서에 등록합니다.
+     */
+    private void sendUnreadCountAfterCommit(Long userId) {
+        Runnable send = () -> webSocketNotificationService.sendUnreadCountUpdate(userId, getUnreadNotificationCount(userId));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send.run();
+                }
+            });
+        } else {
+            send.run();
+        }
+    }
+
+    /**
+     * 개인/브로드캐스트 알림을 하나의 피드 순서로 병합
+     */
+    private List<NotificationResponse> mergeFeed(Long userId, List<Notification> personal,
+                                                 List<BroadcastNotification> broadcasts, boolean unreadOnly,
+                                                 Comparator<NotificationResponse> order) {
+        List<NotificationResponse> merged = new ArrayList<>(personal.size() + broadcasts.size());
+        personal.forEach(notification -> merged.add(NotificationResponse.from(notification)));
+        toBroadcastResponses(userId, broadcasts).stream()
+                .filter(response -> !unreadOnly || !response.getIsRead())
+                .forEach(merged::add);
+        merged.sort(order);
+        return merged;
+    }
+
+    /**
+     * 응답에 포함된 마지막 항목 위치로 출처별 커서 이동
+     */
+    private NotificationFeedCursor advanceCursor(NotificationFeedCursor cursor, List<NotificationResponse> page) {
+        NotificationFeedCursor.Position lastPersonal = null;
+        NotificationFeedCursor.Position lastBroadcast = null;
+        for (NotificationResponse response : page) {
+            NotificationFeedCursor.Position position =
+                    new NotificationFeedCursor.Position(response.getCreatedAt(), response.getId());
+            if (Boolean.TRUE.equals(response.getBroadcast())) {
+                lastBroadcast = position;
+            } else {
+                lastPersonal = position;
+            }
+        }
+        return cursor.advance(lastPersonal, lastBroadcast);
+    }
+
+    /**
+     * 조회한 브로드캐스트 중 이번 페이지 경계(마지막 항목)까지 지나간 마지막 위치 (최신순 기준)
+     * 페이지가 다 차지 않았으면 조회한 브로드캐스트를 모두 지나간 것으로 봅니다.
+     */
+    private NotificationFeedCursor.Position lastScannedBroadcast(List<BroadcastNotification> broadcasts,
+                                                                NotificationResponse boundary) {
+        NotificationFeedCursor.Position last = null;
+        for (BroadcastNotification broadcast : broadcasts) {
+            NotificationFeedCursor.Position position = toPosition(broadcast);
+            if (boundary != null && POSITION_ORDER.compare(position,
+                    new NotificationFeedCursor.Position(boundary.getCreatedAt(), boundary.getId())) < 0) {
+                break;
+            }
+            last = position;
+        }
+        return last;
+    }
+
+    private NotificationFeedCursor.Position toPosition(Notification notification) {
+        return new NotificationFeedCursor.Position(notification.getCreatedAt(), notification.getId());
+    }
+
+    private NotificationFeedCursor.Position toPosition(BroadcastNotification broadcastNotification) {
+        return new NotificationFeedCursor.Position(broadcastNotification.getCreatedAt(), broadcastNotification.getId());
+    }
+
+    private NotificationFeedCursor.Position orFeedStart(NotificationFeedCursor.Position position) {
+        return position != null ? position : FEED_START;
+    }
+
+    private int clampFeedLimit(int limit) {
+        if (limit < 1) {
+            return FEED_DEFAULT_LIMIT;
+        }
+        return Math.min(limit, FEED_MAX_LIMIT);
+    }
+
+    /**
+     * 브로드캐스트 알림 목록을 사용자별 읽음 상태가 반영된 DTO로 변환
+     */
+    private List<NotificationResponse> toBroadcastResponses(Long userId, List<BroadcastNotification> broadcasts) {
+        Set<Long> readIds = broadcastReadStateService.findReadIds(userId,
+                broadcasts.stream().map(BroadcastNotification::getId).toList());
+
+        return broadcasts.stream()
+                .map(broadcast -> NotificationResponse.fromBroadcast(broadcast, userId, readIds.contains(broadcast.getId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 병합 목록 정렬용 비교자 (컨트롤러에서 허용한 정렬 필드 기준)
+     */
+    private Comparator<NotificationResponse> toComparator(Sort sort) {
+        Comparator<NotificationResponse> comparator = null;
+        for (Sort.Order order : sort) {
+            boolean ascending = order.isAscending();
+            Comparator<NotificationResponse> next = switch (order.getProperty()) {
+                case "readAt" -> Comparator.comparing(NotificationResponse::getReadAt, nullsLastOrder(ascending));
+                case "title" -> Comparator.comparing(NotificationResponse::getTitle, nullsLastOrder(ascending));
+                case "id" -> Comparator.comparing(NotificationResponse::getId, nullsLastOrder(ascending));
+                default -> Comparator.comparing(NotificationResponse::getCreatedAt, nullsLastOrder(ascending));
+            };
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator != null ? comparator : LATEST_FIRST;
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<T> nullsLastOrder(boolean ascending) {
+        return ascending ? Comparator.nullsLast(Comparator.<T>naturalOrder())
+                : Comparator.nullsLast(Comparator.<T>reverseOrder());
+    }
+
+    /**
+     * 브로드캐스트에 없는 정렬 필드(readAt)는 생성일시로 대체
+     */
+    private Sort toBroadcastSort(Sort sort) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add("readAt".equals(order.getProperty()) ? order.withProperty("createdAt") : order);
+        }
+        return orders.isEmpty() ? Sort.by(Sort.Direction.DESC, "createdAt") : Sort.by(orders);
     }
 }
@@ -0,0 +1,183 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.constant.PopularityWindow;
+import com.example.adminservice.constant.ViewCountTarget;
+import com.example.adminservice.repository.KokPostRepository;
+import com.example.adminservice.repository.NoticeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 공지사항/콕포스트 인기 순위 서비스 (Redis sorted set)
+ *
+ * 조회수 버퍼가 DB에 반영한 증가분을 기간별 ZSET에 더하고, 상위 N개는 ZREVRANGE로 바로 조회합니다.
+ * 24시간/7일 순위는 기간을 반감기로 하는 지수 감쇠 점수를 쓰며, 기존 점수를 매번 깎는 대신
+ * 새 증가분에 2^((now - epoch) / 반감기) 가중치를 곱해(forward decay) 쓰기 한 번으로 순위를 유지합니다.
+ * 가중치가 커지면(반감기 32배 경과) 스크립트 안에서 전체 점수와 기준 시각(epoch)을 함께 낮춥니다.
+ * 전체 기간 순위는 감쇠 없는 누적 조회수이며, 비어 있으면 기동 시 DB 조회수로 채웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularityService {
+
+    private static final String KEY_PREFIX = "popularity:";
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    /**
+     * 감쇠 가중치를 적용해 증가분 반영
+     * KEYS[1]: 순위 ZSET, KEYS[2]: 기준 시각(epoch) 키
+     * ARGV[1]: 현재 시각(초), ARGV[2]: 반감기(초, 0이면 감쇠 없음), ARGV[3..]: 멤버/증가분 쌍
+     */
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local halfLife = tonumber(ARGV[2])
+            local weight = 1
+            if halfLife > 0 then
+                local epoch = tonumber(redis.call('GET', KEYS[2]))
+                if not epoch then
+                    epoch = now
+                    redis.call('SET', KEYS[2], epoch)
+                end
+                local exponent = (now - epoch) / halfLife
+                if exponent > 32 then
+                    local shift = math.floor(exponent)
+                    redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', 2 ^ -shift)
+                    epoch = epoch + shift * halfLife
+                    redis.call('SET', KEYS[2], epoch)
+                    exponent = exponent - shift
+                end
+                weight = 2 ^ exponent
+            end
+            for i = 3, #ARGV, 2 do
+                redis.call('ZINCRBY', KEYS[1], tonumber(ARGV[i + 1]) * weight, ARGV[i])
+            end
+            return (#ARGV - 2) / 2
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final KokPostRepository kokPostRepository;
+    private final NoticeRepository noticeRepository;
+
+    /**
+     * 조회수 증가분을 모든 기간 순위에 반영 (실패는 로그만 남김)
+     */
+    public void record(ViewCountTarget target, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(deltas.size() * 2 + 2);
+        args.add(String.valueOf(Instant.now().getEpochSecond()));
+        args.add("0");
+        deltas.forEach((id, delta) -> {
+            args.add(String.valueOf(id));
+            args.add(String.valueOf(delta));
+        });
+
+        for (PopularityWindow window : PopularityWindow.values()) {
+            args.set(1, String.valueOf(window.isDecayed() ? window.getHalfLife().getSeconds() : 0));
+            try {
+                redisTemplate.execute(RECORD_SCRIPT, List.of(key(target, window), epochKey(target, window)), args.toArray());
+            } catch (Exception e) {
+                log.warn("인기 순위 반영 실패: {} {} {}건 - {}", target, window, deltas.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 점수 상위 ID 목록 (점수 내림차순, Redis 오류 시 빈 목록)
+     */
+    public List<Long> getTopIds(ViewCountTarget target, PopularityWindow window, int limit) {
+        return getTopIds(target, window, 0, limit);
+    }
+
+    /**
+     * 점수 순위 offset번째부터 limit개 ID 목록 (점수 내림차순, Redis 오류 시 빈 목록)
+     */
+    public List<Long> getTopIds(ViewCountTarget target, PopularityWindow window, int offset, int limit) {
+        try {
+            Set<String> members = redisTemplate.opsForZSet()
+                    .reverseRange(key(target, window), offset, offset + limit - 1L);
+            if (members == null) {
+                return Collections.emptyList();
+            }
+            return members.stream().map(Long::valueOf).toList();
+        } catch (Exception e) {
+            log.warn("인기 순위 조회 실패: {} {} - {}", target, window, e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * 삭제된 글을 모든 기간 순위에서 제거
+     */
+    public void remove(ViewCountTarget target, Long id) {
+        for (PopularityWindow window : PopularityWindow.values()) {
+            try {
+                redisTemplate.opsForZSet().remove(key(target, window), String.valueOf(id));
+            } catch (Exception e) {
+                log.warn("인기 순위 제거 실패: {} {} #{} - {}", target, window, id, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 전체 기간 순위가 비어 있으면 DB 조회수로 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedAllTimeRanking() {
+        for (ViewCountTarget target : ViewCountTarget.values()) {
+            String key = key(target, PopularityWindow.ALL_TIME);
+            try {
+                if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                    continue;
+                }
+
+                List<Object[]> viewCounts = target == ViewCountTarget.KOKPOST
+                        ? kokPostRepository.findAllViewCounts()
+                        : noticeRepository.findAllViewCounts();
+
+                Set<ZSetOperations.TypedTuple<String>> batch = new HashSet<>();
+                for (Object[] row : viewCounts) {
+                    batch.add(new DefaultTypedTuple<>(String.valueOf(row[0]), ((Number) row[1]).doubleValue()));
+                    if (batch.size() >= SEED_BATCH_SIZE) {
+                        redisTemplate.opsForZSet().add(key, batch);
+                        batch.clear();
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    redisTemplate.opsForZSet().add(key, batch);
+                }
+                log.info("전체 기간 인기 순위 초기 적재: {} {}건", target, viewCounts.size());
+            } catch (Exception e) {
+                log.error("전체 기간 인기 순위 초기 적재 실패: {} - {}", target, e.getMessage(), e);
+            }
+        }
+    }
+
+    private String key(ViewCountTarget target, PopularityWindow window) {
+        return KEY_PREFIX + target.name().toLowerCase() + ":" + window.getValue();
+    }
+
+    private String epochKey(ViewCountTarget target, PopularityWindow window) {
+        return key(target, window) + ":epoch";
+    }
+}
@@ -1,32 +1,57 @@
 package com.example.adminservice.service;
 
-import com.example.adminservice.repository.BannerImageRepository;
-import com.example.adminservice.repository.KokPostRepository;
+import com.example.adminservice.dto.S3CleanupResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
  * S3 파일 자동 정리 서비스
  * DB에 등록되지 않은 S3 파일들을 자동으로 삭제합니다.
+ *
+ * 객체 목록은 페이지(최대 1,000개) 단위로 받아 이미지 참조 인덱스(image_references)와 바로 비교하므로
+ * 전체 목록이나 글 본문을 메모리에 올리지 않으며, 삭제는 DeleteObjects 1회당 최대 1,000개씩 묶어 제한된 동시성으로 수행합니다.
+ * 내용 기반 키는 업로드 요청에서 재사용 예약(S3Service)이 남아 있으면 아직 저장 전인 엔티티가 쓸 객체이므로 삭제하지 않습니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3CleanupService {
 
+    // kokpost 폴더 경로
+    private static final String KOKPOST_PREFIX = "kokpost/";
+
+    // DeleteObjects 1회 최대 객체 수 (S3 제한)
+    private static final int DELETE_BATCH_SIZE = 1000;
+
     private final S3Client s3Client;
-    private final BannerImageRepository bannerImageRepository;
-    private final KokPostRepository kokPostRepository;
+    private final ImageReferenceService imageReferenceService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
 
     @Value("${aws.s3.bucket}")
     private String bucketName;
@@ -34,276 +59,361 @@ public class S3CleanupService {
     @Value("${aws.s3.banner.prefix}")
     private String bannerPrefix;
 
-    // kokpost 폴더 경로
-    private static final String KOKPOST_PREFIX = "kokpost/";
+    @Value("${s3.cleanup.dry-run:false}")
+    private boolean defaultDryRun;
 
-    /**
-     * 매일 새벽 3시에 DB에 없는 파일들을 자동 삭제
-     */
-    @Scheduled(cron = "0 0 3 * * *") // 매일 새벽 3시
-    public void cleanupUnusedFiles() {
-        try {
-            log.info("🧹 S3 자동 정리 시작 - DB에 없는 파일들 삭제");
+    @Value("${s3.cleanup.delete-concurrency:4}")
+    private int deleteConcurrency;
 
-            int bannerDeletedCount = deleteFilesNotInDatabase();
-            int kokpostDeletedCount = deleteUnusedKokpostImages();
-            int totalDeleted = bannerDeletedCount + kokpostDeletedCount;
+    // 업로드 직후 아직 DB에 저장되지 않은 파일을 지우지 않도록 두는 유예 기간
+    @Value("${s3.cleanup.min-age-hours:24}")
+    private long minAgeHours;
 
-            if (totalDeleted > 0) {
-                log.info("✅ S3 자동 정리 완료: 총 {}개 파일 삭제됨 (배너: {}개, kokpost: {}개)",
-                        totalDeleted, bannerDeletedCount, kokpostDeletedCount);
-            } else {
-                log.info("📋 S3 자동 정리 완료: 삭제할 파일 없음");
-            }
+    // 이 시간이 지나도록 완료/취소되지 않은 멀티파트 업로드는 버려진 것으로 보고 취소
+    @Value("${s3.cleanup.multipart-max-age-hours:24}")
+    private long multipartMaxAgeHours;
 
-        } catch (Exception e) {
-            log.error("❌ S3 자동 정리 중 오류 발생: {}", e.getMessage(), e);
-        }
-    }
-
-    /**
-     * DB에 등록되지 않은 파일들을 삭제
-     */
-    private int deleteFilesNotInDatabase() {
-        try {
-            // 1. S3에서 모든 배너 파일 목록 가져오기
-            List<S3Object> s3Objects = getAllBannerFiles();
-            log.info("S3 배너 파일 총 {}개 발견", s3Objects.size());
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Map<String, S3CleanupResult> lastResults = new ConcurrentHashMap<>();
 
-            // 2. 데이터베이스에서 사용중인 파일 키들 가져오기
-            Set<String> usedKeys = getUsedBannerKeys();
-            log.info("데이터베이스에 등록된 배너 파일 {}개", usedKeys.size());
+    private ExecutorService deleteExecutor;
 
-            // 3. DB에 없는 파일들 찾기
-            List<S3Object> filesToDelete = s3Objects.stream()
-                    .filter(obj -> !usedKeys.contains(obj.key()))
-                    .collect(Collectors.toList());
-
-            log.info("DB에 없는 파일 {}개 발견", filesToDelete.size());
+    @PostConstruct
+    public void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        deleteExecutor = Executors.newFixedThreadPool(deleteConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "s3-cleanup-delete-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
-            // 4. 파일들 삭제
-            int deletedCount = 0;
-            for (S3Object obj : filesToDelete) {
-                try {
-                    deleteS3Object(obj.key());
-                    deletedCount++;
-                    log.info("🗑️ 삭제됨: {}", obj.key());
-                } catch (Exception e) {
-                    log.warn("⚠️ 파일 삭제 실패: {} - {}", obj.key(), e.getMessage());
-                }
+    @PreDestroy
+    public void stop() {
+        deleteExecutor.shutdown();
+        try {
+            if (!deleteExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                deleteExecutor.shutdownNow();
             }
-
-            return deletedCount;
-
-        } catch (Exception e) {
-            log.error("S3 파일 정리 중 오류: {}", e.getMessage(), e);
-            return 0;
+        } catch (InterruptedException e) {
+            deleteExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
         }
     }
 
     /**
-     * S3에서 모든 배너 파일 목록 가져오기
+     * 매일 새벽 3시에 DB에 없는 파일들을 자동 삭제
      */
-    private List<S3Object> getAllBannerFiles() {
+    @Scheduled(cron = "0 0 3 * * *") // 매일 새벽 3시
+    public void cleanupUnusedFiles() {
         try {
-            ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
-                    .bucket(bucketName)
-                    .prefix(bannerPrefix)
-                    .build();
-
-            List<S3Object> allObjects = new ArrayList<>();
-            ListObjectsV2Response response;
-
-            do {
-                response = s3Client.listObjectsV2(listRequest);
-                allObjects.addAll(response.contents());
-
-                listRequest = listRequest.toBuilder()
-                        .continuationToken(response.nextContinuationToken())
-                        .build();
-            } while (response.isTruncated());
-
-            return allObjects;
-
+            runCleanup(defaultDryRun);
         } catch (Exception e) {
-            log.error("S3 파일 목록 조회 실패: {}", e.getMessage(), e);
-            return Collections.emptyList();
+            log.error("❌ S3 자동 정리 중 오류 발생: {}", e.getMessage(), e);
         }
     }
 
     /**
-     * 데이터베이스에서 사용중인 배너 파일 키들 가져오기
+     * 백그라운드에서 정리 실행 (결과는 getLastResults로 확인)
      */
-    private Set<String> getUsedBannerKeys() {
+    @Async
+    public void runCleanupAsync(boolean dryRun) {
         try {
-            return bannerImageRepository.findAll().stream()
-                    .map(banner -> banner.getBannerUrl())
-                    .filter(Objects::nonNull)
-                    .map(this::extractObjectKeyFromUrl)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toSet());
+            runCleanup(dryRun);
         } catch (Exception e) {
-            log.error("사용중인 배너 키 조회 실패: {}", e.getMessage(), e);
-            return Collections.emptySet();
+            log.error("❌ S3 수동 정리 중 오류 발생: {}", e.getMessage(), e);
         }
     }
 
     /**
-     * URL에서 S3 객체 키 추출
+     * 배너/kokpost 폴더 정리 실행
+     *
+     * @param dryRun true면 삭제하지 않고 삭제 대상만 집계
+     * @return prefix별 실행 결과
      */
-    private String extractObjectKeyFromUrl(String url) {
-        try {
-            if (url == null) return null;
-
-            // presigned URL에서 쿼리 파라미터 제거
-            String cleanUrl = url.split("\\?")[0];
+    public List<S3CleanupResult> runCleanup(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("S3 정리가 이미 실행 중입니다.");
+        }
 
-            // S3 URL에서 객체 키 추출
-            String prefix = String.format("https://%s.s3.ap-northeast-2.amazonaws.com/", bucketName);
-            if (cleanUrl.startsWith(prefix)) {
-                return cleanUrl.substring(prefix.length());
+        try {
+            // 인덱스가 채워지기 전에는 모든 파일이 미사용으로 보이므로 실행하지 않음
+            if (!imageReferenceService.isIndexReady()) {
+                log.warn("⚠️ 이미지 참조 인덱스가 준비되지 않아 S3 정리를 건너뜁니다");
+                return Collections.emptyList();
             }
 
-            return null;
-        } catch (Exception e) {
-            log.warn("URL에서 객체 키 추출 실패: {} - {}", url, e.getMessage());
-            return null;
+            log.info("🧹 S3 자동 정리 시작 - DB에 없는 파일들 삭제 (dryRun={}, 유예 {}시간)", dryRun, minAgeHours);
+
+            List<S3CleanupResult> results = new ArrayList<>();
+            cleanupPrefixSafely(bannerPrefix, dryRun).ifPresent(results::add);
+            cleanupPrefixSafely(KOKPOST_PREFIX, dryRun).ifPresent(results::add);
+
+            long totalOrphaned = results.stream().mapToLong(S3CleanupResult::getOrphaned).sum();
+            long totalDeleted = results.stream().mapToLong(S3CleanupResult::getDeleted).sum();
+            if (dryRun) {
+                log.info("📋 S3 자동 정리 드라이런 완료: 삭제 대상 {}개 (삭제하지 않음)", totalOrphaned);
+            } else if (totalDeleted > 0) {
+                log.info("✅ S3 자동 정리 완료: 총 {}개 파일 삭제됨 ({})", totalDeleted,
+                        results.stream()
+                                .map(result -> result.getPrefix() + ": " + result.getDeleted() + "개")
+                                .collect(Collectors.joining(", ")));
+            } else {
+                log.info("📋 S3 자동 정리 완료: 삭제할 파일 없음");
+            }
+            return results;
+        } finally {
+            running.set(false);
         }
     }
 
+    public boolean isRunning() {
+        return running.get();
+    }
+
     /**
-     * S3 객체 삭제
+     * prefix별 마지막 실행 결과
      */
-    private void deleteS3Object(String objectKey) {
-        try {
-            DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(objectKey)
-                    .build();
-
-            s3Client.deleteObject(deleteRequest);
-            log.debug("S3 객체 삭제 완료: {}", objectKey);
+    public List<S3CleanupResult> getLastResults() {
+        return new ArrayList<>(lastResults.values());
+    }
 
+    private Optional<S3CleanupResult> cleanupPrefixSafely(String prefix, boolean dryRun) {
+        try {
+            return Optional.of(cleanupPrefix(prefix, dryRun));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("S3 정리 중단: prefix={}", prefix);
+            return Optional.empty();
         } catch (Exception e) {
-            log.error("S3 객체 삭제 실패: {} - {}", objectKey, e.getMessage(), e);
-            throw new RuntimeException("S3 객체 삭제 실패: " + objectKey, e);
+            log.error("S3 파일 정리 중 오류: prefix={}, error={}", prefix, e.getMessage(), e);
+            return Optional.empty();
         }
     }
 
     /**
-     * kokpost 폴더의 사용하지 않는 이미지 삭제
+     * prefix 아래 객체를 페이지 단위로 조회하며 DB에 없는 파일을 삭제
      */
-    private int deleteUnusedKokpostImages() {
+    private S3CleanupResult cleanupPrefix(String prefix, boolean dryRun) throws InterruptedException {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        Instant cutoff = Instant.now().minus(Duration.ofHours(minAgeHours));
+
+        long scanned = 0;
+        long orphaned = 0;
+        long skippedRecent = 0;
+        DeleteStats deleteStats = new DeleteStats();
+        Semaphore inFlight = new Semaphore(deleteConcurrency);
+
+        ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(prefix)
+                .build();
+
+        List<ObjectIdentifier> batch = new ArrayList<>(DELETE_BATCH_SIZE);
         try {
-            // 1. S3에서 모든 kokpost 이미지 목록 가져오기
-            List<S3Object> s3Objects = getAllKokpostFiles();
-            log.info("S3 kokpost 이미지 총 {}개 발견", s3Objects.size());
-
-            // 2. 데이터베이스에서 사용중인 이미지 URL들 가져오기
-            Set<String> usedImageUrls = getUsedKokpostImageUrls();
-            log.info("데이터베이스에서 사용중인 kokpost 이미지 {}개", usedImageUrls.size());
+            for (ListObjectsV2Response page : s3Client.listObjectsV2Paginator(listRequest)) {
+                // 페이지의 키를 한 번에 인덱스와 비교
+                Set<String> referencedKeys = imageReferenceService.findReferencedKeys(
+                        page.contents().stream().map(S3Object::key).collect(Collectors.toList()));
+
+                for (S3Object obj : page.contents()) {
+                    scanned++;
+                    if (referencedKeys.contains(obj.key())) {
+                        continue;
+                    }
+                    if (obj.lastModified() != null && obj.lastModified().isAfter(cutoff)) {
+                        skippedRecent++;
+                        continue;
+                    }
+
+                    orphaned++;
+                    if (dryRun) {
+                        log.debug("🔍 삭제 대상 (드라이런): {}", obj.key());
+                        continue;
+                    }
+
+                    batch.add(ObjectIdentifier.builder().key(obj.key()).build());
+                    if (batch.size() == DELETE_BATCH_SIZE) {
+                        submitDeleteBatch(batch, inFlight, deleteStats);
+                        batch = new ArrayList<>(DELETE_BATCH_SIZE);
+                    }
+                }
+            }
 
-            // 3. DB에 없는 파일들 찾기
-            List<S3Object> filesToDelete = s3Objects.stream()
-                    .filter(obj -> !usedImageUrls.contains(getS3UrlFromKey(obj.key())))
-                    .collect(Collectors.toList());
+            if (!batch.isEmpty()) {
+                submitDeleteBatch(batch, inFlight, deleteStats);
+            }
+        } finally {
+            // 진행 중인 삭제가 모두 끝날 때까지 대기
+            inFlight.acquireUninterruptibly(deleteConcurrency);
+            inFlight.release(deleteConcurrency);
+        }
 
-            log.info("DB에 없는 kokpost 이미지 {}개 발견", filesToDelete.size());
+        long abortedUploads = abortStaleMultipartUploads(prefix, dryRun);
+
+        S3CleanupResult result = S3CleanupResult.builder()
+                .prefix(prefix)
+                .dryRun(dryRun)
+                .scanned(scanned)
+                .orphaned(orphaned)
+                .skippedRecent(skippedRecent)
+                .skippedReserved(deleteStats.skippedReserved.get())
+                .deleted(deleteStats.deleted.get())
+                .failed(deleteStats.failed.get())
+                .abortedUploads(abortedUploads)
+                .deleteRequests(deleteStats.requests.get())
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+                .startedAt(startedAt)
+                .build();
+
+        recordMetrics(result);
+        lastResults.put(prefix, result);
+        log.info("S3 {} 정리 결과: 조회 {}개, 미사용 {}개, 유예 {}개, 예약 {}개, 삭제 {}개, 실패 {}개, 요청 {}회, 멀티파트 취소 {}개, {}ms",
+                prefix, result.getScanned(), result.getOrphaned(), result.getSkippedRecent(), result.getSkippedReserved(),
+                result.getDeleted(), result.getFailed(), result.getDeleteRequests(), result.getAbortedUploads(),
+                result.getDurationMs());
+        return result;
+    }
 
-            // 4. 파일들 삭제
-            int deletedCount = 0;
-            for (S3Object obj : filesToDelete) {
+    /**
+     * 삭제 배치를 워커에 넘김 (동시 삭제 요청이 가득 차면 목록 조회를 멈추고 대기)
+     */
+    private void submitDeleteBatch(List<ObjectIdentifier> batch, Semaphore inFlight, DeleteStats deleteStats) throws InterruptedException {
+        inFlight.acquire();
+        try {
+            deleteExecutor.execute(() -> {
                 try {
-                    deleteS3Object(obj.key());
-                    deletedCount++;
-                    log.info("🗑️ Kokpost 이미지 삭제됨: {}", obj.key());
-                } catch (Exception e) {
-                    log.warn("⚠️ Kokpost 이미지 삭제 실패: {} - {}", obj.key(), e.getMessage());
+                    deleteBatch(batch, deleteStats);
+                } finally {
+                    inFlight.release();
                 }
-            }
-
-            return deletedCount;
-
-        } catch (Exception e) {
-            log.error("Kokpost 이미지 정리 중 오류: {}", e.getMessage(), e);
-            return 0;
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
         }
     }
 
     /**
-     * S3에서 모든 kokpost 이미지 목록 가져오기
+     * DeleteObjects로 최대 1,000개를 한 번에 삭제
      */
-    private List<S3Object> getAllKokpostFiles() {
+    private void deleteBatch(List<ObjectIdentifier> candidates, DeleteStats deleteStats) {
+        List<ObjectIdentifier> batch = excludeReserved(candidates, deleteStats);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        deleteStats.requests.incrementAndGet();
         try {
-            ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+            DeleteObjectsRequest deleteRequest = DeleteObjectsRequest.builder()
                     .bucket(bucketName)
-                    .prefix(KOKPOST_PREFIX)
+                    .delete(Delete.builder().objects(batch).quiet(true).build())
                     .build();
 
-            List<S3Object> allObjects = new ArrayList<>();
-            ListObjectsV2Response response;
-
-            do {
-                response = s3Client.listObjectsV2(listRequest);
-                allObjects.addAll(response.contents());
+            DeleteObjectsResponse response = s3Client.deleteObjects(deleteRequest);
+            List<S3Error> errors = response.errors();
 
-                listRequest = listRequest.toBuilder()
-                        .continuationToken(response.nextContinuationToken())
-                        .build();
-            } while (response.isTruncated());
-
-            return allObjects;
+            deleteStats.deleted.addAndGet(batch.size() - errors.size());
+            deleteStats.failed.addAndGet(errors.size());
+            log.info("🗑️ {}개 삭제됨 (실패 {}개)", batch.size() - errors.size(), errors.size());
+            errors.stream().limit(10).forEach(error ->
+                    log.warn("⚠️ 파일 삭제 실패: {} - {} {}", error.key(), error.code(), error.message()));
 
         } catch (Exception e) {
-            log.error("Kokpost S3 파일 목록 조회 실패: {}", e.getMessage(), e);
-            return Collections.emptyList();
+            deleteStats.failed.addAndGet(batch.size());
+            log.error("S3 일괄 삭제 실패: {}개 - {}", batch.size(), e.getMessage(), e);
         }
     }
 
     /**
-     * 데이터베이스에서 사용중인 kokpost 이미지 URL들 가져오기
+     * 재사용 예약이 남아 있는 내용 기반 키 제외 (재사용과 겹치는 구간을 줄이도록 DeleteObjects 직전에 확인)
+     * Redis를 확인할 수 없으면 내용 기반 키는 모두 다음 실행으로 미룸
      */
-    private Set<String> getUsedKokpostImageUrls() {
+    private List<ObjectIdentifier> excludeReserved(List<ObjectIdentifier> batch, DeleteStats deleteStats) {
+        List<String> contentAddressedKeys = batch.stream()
+                .map(ObjectIdentifier::key)
+                .filter(S3Service::isContentAddressedKey)
+                .toList();
+        if (contentAddressedKeys.isEmpty()) {
+            return batch;
+        }
+
+        Set<String> reserved = new HashSet<>();
         try {
-            return kokPostRepository.findAll().stream()
-                    .map(kokPost -> kokPost.getContent())
-                    .filter(Objects::nonNull)
-                    .flatMap(content -> extractImageUrlsFromContent(content).stream())
-                    .filter(url -> url.contains("kokpost/"))
-                    .collect(Collectors.toSet());
+            List<String> reservations = redisTemplate.opsForValue().multiGet(
+                    contentAddressedKeys.stream().map(S3Service::reservationKey).toList());
+            for (int i = 0; i < contentAddressedKeys.size(); i++) {
+                if (reservations == null || reservations.get(i) != null) {
+                    reserved.add(contentAddressedKeys.get(i));
+                }
+            }
         } catch (Exception e) {
-            log.error("사용중인 kokpost 이미지 URL 조회 실패: {}", e.getMessage(), e);
-            return Collections.emptySet();
+            log.warn("⚠️ 재사용 예약 확인 실패, 내용 기반 파일 {}개 삭제 보류: {}", contentAddressedKeys.size(), e.getMessage());
+            reserved.addAll(contentAddressedKeys);
         }
+
+        if (reserved.isEmpty()) {
+            return batch;
+        }
+        deleteStats.skippedReserved.addAndGet(reserved.size());
+        return batch.stream()
+                .filter(identifier -> !reserved.contains(identifier.key()))
+                .toList();
     }
 
     /**
-     * 마크다운/HTML 컨텐츠에서 이미지 URL 추출
+     * prefix 아래에서 오래된 미완료 멀티파트 업로드 취소 (업로드된 파트는 완료 전까지 목록에 보이지 않고 비용만 발생)
      */
-    private Set<String> extractImageUrlsFromContent(String content) {
-        Set<String> imageUrls = new HashSet<>();
-
-        // 마크다운 이미지 패턴: ![alt](url)
-        Pattern markdownPattern = Pattern.compile("!\\[.*?\\]\\((https?://[^)]+)\\)");
-        Matcher markdownMatcher = markdownPattern.matcher(content);
-        while (markdownMatcher.find()) {
-            imageUrls.add(markdownMatcher.group(1));
-        }
+    private long abortStaleMultipartUploads(String prefix, boolean dryRun) {
+        Instant cutoff = Instant.now().minus(Duration.ofHours(multipartMaxAgeHours));
+        long aborted = 0;
 
-        // HTML img 태그 패턴: <img src="url">
-        Pattern htmlPattern = Pattern.compile("<img[^>]*src=[\"'](https?://[^\"']+)[\"'][^>]*>");
-        Matcher htmlMatcher = htmlPattern.matcher(content);
-        while (htmlMatcher.find()) {
-            imageUrls.add(htmlMatcher.group(1));
+        try {
+            for (ListMultipartUploadsResponse page : s3Client.listMultipartUploadsPaginator(builder -> builder
+                    .bucket(bucketName)
+                    .prefix(prefix))) {
+                for (MultipartUpload upload : page.uploads()) {
+                    if (upload.initiated() != null && upload.initiated().isAfter(cutoff)) {
+                        continue;
+                    }
+                    if (dryRun) {
+                        log.debug("🔍 취소 대상 멀티파트 업로드 (드라이런): {} ({})", upload.key(), upload.initiated());
+                        aborted++;
+                        continue;
+                    }
+                    try {
+                        s3Client.abortMultipartUpload(builder -> builder
+                                .bucket(bucketName)
+                                .key(upload.key())
+                                .uploadId(upload.uploadId()));
+                        aborted++;
+                        log.info("🗑️ 미완료 멀티파트 업로드 취소: {} (시작 {})", upload.key(), upload.initiated());
+                    } catch (Exception e) {
+                        log.warn("⚠️ 멀티파트 업로드 취소 실패: {} - {}", upload.key(), e.getMessage());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("미완료 멀티파트 업로드 조회 실패: prefix={}, error={}", prefix, e.getMessage(), e);
         }
+        return aborted;
+    }
 
-        return imageUrls;
+    private void recordMetrics(S3CleanupResult result) {
+        Tags tags = Tags.of("prefix", result.getPrefix(), "dryRun", String.valueOf(result.isDryRun()));
+        meterRegistry.counter("s3.cleanup.scanned", tags).increment(result.getScanned());
+        meterRegistry.counter("s3.cleanup.orphaned", tags).increment(result.getOrphaned());
+        meterRegistry.counter("s3.cleanup.deleted", tags).increment(result.getDeleted());
+        meterRegistry.counter("s3.cleanup.failed", tags).increment(result.getFailed());
+        meterRegistry.counter("s3.cleanup.multipart.aborted", tags).increment(result.getAbortedUploads());
+        meterRegistry.timer("s3.cleanup.duration", tags).record(Duration.ofMillis(result.getDurationMs()));
     }
 
-    /**
-     * S3 키에서 전체 URL 생성
-     */
-    private String getS3UrlFromKey(String key) {
-        return String.format("https://%s.s3.ap-northeast-2.amazonaws.com/%s", bucketName, key);
+    private static class DeleteStats {
+        private final AtomicLong deleted = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong skippedReserved = new AtomicLong();
     }
 }
@@ -1,40 +1,89 @@
 package com.example.adminservice.service;
 
+import com.example.adminservice.dto.upload.MultipartCompleteRequest;
+import com.example.adminservice.dto.upload.MultipartPartUrl;
+import com.example.adminservice.dto.upload.MultipartUploadInitResponse;
 import com.example.adminservice.util.ImageProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.auth.credentials.InstanceProfileCredentialsProvider;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.UploadPartPresignRequest;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.model.DownloadFileRequest;
+import software.amazon.awssdk.transfer.s3.model.UploadRequest;
 
 import jakarta.annotation.PostConstruct;
-import java.io.ByteArrayOutputStream;
-import java.io.InputStream;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
 
 /**
  * AWS S3 관련 서비스
  * Presigned URL 생성 및 파일 업로드 관리
- * EC2 IAM Role을 통한 인증 사용
+ * 클라이언트(동기/Presigner/Transfer Manager)는 S3Config에서 공유 빈으로 구성
  */
 
 @Slf4j
 @Service
 public class S3Service {
 
+    // 내용 기반 키 폴더 (예: kokpost/sha256/{해시}.jpg)
+    private static final String CONTENT_ADDRESSED_FOLDER = "sha256/";
+
+    // 해시 → 객체 키 인덱스 (Redis 키: s3:content-hash:{폴더}/{해시})
+    private static final String CONTENT_HASH_INDEX_KEY_PREFIX = "s3:content-hash:";
+
+    // 재사용으로 돌려준 내용 기반 객체 예약 (Redis 키: s3:content-hash-reserved:{객체 키}, 남아 있는 동안 S3 정리가 삭제하지 않음)
+    private static final String CONTENT_HASH_RESERVATION_KEY_PREFIX = "s3:content-hash-reserved:";
+
+    // 멀티파트 파트 크기 (S3 최소 5MB, 최대 파트 수 10,000)
+    private static final long MIN_MULTIPART_PART_SIZE = 8L * 1024 * 1024;
+    private static final int MAX_MULTIPART_PARTS = 10_000;
+
+    // 이 개수를 넘는 일괄 presign 요청은 병렬로 처리
+    private static final int PARALLEL_PRESIGN_THRESHOLD = 8;
+
+    // 내용이 바뀌지 않는 객체용 캐시 정책
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
     @Autowired
     private ImageProcessor imageProcessor;
 
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
     @Value("${aws.s3.region}")
     private String region;
 
@@ -50,30 +99,43 @@ public class S3Service {
     @Value("${aws.s3.banner.prefix}")
     private String bannerPrefix;
 
+    @Value("${aws.s3.presign.parallelism:4}")
+    private int presignParallelism;
+
+    // 재사용 예약 유지 시간 (새 업로드와 같은 유예 기간 동안 엔티티 저장을 기다림)
+    @Value("${s3.cleanup.min-age-hours:24}")
+    private long reservationHours;
+
+    @Autowired
     private S3Client s3Client;
+
+    @Autowired
     private S3Presigner s3Presigner;
 
-    @PostConstruct
-    public void initializeS3Client() {
-        try {
-            Region awsRegion = Region.of(region);
+    @Autowired
+    private S3TransferManager transferManager;
 
-            // EC2 IAM Role을 통한 자동 인증
-            this.s3Client = S3Client.builder()
-                    .region(awsRegion)
-                    .credentialsProvider(InstanceProfileCredentialsProvider.create())
-                    .build();
+    @Autowired
+    private MeterRegistry meterRegistry;
 
-            this.s3Presigner = S3Presigner.builder()
-                    .region(awsRegion)
-                    .credentialsProvider(InstanceProfileCredentialsProvider.create())
-                    .build();
+    private ExecutorService presignExecutor;
 
-            log.info("S3 클라이언트 초기화 완료 (IAM Role 사용) - region: {}, bucket: {}, prefix: {}", 
-                region, bucketName, bucketPrefix);
-        } catch (Exception e) {
-            log.error("S3 클라이언트 초기화 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("S3 클라이언트 초기화에 실패했습니다.", e);
+    @PostConstruct
+    public void initialize() {
+        AtomicInteger sequence = new AtomicInteger();
+        this.presignExecutor = Executors.newFixedThreadPool(presignParallelism, runnable -> {
+            Thread thread = new Thread(runnable, "s3-presign-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        log.info("S3 서비스 초기화 완료 - region: {}, bucket: {}, prefix: {}", region, bucketName, bucketPrefix);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (presignExecutor != null) {
+            presignExecutor.shutdown();
         }
     }
 
@@ -89,79 +151,82 @@ public class S3Service {
         return prefix + key;
     }
 
-
 /**
-     * S3Client Bean 등록 - S3CleanupService 등에서 사용
+     * 바이트 배열을 Transfer Manager로 비동기 업로드 (큰 객체는 파트 단위 병렬 전송)
+     *
+     * @return 업로드된 객체 URL을 담은 future
      */
 
-    @Bean
-    public S3Client s3Client() {
-        if (this.s3Client == null) {
-            Region awsRegion = Region.of(region);
-
-            // EC2 IAM Role을 통한 자동 인증
-            this.s3Client = S3Client.builder()
-                    .region(awsRegion)
-                    .credentialsProvider(InstanceProfileCredentialsProvider.create())
-                    .build();
-        }
-        return this.s3Client;
+    public CompletableFuture<String> uploadBytesAsync(String objectKey, byte[] bytes, String fileExtension) {
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .contentType(determineContentType(fileExtension))
+                .cacheControl(IMMUTABLE_CACHE_CONTROL)
+                .build();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return transferManager.upload(UploadRequest.builder()
+                        .putObjectRequest(putRequest)
+                        .requestBody(AsyncRequestBody.fromBytes(bytes))
+                        .build())
+                .completionFuture()
+                .whenComplete((result, error) -> recordTransfer(sample, "upload", error))
+                .thenApply(result -> getObjectUrl(objectKey));
     }
 
+
 /**
-     * 배너 이미지 업로드 후 16:9 비율로 크롭 처리
+     * S3 URL의 객체를 Transfer Manager로 임시 파일에 내려받기 (큰 객체는 범위 단위 병렬 GET)
+     *
+     * 스트림을 붙잡은 채 디코딩하지 않도록 다운로드를 먼저 끝내고 파일로 넘깁니다.
+     * 반환된 파일은 호출자가 지워야 합니다.
      */
 
-    public String processBannerImageTo16x9(String originalS3Url) {
-        try {
-            log.info("배너 이미지 16:9 비율 처리 시작: {}", originalS3Url);
-
-            // S3 URL에서 객체 키 추출
-            String objectKey = extractObjectKeyFromUrl(originalS3Url);
-            log.info("추출된 객체 키: {}", objectKey);
-
-            // AWS SDK를 사용하여 직접 다운로드
-            var getObjectRequest = software.amazon.awssdk.services.s3.model.GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(objectKey)
-                    .build();
-
-            InputStream inputStream = s3Client.getObject(getObjectRequest);
-
-            // 파일 확장자 추출
-            String extension = imageProcessor.getFileExtension(originalS3Url);
-
-            // 16:9 비율로 크롭
-            ByteArrayOutputStream croppedImage = imageProcessor.cropTo16x9(inputStream, extension);
-
-            // 새 파일명 생성
-            String fileName = generateBannerFileName(extension);
-            String s3Key = bannerPrefix + fileName;
-
-            // S3에 크롭된 이미지 업로드
-            PutObjectRequest putRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .contentType(determineContentType(extension))
-                    .build();
+    public Path downloadToTempFile(String s3Url) throws IOException, InterruptedException {
+        String objectKey = extractObjectKeyFromUrl(s3Url);
+        String extension = imageProcessor.getFileExtension(objectKey);
+        // 대상 파일이 이미 있으면 Transfer Manager가 실패하므로 경로만 만들어 넘김
+        Path destination = Path.of(System.getProperty("java.io.tmpdir"), "s3-download-" + UUID.randomUUID() + "." + extension);
 
-            s3Client.putObject(putRequest,
-                RequestBody.fromBytes(croppedImage.toByteArray()));
-
-            // 원본 이미지 삭제 (선택사항)
-            deleteImageFromUrl(originalS3Url);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Throwable error = null;
+        try {
+            transferManager.downloadFile(DownloadFileRequest.builder()
+                            .getObjectRequest(builder -> builder.bucket(bucketName).key(objectKey))
+                            .destination(destination)
+                            .build())
+                    .completionFuture()
+                    .get();
+            return destination;
+        } catch (ExecutionException e) {
+            error = e.getCause() != null ? e.getCause() : e;
+            Files.deleteIfExists(destination);
+            throw new IOException("S3 객체 다운로드 실패: " + objectKey, error);
+        } catch (InterruptedException e) {
+            error = e;
+            Files.deleteIfExists(destination);
+            throw e;
+        } finally {
+            recordTransfer(sample, "download", error);
+        }
+    }
 
-            String processedS3Url = String.format("https://%s.s3.%s.amazonaws.com/%s",
-                bucketName, region, s3Key);
+    private void recordTransfer(Timer.Sample sample, String operation, Throwable error) {
+        sample.stop(Timer.builder("s3.transfer.duration")
+                .description("Transfer Manager 전송 시간")
+                .tag("operation", operation)
+                .tag("successful", String.valueOf(error == null))
+                .register(meterRegistry));
+    }
 
-            log.info("16:9 비율 배너 이미지 처리 완료: {} -> {}", originalS3Url, processedS3Url);
 
-            return processedS3Url;
+/**
+     * S3 URL에서 객체 키 추출 (외부 공개용)
+     */
 
-        } catch (Exception e) {
-            log.error("배너 이미지 처리 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("이미지 처리 중 오류가 발생했습니다.", e);
-        }
+    public String getObjectKeyFromUrl(String s3Url) {
+        return extractObjectKeyFromUrl(s3Url);
     }
 
 
@@ -193,21 +258,10 @@ public class S3Service {
 
 
 /**
-     * 배너 파일명 생성
-     */
-
-    private String generateBannerFileName(String extension) {
-        String uuid = UUID.randomUUID().toString();
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        return String.format("banner_%s_%s.%s", timestamp, uuid.substring(0, 8), extension);
-    }
-
-
-/**
-     * S3 URL에서 이미지 삭제
+     * S3 URL에서 이미지 삭제 (실패해도 예외를 던지지 않음)
      */
 
-    private void deleteImageFromUrl(String s3Url) {
+    public void deleteImageFromUrl(String s3Url) {
         try {
             String key = extractObjectKeyFromUrl(s3Url);
 
@@ -217,9 +271,9 @@ public class S3Service {
                     .build();
 
             s3Client.deleteObject(deleteRequest);
-            log.info("원본 이미지 삭제 완료: {}", key);
+            log.info("이미지 삭제 완료: {}", key);
         } catch (Exception e) {
-            log.warn("원본 이미지 삭제 실패: {}", e.getMessage());
+            log.warn("이미지 삭제 실패: {}", e.getMessage());
         }
     }
 
@@ -434,6 +488,9 @@ public class S3Service {
             case "bmp" -> "image/bmp";
             case "svg" -> "image/svg+xml";
             case "webp" -> "image/webp";
+            case "mp4" -> "video/mp4";
+            case "mov" -> "video/quicktime";
+            case "webm" -> "video/webm";
             default -> "application/octet-stream";
         };
     }
@@ -450,6 +507,8 @@ public class S3Service {
         try {
             s3Client.headObject(builder -> builder.bucket(bucketName).key(objectKey));
             return true;
+        } catch (NoSuchKeyException e) {
+            return false;
         } catch (Exception e) {
             log.warn("S3 객체 존재 확인 실패: {} - {}", objectKey, e.getMessage());
             return false;
@@ -493,6 +552,357 @@ public class S3Service {
     }
 
 
+
+    /**
+     * 배너 이미지 업로드용 presigned URL 생성 (sha256이 있으면 내용 기반 키 사용)
+     */
+    public PresignedUrlResponse generateBannerPresignedUrl(String fileExtension, String sha256) {
+        if (sha256 == null || sha256.isBlank()) {
+            return generateBannerPresignedUrl(fileExtension);
+        }
+        return generateContentAddressedPresignedUrl(bannerPrefix, fileExtension, sha256, presignedUrlExpirationSeconds);
+    }
+
+    /**
+     * Kokpost 이미지 업로드용 presigned URL 생성 (sha256이 있으면 내용 기반 키 사용)
+     */
+    public PresignedUrlResponse generateKokpostPresignedUrl(String fileExtension, String sha256) {
+        if (sha256 == null || sha256.isBlank()) {
+            return generateKokpostPresignedUrl(fileExtension);
+        }
+        return generateContentAddressedPresignedUrl("kokpost/", fileExtension, sha256, 300);
+    }
+
+    /**
+     * Kokpost 이미지 여러 장의 presigned URL을 한 번에 생성 (요청 순서대로 반환)
+     *
+     * @param fileExtensions 파일별 확장자
+     * @param sha256s        파일별 SHA-256 (없으면 null 항목, 목록 자체가 null이면 모두 일반 키)
+     */
+    public List<PresignedUrlResponse> generateKokpostPresignedUrls(List<String> fileExtensions, List<String> sha256s) {
+        return presignAll(fileExtensions.size(), index -> generateKokpostPresignedUrl(
+                fileExtensions.get(index), sha256s != null ? sha256s.get(index) : null));
+    }
+
+    /**
+     * 여러 presign 작업 실행 (개수가 많으면 presign 풀에서 병렬 처리, 결과는 요청 순서 유지)
+     */
+    private <T> List<T> presignAll(int count, IntFunction<T> presign) {
+        if (count <= PARALLEL_PRESIGN_THRESHOLD) {
+            List<T> responses = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                responses.add(presign.apply(i));
+            }
+            return responses;
+        }
+
+        List<CompletableFuture<T>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            futures.add(CompletableFuture.supplyAsync(() -> presign.apply(index), presignExecutor));
+        }
+
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            // 개별 작업의 예외(잘못된 해시 등)를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 멀티파트 업로드 시작
+     *
+     * 큰 파일(동영상 등)은 파트별 presigned URL로 병렬 업로드하고, 실패한 파트만 다시 올릴 수 있습니다.
+     * 완료/취소되지 않은 업로드는 S3 정리 작업이 일정 시간 후 취소합니다.
+     *
+     * @param target   업로드 대상 (kokpost, banner)
+     * @param fileSize 파일 크기 (null이면 파트 수 계산 생략)
+     */
+    public MultipartUploadInitResponse initiateMultipartUpload(String target, String fileExtension, Long fileSize) {
+        String uuid = UUID.randomUUID().toString();
+        String timestamp = String.valueOf(System.currentTimeMillis());
+        String fileName = String.format("%s-%s.%s", timestamp, uuid, fileExtension);
+        String objectKey = getFullKey(resolveUploadFolder(target) + fileName);
+
+        long partSize = MIN_MULTIPART_PART_SIZE;
+        Integer partCount = null;
+        if (fileSize != null) {
+            // 파트 수가 10,000개를 넘지 않도록 파트 크기 조정
+            partSize = Math.max(MIN_MULTIPART_PART_SIZE, (fileSize + MAX_MULTIPART_PARTS - 1) / MAX_MULTIPART_PARTS);
+            partCount = (int) Math.max(1, (fileSize + partSize - 1) / partSize);
+        }
+
+        try {
+            CreateMultipartUploadResponse response = s3Client.createMultipartUpload(builder -> builder
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .contentType(determineContentType(fileExtension)));
+
+            log.info("멀티파트 업로드 시작 - objectKey: {}, uploadId: {}, partSize: {}, partCount: {}",
+                    objectKey, response.uploadId(), partSize, partCount);
+
+            return MultipartUploadInitResponse.builder()
+                    .uploadId(response.uploadId())
+                    .objectKey(objectKey)
+                    .publicUrl(getObjectUrl(objectKey))
+                    .partSize(partSize)
+                    .partCount(partCount)
+                    .build();
+
+        } catch (Exception e) {
+            log.error("멀티파트 업로드 시작 중 오류 발생: {}", e.getMessage(), e);
+            throw new RuntimeException("멀티파트 업로드 시작에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 파트 업로드용 presigned URL 일괄 발급 (요청한 파트 번호 순서대로 반환)
+     */
+    public List<MultipartPartUrl> generateMultipartPartUrls(String objectKey, String uploadId, List<Integer> partNumbers) {
+        validateUploadKey(objectKey);
+
+        return presignAll(partNumbers.size(), index -> {
+            int partNumber = partNumbers.get(index);
+            UploadPartPresignRequest presignRequest = UploadPartPresignRequest.builder()
+                    .signatureDuration(Duration.ofSeconds(presignedUrlExpirationSeconds))
+                    .uploadPartRequest(builder -> builder
+                            .bucket(bucketName)
+                            .key(objectKey)
+                            .uploadId(uploadId)
+                            .partNumber(partNumber))
+                    .build();
+            return new MultipartPartUrl(partNumber, s3Presigner.presignUploadPart(presignRequest).url().toString());
+        });
+    }
+
+    /**
+     * 멀티파트 업로드 완료 (S3가 파트를 하나의 객체로 합침)
+     *
+     * @return 업로드된 객체의 공개 URL
+     */
+    public String completeMultipartUpload(String objectKey, String uploadId, List<MultipartCompleteRequest.Part> parts) {
+        validateUploadKey(objectKey);
+
+        List<CompletedPart> completedParts = parts.stream()
+                .sorted(Comparator.comparing(MultipartCompleteRequest.Part::getPartNumber))
+                .map(part -> CompletedPart.builder()
+                        .partNumber(part.getPartNumber())
+                        .eTag(part.getEtag())
+                        .build())
+                .toList();
+
+        try {
+            CompleteMultipartUploadResponse response = s3Client.completeMultipartUpload(builder -> builder
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .multipartUpload(upload -> upload.parts(completedParts)));
+
+            log.info("멀티파트 업로드 완료 - objectKey: {}, 파트 {}개, eTag: {}", objectKey, completedParts.size(), response.eTag());
+            return getObjectUrl(objectKey);
+
+        } catch (Exception e) {
+            log.error("멀티파트 업로드 완료 중 오류 발생: {}", e.getMessage(), e);
+            throw new RuntimeException("멀티파트 업로드 완료에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 멀티파트 업로드 취소 (업로드된 파트 삭제)
+     */
+    public void abortMultipartUpload(String objectKey, String uploadId) {
+        validateUploadKey(objectKey);
+
+        try {
+            s3Client.abortMultipartUpload(builder -> builder
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .uploadId(uploadId));
+            log.info("멀티파트 업로드 취소 - objectKey: {}, uploadId: {}", objectKey, uploadId);
+        } catch (Exception e) {
+            log.error("멀티파트 업로드 취소 중 오류 발생: {}", e.getMessage(), e);
+            throw new RuntimeException("멀티파트 업로드 취소에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private String resolveUploadFolder(String target) {
+        return switch (target) {
+            case "kokpost" -> "kokpost/";
+            case "banner" -> bannerPrefix;
+            default -> throw new IllegalArgumentException("지원하지 않는 업로드 대상입니다: " + target);
+        };
+    }
+
+    /**
+     * 클라이언트가 보낸 객체 키가 업로드 허용 폴더 안에 있는지 확인
+     */
+    private void validateUploadKey(String objectKey) {
+        boolean allowed = objectKey.startsWith(getFullKey("kokpost/")) || objectKey.startsWith(getFullKey(bannerPrefix));
+        if (!allowed || objectKey.contains("..")) {
+            throw new IllegalArgumentException("허용되지 않은 객체 키입니다: " + objectKey);
+        }
+    }
+
+    /**
+     * 내용 기반(SHA-256) 키로 업로드 준비
+     *
+     * 같은 내용의 파일이 이미 올라가 있으면 presigned URL 없이 기존 객체를 돌려주고,
+     * 없으면 {폴더}/sha256/{해시}.{확장자} 키로 presigned PUT URL을 만듭니다.
+     * 기존 객체는 오래되어 유예 기간이 지났을 수 있으므로, 돌려주기 전에 Redis에 예약을 남겨
+     * 엔티티가 저장될 때까지 S3 정리 작업이 지우지 않게 합니다. 예약할 수 없으면 재사용하지 않고 새로 업로드받습니다.
+     * 업로드 요청에는 requiredHeaders를 그대로 포함해야 하며, S3가 체크섬으로 내용과 해시 일치를 검증합니다.
+     *
+     * @param folder    업로드 폴더 (예: kokpost/)
+     * @param sha256Hex 파일 SHA-256 (16진수 64자)
+     */
+    public PresignedUrlResponse generateContentAddressedPresignedUrl(String folder, String fileExtension,
+                                                                   String sha256Hex, int expirationSeconds) {
+        String hash = sha256Hex.toLowerCase();
+        if (!hash.matches("^[0-9a-f]{64}$")) {
+            throw new IllegalArgumentException("SHA-256 해시는 16진수 64자여야 합니다.");
+        }
+
+        String normalizedFolder = folder.endsWith("/") ? folder : folder + "/";
+        String indexKey = CONTENT_HASH_INDEX_KEY_PREFIX + normalizedFolder + hash;
+
+        // 1. 인덱스에 있고 실제 객체도 있으면 재사용 (확장자가 달라도 같은 내용이면 재사용)
+        String indexedKey = getIndexedKey(indexKey);
+        if (indexedKey != null) {
+            boolean reserved = reserve(indexedKey);
+            if (doesObjectExist(indexedKey)) {
+                if (reserved) {
+                    log.info("내용 기반 업로드 재사용 - objectKey: {}", indexedKey);
+                    return existingObjectResponse(indexedKey);
+                }
+            } else {
+                removeIndexedKey(indexKey);
+            }
+        }
+
+        String fileName = hash + "." + fileExtension;
+        String objectKey = getFullKey(normalizedFolder + CONTENT_ADDRESSED_FOLDER + fileName);
+
+        // 2. 인덱스에는 없지만 같은 키가 이미 있으면 (Redis 초기화 등) 인덱스만 복구
+        if (reserve(objectKey) && doesObjectExist(objectKey)) {
+            putIndexedKey(indexKey, objectKey);
+            log.info("내용 기반 업로드 재사용 (인덱스 복구) - objectKey: {}", objectKey);
+            return existingObjectResponse(objectKey);
+        }
+
+        // 3. 새 업로드
+        try {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .contentType(determineContentType(fileExtension))
+                    .cacheControl(IMMUTABLE_CACHE_CONTROL)
+                    .checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(hash)))
+                    .build();
+
+            PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                    .signatureDuration(Duration.ofSeconds(expirationSeconds))
+                    .putObjectRequest(putObjectRequest)
+                    .build();
+
+            PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(presignRequest);
+
+            // 서명에 포함된 헤더는 업로드 시 그대로 보내야 함 (host 제외)
+            Map<String, String> requiredHeaders = new LinkedHashMap<>();
+            for (Map.Entry<String, List<String>> header : presignedRequest.signedHeaders().entrySet()) {
+                if (!"host".equalsIgnoreCase(header.getKey())) {
+                    requiredHeaders.put(header.getKey(), String.join(",", header.getValue()));
+                }
+            }
+
+            putIndexedKey(indexKey, objectKey);
+            log.info("내용 기반 presigned URL 생성 완료 - objectKey: {}", objectKey);
+
+            return PresignedUrlResponse.builder()
+                    .presignedUrl(presignedRequest.url().toString())
+                    .objectKey(objectKey)
+                    .fileName(fileName)
+                    .publicUrl(getObjectUrl(objectKey))
+                    .existing(false)
+                    .requiredHeaders(requiredHeaders)
+                    .build();
+
+        } catch (Exception e) {
+            log.error("내용 기반 Presigned URL 생성 중 오류 발생: {}", e.getMessage(), e);
+            throw new RuntimeException("Presigned URL 생성에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 내용 기반 키 URL 여부 (여러 엔티티가 공유할 수 있어 개별 삭제하지 않고 S3 정리 작업에 맡김)
+     */
+    public boolean isContentAddressedUrl(String s3Url) {
+        return s3Url != null && isContentAddressedKey(s3Url);
+    }
+
+    /**
+     * 내용 기반 객체 키 여부
+     */
+    public static boolean isContentAddressedKey(String objectKey) {
+        return objectKey.contains("/" + CONTENT_ADDRESSED_FOLDER);
+    }
+
+    /**
+     * 내용 기반 객체 재사용 예약 Redis 키
+     */
+    public static String reservationKey(String objectKey) {
+        return CONTENT_HASH_RESERVATION_KEY_PREFIX + objectKey;
+    }
+
+    // 예약은 삭제 방지용이므로 Redis 장애 시에는 재사용하지 않음 (같은 키로 새로 올리면 수정 시각이 갱신되어 유예 기간 동안 보호됨)
+    private boolean reserve(String objectKey) {
+        try {
+            redisTemplate.opsForValue().set(reservationKey(objectKey), "1", Duration.ofHours(Math.max(1, reservationHours)));
+            return true;
+        } catch (Exception e) {
+            log.warn("내용 기반 객체 예약 실패 (재사용하지 않고 새로 업로드): {} - {}", objectKey, e.getMessage());
+            return false;
+        }
+    }
+
+    private PresignedUrlResponse existingObjectResponse(String objectKey) {
+        return PresignedUrlResponse.builder()
+                .objectKey(objectKey)
+                .fileName(objectKey.substring(objectKey.lastIndexOf('/') + 1))
+                .publicUrl(getObjectUrl(objectKey))
+                .existing(true)
+                .build();
+    }
+
+    // 인덱스는 캐시 역할이므로 Redis 장애 시에도 업로드는 계속 진행 (S3 존재 확인으로 대체)
+    private String getIndexedKey(String indexKey) {
+        try {
+            return redisTemplate.opsForValue().get(indexKey);
+        } catch (Exception e) {
+            log.warn("내용 해시 인덱스 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putIndexedKey(String indexKey, String objectKey) {
+        try {
+            redisTemplate.opsForValue().set(indexKey, objectKey);
+        } catch (Exception e) {
+            log.warn("내용 해시 인덱스 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void removeIndexedKey(String indexKey) {
+        try {
+            redisTemplate.delete(indexKey);
+        } catch (Exception e) {
+            log.warn("내용 해시 인덱스 삭제 실패: {}", e.getMessage());
+        }
+    }
+
 /**
      * Presigned URL 응답 DTO
      */
@@ -506,6 +916,8 @@ public class S3Service {
         private String objectKey;
         private String fileName;
         private String publicUrl;
+        private boolean existing;  // 같은 내용의 객체가 이미 있어 업로드가 필요 없는지 여부
+        private Map<String, String> requiredHeaders;  // 업로드 요청에 포함해야 하는 헤더
 
         public String getPublicUrl() {
             if (this.publicUrl == null && this.objectKey != null) {
@@ -1,50 +1,40 @@
 
 package com.example.adminservice.service;
 
-import com.amazonaws.auth.InstanceProfileCredentialsProvider;
-import com.amazonaws.services.simpleemail.AmazonSimpleEmailService;
-import com.amazonaws.services.simpleemail.AmazonSimpleEmailServiceClientBuilder;
 import com.amazonaws.services.simpleemail.model.*;
+import com.example.adminservice.constant.EmailTemplateType;
+import com.example.adminservice.dto.email.BulkEmailRecipient;
+import com.example.adminservice.dto.email.EmailMessage;
+import com.example.adminservice.dto.email.RenderedEmail;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * AWS SES 이메일 발송 서비스
- * EC2 IAM Role을 통한 인증 사용
+ *
+ * send* 메서드는 호출 스레드에서 바로 발송하고 실패 시 예외를 던지며,
+ * *Safe 메서드는 EmailDispatchService 발송 큐에 적재만 하고 즉시 반환합니다.
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class SESService {
 
-    private AmazonSimpleEmailService sesClient;
-    
-    @Value("${aws.ses.from-email}")
-    private String fromEmail;
-    
-    @Value("${aws.ses.from-name:ChkokTeam}")
-    private String fromName;
-    
-    @Value("${aws.ses.region:ap-northeast-2}")
-    private String region;
-    
-    @PostConstruct
-    public void initializeSESClient() {
-        try {
-            // EC2 IAM Role을 통한 자동 인증
-            this.sesClient = AmazonSimpleEmailServiceClientBuilder.standard()
-                    .withCredentials(InstanceProfileCredentialsProvider.getInstance())
-                    .withRegion(region)
-                    .build();
-            
-            log.info("SES 클라이언트 초기화 완료 (IAM Role 사용) - region: {}, from: {}", region, fromEmail);
-        } catch (Exception e) {
-            log.error("SES 클라이언트 초기화 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("SES 클라이언트 초기화에 실패했습니다.", e);
-        }
-    }
+    /**
+     * SendBulkTemplatedEmail 1회당 최대 수신자 수
+     */
+    private static final int BULK_MAX_DESTINATIONS = 50;
+
+    private final SesEmailSender sesEmailSender;
+    private final EmailDispatchService emailDispatchService;
+    private final EmailTemplateService emailTemplateService;
+    private final SesRateGovernor sesRateGovernor;
 
 
 
@@ -56,31 +46,26 @@ public class SESService {
     public void sendEmail(String toEmail, String subject, String body) {
         try {
             validateEmailParameters(toEmail, subject, body);
+            sesRateGovernor.acquire(1);
             
-            // 영문 발신자 이름 사용 (한글 인코딩 문제 방지)
-            String fromAddress = fromName + " <" + fromEmail + ">";
-            
-            SendEmailRequest request = new SendEmailRequest()
-                    .withDestination(new Destination().withToAddresses(toEmail))
-                    .withMessage(new Message()
-                            .withBody(new Body()
-                                    .withText(new Content()
-                                            .withCharset("UTF-8")
-                                            .withData(body)))
-                            .withSubject(new Content()
-                                    .withCharset("UTF-8")
-                                    .withData(subject)))
-                    .withSource(fromAddress);
-
-            SendEmailResult result = sesClient.sendEmail(request);
+            String messageId = sesEmailSender.send(EmailMessage.builder()
+                    .toEmail(toEmail)
+                    .subject(subject)
+                    .body(body)
+                    .html(false)
+                    .build());
             log.info("이메일 발송 성공: messageId={}, to={}, subject={}", 
-                    result.getMessageId(), toEmail, subject);
+                    messageId, toEmail, subject);
+            sesRateGovernor.onSuccess(1);
                     
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("이메일 발송이 중단되었습니다.", e);
         } catch (MessageRejectedException e) {
             log.error("SES 메시지 거부: to={}, subject={}, reason={}", toEmail, subject, e.getMessage());
             throw new RuntimeException("이메일이 거부되었습니다. 수신자 주소를 확인해주세요.", e);
         } catch (MailFromDomainNotVerifiedException e) {
-            log.error("발신자 도메인 미인증: from={}, to={}", fromEmail, toEmail);
+            log.error("발신자 도메인 미인증: from={}, to={}", sesEmailSender.getFromEmail(), toEmail);
             throw new RuntimeException("발신자 이메일 도메인이 인증되지 않았습니다.", e);
         } catch (ConfigurationSetDoesNotExistException e) {
             log.error("SES 설정 오류: {}", e.getMessage());
@@ -105,31 +90,26 @@ public class SESService {
     public void sendHtmlEmail(String toEmail, String subject, String htmlBody) {
         try {
             validateEmailParameters(toEmail, subject, htmlBody);
+            sesRateGovernor.acquire(1);
             
-            // 영문 발신자 이름 사용 (한글 인코딩 문제 방지)
-            String fromAddress = fromName + " <" + fromEmail + ">";
-            
-            SendEmailRequest request = new SendEmailRequest()
-                    .withDestination(new Destination().withToAddresses(toEmail))
-                    .withMessage(new Message()
-                            .withBody(new Body()
-                                    .withHtml(new Content()
-                                            .withCharset("UTF-8")
-                                            .withData(htmlBody)))
-                            .withSubject(new Content()
-                                    .withCharset("UTF-8")
-                                    .withData(subject)))
-                    .withSource(fromAddress);
-
-            SendEmailResult result = sesClient.sendEmail(request);
+            String messageId = sesEmailSender.send(EmailMessage.builder()
+                    .toEmail(toEmail)
+                    .subject(subject)
+                    .body(htmlBody)
+                    .html(true)
+                    .build());
             log.info("HTML 이메일 발송 성공: messageId={}, to={}, subject={}", 
-                    result.getMessageId(), toEmail, subject);
+                    messageId, toEmail, subject);
+            sesRateGovernor.onSuccess(1);
                     
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("이메일 발송이 중단되었습니다.", e);
         } catch (MessageRejectedException e) {
             log.error("SES 메시지 거부: to={}, subject={}, reason={}", toEmail, subject, e.getMessage());
             throw new RuntimeException("이메일이 거부되었습니다. 수신자 주소를 확인해주세요.", e);
         } catch (MailFromDomainNotVerifiedException e) {
-            log.error("발신자 도메인 미인증: from={}, to={}", fromEmail, toEmail);
+            log.error("발신자 도메인 미인증: from={}, to={}", sesEmailSender.getFromEmail(), toEmail);
             throw new RuntimeException("발신자 이메일 도메인이 인증되지 않았습니다.", e);
         } catch (Exception e) {
             log.error("HTML 이메일 발송 중 예상치 못한 오류: to={}, subject={}, error={}", 
@@ -141,14 +121,14 @@ public class SESService {
 
 
 /**
-     * 안전한 이메일 발송 (예외를 던지지 않음)
+     * 안전한 이메일 발송 (발송 큐에 적재, 예외를 던지지 않음)
      */
 
 
     public boolean sendEmailSafe(String toEmail, String subject, String body) {
         try {
-            sendEmail(toEmail, subject, body);
-            return true;
+            validateEmailParameters(toEmail, subject, body);
+            return emailDispatchService.enqueue(toEmail, subject, body, false);
         } catch (Exception e) {
             log.warn("이메일 발송 실패했지만 무시함: to={}, error={}", toEmail, e.getMessage());
             return false;
@@ -158,14 +138,14 @@ public class SESService {
 
 
 /**
-     * 안전한 HTML 이메일 발송 (예외를 던지지 않음)
+     * 안전한 HTML 이메일 발송 (발송 큐에 적재, 예외를 던지지 않음)
      */
 
 
     public boolean sendHtmlEmailSafe(String toEmail, String subject, String htmlBody) {
         try {
-            sendHtmlEmail(toEmail, subject, htmlBody);
-            return true;
+            validateEmailParameters(toEmail, subject, htmlBody);
+            return emailDispatchService.enqueue(toEmail, subject, htmlBody, true);
         } catch (Exception e) {
             log.warn("HTML 이메일 발송 실패했지만 무시함: to={}, error={}", toEmail, e.getMessage());
             return false;
@@ -180,51 +160,8 @@ public class SESService {
 
 
     public void sendCampaignApprovedEmail(String toEmail, String nickname, String campaignTitle) {
-        String subject = "🎉 캠페인이 승인되었어요!";
-        String htmlBody = String.format("""
-            <html>
-            <body style="font-family: Arial, sans-serif; line-height: 1.6; color: #333;">
-                <div style="max-width: 600px; margin: 0 auto; padding: 20px;">
-                    <h1 style="color: #2388FF; text-align: center;">
-                        <img src="https://ckokservice.s3.ap-northeast-2.amazonaws.com/email/Frame+59.svg" style="width: 40px; height: 40px; vertical-align: middle;"> 축하해요!
-                    </h1>
-                    <div style="background-color: #2388FF; padding: 20px; border-radius: 8px; margin: 20px 0; text-align: center;">
-                        <h2 style="margin-top: 0; color: white;">%s님의 캠페인이 승인되었어요!</h2>
-                        <p style="font-size: 18px; margin: 15px 0; color: white;">
-                            <strong style="color: white;">캠페인: %s</strong>
-                        </p>
-                    </div>
-                                            
-                    <div style="background-color: #f9f9f9; padding: 20px; border-radius: 5px; margin: 20px 0;">
-                        <h3 style="margin-top: 0; color: #555;">다음 단계</h3>
-                        <ol style="color: #666; padding-left: 20px;">
-                            <li>체험콕에 로그인해주세요</li>
-                            <li>마이페이지에서 승인된 캠페인을 확인해주세요</li>
-                        </ol>
-                    </div>
-                    
-                    <div style="text-align: center; margin: 30px 0;">
-                        <a href="https://chkok.kr" 
-                           style="display: inline-block; padding: 15px 30px; background-color: #2388FF; color: white; text-decoration: none; border-radius: 5px; font-size: 16px;">
-                            캠페인 확인하기
-                        </a>
-                    </div>
-                    
-                    <p style="color: #666; text-align: center;">
-                        승인을 축하드려요! 🌟
-                    </p>
-                    
-                    <hr style="margin: 30px 0; border: none; border-top: 1px solid #ddd;">
-                    <p style="font-size: 12px; color: #888; text-align: center;">
-                        체험콕<br>
-                        이 이메일은 발송 전용이에요.
-                    </p>
-                </div>
-            </body>
-            </html>
-            """, nickname, campaignTitle);
-            
-        sendHtmlEmail(toEmail, subject, htmlBody);
+        RenderedEmail email = buildCampaignApprovedEmail(nickname, campaignTitle);
+        sendHtmlEmail(toEmail, email.subject(), email.html());
     }
 
 
@@ -236,8 +173,8 @@ public class SESService {
 
     public boolean sendCampaignApprovedEmailSafe(String toEmail, String nickname, String campaignTitle) {
         try {
-            sendCampaignApprovedEmail(toEmail, nickname, campaignTitle);
-            return true;
+            RenderedEmail email = buildCampaignApprovedEmail(nickname, campaignTitle);
+            return sendHtmlEmailSafe(toEmail, email.subject(), email.html());
         } catch (Exception e) {
             log.warn("캠페인 승인 이메일 발송 실패했지만 무시함: to={}, error={}", toEmail, e.getMessage());
             return false;
@@ -252,57 +189,8 @@ public class SESService {
 
 
     public void sendCampaignRejectedEmail(String toEmail, String nickname, String campaignTitle, String rejectionReason) {
-        String subject = "캠페인이 거절 되었어요!";
-        String htmlBody = String.format("""
-            <html>
-            <body style="font-family: Arial, sans-serif; line-height: 1.6; color: #333;">
-                <div style="max-width: 600px; margin: 0 auto; padding: 20px;">
-                    <h1 style="color: #2388FF; text-align: center;">
-                        <img src="https://ckokservice.s3.ap-northeast-2.amazonaws.com/email/Frame+59.svg" style="width: 40px; height: 40px; vertical-align: middle;"> 캠페인 심사 결과
-                    </h1>
-                    <div style="background-color: #2388FF; padding: 20px; border-radius: 8px; margin: 20px 0; text-align: center; border-left: 4px solid #2388FF;">
-                        <h2 style="margin-top: 0; color: white;">%s님의 캠페인이 승인되지 않았어요</h2>
-                        <p style="font-size: 18px; margin: 15px 0; color: #666;">
-                            <strong style="color: white;">캠페인: %s</strong>
-                        </p>
-                    </div>
-                    
-                    <div style="background-color: #2388FF; padding: 20px; border-radius: 5px; margin: 20px 0; border-left: 4px solid #2388FF;">
-                        <h3 style="margin-top: 0; color: white;">거절 사유</h3>
-                        <p style="color: white; margin-bottom: 0;">"%s"</p>
-                    </div>
-                                            
-                    <div style="background-color: #f9f9f9; padding: 20px; border-radius: 5px; margin: 20px 0;">
-                        <h3 style="margin-top: 0; color: #555;">다음 단계</h3>
-                        <ol style="color: #666; padding-left: 20px;">
-                            <li>거절 사유를 참고해주세요</li>
-                            <li>내용을 보완하여 새 캠페인으로 다시 신청해주세요</li>
-                            <li>추가 문의사항은 고객센터로 연락해주세요</li>
-                        </ol>
-                    </div>
-                    
-                    <div style="text-align: center; margin: 30px 0;">
-                        <a href="https://chkok.kr" 
-                           style="display: inline-block; padding: 15px 30px; background-color: #2388FF; color: white; text-decoration: none; border-radius: 5px; font-size: 16px;">
-                            새 캠페인 만들기
-                        </a>
-                    </div>
-                    
-                    <p style="color: #666; text-align: center;">
-                        더 나은 캠페인으로 다시 만나요!
-                    </p>
-                    
-                    <hr style="margin: 30px 0; border: none; border-top: 1px solid #ddd;">
-                    <p style="font-size: 12px; color: #888; text-align: center;">
-                        체험콕<br>
-                        이 이메일은 발송 전용이에요.
-                    </p>
-                </div>
-            </body>
-            </html>
-            """, nickname, campaignTitle, rejectionReason != null ? rejectionReason : "승인 기준을 충족하지 않습니다.");
-            
-        sendHtmlEmail(toEmail, subject, htmlBody);
+        RenderedEmail email = buildCampaignRejectedEmail(nickname, campaignTitle, rejectionReason);
+        sendHtmlEmail(toEmail, email.subject(), email.html());
     }
 
 
@@ -314,8 +202,8 @@ public class SESService {
 
     public boolean sendCampaignRejectedEmailSafe(String toEmail, String nickname, String campaignTitle, String rejectionReason) {
         try {
-            sendCampaignRejectedEmail(toEmail, nickname, campaignTitle, rejectionReason);
-            return true;
+            RenderedEmail email = buildCampaignRejectedEmail(nickname, campaignTitle, rejectionReason);
+            return sendHtmlEmailSafe(toEmail, email.subject(), email.html());
         } catch (Exception e) {
             log.warn("캠페인 거절 이메일 발송 실패했지만 무시함: to={}, error={}", toEmail, e.getMessage());
             return false;
@@ -329,57 +217,8 @@ public class SESService {
      */
 
     public void sendCampaignRevisionRequestEmail(String toEmail, String nickname, String campaignTitle, String revisionReason) {
-        String subject = "캠페인 수정이 요청되었어요!";
-        String htmlBody = String.format("""
-            <html>
-            <body style="font-family: Arial, sans-serif; line-height: 1.6; color: #333;">
-                <div style="max-width: 600px; margin: 0 auto; padding: 20px;">
-                    <h1 style="color: #2388FF; text-align: center;">
-                        <img src="https://ckokservice.s3.ap-northeast-2.amazonaws.com/email/Frame+59.svg" alt="축하 아이콘" style="width: 40px; height: 40px; vertical-align: middle;"> 캠페인 수정 요청!
-                    </h1>
-                    <div style="background-color: #2388FF; padding: 20px; border-radius: 8px; margin: 20px 0; text-align: center;">
-                        <h2 style="margin-top: 0; color: white;">%s님의 캠페인 수정이 요청되었어요!</h2>
-                        <p style="font-size: 18px; margin: 15px 0; color: white;">
-                            <strong style="color: white;">캠페인: %s</strong>
-                        </p>
-                    </div>
-                    
-                    <div style="background-color: #fff3e0; padding: 20px; border-radius: 5px; margin: 20px 0; border-left: 4px solid #FF9800;">
-                        <h3 style="margin-top: 0; color: #F57C00;">👏 수정 요청 사유</h3>
-                        <p style="color: #666; font-style: italic; margin-bottom: 0;">"%s"</p>
-                    </div>
-                                            
-                    <div style="background-color: #f9f9f9; padding: 20px; border-radius: 5px; margin: 20px 0;">
-                        <h3 style="margin-top: 0; color: #555;">다음 단계</h3>
-                        <ol style="color: #666; padding-left: 20px;">
-                            <li>수정 요청 사유를 확인해주세요</li>
-                            <li>해당 부분을 보완하여 다시 제출해주세요</li>
-                            <li>추가 문의사항은 고객센터로 연락해주세요</li>
-                        </ol>
-                    </div>
-                    
-                    <div style="text-align: center; margin: 30px 0;">
-                        <a href="https://chkok.kr/campaigns/my" 
-                           style="display: inline-block; padding: 15px 30px; background-color: #2388FF; color: white; text-decoration: none; border-radius: 5px; font-size: 16px;">
-                            캠페인 수정하러 가기
-                        </a>
-                    </div>
-                    
-                    <p style="color: #666; text-align: center;">
-                        빠른 시일 내에 수정해서 다시 제출해주세요. 💪
-                    </p>
-                    
-                    <hr style="margin: 30px 0; border: none; border-top: 1px solid #ddd;">
-                    <p style="font-size: 12px; color: #888; text-align: center;">
-                        체험콕<br>
-                        이 이메일은 발송 전용이에요.
-                    </p>
-                </div>
-            </body>
-            </html>
-            """, nickname, campaignTitle, revisionReason != null ? revisionReason : "세부 사항을 보완해 주세요.");
-            
-        sendHtmlEmail(toEmail, subject, htmlBody);
+        RenderedEmail email = buildCampaignRevisionRequestEmail(nickname, campaignTitle, revisionReason);
+        sendHtmlEmail(toEmail, email.subject(), email.html());
     }
 
 
@@ -391,8 +230,8 @@ public class SESService {
 
     public boolean sendCampaignRevisionRequestEmailSafe(String toEmail, String nickname, String campaignTitle, String revisionReason) {
         try {
-            sendCampaignRevisionRequestEmail(toEmail, nickname, campaignTitle, revisionReason);
-            return true;
+            RenderedEmail email = buildCampaignRevisionRequestEmail(nickname, campaignTitle, revisionReason);
+            return sendHtmlEmailSafe(toEmail, email.subject(), email.html());
         } catch (Exception e) {
             log.warn("캠페인 수정 요청 이메일 발송 실패했지만 무시함: to={}, error={}", toEmail, e.getMessage());
             return false;
@@ -401,6 +240,78 @@ public class SESService {
     
 
 
+/**
+     * 대량 템플릿 이메일 발송 (SES 서버 측 템플릿 사용, 발송 큐에 적재, 예외를 던지지 않음)
+     * 수신자를 50명 단위로 묶어 SendBulkTemplatedEmail 1회분씩 적재합니다.
+     * aws.ses.templates.sync-enabled=true로 템플릿이 SES에 등록되어 있어야 합니다.
+     *
+     * @return 발송 큐에 적재된 수신자 수
+     */
+    public int sendBulkTemplatedEmailSafe(EmailTemplateType templateType, List<BulkEmailRecipient> recipients) {
+        String templateName = emailTemplateService.getSesTemplateName(templateType);
+        List<BulkEmailRecipient> batch = new ArrayList<>(BULK_MAX_DESTINATIONS);
+        int enqueued = 0;
+
+        for (BulkEmailRecipient recipient : recipients) {
+            if (recipient.getToEmail() == null || !isValidEmailFormat(recipient.getToEmail())) {
+                log.warn("대량 이메일 수신자 형식 오류로 제외: to={}", recipient.getToEmail());
+                continue;
+            }
+            batch.add(recipient);
+            if (batch.size() == BULK_MAX_DESTINATIONS) {
+                enqueued += enqueueBulkBatch(templateName, batch);
+                batch = new ArrayList<>(BULK_MAX_DESTINATIONS);
+            }
+        }
+        if (!batch.isEmpty()) {
+            enqueued += enqueueBulkBatch(templateName, batch);
+        }
+
+        log.info("대량 이메일 발송 적재: template={}, 요청={}명, 적재={}명", templateName, recipients.size(), enqueued);
+        return enqueued;
+    }
+
+    /**
+     * 대량 템플릿 발송 가능 여부 (SES 서버 측 템플릿 등록 설정)
+     */
+    public boolean isBulkTemplatedEmailEnabled() {
+        return emailTemplateService.isSyncEnabled();
+    }
+
+    private int enqueueBulkBatch(String templateName, List<BulkEmailRecipient> batch) {
+        return emailDispatchService.enqueueBulk(templateName, batch) ? batch.size() : 0;
+    }
+
+
+
+    private RenderedEmail buildCampaignApprovedEmail(String nickname, String campaignTitle) {
+        return emailTemplateService.render(EmailTemplateType.CAMPAIGN_APPROVED,
+                templateValues("nickname", nickname, "campaignTitle", campaignTitle));
+    }
+
+    private RenderedEmail buildCampaignRejectedEmail(String nickname, String campaignTitle, String rejectionReason) {
+        return emailTemplateService.render(EmailTemplateType.CAMPAIGN_REJECTED,
+                templateValues("nickname", nickname, "campaignTitle", campaignTitle,
+                        "rejectionReason", rejectionReason != null ? rejectionReason : "승인 기준을 충족하지 않습니다."));
+    }
+
+    private RenderedEmail buildCampaignRevisionRequestEmail(String nickname, String campaignTitle, String revisionReason) {
+        return emailTemplateService.render(EmailTemplateType.CAMPAIGN_REVISION_REQUEST,
+                templateValues("nickname", nickname, "campaignTitle", campaignTitle,
+                        "revisionReason", revisionReason != null ? revisionReason : "세부 사항을 보완해 주세요."));
+    }
+
+    /**
+     * 템플릿 변수 맵 생성 (key, value 순서, null 값 허용)
+     */
+    private static Map<String, String> templateValues(String... keyValues) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            values.put(keyValues[i], keyValues[i + 1]);
+        }
+        return values;
+    }
+
 /**
      * 이메일 파라미터 검증
      */
@@ -440,7 +351,7 @@ public class SESService {
 
     public boolean testConnection() {
         try {
-            GetSendQuotaResult quota = sesClient.getSendQuota();
+            GetSendQuotaResult quota = sesEmailSender.getSendQuota();
             log.info("SES 연결 테스트 성공 - 일일 발송 한도: {}, 초당 발송율: {}", 
                     quota.getMax24HourSend(), quota.getMaxSendRate());
             return true;
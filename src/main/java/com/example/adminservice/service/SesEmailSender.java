@@ -0,0 +1,158 @@
+package com.example.adminservice.service;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.auth.InstanceProfileCredentialsProvider;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.simpleemail.AmazonSimpleEmailService;
+import com.amazonaws.services.simpleemail.AmazonSimpleEmailServiceClientBuilder;
+import com.amazonaws.services.simpleemail.model.*;
+import com.example.adminservice.dto.email.EmailMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AWS SES 클라이언트를 감싼 저수준 이메일 발송기
+ *
+ * EC2 IAM Role을 통한 인증을 사용하며, aws.ses.endpoint를 지정하면
+ * 로컬 SES 대체 서버(LocalStack 등)로 발송합니다.
+ * SDK 예외를 그대로 던지므로 예외 변환/재시도는 호출자가 담당합니다.
+ */
+@Slf4j
+@Component
+public class SesEmailSender {
+
+    private AmazonSimpleEmailService sesClient;
+
+    @Value("${aws.ses.from-email}")
+    private String fromEmail;
+
+    @Value("${aws.ses.from-name:ChkokTeam}")
+    private String fromName;
+
+    @Value("${aws.ses.region:ap-northeast-2}")
+    private String region;
+
+    @Value("${aws.ses.endpoint:}")
+    private String endpoint;
+
+    @PostConstruct
+    public void initializeSESClient() {
+        try {
+            AmazonSimpleEmailServiceClientBuilder builder = AmazonSimpleEmailServiceClientBuilder.standard();
+
+            if (endpoint != null && !endpoint.isBlank()) {
+                // 로컬 SES 대체 서버는 자격 증명을 검사하지 않음
+                builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                        .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("local", "local")));
+            } else {
+                // EC2 IAM Role을 통한 자동 인증
+                builder.withCredentials(InstanceProfileCredentialsProvider.getInstance())
+                        .withRegion(region);
+            }
+            this.sesClient = builder.build();
+
+            log.info("SES 클라이언트 초기화 완료 - region: {}, from: {}, endpoint: {}",
+                    region, fromEmail, endpoint == null || endpoint.isBlank() ? "AWS" : endpoint);
+        } catch (Exception e) {
+            log.error("SES 클라이언트 초기화 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("SES 클라이언트 초기화에 실패했습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sesClient != null) {
+            sesClient.shutdown();
+        }
+    }
+
+    /**
+     * 이메일 1건 발송 (SDK 예외를 그대로 던짐)
+     *
+     * @return SES 메시지 ID
+     */
+    public String send(EmailMessage message) {
+        Content content = new Content()
+                .withCharset("UTF-8")
+                .withData(message.getBody());
+        Body body = message.isHtml() ? new Body().withHtml(content) : new Body().withText(content);
+
+        SendEmailRequest request = new SendEmailRequest()
+                .withDestination(new Destination().withToAddresses(message.getToEmail()))
+                .withMessage(new Message()
+                        .withBody(body)
+                        .withSubject(new Content()
+                                .withCharset("UTF-8")
+                                .withData(message.getSubject())))
+                .withSource(getFromAddress());
+
+        return sesClient.sendEmail(request).getMessageId();
+    }
+
+    /**
+     * SES 템플릿으로 최대 50명에게 한 번에 발송 (수신자 순서대로 결과 반환)
+     *
+     * @param toEmails     수신자 이메일 목록
+     * @param templateData 수신자별 템플릿 변수 JSON (toEmails와 같은 순서)
+     */
+    public List<BulkEmailDestinationStatus> sendBulkTemplated(String templateName,
+                                                              List<String> toEmails,
+                                                              List<String> templateData) {
+        List<BulkEmailDestination> destinations = new ArrayList<>(toEmails.size());
+        for (int i = 0; i < toEmails.size(); i++) {
+            destinations.add(new BulkEmailDestination()
+                    .withDestination(new Destination().withToAddresses(toEmails.get(i)))
+                    .withReplacementTemplateData(templateData.get(i)));
+        }
+
+        SendBulkTemplatedEmailRequest request = new SendBulkTemplatedEmailRequest()
+                .withSource(getFromAddress())
+                .withTemplate(templateName)
+                .withDefaultTemplateData("{}")
+                .withDestinations(destinations);
+
+        return sesClient.sendBulkTemplatedEmail(request).getStatus();
+    }
+
+    /**
+     * SES 서버 측 템플릿 등록 (이미 있으면 갱신)
+     */
+    public void upsertTemplate(String templateName, String subject, String html) {
+        Template template = new Template()
+                .withTemplateName(templateName)
+                .withSubjectPart(subject)
+                .withHtmlPart(html);
+        try {
+            sesClient.updateTemplate(new UpdateTemplateRequest().withTemplate(template));
+            log.info("SES 템플릿 갱신: {}", templateName);
+        } catch (TemplateDoesNotExistException e) {
+            sesClient.createTemplate(new CreateTemplateRequest().withTemplate(template));
+            log.info("SES 템플릿 생성: {}", templateName);
+        }
+    }
+
+    /**
+     * SES 발송 한도 조회
+     */
+    public GetSendQuotaResult getSendQuota() {
+        return sesClient.getSendQuota();
+    }
+
+    /**
+     * 발신자 주소 (영문 발신자 이름 사용, 한글 인코딩 문제 방지)
+     */
+    public String getFromAddress() {
+        return fromName + " <" + fromEmail + ">";
+    }
+
+    public String getFromEmail() {
+        return fromEmail;
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.adminservice.service;
+
+import com.amazonaws.services.simpleemail.model.GetSendQuotaResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SES 초당 발송 한도를 지키기 위한 토큰 버킷
+ *
+ * - 목표 속도는 SES 계정 한도(maxSendRate) x 사용률로 정하고 주기적으로 갱신
+ * - SES 한도는 계정 전체에 걸리므로, Redis에 하트비트를 남긴 살아 있는 인스턴스 수로 나눈 몫만 사용
+ * - 수신자 1명당 토큰 1개를 소비하며, 토큰이 모자라면 호출 스레드가 필요한 만큼 대기
+ * - 스로틀링 응답을 받으면 속도를 절반으로 줄이고, 이후 성공할 때마다 목표 속도까지 서서히 회복
+ */
+@Slf4j
+@Component
+public class SesRateGovernor {
+
+    private static final String INSTANCES_KEY = "email:ses:instances";
+
+    /**
+     * 하트비트 기록 후 살아 있는 인스턴스 수 반환
+     * KEYS[1]: 인스턴스 ZSET (score: 마지막 하트비트 시각)
+     * ARGV[1]: 현재 시각(ms), ARGV[2]: 인스턴스 만료 시간(ms), ARGV[3]: 인스턴스 ID
+     */
+    private static final RedisScript<Long> HEARTBEAT_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local ttl = tonumber(ARGV[2])
+            redis.call('ZADD', KEYS[1], now, ARGV[3])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - ttl)
+            redis.call('PEXPIRE', KEYS[1], ttl)
+            return redis.call('ZCARD', KEYS[1])
+            """, Long.class);
+
+    private final SesEmailSender sesEmailSender;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Counter sentCounter;
+    private final Counter throttledCounter;
+
+    @Value("${aws.ses.rate.utilization:0.9}")
+    private double utilization;
+
+    @Value("${aws.ses.rate.default-per-second:1}")
+    private double defaultRatePerSecond;
+
+    @Value("${aws.ses.rate.min-per-second:0.5}")
+    private double minRatePerSecond;
+
+    @Value("${aws.ses.rate.recovery-step:0.05}")
+    private double recoveryStep;
+
+    @Value("${aws.ses.rate.instance-ttl-ms:15000}")
+    private long instanceTtlMs;
+
+    // 계정 전체 목표 속도 (maxSendRate x 사용률), targetRate는 이 값을 인스턴스 수로 나눈 몫
+    private double quotaRate;
+    private int liveInstances = 1;
+    private double targetRate;
+    private double currentRate;
+    private double tokens;
+    private long lastRefillNanos;
+    private long lastAdjustNanos;
+
+    private final AtomicLong sentInWindow = new AtomicLong();
+    private volatile double observedRate;
+
+    public SesRateGovernor(SesEmailSender sesEmailSender,
+                           RedisTemplate<String, String> redisTemplate,
+                           MeterRegistry meterRegistry) {
+        this.sesEmailSender = sesEmailSender;
+        this.redisTemplate = redisTemplate;
+        this.sentCounter = Counter.builder("email.ses.sent")
+                .description("SES로 발송한 수신자 수")
+                .register(meterRegistry);
+        this.throttledCounter = Counter.builder("email.ses.throttled")
+                .description("SES 스로틀링 응답 수")
+                .register(meterRegistry);
+        Gauge.builder("email.ses.rate.limit", this, SesRateGovernor::getCurrentRate)
+                .description("현재 초당 발송 허용량")
+                .register(meterRegistry);
+        Gauge.builder("email.ses.rate.observed", this, SesRateGovernor::getObservedRate)
+                .description("최근 실제 초당 발송량")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void initialize() {
+        synchronized (this) {
+            quotaRate = defaultRatePerSecond;
+            targetRate = defaultRatePerSecond;
+            currentRate = defaultRatePerSecond;
+            tokens = 1;
+            lastRefillNanos = System.nanoTime();
+            lastAdjustNanos = lastRefillNanos;
+        }
+        heartbeat();
+        refreshQuota();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            redisTemplate.opsForZSet().remove(INSTANCES_KEY, instanceId);
+        } catch (Exception e) {
+            log.warn("SES 발송 인스턴스 등록 해제 실패 (만료 후 자동 제외): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 하트비트를 남기고 살아 있는 인스턴스 수로 이 인스턴스의 몫을 다시 계산
+     * Redis 장애 시에는 마지막으로 확인한 인스턴스 수를 유지합니다.
+     */
+    @Scheduled(fixedDelayString = "${aws.ses.rate.heartbeat-ms:5000}", initialDelayString = "${aws.ses.rate.heartbeat-ms:5000}")
+    public void heartbeat() {
+        try {
+            Long count = redisTemplate.execute(HEARTBEAT_SCRIPT, List.of(INSTANCES_KEY),
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(instanceTtlMs), instanceId);
+            int instances = count == null ? 1 : (int) Math.max(1, count);
+            synchronized (this) {
+                if (instances != liveInstances) {
+                    log.info("SES 발송 인스턴스 수 변경: {} -> {}", liveInstances, instances);
+                    liveInstances = instances;
+                    applyShare();
+                }
+            }
+        } catch (Exception e) {
+            log.warn("SES 발송 인스턴스 하트비트 실패, 기존 인스턴스 수 유지: instances={}, error={}",
+                    getLiveInstances(), e.getMessage());
+        }
+    }
+
+    /**
+     * SES 계정 발송 한도로 목표 속도 갱신
+     */
+    @Scheduled(fixedDelayString = "${aws.ses.rate.quota-refresh-ms:600000}", initialDelayString = "${aws.ses.rate.quota-refresh-ms:600000}")
+    public void refreshQuota() {
+        try {
+            GetSendQuotaResult quota = sesEmailSender.getSendQuota();
+            double rate = quota.getMaxSendRate() * utilization;
+            synchronized (this) {
+                boolean changed = Math.abs(rate - quotaRate) > 0.001;
+                quotaRate = rate;
+                applyShare();
+                if (changed) {
+                    log.info("SES 발송 속도 한도 갱신: maxSendRate={}, 인스턴스 {}개, target={}/s, 24시간 발송 {}/{}",
+                            quota.getMaxSendRate(), liveInstances, targetRate,
+                            quota.getSentLast24Hours(), quota.getMax24HourSend());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("SES 발송 한도 조회 실패, 기존 속도 유지: target={}/s, error={}", getTargetRate(), e.getMessage());
+        }
+    }
+
+    /**
+     * 발송 permits건(수신자 수)에 필요한 토큰을 확보할 때까지 대기
+     */
+    public void acquire(int permits) throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            // 토큰을 미리 차감(부족분은 빚)하고, 빚을 갚는 데 필요한 시간만큼 대기
+            tokens -= permits;
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens / currentRate * TimeUnit.SECONDS.toNanos(1));
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 발송 성공 기록 (스로틀링 이후 초당 1회씩 목표 속도까지 회복)
+     */
+    public void onSuccess(int recipients) {
+        sentCounter.increment(recipients);
+        sentInWindow.addAndGet(recipients);
+
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (currentRate < targetRate && now - lastAdjustNanos >= TimeUnit.SECONDS.toNanos(1)) {
+                refill();
+                currentRate = Math.min(targetRate, currentRate + targetRate * recoveryStep);
+                lastAdjustNanos = now;
+            }
+        }
+    }
+
+    /**
+     * 스로틀링 응답 기록 (속도를 절반으로 줄임)
+     */
+    public void onThrottled() {
+        throttledCounter.increment();
+        synchronized (this) {
+            refill();
+            double reduced = Math.max(minRatePerSecond, currentRate / 2);
+            if (reduced < currentRate) {
+                log.warn("SES 스로틀링 감지, 발송 속도 감소: {}/s -> {}/s", currentRate, reduced);
+            }
+            currentRate = reduced;
+            tokens = Math.min(tokens, 0);
+            lastAdjustNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * 최근 실제 발송 속도 계산 (지수 이동 평균)
+     */
+    @Scheduled(fixedRate = 1000)
+    public void sampleObservedRate() {
+        long sent = sentInWindow.getAndSet(0);
+        observedRate = observedRate * 0.8 + sent * 0.2;
+    }
+
+    public synchronized double getCurrentRate() {
+        return currentRate;
+    }
+
+    public synchronized double getTargetRate() {
+        return targetRate;
+    }
+
+    public double getObservedRate() {
+        return observedRate;
+    }
+
+    public synchronized int getLiveInstances() {
+        return liveInstances;
+    }
+
+    /**
+     * 계정 전체 목표 속도를 인스턴스 수로 나눠 이 인스턴스의 목표 속도로 반영 (호출 측에서 동기화)
+     */
+    private void applyShare() {
+        targetRate = Math.max(minRatePerSecond, quotaRate / liveInstances);
+        currentRate = Math.min(currentRate, targetRate);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double elapsedSeconds = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        // 버스트는 1초 분량까지만 허용
+        double capacity = Math.max(1, currentRate);
+        tokens = Math.min(capacity, tokens + elapsedSeconds * currentRate);
+        lastRefillNanos = now;
+    }
+}
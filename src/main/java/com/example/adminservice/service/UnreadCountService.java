@@ -0,0 +1,198 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자별 읽지 않은 개인 알림 개수를 Redis 카운터로 관리하는 서비스
+ *
+ * 카운터가 있을 때만 증감하고, 없으면 조회 시점에 인덱스(idx_notifications_user_unread)로 다시 계산합니다.
+ * DB 변경이 커밋된 뒤에 카운터를 갱신하여 롤백 시 어긋나지 않도록 합니다.
+ * 카운터가 없을 때 들어온 증감/무효화는 사용자별 버전(전체 무효화는 전역 버전)을 올리며,
+ * 재계산 결과는 DB를 세기 전에 읽은 버전이 그대로일 때만 저장하므로 그 사이 커밋된 변경을 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadCountService {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String VERSION_KEY_PREFIX = "notification:unread-version:";
+    private static final String EPOCH_KEY = "notification:unread-epoch";
+
+    // 버전 키는 진행 중인 재계산보다 오래 남기만 하면 됨
+    private static final long VERSION_TTL_SECONDS = 3600;
+
+    /**
+     * 키가 있을 때만 증감 (0 미만으로 내려가지 않음), 없으면 버전을 올려 진행 중인 재계산 결과를 버림
+     * KEYS[1]: 카운터, KEYS[2]: 사용자 버전, ARGV[1]: 증감, ARGV[2]: 버전 TTL(초)
+     */
+    private static final RedisScript<Long> ADJUST_IF_EXISTS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('INCR', KEYS[2])
+                redis.call('EXPIRE', KEYS[2], ARGV[2])
+                return nil
+            end
+            local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if value < 0 then redis.call('SET', KEYS[1], 0, 'KEEPTTL') return 0 end
+            return value
+            """, Long.class);
+
+    /**
+     * 카운터 삭제와 버전 증가 (KEYS: 카운터/사용자 버전 쌍 목록, ARGV[1]: 버전 TTL(초))
+     */
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS, 2 do
+                redis.call('DEL', KEYS[i])
+                redis.call('INCR', KEYS[i + 1])
+                redis.call('EXPIRE', KEYS[i + 1], ARGV[1])
+            end
+            return #KEYS / 2
+            """, Long.class);
+
+    /**
+     * 재계산 값 저장 (버전이 그대로이고 카운터가 없을 때만)
+     * KEYS[1]: 카운터, KEYS[2]: 사용자 버전, KEYS[3]: 전역 버전
+     * ARGV[1]: 읽어 둔 사용자 버전, ARGV[2]: 읽어 둔 전역 버전, ARGV[3]: 개수, ARGV[4]: 카운터 TTL(초)
+     */
+    private static final RedisScript<Long> STORE_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end
+            if (redis.call('GET', KEYS[3]) or '0') ~= ARGV[2] then return 0 end
+            if redis.call('SET', KEYS[1], ARGV[3], 'EX', ARGV[4], 'NX') then return 1 end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final NotificationRepository notificationRepository;
+
+    @Value("${notification.unread-counter.ttl-hours:24}")
+    private long counterTtlHours;
+
+    /**
+     * 읽지 않은 개인 알림 개수 조회 (캐시 미스 시 DB에서 재계산)
+     */
+    public long getUnreadCount(Long userId) {
+        String cached = redisTemplate.opsForValue().get(key(userId));
+        if (cached != null) {
+            return Long.parseLong(cached);
+        }
+
+        // DB를 세기 전에 버전을 읽어 두고, 저장 시점에 바뀌었으면 (그 사이 변경이 커밋됨) 캐시하지 않음
+        List<String> versions = redisTemplate.opsForValue().multiGet(List.of(versionKey(userId), EPOCH_KEY));
+        Long count = notificationRepository.countUnreadByUserId(userId);
+        Long stored = redisTemplate.execute(STORE_IF_UNCHANGED_SCRIPT,
+                List.of(key(userId), versionKey(userId), EPOCH_KEY),
+                versionOf(versions, 0), versionOf(versions, 1), String.valueOf(count),
+                String.valueOf(Duration.ofHours(counterTtlHours).getSeconds()));
+        log.debug("읽지 않은 알림 카운터 재계산: userId={}, count={}, cached={}", userId, count, stored != null && stored == 1L);
+        return count;
+    }
+
+    /**
+     * 새 알림 생성 시 카운터 증가
+     */
+    public void increment(Long userId) {
+        afterCommit(() -> adjust(userId, 1));
+    }
+
+    /**
+     * 알림 읽음/삭제 시 카운터 감소
+     */
+    public void decrement(Long userId) {
+        afterCommit(() -> adjust(userId, -1));
+    }
+
+    /**
+     * 모든 알림 읽음 처리 시 카운터 초기화
+     */
+    public void reset(Long userId) {
+        afterCommit(() -> redisTemplate.opsForValue().set(key(userId), "0", Duration.ofHours(counterTtlHours)));
+    }
+
+    /**
+     * 대량 적재 등 개별 증감이 비효율적인 경우 카운터 무효화 (다음 조회 시 재계산)
+     */
+    public void invalidate(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(userIds.size() * 2);
+        userIds.forEach(userId -> {
+            keys.add(key(userId));
+            keys.add(versionKey(userId));
+        });
+        afterCommit(() -> redisTemplate.execute(INVALIDATE_SCRIPT, keys, String.valueOf(VERSION_TTL_SECONDS)));
+    }
+
+    /**
+     * 모든 사용자의 카운터 무효화 (보관 기간 정리 작업 후)
+     */
+    public void invalidateAll() {
+        afterCommit(this::deleteAllCounters);
+    }
+
+    private void deleteAllCounters() {
+        redisTemplate.opsForValue().increment(EPOCH_KEY);
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+        log.info("읽지 않은 알림 카운터 전체 무효화: {}개", keys.size());
+    }
+
+    private void adjust(Long userId, long delta) {
+        try {
+            redisTemplate.execute(ADJUST_IF_EXISTS_SCRIPT, List.of(key(userId), versionKey(userId)),
+                    String.valueOf(delta), String.valueOf(VERSION_TTL_SECONDS));
+        } catch (Exception e) {
+            // 카운터 갱신 실패 시 키를 지워 다음 조회 때 재계산되도록 함
+            log.warn("읽지 않은 알림 카운터 갱신 실패: userId={}, error={}", userId, e.getMessage());
+            redisTemplate.delete(key(userId));
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private String versionKey(Long userId) {
+        return VERSION_KEY_PREFIX + userId;
+    }
+
+    private static String versionOf(List<String> versions, int index) {
+        String version = versions != null ? versions.get(index) : null;
+        return version != null ? version : "0";
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.constant.ViewCountTarget;
+import com.example.adminservice.repository.ViewCountBulkRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공지사항/콕포스트 조회수 버퍼
+ *
+ * 조회 시에는 메모리의 LongAdder만 증가시키고, 주기적으로 쌓인 증가분을 대상별 UPDATE 한 번으로 DB에 반영합니다.
+ * 인기 글 조회가 같은 행 잠금을 두고 줄 서지 않으며, 증가분만 더하므로 여러 인스턴스가 동시에 반영해도 합이 맞습니다.
+ * DB에 반영된 증가분은 인기 순위(PopularityService)에도 함께 더합니다.
+ * 반영 전에 인스턴스가 비정상 종료되면 마지막 주기의 증가분은 유실될 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private final ViewCountBulkRepository viewCountBulkRepository;
+    private final PopularityService popularityService;
+
+    // 엔트리는 지우지 않음 (제거와 증가가 겹치면 증가분이 유실되므로, 조회된 글 수만큼만 유지)
+    private final Map<ViewCountTarget, ConcurrentHashMap<Long, LongAdder>> pending = new EnumMap<>(ViewCountTarget.class);
+
+    {
+        for (ViewCountTarget target : ViewCountTarget.values()) {
+            pending.put(target, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 조회수 1 증가 (DB 반영은 다음 flush 때)
+     */
+    public void increment(ViewCountTarget target, Long id) {
+        pending.get(target).computeIfAbsent(id, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 쌓인 증가분을 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:5000}")
+    public void flush() {
+        for (ViewCountTarget target : ViewCountTarget.values()) {
+            flush(target);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private synchronized void flush(ViewCountTarget target) {
+        ConcurrentHashMap<Long, LongAdder> counters = pending.get(target);
+        Map<Long, Long> deltas = new HashMap<>();
+        counters.forEach((id, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(id, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            int updated = viewCountBulkRepository.addViewCounts(target, deltas);
+            log.debug("조회수 반영: {} {}건 (갱신 {}행)", target, deltas.size(), updated);
+            popularityService.record(target, deltas);
+        } catch (Exception e) {
+            // 반영 실패 시 증가분을 되돌려 다음 주기에 다시 시도
+            deltas.forEach((id, delta) -> counters.computeIfAbsent(id, key -> new LongAdder()).add(delta));
+            log.warn("조회수 반영 실패 (다음 주기에 재시도): {} {}건 - {}", target, deltas.size(), e.getMessage());
+        }
+    }
+}
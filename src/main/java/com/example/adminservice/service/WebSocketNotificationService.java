@@ -0,0 +1,49 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.dto.NotificationResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * WebSocket 실시간 알림 전송 서비스
+ *
+ * 로컬 세션에 직접 보내지 않고 Redis 중계를 거치므로,
+ * 사용자가 어느 노드에 연결되어 있어도 알림이 전달됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WebSocketNotificationService {
+
+    public static final String TYPE_NOTIFICATION = "NOTIFICATION";
+    public static final String TYPE_UNREAD_COUNT = "UNREAD_COUNT";
+
+    private final NotificationRelayService notificationRelayService;
+
+    /**
+     * 특정 사용자에게 알림 전송
+     */
+    public void sendNotificationToUser(Long userId, NotificationResponse notification) {
+        log.debug("실시간 알림 전송 요청: userId={}, notificationId={}", userId, notification.getId());
+        notificationRelayService.publishToUser(userId, TYPE_NOTIFICATION, notification);
+    }
+
+    /**
+     * 특정 사용자에게 읽지 않은 알림 개수 전송
+     */
+    public void sendUnreadCountUpdate(Long userId, Long unreadCount) {
+        log.debug("읽지 않은 알림 개수 전송 요청: userId={}, count={}", userId, unreadCount);
+        notificationRelayService.publishToUser(userId, TYPE_UNREAD_COUNT, Map.of("unreadCount", unreadCount));
+    }
+
+    /**
+     * 모든 연결된 사용자에게 알림 전송
+     */
+    public void sendBroadcastNotification(NotificationResponse notification) {
+        log.debug("전체 실시간 알림 전송 요청: notificationId={}", notification.getId());
+        notificationRelayService.publishToAll(TYPE_NOTIFICATION, notification);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.adminservice.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {{변수}} 자리표시자를 가진 템플릿을 미리 파싱해 둔 렌더러
+ *
+ * - 생성 시 한 번만 파싱해 고정 문자열 조각과 변수 이름 목록으로 나눔
+ * - 렌더링 시 스레드별로 재사용하는 버퍼에 조각을 이어 붙임
+ * - 변수 값은 HTML 이스케이프 (SES 서버 측 템플릿의 {{변수}}와 동일한 동작)
+ */
+public final class CompiledTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final int MAX_REUSED_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(8 * 1024));
+
+    private final String source;
+    private final String[] literals;
+    private final String[] variables;
+    private final int literalLength;
+    private final boolean escapeHtml;
+
+    private CompiledTemplate(String source, String[] literals, String[] variables, boolean escapeHtml) {
+        this.source = source;
+        this.literals = literals;
+        this.variables = variables;
+        this.escapeHtml = escapeHtml;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * HTML 이스케이프를 적용하는 템플릿으로 컴파일
+     */
+    public static CompiledTemplate compile(String source) {
+        return compile(source, true);
+    }
+
+    /**
+     * 템플릿 컴파일 (literals.length == variables.length + 1)
+     */
+    public static CompiledTemplate compile(String source, boolean escapeHtml) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("닫히지 않은 템플릿 변수가 있습니다: index=" + open);
+            }
+
+            String name = source.substring(open + OPEN.length(), close).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("비어 있는 템플릿 변수가 있습니다: index=" + open);
+            }
+
+            literals.add(source.substring(position, open));
+            variables.add(name);
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+
+        return new CompiledTemplate(source,
+                literals.toArray(new String[0]),
+                variables.toArray(new String[0]),
+                escapeHtml);
+    }
+
+    /**
+     * 값을 채워 문자열로 렌더링 (없는 변수는 빈 문자열)
+     */
+    public String render(Map<String, String> values) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        renderTo(buffer, values);
+        String result = buffer.toString();
+
+        // 비정상적으로 커진 버퍼는 스레드에 계속 붙잡아 두지 않음
+        if (buffer.capacity() > MAX_REUSED_BUFFER) {
+            BUFFER.remove();
+        }
+        return result;
+    }
+
+    /**
+     * 주어진 버퍼에 이어서 렌더링
+     */
+    public void renderTo(StringBuilder out, Map<String, String> values) {
+        out.ensureCapacity(out.length() + literalLength + variables.length * 32);
+        for (int i = 0; i < variables.length; i++) {
+            out.append(literals[i]);
+            String value = values.get(variables[i]);
+            if (value != null) {
+                if (escapeHtml) {
+                    appendEscaped(out, value);
+                } else {
+                    out.append(value);
+                }
+            }
+        }
+        out.append(literals[variables.length]);
+    }
+
+    /**
+     * 원본 템플릿 ({{변수}} 문법 그대로, SES 템플릿 등록용)
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * 템플릿에 사용된 변수 이름 (등장 순서, 중복 제거)
+     */
+    public Set<String> getVariableNames() {
+        Set<String> names = new LinkedHashSet<>();
+        Collections.addAll(names, variables);
+        return names;
+    }
+
+    private static void appendEscaped(StringBuilder out, String value) {
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String replacement = switch (value.charAt(i)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (replacement != null) {
+                out.append(value, start, i).append(replacement);
+                start = i + 1;
+            }
+        }
+        out.append(value, start, value.length());
+    }
+}
@@ -1,66 +1,238 @@
 package com.example.adminservice.util;
 
 import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
 import org.springframework.stereotype.Component;
 
+import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Iterator;
 
 @Component
 @Slf4j
 public class ImageProcessor {
-    
+
+    private static final double TARGET_RATIO = 16.0 / 9.0;
+
     /**
-     * 이미지를 16:9 비율로 크롭하여 ByteArrayOutputStream으로 반환
+     * 이미지 디코딩 (crop16x9이면 16:9 영역만, targetWidth가 주어지면 정수 배율 축소 디코딩)
+     *
+     * 헤더에서 읽은 크기로 디코딩 영역을 먼저 계산하고, 그 영역만 디코딩합니다.
+     *
+     * @param targetWidth 필요한 최대 폭 (0 이하이면 원본 해상도 유지)
      */
-    public ByteArrayOutputStream cropTo16x9(InputStream inputStream, String format) throws IOException {
-        BufferedImage originalImage = ImageIO.read(inputStream);
-        
-        int originalWidth = originalImage.getWidth();
-        int originalHeight = originalImage.getHeight();
-        
-        // 16:9 비율 계산
-        double targetRatio = 16.0 / 9.0;
-        double currentRatio = (double) originalWidth / originalHeight;
-        
-        int newWidth, newHeight;
-        int x = 0, y = 0;
-        
-        if (Math.abs(currentRatio - targetRatio) < 0.01) {
-            // 이미 16:9 비율이면 그대로 반환
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            ImageIO.write(originalImage, format, outputStream);
-            log.info("이미지가 이미 16:9 비율입니다: {}x{}", originalWidth, originalHeight);
-            return outputStream;
-        }
-        
-        if (currentRatio > targetRatio) {
-            // 이미지가 더 넓음 - 좌우 크롭
-            newWidth = (int) (originalHeight * targetRatio);
-            newHeight = originalHeight;
-            x = (originalWidth - newWidth) / 2;
-        } else {
-            // 이미지가 더 높음 - 상하 크롭
-            newWidth = originalWidth;
-            newHeight = (int) (originalWidth / targetRatio);
-            y = (originalHeight - newHeight) / 2;
-        }
-        
-        // 크롭된 이미지 생성
-        BufferedImage croppedImage = originalImage.getSubimage(x, y, newWidth, newHeight);
-        
-        // ByteArrayOutputStream으로 변환
+    public BufferedImage decode(InputStream inputStream, boolean crop16x9, int targetWidth) throws IOException {
+        ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream);
+        if (imageInputStream == null) {
+            // 스트림 래퍼를 만들 수 없으면 전체 디코딩으로 처리
+            log.warn("이미지 입력 스트림을 만들 수 없어 전체 디코딩으로 처리합니다");
+            return decodeFully(inputStream, crop16x9);
+        }
+
+        try (imageInputStream) {
+            return decode(imageInputStream, crop16x9, targetWidth);
+        }
+    }
+
+    /**
+     * 파일에서 이미지 디코딩 (스트림 캐시 없이 파일을 직접 탐색)
+     *
+     * @param targetWidth 필요한 최대 폭 (0 이하이면 원본 해상도 유지)
+     */
+    public BufferedImage decode(Path path, boolean crop16x9, int targetWidth) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(path.toFile())) {
+            if (imageInputStream == null) {
+                throw new IOException("이미지 파일을 열 수 없습니다: " + path);
+            }
+            return decode(imageInputStream, crop16x9, targetWidth);
+        }
+    }
+
+    private BufferedImage decode(ImageInputStream imageInputStream, boolean crop16x9, int targetWidth) throws IOException {
+        ImageReader reader = findReader(imageInputStream);
+        if (reader == null) {
+            throw new IOException("지원하지 않는 이미지 형식입니다.");
+        }
+
+        try {
+            reader.setInput(imageInputStream, true, true);
+
+            int originalWidth = reader.getWidth(0);
+            int originalHeight = reader.getHeight(0);
+            Rectangle region = crop16x9
+                    ? computeCropRegion(originalWidth, originalHeight)
+                    : new Rectangle(0, 0, originalWidth, originalHeight);
+            int subsampling = computeSubsampling(region.width, targetWidth);
+
+            ImageReadParam param = reader.getDefaultReadParam();
+            param.setSourceRegion(region);
+            if (subsampling > 1) {
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+            }
+
+            BufferedImage image = reader.read(0, param);
+
+            log.info("이미지 디코딩 완료: {}x{} -> {}x{} (16:9 크롭={}, 영역 디코딩, 배율 1/{})",
+                    originalWidth, originalHeight, image.getWidth(), image.getHeight(), crop16x9, subsampling);
+
+            return image;
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * 폭 기준 비율 유지 축소 (이미 작으면 그대로 반환)
+     */
+    public BufferedImage resizeToWidth(BufferedImage image, int width) throws IOException {
+        if (image.getWidth() <= width) {
+            return image;
+        }
+        return Thumbnails.of(image)
+                .width(width)
+                .keepAspectRatio(true)
+                .asBufferedImage();
+    }
+
+    /**
+     * 지정 포맷으로 인코딩
+     *
+     * @param quality 손실 압축 품질 (0~1, 0 이하이면 포맷 기본값)
+     */
+    public byte[] encode(BufferedImage image, String format, float quality) throws IOException {
+        String formatName = normalizeFormat(format);
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(formatName);
+        if (!writers.hasNext()) {
+            throw new IOException("지원하지 않는 이미지 형식입니다: " + format);
+        }
+
+        // JPEG은 알파 채널을 지원하지 않으므로 RGB로 변환
+        BufferedImage source = "jpeg".equals(formatName) ? toRgb(image) : image;
+
+        ImageWriter writer = writers.next();
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        ImageIO.write(croppedImage, format, outputStream);
-        
-        log.info("이미지 크롭 완료: {}x{} -> {}x{} (16:9 비율 적용)", originalWidth, originalHeight, newWidth, newHeight);
-        
-        return outputStream;
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (quality > 0 && param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                String[] types = param.getCompressionTypes();
+                if (types != null && types.length > 0) {
+                    param.setCompressionType(pickLossyCompressionType(types));
+                }
+                param.setCompressionQuality(quality);
+            }
+
+            writer.write(null, new IIOImage(source, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
     }
-    
+
+    /**
+     * 런타임에 WebP 인코더(ImageIO 플러그인)가 있는지 여부
+     */
+    public boolean isWebpSupported() {
+        return ImageIO.getImageWritersByFormatName("webp").hasNext();
+    }
+
+    /**
+     * 16:9 크롭 영역 계산 (가운데 기준)
+     */
+    Rectangle computeCropRegion(int width, int height) {
+        double currentRatio = (double) width / height;
+
+        if (Math.abs(currentRatio - TARGET_RATIO) < 0.01) {
+            // 이미 16:9 비율이면 전체 영역
+            return new Rectangle(0, 0, width, height);
+        }
+
+        if (currentRatio > TARGET_RATIO) {
+            // 이미지가 더 넓음 - 좌우 크롭
+            int newWidth = Math.max(1, (int) (height * TARGET_RATIO));
+            return new Rectangle((width - newWidth) / 2, 0, newWidth, height);
+        }
+
+        // 이미지가 더 높음 - 상하 크롭
+        // 아주 작은 이미지도 영역이 비지 않도록 최소 1px
+        int newHeight = Math.max(1, (int) (width / TARGET_RATIO));
+        return new Rectangle(0, (height - newHeight) / 2, width, newHeight);
+    }
+
+    /**
+     * 결과 폭이 targetWidth 아래로 내려가지 않는 최대 정수 배율
+     */
+    int computeSubsampling(int regionWidth, int targetWidth) {
+        if (targetWidth <= 0 || regionWidth < targetWidth * 2) {
+            return 1;
+        }
+        return regionWidth / targetWidth;
+    }
+
+    private ImageReader findReader(ImageInputStream imageInputStream) {
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+        return readers.hasNext() ? readers.next() : null;
+    }
+
+    private BufferedImage decodeFully(InputStream inputStream, boolean crop16x9) throws IOException {
+        BufferedImage originalImage = ImageIO.read(inputStream);
+        if (originalImage == null) {
+            throw new IOException("지원하지 않는 이미지 형식입니다.");
+        }
+        if (!crop16x9) {
+            return originalImage;
+        }
+
+        Rectangle region = computeCropRegion(originalImage.getWidth(), originalImage.getHeight());
+        return originalImage.getSubimage(region.x, region.y, region.width, region.height);
+    }
+
+    private String normalizeFormat(String format) {
+        String lower = format == null ? "jpeg" : format.toLowerCase();
+        return "jpg".equals(lower) ? "jpeg" : lower;
+    }
+
+    private String pickLossyCompressionType(String[] types) {
+        for (String type : types) {
+            if (type.toLowerCase().contains("lossy")) {
+                return type;
+            }
+        }
+        return types[0];
+    }
+
+    private BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB || image.getType() == BufferedImage.TYPE_3BYTE_BGR) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
     /**
      * 파일 확장자 추출
      */
@@ -0,0 +1,28 @@
+package com.example.adminservice.util;
+
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Markdown → HTML 변환기 (commonmark)
+ *
+ * Parser/HtmlRenderer는 스레드 안전하므로 한 번만 만들어 재사용합니다.
+ * 본문에 직접 넣은 HTML(img 태그 등)은 그대로 유지됩니다.
+ */
+@Component
+public class MarkdownConverter {
+
+    private final Parser parser = Parser.builder().build();
+    private final HtmlRenderer renderer = HtmlRenderer.builder().build();
+
+    /**
+     * Markdown 문자열을 HTML로 변환 (null이면 빈 문자열)
+     */
+    public String toHtml(String markdown) {
+        if (markdown == null || markdown.isEmpty()) {
+            return "";
+        }
+        return renderer.render(parser.parse(markdown));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.adminservice.util;
+
+import java.time.Duration;
+
+/**
+ * 연속 실패 횟수 기반의 간단한 서킷 브레이커
+ *
+ * - CLOSED: 정상 호출
+ * - OPEN: 연속 실패가 임계치를 넘으면 일정 시간 호출 차단
+ * - HALF_OPEN: 차단 시간이 지나면 호출 1건만 시험적으로 허용, 성공 시 CLOSED, 실패 시 다시 OPEN
+ */
+public class SimpleCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAt = 0L;
+    private boolean trialInFlight = false;
+
+    public SimpleCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDuration.toMillis();
+    }
+
+    /**
+     * 호출 허용 여부 (HALF_OPEN 상태에서는 시험 호출 1건만 허용)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openDurationMillis) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+
+        return switch (state) {
+            case CLOSED -> true;
+            case HALF_OPEN -> {
+                if (trialInFlight) {
+                    yield false;
+                }
+                trialInFlight = true;
+                yield true;
+            }
+            case OPEN -> false;
+        };
+    }
+
+    public synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
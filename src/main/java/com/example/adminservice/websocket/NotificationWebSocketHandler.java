@@ -0,0 +1,75 @@
+package com.example.adminservice.websocket;
+
+import com.example.adminservice.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.security.Principal;
+
+/**
+ * 알림 WebSocket 핸들러
+ * 연결 시 핸드셰이크에서 인증된 사용자(JWT subject)로 세션을 로컬 저장소에 등록합니다.
+ * 클라이언트가 보낸 값은 신뢰하지 않으므로, 인증 정보가 없으면 연결을 거부합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String USER_ID_ATTRIBUTE = "userId";
+
+    private final WebSocketSessionRegistry sessionRegistry;
+    private final UserRepository userRepository;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        Long userId = extractUserId(session);
+        if (userId == null) {
+            log.warn("인증되지 않은 WebSocket 연결 거부: sessionId={}", session.getId());
+            session.close(CloseStatus.POLICY_VIOLATION);
+            return;
+        }
+
+        session.getAttributes().put(USER_ID_ATTRIBUTE, userId);
+        sessionRegistry.register(userId, session);
+        log.info("알림 WebSocket 연결: userId={}, sessionId={}", userId, session.getId());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Object userId = session.getAttributes().get(USER_ID_ATTRIBUTE);
+        if (userId instanceof Long id) {
+            sessionRegistry.unregister(id, session);
+            log.info("알림 WebSocket 종료: userId={}, sessionId={}, status={}", id, session.getId(), status);
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.warn("알림 WebSocket 전송 오류: sessionId={}, error={}", session.getId(), exception.getMessage());
+    }
+
+    /**
+     * 핸드셰이크 인증 정보의 subject(사용자 ID 또는 이메일)로 사용자 ID 확인
+     */
+    private Long extractUserId(WebSocketSession session) {
+        Principal principal = session.getPrincipal();
+        if (principal == null || principal.getName() == null) {
+            return null;
+        }
+
+        String subject = principal.getName();
+        if (subject.contains("@")) {
+            return userRepository.findByEmail(subject).map(user -> user.getId()).orElse(null);
+        }
+        try {
+            return Long.valueOf(subject);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
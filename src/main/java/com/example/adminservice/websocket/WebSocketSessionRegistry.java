@@ -0,0 +1,119 @@
+package com.example.adminservice.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 현재 노드에 연결된 WebSocket 세션 저장소
+ *
+ * 세션은 ConcurrentWebSocketSessionDecorator로 감싸서 보관합니다.
+ * 느린 클라이언트는 전송 시간/버퍼 한도를 넘으면 오래된 메시지가 버려지거나 연결이 종료되어
+ * 다른 사용자에게 가는 전송을 막지 않습니다.
+ */
+@Slf4j
+@Component
+public class WebSocketSessionRegistry {
+
+    private final Map<Long, Set<WebSocketSession>> sessionsByUser = new ConcurrentHashMap<>();
+
+    @Value("${notification.websocket.send-time-limit-ms:5000}")
+    private int sendTimeLimitMs;
+
+    @Value("${notification.websocket.buffer-size-limit:524288}")
+    private int bufferSizeLimit;
+
+    /**
+     * 세션 등록 (등록된 데코레이터 세션을 반환)
+     */
+    public WebSocketSession register(Long userId, WebSocketSession session) {
+        WebSocketSession decorated = new ConcurrentWebSocketSessionDecorator(
+                session, sendTimeLimitMs, bufferSizeLimit, ConcurrentWebSocketSessionDecorator.OverflowStrategy.DROP);
+
+        sessionsByUser.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(decorated);
+        log.debug("WebSocket 세션 등록: userId={}, sessionId={}", userId, session.getId());
+        return decorated;
+    }
+
+    /**
+     * 세션 해제
+     */
+    public void unregister(Long userId, WebSocketSession session) {
+        sessionsByUser.computeIfPresent(userId, (key, sessions) -> {
+            sessions.removeIf(s -> s.getId().equals(session.getId()));
+            return sessions.isEmpty() ? null : sessions;
+        });
+        log.debug("WebSocket 세션 해제: userId={}, sessionId={}", userId, session.getId());
+    }
+
+    /**
+     * 특정 사용자의 로컬 세션이 있는지 확인
+     */
+    public boolean hasLocalSession(Long userId) {
+        return sessionsByUser.containsKey(userId);
+    }
+
+    /**
+     * 특정 사용자의 로컬 세션에 메시지 전송
+     */
+    public void sendToUser(Long userId, TextMessage message) {
+        Set<WebSocketSession> sessions = sessionsByUser.get(userId);
+        if (sessions == null) {
+            return;
+        }
+        sessions.forEach(session -> send(userId, session, message));
+    }
+
+    /**
+     * 현재 노드의 모든 세션에 메시지 전송
+     */
+    public void sendToAll(TextMessage message) {
+        sessionsByUser.forEach((userId, sessions) -> sessions.forEach(session -> send(userId, session, message)));
+    }
+
+    /**
+     * 현재 노드에 연결된 세션 수
+     */
+    public int getLocalSessionCount() {
+        return sessionsByUser.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void send(Long userId, WebSocketSession session, TextMessage message) {
+        if (!session.isOpen()) {
+            unregister(userId, session);
+            return;
+        }
+
+        try {
+            session.sendMessage(message);
+        } catch (SessionLimitExceededException e) {
+            // 전송 시간 한도를 넘긴 느린 클라이언트는 데코레이터가 연결을 종료함
+            log.warn("느린 WebSocket 클라이언트 연결 종료: userId={}, sessionId={}, 사유={}",
+                    userId, session.getId(), e.getMessage());
+            unregister(userId, session);
+        } catch (IOException | IllegalStateException e) {
+            log.warn("WebSocket 메시지 전송 실패: userId={}, sessionId={}, error={}",
+                    userId, session.getId(), e.getMessage());
+            closeQuietly(session);
+            unregister(userId, session);
+        }
+    }
+
+    private void closeQuietly(WebSocketSession session) {
+        try {
+            session.close(CloseStatus.SERVER_ERROR);
+        } catch (IOException ignored) {
+            // 이미 끊어진 세션
+        }
+    }
+}
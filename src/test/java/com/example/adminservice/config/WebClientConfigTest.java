@@ -0,0 +1,29 @@
+package com.example.adminservice.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebClientConfigTest {
+
+    @Test
+    void toUriTemplate_stripsQueryAndIdentifierSegments() {
+        assertThat(WebClientConfig.toUriTemplate("/api/users/123/campaigns?page=2")).isEqualTo("/api/users/{id}/campaigns");
+        assertThat(WebClientConfig.toUriTemplate("/api/x/550e8400-e29b-41d4-a716-446655440000#top")).isEqualTo("/api/x/{id}");
+        assertThat(WebClientConfig.toUriTemplate("/files/abcdef0123456789abcd/meta")).isEqualTo("/files/{id}/meta");
+        assertThat(WebClientConfig.toUriTemplate("/users/someone@example.com")).isEqualTo("/users/{id}");
+    }
+
+    @Test
+    void toUriTemplate_dropsSchemeAndHost() {
+        assertThat(WebClientConfig.toUriTemplate("http://client-api:8080/api/notifications/campaign-status/batch"))
+                .isEqualTo("/api/notifications/campaign-status/batch");
+        assertThat(WebClientConfig.toUriTemplate("https://client-api")).isEqualTo("/");
+    }
+
+    @Test
+    void toUriTemplate_keepsVersionLikeSegments() {
+        assertThat(WebClientConfig.toUriTemplate("/api/v2/health")).isEqualTo("/api/v2/health");
+        assertThat(WebClientConfig.toUriTemplate(null)).isEqualTo("/");
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.adminservice.dto;
+
+import com.example.adminservice.constant.SortOption;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KokPostCursorTest {
+
+    @Test
+    void encodeDecode_roundTripsLatestWithMicrosecondPrecision() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 7, 31, 16, 0, 0, 123_456_000);
+        KokPostCursor cursor = KokPostCursor.of(SortOption.LATEST, summary(45L, 0L, createdAt));
+
+        KokPostCursor decoded = KokPostCursor.decode(cursor.encode(), SortOption.LATEST);
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.createdAt()).isEqualTo(createdAt);
+        assertThat(decoded.id()).isEqualTo(45L);
+    }
+
+    @Test
+    void encodeDecode_roundTripsPreEpochCreatedAt() {
+        LocalDateTime createdAt = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000);
+
+        KokPostCursor decoded = KokPostCursor.decode(
+                KokPostCursor.of(SortOption.LATEST, summary(3L, 0L, createdAt)).encode(), SortOption.LATEST);
+
+        assertThat(decoded.createdAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    void encodeDecode_roundTripsViewCount() {
+        KokPostCursor cursor = KokPostCursor.of(SortOption.VIEW_COUNT_DESC, summary(7L, 1_234L, LocalDateTime.now()));
+
+        KokPostCursor decoded = KokPostCursor.decode(cursor.encode(), SortOption.VIEW_COUNT_DESC);
+
+        assertThat(decoded.sortKey()).isEqualTo(1_234L);
+        assertThat(decoded.id()).isEqualTo(7L);
+    }
+
+    @Test
+    void decode_nullOrBlankIsFirstPage() {
+        assertThat(KokPostCursor.decode(null, SortOption.LATEST)).isNull();
+        assertThat(KokPostCursor.decode(" ", SortOption.LATEST)).isNull();
+    }
+
+    @Test
+    void decode_rejectsCursorOfOtherSortOption() {
+        String cursor = KokPostCursor.of(SortOption.VIEW_COUNT_ASC, summary(1L, 5L, LocalDateTime.now())).encode();
+
+        assertThatThrownBy(() -> KokPostCursor.decode(cursor, SortOption.VIEW_COUNT_DESC))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decode_rejectsMalformedCursors() {
+        assertThatThrownBy(() -> KokPostCursor.decode("not base64!", SortOption.LATEST))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KokPostCursor.decode(encodeRaw("latest:1"), SortOption.LATEST))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KokPostCursor.decode(encodeRaw("latest:1:2:3"), SortOption.LATEST))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KokPostCursor.decode(encodeRaw("latest:abc:1"), SortOption.LATEST))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KokPostCursor.decode(encodeRaw("viewCountDesc:1:x"), SortOption.VIEW_COUNT_DESC))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static KokPostSummary summary(Long id, Long viewCount, LocalDateTime createdAt) {
+        return new KokPostSummary(id, "글 " + id, viewCount, null, 1L, "작성자", true, null, createdAt, createdAt);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
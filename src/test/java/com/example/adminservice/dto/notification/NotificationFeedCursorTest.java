@@ -0,0 +1,73 @@
+package com.example.adminservice.dto.notification;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationFeedCursorTest {
+
+    @Test
+    void encodeDecode_roundTripsBothPositionsWithMicrosecondPrecision() {
+        NotificationFeedCursor.Position personal =
+                new NotificationFeedCursor.Position(LocalDateTime.of(2024, 7, 31, 16, 0, 0, 123_456_000), 45L);
+        NotificationFeedCursor.Position broadcast =
+                new NotificationFeedCursor.Position(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000), 3L);
+
+        NotificationFeedCursor decoded = NotificationFeedCursor.decode(new NotificationFeedCursor(personal, broadcast).encode());
+
+        assertThat(decoded.getPersonal()).isEqualTo(personal);
+        assertThat(decoded.getBroadcast()).isEqualTo(broadcast);
+    }
+
+    @Test
+    void encodeDecode_keepsMissingPositionsEmpty() {
+        NotificationFeedCursor.Position personal = new NotificationFeedCursor.Position(LocalDateTime.of(2024, 1, 1, 0, 0), 1L);
+
+        NotificationFeedCursor decoded = NotificationFeedCursor.decode(new NotificationFeedCursor(personal, null).encode());
+
+        assertThat(decoded.getPersonal()).isEqualTo(personal);
+        assertThat(decoded.getBroadcast()).isNull();
+    }
+
+    @Test
+    void decode_nullOrBlankIsEmptyCursor() {
+        assertThat(NotificationFeedCursor.decode(null).getPersonal()).isNull();
+        assertThat(NotificationFeedCursor.decode(" ").getBroadcast()).isNull();
+    }
+
+    @Test
+    void decode_rejectsMalformedCursors() {
+        assertThatThrownBy(() -> NotificationFeedCursor.decode("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> NotificationFeedCursor.decode(encodeRaw("1:2")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> NotificationFeedCursor.decode(encodeRaw("abc:1|-")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decode_rejectsOutOfRangeTimestampAsIllegalArgument() {
+        assertThatThrownBy(() -> NotificationFeedCursor.decode(encodeRaw(Long.MAX_VALUE + ":1|-")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void advance_replacesOnlyGivenPositions() {
+        NotificationFeedCursor.Position first = new NotificationFeedCursor.Position(LocalDateTime.of(2024, 1, 2, 0, 0), 2L);
+        NotificationFeedCursor.Position second = new NotificationFeedCursor.Position(LocalDateTime.of(2024, 1, 1, 0, 0), 1L);
+
+        NotificationFeedCursor advanced = new NotificationFeedCursor(first, first).advance(null, second);
+
+        assertThat(advanced.getPersonal()).isEqualTo(first);
+        assertThat(advanced.getBroadcast()).isEqualTo(second);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.repository.BroadcastNotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Testcontainers(disabledWithoutDocker = true)
+class BroadcastReadStateServiceTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private BroadcastNotificationRepository broadcastNotificationRepository;
+    private BroadcastReadStateService service;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+
+        broadcastNotificationRepository = mock(BroadcastNotificationRepository.class);
+        service = new BroadcastReadStateService(redisTemplate, broadcastNotificationRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void countUnread_newUserStartsAtLatestBroadcast() {
+        LongStream.rangeClosed(1, 5).forEach(service::registerBroadcast);
+
+        assertThat(service.countUnread(1L)).isZero();
+        assertThat(service.getWatermark(1L)).isEqualTo(5L);
+
+        service.registerBroadcast(6L);
+        service.registerBroadcast(7L);
+        assertThat(service.countUnread(1L)).isEqualTo(2L);
+    }
+
+    @Test
+    void countUnread_subtractsBroadcastsReadAfterWatermark() {
+        service.registerBroadcast(1L);
+        service.countUnread(1L);
+        LongStream.rangeClosed(2, 4).forEach(service::registerBroadcast);
+
+        service.markRead(3L, 1L);
+        service.markRead(3L, 1L);
+
+        assertThat(service.countUnread(1L)).isEqualTo(2L);
+        assertThat(service.findReadIds(1L, List.of(1L, 2L, 3L, 4L))).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void markAllRead_neverMovesWatermarkBackwards() {
+        service.countUnread(1L);
+        LongStream.rangeClosed(1, 10).forEach(service::registerBroadcast);
+        service.markRead(10L, 1L);
+
+        service.markAllRead(1L, 8L);
+        service.markAllRead(1L, 5L);
+
+        assertThat(service.getWatermark(1L)).isEqualTo(8L);
+        assertThat(service.countUnread(1L)).isEqualTo(1L);
+        // 워터마크 이하로 내려간 개별 읽음 기록은 정리됨
+        service.markAllRead(1L, 10L);
+        assertThat(redisTemplate.opsForZSet().zCard("notification:broadcast:read-ids:1")).isZero();
+        assertThat(service.countUnread(1L)).isZero();
+    }
+
+    @Test
+    void deleteReadState_dropsDeletedBroadcastsFromCount() {
+        service.countUnread(1L);
+        LongStream.rangeClosed(1, 4).forEach(service::registerBroadcast);
+        service.markRead(1L, 1L);
+        service.markRead(3L, 1L);
+        assertThat(service.countUnread(1L)).isEqualTo(2L);
+
+        service.deleteReadState(List.of(1L, 2L));
+
+        assertThat(service.countUnread(1L)).isEqualTo(1L);
+        assertThat(redisTemplate.hasKey("notification:broadcast:read:1")).isFalse();
+    }
+
+    @Test
+    void seedBroadcastIds_loadsIdsOnlyWhenEmpty() {
+        when(broadcastNotificationRepository.findAllIds()).thenReturn(List.of(1L, 2L, 3L));
+
+        service.seedBroadcastIds();
+        service.markAllRead(1L, 1L);
+        assertThat(service.countUnread(1L)).isEqualTo(2L);
+
+        BroadcastNotificationRepository secondRepository = mock(BroadcastNotificationRepository.class);
+        new BroadcastReadStateService(redisTemplate, secondRepository).seedBroadcastIds();
+        verify(secondRepository, never()).findAllIds();
+    }
+}
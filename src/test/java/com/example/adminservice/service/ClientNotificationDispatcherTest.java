@@ -0,0 +1,238 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.dto.notification.CampaignStatusNotificationRequest;
+import com.example.adminservice.dto.notification.ClientNotificationRetryEntry;
+import com.example.adminservice.util.SimpleCircuitBreaker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ClientNotificationDispatcherTest {
+
+    private static final String RETRY_QUEUE_KEY = "client-notification:retry-queue";
+    private static final String DEAD_LETTER_KEY = "client-notification:dead-letter";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ListOperations<String, String> listOperations;
+    @Mock
+    private ClientApiHealthProbe clientApiHealthProbe;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final List<String> requestPaths = new ArrayList<>();
+    private volatile HttpStatus responseStatus = HttpStatus.OK;
+
+    private ClientNotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(clientApiHealthProbe.isAvailable()).thenReturn(true);
+
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.incrementAndGet();
+                    synchronized (requestPaths) {
+                        requestPaths.add(request.url().getPath());
+                    }
+                    return Mono.just(ClientResponse.create(responseStatus).body("{}").build());
+                })
+                .build();
+
+        dispatcher = new ClientNotificationDispatcher(webClient, redisTemplate, objectMapper, clientApiHealthProbe);
+        ReflectionTestUtils.setField(dispatcher, "notificationTimeoutSeconds", 2);
+        ReflectionTestUtils.setField(dispatcher, "maxBatchSize", 3);
+        ReflectionTestUtils.setField(dispatcher, "flushIntervalMs", 20L);
+        ReflectionTestUtils.setField(dispatcher, "bufferCapacity", 100);
+        ReflectionTestUtils.setField(dispatcher, "maxConcurrency", 1);
+        ReflectionTestUtils.setField(dispatcher, "maxRetryAttempts", 1);
+        ReflectionTestUtils.setField(dispatcher, "minBackoffMs", 1L);
+        ReflectionTestUtils.setField(dispatcher, "maxBackoffMs", 5L);
+        ReflectionTestUtils.setField(dispatcher, "retryDrainSize", 100);
+        ReflectionTestUtils.setField(dispatcher, "maxDeliveryAttempts", 2);
+        ReflectionTestUtils.setField(dispatcher, "deadLetterMaxSize", 100);
+        ReflectionTestUtils.setField(dispatcher, "circuitFailureThreshold", 5);
+        ReflectionTestUtils.setField(dispatcher, "circuitOpenSeconds", 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    @Test
+    void enqueue_sendsEventsAsOneBatchRequest() {
+        dispatcher.start();
+
+        for (long campaignId = 1; campaignId <= 3; campaignId++) {
+            dispatcher.enqueue(request(campaignId));
+        }
+
+        verify(listOperations, after(300).never()).rightPushAll(eq(RETRY_QUEUE_KEY), anyCollection());
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(requestPaths).containsExactly("/api/notifications/campaign-status/batch");
+        assertThat(dispatcher.getCircuitState()).isEqualTo(SimpleCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void failedBatch_isRetriedWithBackoffThenSpilledWithAttemptCount() throws Exception {
+        responseStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+        dispatcher.start();
+
+        dispatcher.enqueue(request(1L));
+
+        List<ClientNotificationRetryEntry> spilled = captured(RETRY_QUEUE_KEY, true);
+        assertThat(requests.get()).isEqualTo(2); // 최초 1회 + 재시도 1회
+        assertThat(spilled).hasSize(1);
+        assertThat(spilled.get(0).getAttempts()).isEqualTo(1);
+        assertThat(spilled.get(0).getLastError()).contains("500");
+        verify(listOperations, never()).leftPushAll(eq(DEAD_LETTER_KEY), anyCollection());
+    }
+
+    @Test
+    void breakerOpensAfterThresholdAndSpillsWithoutCallingServer() throws Exception {
+        ReflectionTestUtils.setField(dispatcher, "circuitFailureThreshold", 1);
+        responseStatus = HttpStatus.SERVICE_UNAVAILABLE;
+        dispatcher.start();
+
+        dispatcher.enqueue(request(1L));
+        verify(listOperations, timeout(2000)).rightPushAll(eq(RETRY_QUEUE_KEY), anyCollection());
+        assertThat(dispatcher.getCircuitState()).isEqualTo(SimpleCircuitBreaker.State.OPEN);
+        int sent = requests.get();
+
+        dispatcher.enqueue(request(2L));
+
+        List<ClientNotificationRetryEntry> spilled = captured(RETRY_QUEUE_KEY, true, 2);
+        assertThat(requests.get()).isEqualTo(sent);
+        // 서킷이 열려 보관된 이벤트는 실제 시도가 아니므로 횟수를 늘리지 않음
+        assertThat(spilled.get(spilled.size() - 1).getRequest().getCampaignId()).isEqualTo(2L);
+        assertThat(spilled.get(spilled.size() - 1).getAttempts()).isZero();
+    }
+
+    @Test
+    void drainRetryQueue_skipsWhileBreakerOpenOrServerDown() {
+        ReflectionTestUtils.setField(dispatcher, "circuitFailureThreshold", 1);
+        responseStatus = HttpStatus.SERVICE_UNAVAILABLE;
+        dispatcher.start();
+        dispatcher.enqueue(request(1L));
+        verify(listOperations, timeout(2000)).rightPushAll(eq(RETRY_QUEUE_KEY), anyCollection());
+
+        dispatcher.drainRetryQueue();
+        verify(listOperations, never()).leftPop(eq(RETRY_QUEUE_KEY), anyLong());
+
+        ReflectionTestUtils.setField(dispatcher, "circuitBreaker",
+                new SimpleCircuitBreaker(1, Duration.ofSeconds(60)));
+        when(clientApiHealthProbe.isAvailable()).thenReturn(false);
+        dispatcher.drainRetryQueue();
+        verify(listOperations, never()).leftPop(eq(RETRY_QUEUE_KEY), anyLong());
+    }
+
+    @Test
+    void drainRetryQueue_resendsStoredEntries() throws Exception {
+        dispatcher.start();
+        String stored = objectMapper.writeValueAsString(ClientNotificationRetryEntry.builder()
+                .request(request(1L)).attempts(1).build());
+        String legacy = objectMapper.writeValueAsString(request(2L));
+        when(listOperations.leftPop(RETRY_QUEUE_KEY, 100)).thenReturn(List.of(stored, legacy));
+
+        dispatcher.drainRetryQueue();
+
+        verify(listOperations, after(300).never()).rightPushAll(eq(RETRY_QUEUE_KEY), anyCollection());
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void exhaustedEntries_areDeadLetteredNotDropped() throws Exception {
+        responseStatus = HttpStatus.BAD_GATEWAY;
+        dispatcher.start();
+        String stored = objectMapper.writeValueAsString(ClientNotificationRetryEntry.builder()
+                .request(request(1L)).attempts(1).build());
+        when(listOperations.leftPop(RETRY_QUEUE_KEY, 100)).thenReturn(List.of(stored));
+
+        dispatcher.drainRetryQueue();
+
+        List<ClientNotificationRetryEntry> deadLettered = captured(DEAD_LETTER_KEY, false);
+        assertThat(deadLettered).hasSize(1);
+        assertThat(deadLettered.get(0).getAttempts()).isEqualTo(2);
+        assertThat(deadLettered.get(0).getDeadLetteredAt()).isNotNull();
+        verify(listOperations, timeout(2000)).trim(DEAD_LETTER_KEY, 0, 99);
+        verify(listOperations, never()).rightPushAll(eq(RETRY_QUEUE_KEY), anyCollection());
+    }
+
+    @Test
+    void rejectedBatch_isDeadLetteredWithoutRetryAndKeepsBreakerClosed() throws Exception {
+        ReflectionTestUtils.setField(dispatcher, "circuitFailureThreshold", 1);
+        responseStatus = HttpStatus.BAD_REQUEST;
+        dispatcher.start();
+
+        dispatcher.enqueue(request(1L));
+
+        List<ClientNotificationRetryEntry> deadLettered = captured(DEAD_LETTER_KEY, false);
+        assertThat(deadLettered).hasSize(1);
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(dispatcher.getCircuitState()).isEqualTo(SimpleCircuitBreaker.State.CLOSED);
+    }
+
+    private List<ClientNotificationRetryEntry> captured(String key, boolean rightPush) throws Exception {
+        return captured(key, rightPush, 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ClientNotificationRetryEntry> captured(String key, boolean rightPush, int calls) throws Exception {
+        ArgumentCaptor<Collection<String>> payloads = ArgumentCaptor.forClass(Collection.class);
+        if (rightPush) {
+            verify(listOperations, timeout(2000).times(calls)).rightPushAll(eq(key), payloads.capture());
+        } else {
+            verify(listOperations, timeout(2000).times(calls)).leftPushAll(eq(key), payloads.capture());
+        }
+        List<ClientNotificationRetryEntry> entries = new ArrayList<>();
+        for (String payload : payloads.getAllValues().stream().flatMap(Collection::stream).toList()) {
+            entries.add(objectMapper.readValue(payload, ClientNotificationRetryEntry.class));
+        }
+        return entries;
+    }
+
+    private static CampaignStatusNotificationRequest request(Long campaignId) {
+        return CampaignStatusNotificationRequest.builder()
+                .userId(1L)
+                .campaignId(campaignId)
+                .campaignTitle("캠페인 " + campaignId)
+                .approvalStatus("APPROVED")
+                .adminId(1L)
+                .build();
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.adminservice.service;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.simpleemail.AmazonSimpleEmailService;
+import com.amazonaws.services.simpleemail.AmazonSimpleEmailServiceClientBuilder;
+import com.amazonaws.services.simpleemail.model.VerifyEmailIdentityRequest;
+import com.example.adminservice.dto.email.EmailDispatchStatus;
+import com.example.adminservice.dto.email.EmailMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@Testcontainers(disabledWithoutDocker = true)
+class EmailDispatchServiceTest {
+
+    private static final String QUEUE_KEY = "email:dispatch:queue";
+    private static final String RETRY_KEY = "email:dispatch:retry";
+    private static final String DEAD_LETTER_KEY = "email:dispatch:dead-letter";
+    private static final String PROCESSING_KEY = "email:dispatch:processing";
+    private static final String PROCESSING_CLAIMS_KEY = "email:dispatch:processing:claims";
+
+    private static final String FROM_EMAIL = "noreply@chkok.test";
+
+    @Container
+    private static final LocalStackContainer LOCALSTACK =
+            new LocalStackContainer(DockerImageName.parse("localstack/localstack:3.0"))
+                    .withServices(LocalStackContainer.Service.SES);
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private SesEmailSender sesEmailSender;
+    private EmailDispatchService emailDispatchService;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+
+        sesEmailSender = new SesEmailSender();
+        ReflectionTestUtils.setField(sesEmailSender, "fromEmail", FROM_EMAIL);
+        ReflectionTestUtils.setField(sesEmailSender, "fromName", "ChkokTeam");
+        ReflectionTestUtils.setField(sesEmailSender, "region", LOCALSTACK.getRegion());
+        ReflectionTestUtils.setField(sesEmailSender, "endpoint", LOCALSTACK.getEndpoint().toString());
+        sesEmailSender.initializeSESClient();
+        verifyIdentity(FROM_EMAIL);
+
+        emailDispatchService = new EmailDispatchService(sesEmailSender, mock(SesRateGovernor.class),
+                new SimpleMeterRegistry(), redisTemplate, objectMapper);
+        ReflectionTestUtils.setField(emailDispatchService, "storage", "REDIS");
+        ReflectionTestUtils.setField(emailDispatchService, "queueCapacity", 100);
+        ReflectionTestUtils.setField(emailDispatchService, "workerCount", 1);
+        ReflectionTestUtils.setField(emailDispatchService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(emailDispatchService, "minBackoffMs", 10L);
+        ReflectionTestUtils.setField(emailDispatchService, "maxBackoffMs", 100L);
+        ReflectionTestUtils.setField(emailDispatchService, "deadLetterMaxSize", 100);
+        ReflectionTestUtils.setField(emailDispatchService, "shutdownTimeoutSeconds", 5);
+        ReflectionTestUtils.setField(emailDispatchService, "processingLeaseSeconds", 1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emailDispatchService.stop();
+        sesEmailSender.shutdown();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void enqueue_workerSendsThroughSesAndAcknowledges() throws Exception {
+        emailDispatchService.start();
+        String subject = "dispatch-" + UUID.randomUUID();
+
+        assertThat(emailDispatchService.enqueue("user@chkok.test", subject, "<p>hello</p>", true)).isTrue();
+
+        awaitUntil(() -> emailDispatchService.getStatus().getTotalSent() == 1);
+        assertThat(sentMessages()).contains(subject);
+        awaitUntil(() -> redisTemplate.opsForList().size(PROCESSING_KEY) == 0);
+        assertThat(redisTemplate.opsForZSet().zCard(PROCESSING_CLAIMS_KEY)).isZero();
+        assertThat(redisTemplate.opsForList().size(QUEUE_KEY)).isZero();
+    }
+
+    @Test
+    void rejectedMessage_isDeadLetteredAndRedriveSendsIt() throws Exception {
+        String unverified = "unverified-" + UUID.randomUUID() + "@chkok.test";
+        ReflectionTestUtils.setField(sesEmailSender, "fromEmail", unverified);
+        emailDispatchService.start();
+        String subject = "redrive-" + UUID.randomUUID();
+
+        emailDispatchService.enqueue("user@chkok.test", subject, "body", false);
+
+        awaitUntil(() -> redisTemplate.opsForList().size(DEAD_LETTER_KEY) == 1);
+        EmailMessage deadLetter = emailDispatchService.getDeadLetters(10).get(0);
+        assertThat(deadLetter.getSubject()).isEqualTo(subject);
+        assertThat(deadLetter.getLastError()).isNotBlank();
+        assertThat(deadLetter.getDeadLetteredAt()).isNotNull();
+        assertThat(redisTemplate.opsForZSet().zCard(RETRY_KEY)).isZero();
+        awaitUntil(() -> redisTemplate.opsForList().size(PROCESSING_KEY) == 0);
+
+        verifyIdentity(unverified);
+        assertThat(emailDispatchService.redriveDeadLetters(10)).isEqualTo(1);
+
+        awaitUntil(() -> emailDispatchService.getStatus().getTotalSent() == 1);
+        assertThat(sentMessages()).contains(subject);
+        assertThat(redisTemplate.opsForList().size(DEAD_LETTER_KEY)).isZero();
+    }
+
+    @Test
+    void promoteDueRetries_movesOnlyDueMessagesToQueue() throws Exception {
+        String dueSubject = "due-" + UUID.randomUUID();
+        String laterSubject = "later-" + UUID.randomUUID();
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(RETRY_KEY, payload(dueSubject, 1), now - 1000);
+        redisTemplate.opsForZSet().add(RETRY_KEY, payload(laterSubject, 1), now + 60_000);
+        emailDispatchService.start();
+
+        emailDispatchService.promoteDueRetries();
+
+        awaitUntil(() -> emailDispatchService.getStatus().getTotalSent() == 1);
+        String sent = sentMessages();
+        assertThat(sent).contains(dueSubject);
+        assertThat(sent).doesNotContain(laterSubject);
+        assertThat(redisTemplate.opsForZSet().zCard(RETRY_KEY)).isEqualTo(1);
+    }
+
+    @Test
+    void reclaimStaleProcessing_requeuesExpiredClaimsAndStampsUnclaimed() throws Exception {
+        String staleSubject = "stale-" + UUID.randomUUID();
+        String stale = payload(staleSubject, 0);
+        String unclaimed = payload("unclaimed-" + UUID.randomUUID(), 0);
+        redisTemplate.opsForList().rightPushAll(PROCESSING_KEY, stale, unclaimed);
+        redisTemplate.opsForZSet().add(PROCESSING_CLAIMS_KEY, stale, System.currentTimeMillis() - 5_000);
+        emailDispatchService.start();
+
+        emailDispatchService.reclaimStaleProcessing();
+
+        EmailDispatchStatus status = emailDispatchService.getStatus();
+        assertThat(status.getTotalReclaimed()).isEqualTo(1);
+        assertThat(redisTemplate.opsForZSet().score(PROCESSING_CLAIMS_KEY, unclaimed)).isNotNull();
+        awaitUntil(() -> emailDispatchService.getStatus().getTotalSent() == 1);
+        assertThat(sentMessages()).contains(staleSubject);
+        awaitUntil(() -> redisTemplate.opsForList().size(PROCESSING_KEY) == 1);
+        assertThat(redisTemplate.opsForList().index(PROCESSING_KEY, 0)).isEqualTo(unclaimed);
+    }
+
+    private String payload(String subject, int attempts) throws Exception {
+        return objectMapper.writeValueAsString(EmailMessage.builder()
+                .id(UUID.randomUUID().toString())
+                .toEmail("user@chkok.test")
+                .subject(subject)
+                .body("body")
+                .attempts(attempts)
+                .enqueuedAt(System.currentTimeMillis())
+                .build());
+    }
+
+    private static void verifyIdentity(String email) {
+        AmazonSimpleEmailService ses = AmazonSimpleEmailServiceClientBuilder.standard()
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(
+                        LOCALSTACK.getEndpoint().toString(), LOCALSTACK.getRegion()))
+                .withCredentials(new AWSStaticCredentialsProvider(
+                        new BasicAWSCredentials(LOCALSTACK.getAccessKey(), LOCALSTACK.getSecretKey())))
+                .build();
+        try {
+            ses.verifyEmailIdentity(new VerifyEmailIdentityRequest().withEmailAddress(email));
+        } finally {
+            ses.shutdown();
+        }
+    }
+
+    /**
+     * LocalStack이 보관한 발송 메시지 (JSON 원문)
+     */
+    private static String sentMessages() throws Exception {
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create(LOCALSTACK.getEndpoint() + "/_aws/ses")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        return response.body();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건을 10초 안에 만족하지 않음");
+            }
+            Thread.sleep(50);
+        }
+    }
+}
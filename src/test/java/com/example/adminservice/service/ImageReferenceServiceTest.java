@@ -0,0 +1,141 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.domain.ImageReference;
+import com.example.adminservice.domain.KokPost;
+import com.example.adminservice.repository.BannerImageRepository;
+import com.example.adminservice.repository.ImageReferenceRepository;
+import com.example.adminservice.repository.KokPostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImageReferenceServiceTest {
+
+    @Mock
+    private ImageReferenceRepository imageReferenceRepository;
+    @Mock
+    private BannerImageRepository bannerImageRepository;
+    @Mock
+    private KokPostRepository kokPostRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImageReferenceService imageReferenceService;
+
+    private static final String BUCKET_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/";
+
+    @BeforeEach
+    void setUp() {
+        imageReferenceService = new ImageReferenceService(
+                imageReferenceRepository, bannerImageRepository, kokPostRepository, transactionManager);
+        ReflectionTestUtils.setField(imageReferenceService, "bucketName", "bucket");
+        ReflectionTestUtils.setField(imageReferenceService, "region", "ap-northeast-2");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void syncKokPost_indexesImagesVideosLinksAndBareUrls() {
+        String content = """
+                ![사진](%1$skokpost/photo.jpg "제목")
+                <img srcset="%1$skokpost/x_aaa_480w.webp 480w, %1$skokpost/x_aaa_960w.webp 960w">
+                <video src="%1$skokpost/clip.mp4" controls><source src='%1$skokpost/clip.webm' type="video/webm"></video>
+                <a href="%1$skokpost/guide.pdf?X-Amz-Signature=abc">안내서</a>
+                [동영상](%1$skokpost/md.mov) 원본은 %1$skokpost/bare.png.
+                외부 이미지 ![외부](https://example.com/kokpost/other.jpg)
+                """.formatted(BUCKET_URL);
+        KokPost kokPost = KokPost.builder().title("제목").content(content).build();
+        ReflectionTestUtils.setField(kokPost, "id", 7L);
+        when(imageReferenceRepository.findByOwnerTypeAndOwnerId(ImageReference.OwnerType.KOKPOST, 7L)).thenReturn(List.of());
+
+        imageReferenceService.syncKokPost(kokPost);
+
+        ArgumentCaptor<List<ImageReference>> saved = ArgumentCaptor.forClass(List.class);
+        verify(imageReferenceRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(ImageReference::getObjectKey).containsExactlyInAnyOrder(
+                "kokpost/photo.jpg",
+                "kokpost/x_aaa_480w.webp",
+                "kokpost/x_aaa_960w.webp",
+                "kokpost/clip.mp4",
+                "kokpost/clip.webm",
+                "kokpost/guide.pdf",
+                "kokpost/md.mov",
+                "kokpost/bare.png");
+    }
+
+    @Test
+    void baseKeyOf_stripsExtensionFromOriginal() {
+        assertThat(ImageReferenceService.baseKeyOf("kokpost/photo.jpg")).isEqualTo("kokpost/photo");
+        assertThat(ImageReferenceService.baseKeyOf("kokpost/sha256/ab12cd.png")).isEqualTo("kokpost/sha256/ab12cd");
+        assertThat(ImageReferenceService.baseKeyOf("kokpost/new.jpg")).isEqualTo("kokpost/new");
+    }
+
+    @Test
+    void baseKeyOf_stripsWidthSuffixFromDerivative() {
+        assertThat(ImageReferenceService.baseKeyOf("kokpost/photo_3f2a9c1b7d4e_480w.webp"))
+                .isEqualTo("kokpost/photo_3f2a9c1b7d4e");
+        assertThat(ImageReferenceService.baseKeyOf("kokpost/photo_3f2a9c1b7d4e_1920w.jpg"))
+                .isEqualTo("kokpost/photo_3f2a9c1b7d4e");
+        // 실행 토큰이 없는 이전 형식
+        assertThat(ImageReferenceService.baseKeyOf("banner/banner_1700000000000_ab12cd34_960w.png"))
+                .isEqualTo("banner/banner_1700000000000_ab12cd34");
+    }
+
+    @Test
+    void baseKeyOf_keepsKeyWithoutExtension() {
+        assertThat(ImageReferenceService.baseKeyOf("kokpost/photo")).isEqualTo("kokpost/photo");
+        assertThat(ImageReferenceService.baseKeyOf("kokpost/v1.2/photo")).isEqualTo("kokpost/v1.2/photo");
+        assertThat(ImageReferenceService.baseKeyOf("kokpost/photo_960w")).isEqualTo("kokpost/photo_960w");
+    }
+
+    @Test
+    void findReferencedKeys_returnsDirectAndSameRunDerivativeReferences() {
+        String referenced = "kokpost/photo_aaa_960w.jpg";
+        String sibling = "kokpost/photo_aaa_480w.webp";
+        String otherRun = "kokpost/photo_bbb_960w.jpg";
+        String unrelated = "kokpost/other.png";
+        List<String> keys = List.of(referenced, sibling, otherRun, unrelated);
+        when(imageReferenceRepository.findReferencedObjectKeys(keys)).thenReturn(List.of(referenced));
+        when(imageReferenceRepository.findReferencedBaseKeys(any())).thenReturn(List.of("kokpost/photo_aaa"));
+
+        Set<String> result = imageReferenceService.findReferencedKeys(keys);
+
+        assertThat(result).containsExactlyInAnyOrder(referenced, sibling);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findReferencedKeys_looksUpEachBaseKeyOnce() {
+        List<String> keys = List.of("kokpost/photo_aaa_480w.jpg", "kokpost/photo_aaa_960w.jpg", "kokpost/other.png");
+        when(imageReferenceRepository.findReferencedObjectKeys(keys)).thenReturn(List.of());
+        when(imageReferenceRepository.findReferencedBaseKeys(any())).thenReturn(List.of());
+
+        assertThat(imageReferenceService.findReferencedKeys(keys)).isEmpty();
+
+        ArgumentCaptor<Collection<String>> baseKeys = ArgumentCaptor.forClass(Collection.class);
+        verify(imageReferenceRepository).findReferencedBaseKeys(baseKeys.capture());
+        assertThat(baseKeys.getValue()).containsExactlyInAnyOrder("kokpost/photo_aaa", "kokpost/other");
+    }
+
+    @Test
+    void findReferencedKeys_emptyInputSkipsQueries() {
+        assertThat(imageReferenceService.findReferencedKeys(List.of())).isEmpty();
+
+        verifyNoInteractions(imageReferenceRepository);
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.constant.PopularityWindow;
+import com.example.adminservice.constant.SortOption;
+import com.example.adminservice.constant.ViewCountTarget;
+import com.example.adminservice.domain.KokPost;
+import com.example.adminservice.dto.KokPostCursor;
+import com.example.adminservice.dto.KokPostFeedResponse;
+import com.example.adminservice.dto.KokPostListResponse;
+import com.example.adminservice.dto.KokPostSummary;
+import com.example.adminservice.repository.KokPostRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KokPostServiceTest {
+
+    @Mock
+    private KokPostRepository kokPostRepository;
+
+    @Mock
+    private PopularityService popularityService;
+
+    @InjectMocks
+    private KokPostService kokPostService;
+
+    @Test
+    void getKokPostFeed_fetchesOneExtraRowToDetectNextPage() {
+        when(kokPostRepository.findSummariesLatestAfter(eq(List.of(true)), any(), eq(Long.MAX_VALUE), any()))
+                .thenReturn(List.of(summary(3L, 0L, 3), summary(2L, 0L, 2), summary(1L, 0L, 1)));
+
+        KokPostFeedResponse response = kokPostService.getKokPostFeed(SortOption.LATEST, true, null, 2);
+
+        assertThat(response.getPosts()).extracting("id").containsExactly(3L, 2L);
+        assertThat(response.isHasMore()).isTrue();
+        KokPostCursor next = KokPostCursor.decode(response.getNextCursor(), SortOption.LATEST);
+        assertThat(next.createdAt()).isEqualTo(LocalDateTime.of(2024, 1, 2, 0, 0));
+        assertThat(next.id()).isEqualTo(2L);
+        assertThat(capturedLimit().getPageSize()).isEqualTo(3);
+    }
+
+    @Test
+    void getKokPostFeed_lastPageHasNoCursor() {
+        when(kokPostRepository.findSummariesLatestAfter(any(), any(), any(), any()))
+                .thenReturn(List.of(summary(1L, 0L, 1)));
+
+        KokPostFeedResponse response = kokPostService.getKokPostFeed(SortOption.LATEST, null, null, 2);
+
+        assertThat(response.getPosts()).hasSize(1);
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getKokPostFeed_resumesFromCursorPosition() {
+        String cursor = new KokPostCursor(SortOption.VIEW_COUNT_DESC, 50L, 9L).encode();
+        when(kokPostRepository.findSummariesViewCountDescAfter(List.of(true, false), 50L, 9L, Pageable.ofSize(21)))
+                .thenReturn(List.of(summary(8L, 50L, 1), summary(4L, 10L, 1)));
+
+        KokPostFeedResponse response = kokPostService.getKokPostFeed(SortOption.VIEW_COUNT_DESC, null, cursor, 20);
+
+        assertThat(response.getPosts()).extracting("id").containsExactly(8L, 4L);
+        assertThat(response.isHasMore()).isFalse();
+    }
+
+    @Test
+    void getKokPostFeed_clampsPageSize() {
+        when(kokPostRepository.findSummariesViewCountAscAfter(any(), eq(-1L), eq(0L), any())).thenReturn(List.of());
+
+        kokPostService.getKokPostFeed(SortOption.VIEW_COUNT_ASC, null, null, 1000);
+
+        ArgumentCaptor<Pageable> limit = ArgumentCaptor.forClass(Pageable.class);
+        verify(kokPostRepository).findSummariesViewCountAscAfter(any(), any(), any(), limit.capture());
+        assertThat(limit.getValue().getPageSize()).isEqualTo(101);
+    }
+
+    @Test
+    void getKokPostFeed_rejectsCursorOfOtherSortOption() {
+        String cursor = new KokPostCursor(SortOption.VIEW_COUNT_DESC, 50L, 9L).encode();
+
+        assertThatThrownBy(() -> kokPostService.getKokPostFeed(SortOption.LATEST, null, cursor, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(kokPostRepository);
+    }
+
+    @Test
+    void getPopularKokPosts_pagesRankingUntilEnoughActivePosts() {
+        // 1~30위 중 활성 글은 2개뿐이고 31위부터는 모두 활성
+        when(popularityService.getTopIds(ViewCountTarget.KOKPOST, PopularityWindow.DAY, 0, 30))
+                .thenReturn(LongStream.rangeClosed(1, 30).boxed().toList());
+        when(popularityService.getTopIds(ViewCountTarget.KOKPOST, PopularityWindow.DAY, 30, 30))
+                .thenReturn(LongStream.rangeClosed(31, 60).boxed().toList());
+        when(kokPostRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> kokPost(id, id <= 2 || id > 30)).toList();
+        });
+
+        List<KokPostListResponse> popular = kokPostService.getPopularKokPosts(true, PopularityWindow.DAY);
+
+        assertThat(popular).extracting("id").containsExactly(1L, 2L, 31L, 32L, 33L, 34L, 35L, 36L, 37L, 38L);
+        verify(popularityService, never()).getTopIds(ViewCountTarget.KOKPOST, PopularityWindow.DAY, 60, 30);
+    }
+
+    @Test
+    void getPopularKokPosts_stopsAtEndOfRanking() {
+        when(popularityService.getTopIds(ViewCountTarget.KOKPOST, PopularityWindow.WEEK, 0, 30))
+                .thenReturn(List.of(1L, 2L, 3L));
+        when(kokPostRepository.findAllById(anyIterable()))
+                .thenReturn(List.of(kokPost(1L, true), kokPost(2L, false), kokPost(3L, true)));
+
+        List<KokPostListResponse> popular = kokPostService.getPopularKokPosts(true, PopularityWindow.WEEK);
+
+        assertThat(popular).extracting("id").containsExactly(1L, 3L);
+        verify(kokPostRepository, never()).findTop10ByActiveOrderByViewCountDesc(true);
+    }
+
+    @Test
+    void getPopularKokPosts_fallsBackToViewCountWithoutRanking() {
+        when(popularityService.getTopIds(ViewCountTarget.KOKPOST, PopularityWindow.ALL_TIME, 0, 30))
+                .thenReturn(List.of());
+        when(kokPostRepository.findTop10ByActiveOrderByViewCountDesc(true)).thenReturn(List.of(kokPost(7L, true)));
+
+        List<KokPostListResponse> popular = kokPostService.getPopularKokPosts(true);
+
+        assertThat(popular).extracting("id").containsExactly(7L);
+    }
+
+    private Pageable capturedLimit() {
+        ArgumentCaptor<Pageable> limit = ArgumentCaptor.forClass(Pageable.class);
+        verify(kokPostRepository).findSummariesLatestAfter(any(), any(), any(), limit.capture());
+        return limit.getValue();
+    }
+
+    private static KokPost kokPost(Long id, boolean active) {
+        KokPost kokPost = KokPost.builder().title("글 " + id).content("본문").authorId(1L).active(active).build();
+        ReflectionTestUtils.setField(kokPost, "id", id);
+        return kokPost;
+    }
+
+    private static KokPostSummary summary(Long id, Long viewCount, int day) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, day, 0, 0);
+        return new KokPostSummary(id, "글 " + id, viewCount, null, 1L, "작성자", true, null, createdAt, createdAt);
+    }
+}
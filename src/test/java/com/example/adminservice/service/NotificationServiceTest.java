@@ -0,0 +1,230 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.constant.EntityType;
+import com.example.adminservice.constant.NotificationType;
+import com.example.adminservice.domain.BroadcastNotification;
+import com.example.adminservice.dto.notification.NotificationFeedCursor;
+import com.example.adminservice.dto.notification.NotificationFeedResponse;
+import com.example.adminservice.repository.BroadcastNotificationRepository;
+import com.example.adminservice.repository.NotificationBulkRepository;
+import com.example.adminservice.repository.NotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+    @Mock
+    private NotificationBulkRepository notificationBulkRepository;
+    @Mock
+    private BroadcastNotificationRepository broadcastNotificationRepository;
+    @Mock
+    private BroadcastReadStateService broadcastReadStateService;
+    @Mock
+    private UnreadCountService unreadCountService;
+    @Mock
+    private NotificationRetentionService notificationRetentionService;
+    @Mock
+    private WebSocketNotificationService webSocketNotificationService;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(notificationService, "bulkChunkSize", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void createSystemNotification_insertsEachChunkInItsOwnTransaction() {
+        runTransactionCallbacks();
+        when(notificationBulkRepository.insertForRecipients(anyList(), eq(NotificationType.SYSTEM_NOTICE),
+                eq("제목"), eq("내용"), eq(null), eq(EntityType.SYSTEM), any()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        int inserted = notificationService.createSystemNotification("제목", "내용", List.of(1L, 2L, 3L, 4L, 5L));
+
+        assertThat(inserted).isEqualTo(5);
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(notificationBulkRepository).insertForRecipients(eq(List.of(1L, 2L)), any(), any(), any(), any(), any(), any());
+        verify(notificationBulkRepository).insertForRecipients(eq(List.of(3L, 4L)), any(), any(), any(), any(), any(), any());
+        verify(notificationBulkRepository).insertForRecipients(eq(List.of(5L)), any(), any(), any(), any(), any(), any());
+        verify(unreadCountService).invalidate(List.of(1L, 2L));
+        verify(unreadCountService).invalidate(List.of(5L));
+    }
+
+    @Test
+    void createSystemNotification_usesSameCreatedAtForEveryChunk() {
+        runTransactionCallbacks();
+        List<Long> userIds = LongStream.rangeClosed(1, 4).boxed().toList();
+
+        notificationService.createSystemNotification("제목", "내용", userIds);
+
+        ArgumentCaptor<LocalDateTime> createdAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(notificationBulkRepository, times(2))
+                .insertForRecipients(anyList(), any(), any(), any(), any(), any(), createdAt.capture());
+        assertThat(createdAt.getAllValues()).hasSize(2).allMatch(value -> value.equals(createdAt.getAllValues().get(0)));
+    }
+
+    @Test
+    void createSystemNotification_withNoRecipientsDoesNothing() {
+        int inserted = notificationService.createSystemNotification("제목", "내용", List.of());
+
+        assertThat(inserted).isZero();
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    void getUserNotifications_rejectsPagesBeyondWindow() {
+        assertThatThrownBy(() -> notificationService.getUserNotifications(1L, PageRequest.of(10, 100)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(notificationRepository, broadcastNotificationRepository);
+    }
+
+    @Test
+    void getUnreadNotificationCount_addsPersonalCounterAndBroadcastCountWithoutReadingBroadcasts() {
+        when(unreadCountService.getUnreadCount(1L)).thenReturn(2L);
+        when(broadcastReadStateService.countUnread(1L)).thenReturn(2L);
+
+        assertThat(notificationService.getUnreadNotificationCount(1L)).isEqualTo(4L);
+        verifyNoInteractions(broadcastNotificationRepository);
+    }
+
+    @Test
+    void createBroadcastNotification_registersBroadcastForUnreadCount() {
+        when(broadcastNotificationRepository.save(any())).thenAnswer(invocation -> {
+            BroadcastNotification saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", 42L);
+            return saved;
+        });
+
+        notificationService.createBroadcastNotification(NotificationType.SYSTEM_NOTICE, "제목", "내용");
+
+        verify(broadcastReadStateService).registerBroadcast(42L);
+    }
+
+    @Test
+    void markAsRead_sendsUnreadCountOnlyAfterCommit() {
+        when(notificationRepository.markAsReadIfUnread(eq(7L), eq(1L), any())).thenReturn(1);
+        when(unreadCountService.getUnreadCount(1L)).thenReturn(4L);
+        when(broadcastReadStateService.countUnread(1L)).thenReturn(0L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        notificationService.markAsRead(7L, 1L);
+
+        verify(unreadCountService).decrement(1L);
+        verify(webSocketNotificationService, never()).sendUnreadCountUpdate(any(), any());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        verify(webSocketNotificationService).sendUnreadCountUpdate(1L, 4L);
+    }
+
+    @Test
+    void markAsRead_alreadyReadSkipsDecrement() {
+        when(notificationRepository.markAsReadIfUnread(eq(7L), eq(1L), any())).thenReturn(0);
+        when(notificationRepository.existsByIdAndUserId(7L, 1L)).thenReturn(true);
+        when(unreadCountService.getUnreadCount(1L)).thenReturn(0L);
+        when(broadcastReadStateService.countUnread(1L)).thenReturn(0L);
+
+        notificationService.markAsRead(7L, 1L);
+
+        verify(unreadCountService, never()).decrement(any());
+        verify(webSocketNotificationService).sendUnreadCountUpdate(1L, 0L);
+    }
+
+    @Test
+    void getNotificationFeed_unreadOnlyAdvancesPastReadBroadcasts() {
+        List<BroadcastNotification> broadcasts = List.of(broadcast(3L, 3), broadcast(2L, 2), broadcast(1L, 1));
+        when(notificationRepository.findFeedFirst(eq(1L), eq(true), any())).thenReturn(List.of());
+        when(broadcastNotificationRepository.findFeedFirst(any())).thenReturn(broadcasts);
+        when(broadcastReadStateService.findReadIds(1L, List.of(3L, 2L, 1L))).thenReturn(Set.of(3L, 2L, 1L));
+
+        NotificationFeedResponse response = notificationService.getNotificationFeed(1L, null, 2, true);
+
+        assertThat(response.getNotifications()).isEmpty();
+        assertThat(response.isHasMore()).isTrue();
+        NotificationFeedCursor next = NotificationFeedCursor.decode(response.getNextCursor());
+        assertThat(next.getBroadcast().id()).isEqualTo(1L);
+        assertThat(next.getPersonal()).isNull();
+    }
+
+    @Test
+    void getNotificationFeed_fullPageKeepsUnreturnedBroadcastsForNextPage() {
+        List<BroadcastNotification> broadcasts = List.of(broadcast(3L, 3), broadcast(2L, 2), broadcast(1L, 1));
+        when(notificationRepository.findFeedFirst(eq(1L), anyBoolean(), any())).thenReturn(List.of());
+        when(broadcastNotificationRepository.findFeedFirst(any())).thenReturn(broadcasts);
+        when(broadcastReadStateService.findReadIds(1L, List.of(3L, 2L, 1L))).thenReturn(Set.of());
+
+        NotificationFeedResponse response = notificationService.getNotificationFeed(1L, null, 2, false);
+
+        assertThat(response.getNotifications()).extracting("id").containsExactly(3L, 2L);
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(NotificationFeedCursor.decode(response.getNextCursor()).getBroadcast().id()).isEqualTo(2L);
+    }
+
+    @Test
+    void getNotificationFeed_rejectsInvalidCursor() {
+        assertThatThrownBy(() -> notificationService.getNotificationFeed(1L, "%%%", 20, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static BroadcastNotification broadcast(Long id, int day) {
+        return BroadcastNotification.builder()
+                .id(id)
+                .notificationType(NotificationType.SYSTEM_NOTICE)
+                .title("공지 " + id)
+                .message("내용")
+                .createdAt(LocalDateTime.of(2024, 1, day, 0, 0))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionCallbacks() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.constant.PopularityWindow;
+import com.example.adminservice.constant.ViewCountTarget;
+import com.example.adminservice.repository.KokPostRepository;
+import com.example.adminservice.repository.NoticeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Testcontainers(disabledWithoutDocker = true)
+class PopularityServiceTest {
+
+    private static final String DAY_KEY = "popularity:kokpost:24h";
+    private static final String DAY_EPOCH_KEY = DAY_KEY + ":epoch";
+    private static final String WEEK_KEY = "popularity:kokpost:7d";
+    private static final String ALL_TIME_KEY = "popularity:kokpost:all";
+    private static final long DAY_SECONDS = PopularityWindow.DAY.getHalfLife().getSeconds();
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private KokPostRepository kokPostRepository;
+    private NoticeRepository noticeRepository;
+    private PopularityService popularityService;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+
+        kokPostRepository = mock(KokPostRepository.class);
+        noticeRepository = mock(NoticeRepository.class);
+        popularityService = new PopularityService(redisTemplate, kokPostRepository, noticeRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void record_weightsDeltaByElapsedHalfLives() {
+        // 24시간 순위 기준 시각이 반감기 1회 전이면 새 증가분은 2배로 반영
+        long now = Instant.now().getEpochSecond();
+        redisTemplate.opsForValue().set(DAY_EPOCH_KEY, String.valueOf(now - DAY_SECONDS));
+
+        popularityService.record(ViewCountTarget.KOKPOST, Map.of(1L, 3L, 2L, 1L));
+
+        assertThat(score(DAY_KEY, 1L)).isCloseTo(6.0, within(0.01));
+        assertThat(score(DAY_KEY, 2L)).isCloseTo(2.0, within(0.01));
+        // 처음 반영하는 기간은 현재 시각이 기준 시각이 되어 가중치 1
+        assertThat(score(WEEK_KEY, 1L)).isCloseTo(3.0, within(0.01));
+        assertThat(redisTemplate.hasKey(WEEK_KEY + ":epoch")).isTrue();
+        // 전체 기간은 감쇠 없이 누적하고 기준 시각을 두지 않음
+        assertThat(score(ALL_TIME_KEY, 1L)).isEqualTo(3.0);
+        assertThat(redisTemplate.hasKey(ALL_TIME_KEY + ":epoch")).isFalse();
+
+        assertThat(popularityService.getTopIds(ViewCountTarget.KOKPOST, PopularityWindow.DAY, 10))
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void record_rescalesScoresAndShiftsEpochWhenExponentExceeds32() {
+        long now = Instant.now().getEpochSecond();
+        long epoch = now - 40 * DAY_SECONDS;
+        redisTemplate.opsForValue().set(DAY_EPOCH_KEY, String.valueOf(epoch));
+        redisTemplate.opsForZSet().add(DAY_KEY, "9", Math.pow(2, 40) * 5);
+
+        popularityService.record(ViewCountTarget.KOKPOST, Map.of(1L, 4L));
+
+        // 기존 점수는 2^-40 배로 줄고 기준 시각은 반감기 40회만큼 이동
+        assertThat(score(DAY_KEY, 9L)).isCloseTo(5.0, within(0.01));
+        long shiftedEpoch = Long.parseLong(redisTemplate.opsForValue().get(DAY_EPOCH_KEY));
+        assertThat(shiftedEpoch).isEqualTo(epoch + 40 * DAY_SECONDS);
+        // 새 증가분은 남은 지수(1 미만)로 가중
+        assertThat(score(DAY_KEY, 1L)).isCloseTo(4.0, within(0.01));
+        assertThat(popularityService.getTopIds(ViewCountTarget.KOKPOST, PopularityWindow.DAY, 1))
+                .containsExactly(9L);
+    }
+
+    @Test
+    void getTopIds_returnsRequestedRankRange() {
+        LongStream.rangeClosed(1, 5).forEach(id -> redisTemplate.opsForZSet().add(ALL_TIME_KEY, String.valueOf(id), id));
+
+        assertThat(popularityService.getTopIds(ViewCountTarget.KOKPOST, PopularityWindow.ALL_TIME, 2, 2))
+                .containsExactly(3L, 2L);
+        assertThat(popularityService.getTopIds(ViewCountTarget.KOKPOST, PopularityWindow.ALL_TIME, 4, 10))
+                .containsExactly(1L);
+    }
+
+    @Test
+    void seedAllTimeRanking_skipsExistingRanking() {
+        redisTemplate.opsForZSet().add(ALL_TIME_KEY, "1", 10);
+        when(noticeRepository.findAllViewCounts()).thenReturn(List.<Object[]>of(new Object[]{7L, 70L}));
+
+        popularityService.seedAllTimeRanking();
+
+        verify(kokPostRepository, never()).findAllViewCounts();
+        assertThat(redisTemplate.opsForZSet().zCard(ALL_TIME_KEY)).isEqualTo(1);
+        assertThat(score("popularity:notice:all", 7L)).isEqualTo(70.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void seedAllTimeRanking_addsViewCountsInBatches() {
+        List<Object[]> viewCounts = LongStream.rangeClosed(1, 2500)
+                .mapToObj(id -> new Object[]{id, id * 10})
+                .toList();
+        when(kokPostRepository.findAllViewCounts()).thenReturn(viewCounts);
+
+        RedisTemplate<String, String> mockTemplate = mock(RedisTemplate.class);
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        when(mockTemplate.opsForZSet()).thenReturn(zSetOperations);
+        // 배치 Set은 적재 후 비워 재사용되므로 호출 시점의 크기를 기록
+        List<Integer> batchSizes = new ArrayList<>();
+        when(zSetOperations.add(eq(ALL_TIME_KEY), anySet())).thenAnswer(invocation -> {
+            batchSizes.add(invocation.<Set<?>>getArgument(1).size());
+            return 0L;
+        });
+
+        new PopularityService(mockTemplate, kokPostRepository, noticeRepository).seedAllTimeRanking();
+
+        assertThat(batchSizes).containsExactly(1000, 1000, 500);
+
+        popularityService.seedAllTimeRanking();
+        assertThat(redisTemplate.opsForZSet().zCard(ALL_TIME_KEY)).isEqualTo(2500);
+        assertThat(score(ALL_TIME_KEY, 2500L)).isEqualTo(25000.0);
+    }
+
+    private Double score(String key, Long id) {
+        return redisTemplate.opsForZSet().score(key, String.valueOf(id));
+    }
+}
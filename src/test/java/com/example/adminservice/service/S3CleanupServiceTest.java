@@ -0,0 +1,225 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.dto.S3CleanupResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Testcontainers(disabledWithoutDocker = true)
+class S3CleanupServiceTest {
+
+    private static final String KOKPOST_PREFIX = "kokpost/";
+    private static final String BANNER_PREFIX = "banner/";
+
+    @Container
+    private static final LocalStackContainer LOCALSTACK =
+            new LocalStackContainer(DockerImageName.parse("localstack/localstack:3.0"))
+                    .withServices(LocalStackContainer.Service.S3);
+
+    private S3Client s3Client;
+    private ImageReferenceService imageReferenceService;
+    private ValueOperations<String, String> valueOperations;
+    private S3CleanupService s3CleanupService;
+    private String bucket;
+    private final Set<String> referencedKeys = new HashSet<>();
+    private final Set<String> reservedKeys = new HashSet<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        s3Client = S3Client.builder()
+                .endpointOverride(LOCALSTACK.getEndpoint())
+                .region(Region.of(LOCALSTACK.getRegion()))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(LOCALSTACK.getAccessKey(), LOCALSTACK.getSecretKey())))
+                .forcePathStyle(true)
+                .build();
+        bucket = "cleanup-" + UUID.randomUUID();
+        s3Client.createBucket(builder -> builder.bucket(bucket));
+
+        imageReferenceService = mock(ImageReferenceService.class);
+        when(imageReferenceService.isIndexReady()).thenReturn(true);
+        when(imageReferenceService.findReferencedKeys(anyList())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().filter(referencedKeys::contains).collect(Collectors.toSet());
+        });
+
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenAnswer(invocation -> {
+            List<String> values = new ArrayList<>();
+            for (String key : invocation.<Collection<String>>getArgument(0)) {
+                values.add(reservedKeys.contains(key) ? "1" : null);
+            }
+            return values;
+        });
+
+        s3CleanupService = new S3CleanupService(s3Client, imageReferenceService, redisTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(s3CleanupService, "bucketName", bucket);
+        ReflectionTestUtils.setField(s3CleanupService, "bannerPrefix", BANNER_PREFIX);
+        ReflectionTestUtils.setField(s3CleanupService, "deleteConcurrency", 2);
+        ReflectionTestUtils.setField(s3CleanupService, "minAgeHours", 0L);
+        ReflectionTestUtils.setField(s3CleanupService, "multipartMaxAgeHours", 0L);
+        s3CleanupService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3CleanupService.stop();
+        s3Client.close();
+    }
+
+    @Test
+    void runCleanup_deletesUnreferencedObjectsAcrossPagesInBatches() {
+        // 1,200개: 목록 2페이지, 미사용 1,100개 → DeleteObjects 2회
+        seed(KOKPOST_PREFIX, 1200, 12);
+        seed(BANNER_PREFIX, 3, 3);
+        s3Client.createMultipartUpload(builder -> builder.bucket(bucket).key(KOKPOST_PREFIX + "abandoned.mp4"));
+
+        List<S3CleanupResult> results = s3CleanupService.runCleanup(false);
+
+        S3CleanupResult kokpost = resultFor(results, KOKPOST_PREFIX);
+        assertThat(kokpost.getScanned()).isEqualTo(1200);
+        assertThat(kokpost.getOrphaned()).isEqualTo(1100);
+        assertThat(kokpost.getDeleted()).isEqualTo(1100);
+        assertThat(kokpost.getFailed()).isZero();
+        assertThat(kokpost.getDeleteRequests()).isEqualTo(2);
+        assertThat(kokpost.getAbortedUploads()).isEqualTo(1);
+        assertThat(listKeys(KOKPOST_PREFIX)).containsExactlyInAnyOrderElementsOf(referencedKeys(KOKPOST_PREFIX));
+        assertThat(s3Client.listMultipartUploads(builder -> builder.bucket(bucket)).uploads()).isEmpty();
+
+        S3CleanupResult banner = resultFor(results, BANNER_PREFIX);
+        assertThat(banner.getScanned()).isEqualTo(3);
+        assertThat(banner.getOrphaned()).isEqualTo(2);
+        assertThat(listKeys(BANNER_PREFIX)).containsExactlyInAnyOrderElementsOf(referencedKeys(BANNER_PREFIX));
+    }
+
+    @Test
+    void runCleanup_dryRunCountsWithoutDeleting() {
+        seed(KOKPOST_PREFIX, 20, 4);
+        s3Client.createMultipartUpload(builder -> builder.bucket(bucket).key(KOKPOST_PREFIX + "abandoned.mp4"));
+
+        S3CleanupResult kokpost = resultFor(s3CleanupService.runCleanup(true), KOKPOST_PREFIX);
+
+        assertThat(kokpost.isDryRun()).isTrue();
+        assertThat(kokpost.getOrphaned()).isEqualTo(15);
+        assertThat(kokpost.getDeleted()).isZero();
+        assertThat(kokpost.getDeleteRequests()).isZero();
+        assertThat(kokpost.getAbortedUploads()).isEqualTo(1);
+        assertThat(listKeys(KOKPOST_PREFIX)).hasSize(20);
+        assertThat(s3Client.listMultipartUploads(builder -> builder.bucket(bucket)).uploads()).hasSize(1);
+    }
+
+    @Test
+    void runCleanup_keepsReservedContentAddressedObjects() {
+        String reserved = KOKPOST_PREFIX + "sha256/" + "a".repeat(64) + ".jpg";
+        String unreserved = KOKPOST_PREFIX + "sha256/" + "b".repeat(64) + ".jpg";
+        put(reserved);
+        put(unreserved);
+        reservedKeys.add(S3Service.reservationKey(reserved));
+
+        S3CleanupResult kokpost = resultFor(s3CleanupService.runCleanup(false), KOKPOST_PREFIX);
+
+        assertThat(kokpost.getOrphaned()).isEqualTo(2);
+        assertThat(kokpost.getSkippedReserved()).isEqualTo(1);
+        assertThat(kokpost.getDeleted()).isEqualTo(1);
+        assertThat(listKeys(KOKPOST_PREFIX)).containsExactly(reserved);
+    }
+
+    @Test
+    void runCleanup_keepsContentAddressedObjectsWhenReservationsUnavailable() {
+        when(valueOperations.multiGet(anyList())).thenThrow(new IllegalStateException("redis down"));
+        String contentAddressed = KOKPOST_PREFIX + "sha256/" + "c".repeat(64) + ".png";
+        put(contentAddressed);
+        put(KOKPOST_PREFIX + "plain.png");
+
+        S3CleanupResult kokpost = resultFor(s3CleanupService.runCleanup(false), KOKPOST_PREFIX);
+
+        assertThat(kokpost.getSkippedReserved()).isEqualTo(1);
+        assertThat(kokpost.getDeleted()).isEqualTo(1);
+        assertThat(listKeys(KOKPOST_PREFIX)).containsExactly(contentAddressed);
+    }
+
+    @Test
+    void runCleanup_keepsObjectsYoungerThanMinAge() {
+        ReflectionTestUtils.setField(s3CleanupService, "minAgeHours", 24L);
+        seed(KOKPOST_PREFIX, 10, 5);
+
+        S3CleanupResult kokpost = resultFor(s3CleanupService.runCleanup(false), KOKPOST_PREFIX);
+
+        assertThat(kokpost.getSkippedRecent()).isEqualTo(8);
+        assertThat(kokpost.getOrphaned()).isZero();
+        assertThat(listKeys(KOKPOST_PREFIX)).hasSize(10);
+    }
+
+    @Test
+    void runCleanup_skipsWhenIndexNotReady() {
+        when(imageReferenceService.isIndexReady()).thenReturn(false);
+        seed(KOKPOST_PREFIX, 5, 5);
+
+        assertThat(s3CleanupService.runCleanup(false)).isEmpty();
+        assertThat(listKeys(KOKPOST_PREFIX)).hasSize(5);
+    }
+
+    /**
+     * prefix 아래 count개 객체 업로드, referenceEvery개마다 1개를 참조 중으로 표시
+     */
+    private void seed(String prefix, int count, int referenceEvery) {
+        for (int i = 0; i < count; i++) {
+            String key = String.format("%s%05d.jpg", prefix, i);
+            put(key);
+            if (i % referenceEvery == 0) {
+                referencedKeys.add(key);
+            }
+        }
+    }
+
+    private void put(String key) {
+        s3Client.putObject(builder -> builder.bucket(bucket).key(key), RequestBody.fromBytes(new byte[]{1}));
+    }
+
+    private Set<String> referencedKeys(String prefix) {
+        return referencedKeys.stream().filter(key -> key.startsWith(prefix)).collect(Collectors.toSet());
+    }
+
+    private List<String> listKeys(String prefix) {
+        return s3Client.listObjectsV2Paginator(builder -> builder.bucket(bucket).prefix(prefix)).contents().stream()
+                .map(S3Object::key)
+                .toList();
+    }
+
+    private static S3CleanupResult resultFor(List<S3CleanupResult> results, String prefix) {
+        return results.stream()
+                .filter(result -> result.getPrefix().equals(prefix))
+                .findFirst()
+                .orElseThrow();
+    }
+}
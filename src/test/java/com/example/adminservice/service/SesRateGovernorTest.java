@@ -0,0 +1,133 @@
+package com.example.adminservice.service;
+
+import com.amazonaws.services.simpleemail.model.GetSendQuotaResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SesRateGovernorTest {
+
+    @Mock
+    private SesEmailSender sesEmailSender;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private SesRateGovernor governor;
+
+    @BeforeEach
+    void setUp() {
+        governor = new SesRateGovernor(sesEmailSender, redisTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(governor, "utilization", 0.9);
+        ReflectionTestUtils.setField(governor, "defaultRatePerSecond", 1.0);
+        ReflectionTestUtils.setField(governor, "minRatePerSecond", 0.5);
+        ReflectionTestUtils.setField(governor, "recoveryStep", 0.05);
+        ReflectionTestUtils.setField(governor, "instanceTtlMs", 15000L);
+    }
+
+    @Test
+    void initialize_splitsAccountQuotaAcrossLiveInstances() {
+        stubLiveInstances(3L);
+        stubMaxSendRate(14.0);
+
+        governor.initialize();
+
+        assertThat(governor.getLiveInstances()).isEqualTo(3);
+        assertThat(governor.getTargetRate()).isCloseTo(14.0 * 0.9 / 3, within(1e-9));
+    }
+
+    @Test
+    void heartbeat_raisesShareWhenInstancesLeave() {
+        stubLiveInstances(2L, 1L);
+        stubMaxSendRate(10.0);
+        governor.initialize();
+        assertThat(governor.getTargetRate()).isCloseTo(4.5, within(1e-9));
+
+        governor.heartbeat();
+
+        assertThat(governor.getLiveInstances()).isEqualTo(1);
+        assertThat(governor.getTargetRate()).isCloseTo(9.0, within(1e-9));
+    }
+
+    @Test
+    void heartbeat_keepsLastInstanceCountWhenRedisFails() {
+        stubLiveInstances(2L);
+        stubMaxSendRate(10.0);
+        governor.initialize();
+
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(redisTemplate).execute(any(RedisScript.class), anyList(), any(), any(), any());
+        governor.heartbeat();
+
+        assertThat(governor.getLiveInstances()).isEqualTo(2);
+        assertThat(governor.getTargetRate()).isCloseTo(4.5, within(1e-9));
+    }
+
+    @Test
+    void onThrottled_halvesRateDownToMinimum() {
+        stubLiveInstances(1L);
+        stubMaxSendRate(10.0);
+        governor.initialize();
+        ReflectionTestUtils.setField(governor, "currentRate", 8.0);
+
+        governor.onThrottled();
+        assertThat(governor.getCurrentRate()).isEqualTo(4.0);
+
+        for (int i = 0; i < 10; i++) {
+            governor.onThrottled();
+        }
+        assertThat(governor.getCurrentRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void onSuccess_recoversOneStepPerSecondUpToTarget() {
+        stubLiveInstances(1L);
+        stubMaxSendRate(20.0);
+        governor.initialize();
+        ReflectionTestUtils.setField(governor, "currentRate", 16.0);
+        governor.onThrottled();
+        assertThat(governor.getCurrentRate()).isEqualTo(8.0);
+
+        // 마지막 조정 후 1초가 지나지 않았으면 회복하지 않음
+        governor.onSuccess(1);
+        assertThat(governor.getCurrentRate()).isEqualTo(8.0);
+
+        backdateLastAdjust();
+        governor.onSuccess(1);
+        assertThat(governor.getCurrentRate()).isCloseTo(8.0 + 18.0 * 0.05, within(1e-9));
+
+        ReflectionTestUtils.setField(governor, "currentRate", 17.9);
+        backdateLastAdjust();
+        governor.onSuccess(1);
+        assertThat(governor.getCurrentRate()).isEqualTo(18.0);
+    }
+
+    private void backdateLastAdjust() {
+        ReflectionTestUtils.setField(governor, "lastAdjustNanos", System.nanoTime() - TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubLiveInstances(Long first, Long... rest) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).thenReturn(first, rest);
+    }
+
+    private void stubMaxSendRate(double maxSendRate) {
+        when(sesEmailSender.getSendQuota()).thenReturn(new GetSendQuotaResult().withMaxSendRate(maxSendRate));
+    }
+}
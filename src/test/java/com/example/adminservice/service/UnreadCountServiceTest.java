@@ -0,0 +1,145 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.repository.NotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Testcontainers(disabledWithoutDocker = true)
+class UnreadCountServiceTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private NotificationRepository notificationRepository;
+    private UnreadCountService unreadCountService;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+
+        notificationRepository = mock(NotificationRepository.class);
+        unreadCountService = new UnreadCountService(redisTemplate, notificationRepository);
+        ReflectionTestUtils.setField(unreadCountService, "counterTtlHours", 24L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void getUnreadCount_recountsOnMissAndThenReadsCounter() {
+        when(notificationRepository.countUnreadByUserId(1L)).thenReturn(3L);
+
+        assertThat(unreadCountService.getUnreadCount(1L)).isEqualTo(3L);
+        assertThat(unreadCountService.getUnreadCount(1L)).isEqualTo(3L);
+
+        verify(notificationRepository, times(1)).countUnreadByUserId(1L);
+        assertThat(redisTemplate.getExpire("notification:unread:1")).isPositive();
+    }
+
+    @Test
+    void getUnreadCount_doesNotCacheRecountRacingWithDecrement() {
+        // DB를 센 뒤 저장하기 전에 읽음 처리가 커밋되어 카운터 없는 상태에서 감소가 들어온 경우
+        when(notificationRepository.countUnreadByUserId(1L))
+                .thenAnswer(invocation -> {
+                    unreadCountService.decrement(1L);
+                    return 3L;
+                })
+                .thenReturn(2L);
+
+        assertThat(unreadCountService.getUnreadCount(1L)).isEqualTo(3L);
+        assertThat(redisTemplate.hasKey("notification:unread:1")).isFalse();
+
+        assertThat(unreadCountService.getUnreadCount(1L)).isEqualTo(2L);
+        assertThat(redisTemplate.opsForValue().get("notification:unread:1")).isEqualTo("2");
+    }
+
+    @Test
+    void getUnreadCount_doesNotCacheRecountRacingWithInvalidateAll() {
+        when(notificationRepository.countUnreadByUserId(1L))
+                .thenAnswer(invocation -> {
+                    unreadCountService.invalidateAll();
+                    return 5L;
+                });
+
+        unreadCountService.getUnreadCount(1L);
+
+        assertThat(redisTemplate.hasKey("notification:unread:1")).isFalse();
+    }
+
+    @Test
+    void adjust_doesNotCreateMissingCounter() {
+        unreadCountService.increment(1L);
+        unreadCountService.decrement(1L);
+
+        assertThat(redisTemplate.hasKey("notification:unread:1")).isFalse();
+    }
+
+    @Test
+    void decrement_neverGoesBelowZero() {
+        redisTemplate.opsForValue().set("notification:unread:1", "1");
+
+        unreadCountService.decrement(1L);
+        unreadCountService.decrement(1L);
+
+        assertThat(redisTemplate.opsForValue().get("notification:unread:1")).isEqualTo("0");
+    }
+
+    @Test
+    void increment_insideTransactionAppliesOnlyAfterCommit() {
+        redisTemplate.opsForValue().set("notification:unread:1", "2");
+        TransactionSynchronizationManager.initSynchronization();
+
+        unreadCountService.increment(1L);
+        assertThat(redisTemplate.opsForValue().get("notification:unread:1")).isEqualTo("2");
+
+        commit();
+        assertThat(redisTemplate.opsForValue().get("notification:unread:1")).isEqualTo("3");
+    }
+
+    @Test
+    void invalidate_insideTransactionDeletesOnlyAfterCommit() {
+        redisTemplate.opsForValue().set("notification:unread:1", "2");
+        redisTemplate.opsForValue().set("notification:unread:2", "5");
+        TransactionSynchronizationManager.initSynchronization();
+
+        unreadCountService.invalidate(List.of(1L, 2L));
+        assertThat(redisTemplate.hasKey("notification:unread:1")).isTrue();
+
+        commit();
+        assertThat(redisTemplate.hasKey("notification:unread:1")).isFalse();
+        assertThat(redisTemplate.hasKey("notification:unread:2")).isFalse();
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+}
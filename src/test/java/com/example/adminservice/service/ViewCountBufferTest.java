@@ -0,0 +1,114 @@
+package com.example.adminservice.service;
+
+import com.example.adminservice.constant.ViewCountTarget;
+import com.example.adminservice.repository.ViewCountBulkRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountBufferTest {
+
+    @Mock
+    private ViewCountBulkRepository viewCountBulkRepository;
+    @Mock
+    private PopularityService popularityService;
+
+    @InjectMocks
+    private ViewCountBuffer viewCountBuffer;
+
+    @Test
+    void flush_writesSummedDeltasPerTargetAndRecordsPopularity() {
+        List<Map<Long, Long>> written = recordWrites(ViewCountTarget.KOKPOST);
+        viewCountBuffer.increment(ViewCountTarget.KOKPOST, 1L);
+        viewCountBuffer.increment(ViewCountTarget.KOKPOST, 1L);
+        viewCountBuffer.increment(ViewCountTarget.KOKPOST, 2L);
+
+        viewCountBuffer.flush();
+
+        assertThat(written).containsExactly(Map.of(1L, 2L, 2L, 1L));
+        verify(popularityService).record(ViewCountTarget.KOKPOST, Map.of(1L, 2L, 2L, 1L));
+        verify(viewCountBulkRepository, never()).addViewCounts(eq(ViewCountTarget.NOTICE), anyMap());
+    }
+
+    @Test
+    void flush_withNothingPendingSkipsDatabase() {
+        viewCountBuffer.flush();
+
+        verifyNoInteractions(viewCountBulkRepository, popularityService);
+    }
+
+    @Test
+    void flush_failureReAddsDeltasForNextFlush() {
+        List<Map<Long, Long>> written = new ArrayList<>();
+        when(viewCountBulkRepository.addViewCounts(eq(ViewCountTarget.KOKPOST), anyMap()))
+                .thenAnswer(invocation -> {
+                    written.add(new HashMap<Long, Long>(invocation.getArgument(1)));
+                    throw new QueryTimeoutException("timeout");
+                })
+                .thenAnswer(invocation -> {
+                    written.add(new HashMap<Long, Long>(invocation.getArgument(1)));
+                    return 2;
+                });
+        viewCountBuffer.increment(ViewCountTarget.KOKPOST, 1L);
+        viewCountBuffer.increment(ViewCountTarget.KOKPOST, 1L);
+        viewCountBuffer.increment(ViewCountTarget.KOKPOST, 2L);
+
+        viewCountBuffer.flush();
+
+        verify(popularityService, never()).record(any(), any());
+
+        // 실패 후 들어온 조회도 되돌린 증가분에 더해짐
+        viewCountBuffer.increment(ViewCountTarget.KOKPOST, 1L);
+        viewCountBuffer.flush();
+
+        assertThat(written).containsExactly(Map.of(1L, 2L, 2L, 1L), Map.of(1L, 3L, 2L, 1L));
+        verify(popularityService).record(ViewCountTarget.KOKPOST, Map.of(1L, 3L, 2L, 1L));
+
+        // 반영된 뒤에는 다시 쓰지 않음
+        viewCountBuffer.flush();
+        assertThat(written).hasSize(2);
+    }
+
+    @Test
+    void flush_failureOfOneTargetDoesNotBlockOthers() {
+        when(viewCountBulkRepository.addViewCounts(eq(ViewCountTarget.NOTICE), anyMap()))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        List<Map<Long, Long>> kokPostWrites = recordWrites(ViewCountTarget.KOKPOST);
+        viewCountBuffer.increment(ViewCountTarget.NOTICE, 5L);
+        viewCountBuffer.increment(ViewCountTarget.KOKPOST, 9L);
+
+        viewCountBuffer.flush();
+
+        assertThat(kokPostWrites).containsExactly(Map.of(9L, 1L));
+        verify(popularityService).record(ViewCountTarget.KOKPOST, Map.of(9L, 1L));
+        verify(popularityService, never()).record(eq(ViewCountTarget.NOTICE), any());
+    }
+
+    private List<Map<Long, Long>> recordWrites(ViewCountTarget target) {
+        List<Map<Long, Long>> written = new ArrayList<>();
+        when(viewCountBulkRepository.addViewCounts(eq(target), anyMap())).thenAnswer(invocation -> {
+            Map<Long, Long> deltas = invocation.getArgument(1);
+            written.add(new HashMap<>(deltas));
+            return deltas.size();
+        });
+        return written;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.adminservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageProcessorTest {
+
+    private final ImageProcessor imageProcessor = new ImageProcessor();
+
+    @Test
+    void computeCropRegion_keepsImageAlready16x9() {
+        assertThat(imageProcessor.computeCropRegion(1920, 1080)).isEqualTo(new Rectangle(0, 0, 1920, 1080));
+    }
+
+    @Test
+    void computeCropRegion_cropsLeftAndRightOfWideImage() {
+        // 3000x1080 → 폭 1920, 좌우 540씩 제거
+        assertThat(imageProcessor.computeCropRegion(3000, 1080)).isEqualTo(new Rectangle(540, 0, 1920, 1080));
+    }
+
+    @Test
+    void computeCropRegion_cropsTopAndBottomOfTallImage() {
+        // 4000x3000 (4:3) → 높이 2250, 위아래 375씩 제거
+        assertThat(imageProcessor.computeCropRegion(4000, 3000)).isEqualTo(new Rectangle(0, 375, 4000, 2250));
+        // 세로 사진 1080x1920 → 높이 607
+        assertThat(imageProcessor.computeCropRegion(1080, 1920)).isEqualTo(new Rectangle(0, 656, 1080, 607));
+    }
+
+    @Test
+    void computeCropRegion_staysInsideImage() {
+        int[][] sizes = {{1, 1}, {17, 9}, {16, 10}, {7, 3000}, {3000, 7}, {6000, 4000}};
+        for (int[] size : sizes) {
+            Rectangle region = imageProcessor.computeCropRegion(size[0], size[1]);
+            assertThat(region.isEmpty()).as("%dx%d -> %s", size[0], size[1], region).isFalse();
+            assertThat(new Rectangle(0, 0, size[0], size[1]).contains(region))
+                    .as("%dx%d -> %s", size[0], size[1], region)
+                    .isTrue();
+        }
+    }
+
+    @Test
+    void computeSubsampling_skipsWhenTargetMissingOrRegionNotTwiceAsWide() {
+        assertThat(imageProcessor.computeSubsampling(4000, 0)).isEqualTo(1);
+        assertThat(imageProcessor.computeSubsampling(4000, -1)).isEqualTo(1);
+        assertThat(imageProcessor.computeSubsampling(2559, 1280)).isEqualTo(1);
+        assertThat(imageProcessor.computeSubsampling(800, 1280)).isEqualTo(1);
+    }
+
+    @Test
+    void computeSubsampling_neverDropsBelowTargetWidth() {
+        assertThat(imageProcessor.computeSubsampling(2560, 1280)).isEqualTo(2);
+        assertThat(imageProcessor.computeSubsampling(6000, 1280)).isEqualTo(4);
+
+        for (int regionWidth = 1; regionWidth <= 10000; regionWidth += 37) {
+            int subsampling = imageProcessor.computeSubsampling(regionWidth, 1280);
+            int decodedWidth = (regionWidth + subsampling - 1) / subsampling;
+            assertThat(subsampling == 1 || decodedWidth >= 1280)
+                    .as("region %d, subsampling %d", regionWidth, subsampling)
+                    .isTrue();
+        }
+    }
+
+    @Test
+    void decode_readsOnlyCropRegionWithSubsampling() throws IOException {
+        BufferedImage source = new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(source, "png", png);
+
+        BufferedImage decoded = imageProcessor.decode(new ByteArrayInputStream(png.toByteArray()), true, 1280);
+
+        // 크롭 영역 4000x2250을 1/3로 건너뛰며 디코딩
+        assertThat(decoded.getWidth()).isEqualTo(1334);
+        assertThat(decoded.getHeight()).isEqualTo(750);
+    }
+}
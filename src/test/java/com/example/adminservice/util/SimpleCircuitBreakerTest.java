@@ -0,0 +1,68 @@
+package com.example.adminservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimpleCircuitBreakerTest {
+
+    @Test
+    void opensAfterConsecutiveFailuresReachThreshold() {
+        SimpleCircuitBreaker breaker = new SimpleCircuitBreaker(3, Duration.ofMinutes(1));
+
+        breaker.recordFailure();
+        breaker.recordFailure();
+        assertThat(breaker.getState()).isEqualTo(SimpleCircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.recordFailure();
+        assertThat(breaker.getState()).isEqualTo(SimpleCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void successResetsConsecutiveFailures() {
+        SimpleCircuitBreaker breaker = new SimpleCircuitBreaker(2, Duration.ofMinutes(1));
+
+        breaker.recordFailure();
+        breaker.recordSuccess();
+        breaker.recordFailure();
+
+        assertThat(breaker.getState()).isEqualTo(SimpleCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpenAllowsSingleTrialAndClosesOnSuccess() throws InterruptedException {
+        SimpleCircuitBreaker breaker = openBreaker();
+        Thread.sleep(60);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(SimpleCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.recordSuccess();
+        assertThat(breaker.getState()).isEqualTo(SimpleCircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void halfOpenTrialFailureReopens() throws InterruptedException {
+        SimpleCircuitBreaker breaker = openBreaker();
+        Thread.sleep(60);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.recordFailure();
+
+        assertThat(breaker.getState()).isEqualTo(SimpleCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    private static SimpleCircuitBreaker openBreaker() {
+        SimpleCircuitBreaker breaker = new SimpleCircuitBreaker(1, Duration.ofMillis(50));
+        breaker.recordFailure();
+        assertThat(breaker.getState()).isEqualTo(SimpleCircuitBreaker.State.OPEN);
+        return breaker;
+    }
+}